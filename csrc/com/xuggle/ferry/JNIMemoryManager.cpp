@@ -117,6 +117,8 @@ static jmethodID sByteBufferAllocateDirectMethod = 0;
 static jclass sJNIMemoryAllocatorClass = 0;
 static jmethodID sJNIMemoryAllocatorMallocMethod = 0;
 static jmethodID sJNIMemoryAllocatorFreeMethod = 0;
+static jmethodID sJNIMemoryAllocatorMallocDirectMethod = 0;
+static jmethodID sJNIMemoryAllocatorFreeDirectMethod = 0;
 #endif // VSJNI_USE_JVM_FOR_MEMMANAGEMENT
 /*
  * This method is called by the JNIHelper when it loads up and
@@ -175,6 +177,19 @@ VSJNI_MemoryManagerInit(JavaVM* aJVM)
     if (!sJNIMemoryAllocatorFreeMethod)
       throw std::runtime_error(
           "could not find free(byte[]) method in com.xuggle.ferry.JNIMemoryAllocator");
+    sJNIMemoryAllocatorMallocDirectMethod = env->GetStaticMethodID(cls,
+        "mallocDirect", "(I)Ljava/nio/ByteBuffer;");
+    if (!sJNIMemoryAllocatorMallocDirectMethod)
+      throw std::runtime_error(
+          "could not find mallocDirect(int) method in com.xuggle.ferry.JNIMemoryAllocator");
+    sJNIMemoryAllocatorFreeDirectMethod = env->GetStaticMethodID(cls,
+        "freeDirect", "(Ljava/nio/ByteBuffer;)V");
+    if (!sJNIMemoryAllocatorFreeDirectMethod)
+      throw std::runtime_error(
+          "could not find freeDirect(ByteBuffer) method in com.xuggle.ferry.JNIMemoryAllocator");
+    env->DeleteLocalRef(cls);
+    if (env->ExceptionCheck())
+      throw std::runtime_error("got exception in jni");
   }
   catch (std::exception e)
   {
@@ -331,13 +346,14 @@ VS_JNI_malloc_javaDirectBufferBacked(JNIEnv *env, jobject obj,
     if (env->ExceptionCheck())
       throw std::bad_alloc();
   }
-  jclass cls = static_cast<jclass>(env->NewLocalRef(sByteBufferReferenceClass));
+  // Get a (possibly recycled) direct buffer from the allocator's pool
+  jclass cls = static_cast<jclass>(env->NewLocalRef(sJNIMemoryAllocatorClass));
   if (!cls)
   {
     throw std::bad_alloc();
   }
-  jobject bytearray = env->CallStaticObjectMethod(sByteBufferReferenceClass,
-      sByteBufferAllocateDirectMethod, (jint)size);
+  jobject bytearray = env->CallStaticObjectMethod(cls,
+      sJNIMemoryAllocatorMallocDirectMethod, (jint)size);
   env->DeleteLocalRef(cls);
   // if JVM didn't like that, return bad_alloc(); when we return all the way back to
   // JVM the Exception in Java will still exist; even if someone else catches
@@ -557,27 +573,20 @@ VSJNI_free(void * mem)
         if (env->ExceptionCheck())
           throw std::runtime_error("got java exception");
 
-        if (header->mAllocator)
-        {
-          // Tell the allocator we're done
-          // We're relying on the fact that the WeakReference passed in
-          // is always outlived
-          // by the allocator object (knock on wood)
-          env->CallVoidMethod(header->mAllocator,
-              sJNIMemoryAllocatorFreeMethod, header->mRef);
-          if (env->ExceptionCheck())
-            throw std::runtime_error("got java exception");
-          env->DeleteGlobalRef(header->mAllocator);
-          if (env->ExceptionCheck())
-            throw std::runtime_error("got java exception");
-        }
+        // Copy the header out first; once we release the elements
+        // below it may be gone, and once we tell the allocator we're
+        // done the array may be handed to someone else.
+        jobject allocator = header->mAllocator;
+        jobject ref = header->mRef;
+        header->mAllocator = 0;
+        header->mRef = 0;
 
         // Get a local copy so that when we delete the global
         // ref, the gc thread won't free the underlying memory
-        if (header->mRef)
+        if (ref)
         {
           jbyteArray array = static_cast<jbyteArray> (env->NewLocalRef(
-              header->mRef));
+              ref));
           if (env->ExceptionCheck())
             throw std::runtime_error("got java exception");
           if (!array)
@@ -585,8 +594,7 @@ VSJNI_free(void * mem)
 
           // delete the global ref, so that when we return the
           // jvm can gc
-          env->DeleteGlobalRef(header->mRef);
-          header->mRef = 0;
+          env->DeleteGlobalRef(ref);
           if (env->ExceptionCheck())
             throw std::runtime_error("got java exception");
 
@@ -595,6 +603,19 @@ VSJNI_free(void * mem)
           if (env->ExceptionCheck())
             throw std::runtime_error("got java exception");
 
+          if (allocator)
+          {
+            // Tell the allocator we're done, now that nothing of ours
+            // points into the array any more, so it can recycle it.
+            // We're relying on the fact that the WeakReference passed in
+            // is always outlived
+            // by the allocator object (knock on wood)
+            env->CallVoidMethod(allocator,
+                sJNIMemoryAllocatorFreeMethod, array);
+            if (env->ExceptionCheck())
+              throw std::runtime_error("got java exception");
+          }
+
           // and we should be careful to delete our local ref because
           // we don't know how deep we are in native calls, or when
           // we'll actually return to the jvm
@@ -602,6 +623,12 @@ VSJNI_free(void * mem)
           if (env->ExceptionCheck())
             throw std::runtime_error("got java exception");
         }
+        if (allocator)
+        {
+          env->DeleteGlobalRef(allocator);
+          if (env->ExceptionCheck())
+            throw std::runtime_error("got java exception");
+        }
       }
         break;
       case JAVA_DIRECT_BUFFERS:
@@ -611,11 +638,25 @@ VSJNI_free(void * mem)
         if (!env)
           return;
         // delete the global ref, so that when we return the
-        // jvm can gc
+        // jvm can gc; but first hand the buffer back to the allocator's
+        // pool.  Don't touch the header after that; it lives in the
+        // buffer and the buffer may already belong to someone else.
         jobject ref = header->mRef;
         header->mRef = 0;
         if (ref != 0)
+        {
+          jclass cls = static_cast<jclass>(
+              env->NewLocalRef(sJNIMemoryAllocatorClass));
+          if (cls)
+          {
+            env->CallStaticVoidMethod(cls,
+                sJNIMemoryAllocatorFreeDirectMethod, ref);
+            env->DeleteLocalRef(cls);
+          }
           env->DeleteGlobalRef(ref);
+          if (env->ExceptionCheck())
+            throw std::runtime_error("got java exception");
+        }
       }
         break;
       case NATIVE_BUFFERS:
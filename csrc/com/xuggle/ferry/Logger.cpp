@@ -29,6 +29,8 @@ namespace com { namespace xuggle { namespace ferry {
   jclass Logger :: mClass = 0;
   jmethodID Logger :: mGetLoggerMethod = 0;
   jmethodID Logger :: mLogMethod = 0;
+  jmethodID Logger :: mGetEnabledLevelsMethod = 0;
+  volatile int32_t Logger :: mLevelsGeneration = 1;
 
   Mutex* Logger :: mClassMutex = 0;
 
@@ -64,6 +66,10 @@ namespace com { namespace xuggle { namespace ferry {
     Logger::init();
     for(unsigned int i =0 ; i< sizeof(mIsLogging)/sizeof(bool); i++)
       mIsLogging[i] = true;
+    // a generation of 0 is never current, so the first message
+    // fetches the enabled levels
+    mEnabledLevels = 0;
+    mEnabledLevelsGeneration = 0;
 
     strncpy(mLoggerName, loggerName, sizeof(mLoggerName));
 
@@ -117,6 +123,10 @@ namespace com { namespace xuggle { namespace ferry {
             "log",
             "(ILjava/lang/String;)Z"
         );
+        mGetEnabledLevelsMethod = env->GetMethodID(cls,
+            "getEnabledLevels",
+            "()I"
+        );
 
         // keep a reference around
         mClass = (jclass)env->NewWeakGlobalRef(cls);
@@ -201,11 +211,53 @@ namespace com { namespace xuggle { namespace ferry {
     mGlobalIsLogging[level] = value;
   }
 
+  void
+  Logger :: refreshLevels()
+  {
+    ++mLevelsGeneration;
+  }
+
+  bool
+  Logger :: isEnabled(Level level)
+  {
+    if (mEnabledLevelsGeneration != mLevelsGeneration)
+      refreshEnabledLevels();
+    return (mEnabledLevels & (1 << level)) != 0;
+  }
+
+  void
+  Logger :: refreshEnabledLevels()
+  {
+    int32_t generation = mLevelsGeneration;
+    // until told otherwise, assume everything is enabled and let
+    // doLog() turn off the levels that do not get logged.
+    int32_t levels = (1 << (LEVEL_TRACE+1)) - 1;
+    if (mClassMutex)
+    {
+      JNIEnv *env=JNIHelper::sGetEnv();
+      if (env)
+      {
+        attachJavaLogger();
+        if (mJavaLogger && mGetEnabledLevelsMethod)
+        {
+          levels = env->CallIntMethod(mJavaLogger, mGetEnabledLevelsMethod);
+          if (env->ExceptionCheck())
+          {
+            env->ExceptionClear();
+            levels = (1 << (LEVEL_TRACE+1)) - 1;
+          }
+        }
+      }
+    }
+    mEnabledLevels = levels;
+    mEnabledLevelsGeneration = generation;
+  }
+
   bool
   Logger :: doLog(Level level, const char *msg)
   {
     bool didLog = false;
-    if (mGlobalIsLogging[level] && mIsLogging[level])
+    if (isLogging(level))
     {
       if (mClassMutex)
       {
@@ -217,8 +269,8 @@ namespace com { namespace xuggle { namespace ferry {
 
     if (!didLog)
       // turn off logging so we don't keep trying to log
-      // here.
-      mIsLogging[level] = didLog;
+      // here until the levels are next refreshed.
+      mEnabledLevels &= ~(1 << level);
 
     return didLog;
   }
@@ -265,7 +317,7 @@ namespace com { namespace xuggle { namespace ferry {
   bool
   Logger :: isLogging(Level level)
   {
-    return mGlobalIsLogging[level] && mIsLogging[level];
+    return mGlobalIsLogging[level] && mIsLogging[level] && isEnabled(level);
   }
 
   bool
@@ -280,6 +332,32 @@ namespace com { namespace xuggle { namespace ferry {
     return mLoggerName;
   }
 
+  void
+  Logger :: attachJavaLogger()
+  {
+    if (!mJavaLogger && mClassMutex)
+    {
+      // acquire our mutex log
+      mClassMutex->lock();
+      // check it again in case someone made
+      // a java logger while we waited for the lock.
+      if (!mJavaLogger)
+      {
+        // this logger was initialized BEFORE
+        // the class was initialized.  Let's reset it.
+        Logger *jlogger = Logger::getLogger(mLoggerName);
+        if (jlogger)
+        {
+          mJavaLogger = jlogger->mJavaLogger;
+          jlogger->mJavaLogger = 0;
+          delete jlogger;
+        }
+      }
+      // release the mutex
+      mClassMutex->unlock();
+    }
+  }
+
   bool
   Logger :: doJavaLog(Level level, const char* msg)
   {
@@ -287,27 +365,7 @@ namespace com { namespace xuggle { namespace ferry {
     JNIEnv *env=JNIHelper::sGetEnv();
     if (env)
     {
-      if (!mJavaLogger && mClassMutex)
-      {
-        // acquire our mutex log
-        mClassMutex->lock();
-        // check it again in case someone made
-        // a java logger while we waited for the lock.
-        if (!mJavaLogger)
-        {
-          // this logger was initialized BEFORE
-          // the class was initialized.  Let's reset it.
-          Logger *jlogger = Logger::getLogger(mLoggerName);
-          if (jlogger)
-          {
-            mJavaLogger = jlogger->mJavaLogger;
-            jlogger->mJavaLogger = 0;
-            delete jlogger;
-          }
-        }
-        // release the mutex
-        mClassMutex->unlock();
-      }
+      attachJavaLogger();
       if (mJavaLogger)
       {
         jstring javaMsg = env->NewStringUTF(msg);
@@ -336,7 +394,7 @@ namespace com { namespace xuggle { namespace ferry {
   Logger :: logVA(const char* filename, int line, Level level, const char *fmt, va_list ap)
   {
     bool didLog = false;
-    if (mGlobalIsLogging[level] && mIsLogging[level])
+    if (isLogging(level))
     {
       char msg[cMaxLogMessageLength+1];
       formatMsg(msg, sizeof(msg), filename, line, fmt, ap);
@@ -353,7 +411,7 @@ namespace com { namespace xuggle { namespace ferry {
   bool didLog = false; \
   va_list ap; \
   va_start(ap, fmt); \
-  if (mGlobalIsLogging[level] && mIsLogging[level]) \
+  if (isLogging(level)) \
   { \
     char msg[cMaxLogMessageLength+1]; \
     formatMsg(msg, sizeof(msg), filename, line, fmt, ap); \
@@ -112,6 +112,18 @@ namespace com { namespace xuggle { namespace ferry {
     static void setGlobalIsLogging(Level level, bool value);
     const char * getName();
 
+    /**
+     * Tells every Logger to ask Java again which levels are enabled.
+     * <p>
+     * Loggers cache the levels their Java logger has enabled so that
+     * disabled messages are dropped without formatting them or
+     * calling into Java.  Call this after changing the Java logging
+     * configuration.
+     * </p>
+     * @since 5.5
+     */
+    static void refreshLevels();
+
     virtual ~Logger();
 
   protected:
@@ -130,7 +142,15 @@ namespace com { namespace xuggle { namespace ferry {
     static const int cMaxLoggerNameLength=255;
     char mLoggerName[cMaxLoggerNameLength+1];
     bool mIsLogging[5];
+    // A bit per level that Java says is enabled, and the value of
+    // mLevelsGeneration it was fetched at.  Races between threads
+    // here are benign; at worst a level is fetched twice.
+    volatile int32_t mEnabledLevels;
+    volatile int32_t mEnabledLevelsGeneration;
 
+    bool isEnabled(Level level);
+    void refreshEnabledLevels();
+    void attachJavaLogger();
     bool doLog(Level level, const char*msg);
     bool doNativeLog(Level level, const char *msg);
     bool doJavaLog(Level level, const char* msg);
@@ -139,6 +159,8 @@ namespace com { namespace xuggle { namespace ferry {
     static jclass mClass;
     static jmethodID mGetLoggerMethod;
     static jmethodID mLogMethod;
+    static jmethodID mGetEnabledLevelsMethod;
+    static volatile int32_t mLevelsGeneration;
 
     static Mutex *mClassMutex;
     static bool mGlobalIsLogging[5];
@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+#include <com/xuggle/ferry/Logger.h>
+#include <com/xuggle/xuggler/AudioFifo.h>
+#include <com/xuggle/xuggler/AudioSamples.h>
+#include <com/xuggle/xuggler/Global.h>
+#include <com/xuggle/xuggler/FfmpegIncludes.h>
+
+#include <cstring>
+#include <stdexcept>
+
+VS_LOG_SETUP(VS_CPP_PACKAGE);
+
+namespace com { namespace xuggle { namespace xuggler
+  {
+  using namespace com::xuggle::ferry;
+
+  AudioFifo :: AudioFifo()
+  {
+    mChannels = 0;
+    mSampleRate = 0;
+    mFormat = IAudioSamples::FMT_S16;
+    mFrameSize = 0;
+    mBytesPerSample = 0;
+    mCapacity = 0;
+    mStart = 0;
+    mNumSamples = 0;
+    mBasePts = Global::NO_PTS;
+    mSamplesSinceBasePts = 0;
+  }
+
+  AudioFifo :: ~AudioFifo()
+  {
+  }
+
+  AudioFifo*
+  AudioFifo :: make(int32_t channels, int32_t sampleRate,
+      IAudioSamples::Format format, int32_t frameSize)
+  {
+    AudioFifo* retval = 0;
+    try {
+      if (channels <= 0)
+        throw std::invalid_argument("channels <= 0");
+
+      if (sampleRate <= 0)
+        throw std::invalid_argument("sampleRate <= 0");
+
+      if (format < IAudioSamples::FMT_U8 || format > IAudioSamples::FMT_DBL)
+        throw std::invalid_argument("format not supported");
+
+      if (frameSize <= 0)
+        throw std::invalid_argument("frameSize <= 0");
+
+      retval = AudioFifo::make();
+      if (retval)
+      {
+        retval->mChannels = channels;
+        retval->mSampleRate = sampleRate;
+        retval->mFormat = format;
+        retval->mFrameSize = frameSize;
+        retval->mBytesPerSample = channels *
+            IAudioSamples::findSampleBitDepth(format) / 8;
+      }
+    }
+    catch (std::bad_alloc & e)
+    {
+      VS_LOG_ERROR("Error: %s", e.what());
+      VS_REF_RELEASE(retval);
+      throw e;
+    }
+    catch (std::exception & e)
+    {
+      VS_LOG_ERROR("Error: %s", e.what());
+      VS_REF_RELEASE(retval);
+    }
+    return retval;
+  }
+
+  int32_t
+  AudioFifo :: getChannels()
+  {
+    return mChannels;
+  }
+
+  int32_t
+  AudioFifo :: getSampleRate()
+  {
+    return mSampleRate;
+  }
+
+  IAudioSamples::Format
+  AudioFifo :: getFormat()
+  {
+    return mFormat;
+  }
+
+  int32_t
+  AudioFifo :: getFrameSize()
+  {
+    return mFrameSize;
+  }
+
+  int32_t
+  AudioFifo :: getNumSamples()
+  {
+    return mNumSamples;
+  }
+
+  int64_t
+  AudioFifo :: getNextPts()
+  {
+    if (mBasePts == Global::NO_PTS)
+      return Global::NO_PTS;
+    return mBasePts + IAudioSamples::samplesToDefaultPts(mSamplesSinceBasePts,
+        mSampleRate);
+  }
+
+  int32_t
+  AudioFifo :: write(IAudioSamples* samples)
+  {
+    int32_t retval = -1;
+    try {
+      if (!samples)
+        throw std::invalid_argument("no samples to write");
+      if (!samples->isComplete())
+        throw std::invalid_argument("input samples are not complete");
+      if (samples->getChannels() != mChannels)
+        throw std::invalid_argument("channels in samples do not match fifo");
+      if (samples->getSampleRate() != mSampleRate)
+        throw std::invalid_argument(
+            "sample rate in samples does not match fifo");
+      if (samples->getFormat() != mFormat)
+        throw std::invalid_argument("format of samples does not match fifo");
+
+      int32_t numSamples = samples->getNumSamples();
+      if (numSamples > 0)
+      {
+        int32_t bytes = numSamples * mBytesPerSample;
+        RefPointer<IBuffer> data = samples->getData();
+        uint8_t* src = data ? (uint8_t*)data->getBytes(0, bytes) : 0;
+        if (!src)
+          throw std::runtime_error("no data in input samples");
+
+        // re-sync our time stamps whenever we start from empty
+        int64_t pts = samples->getTimeStamp();
+        if (!mNumSamples && pts != Global::NO_PTS)
+        {
+          mBasePts = pts;
+          mSamplesSinceBasePts = 0;
+        }
+
+        ensureCapacity(mNumSamples + numSamples);
+        uint8_t* ring = (uint8_t*)mBuffer->getBytes(0,
+            mCapacity * mBytesPerSample);
+        int32_t end = (mStart + mNumSamples) % mCapacity;
+        int32_t firstPart = FFMIN(numSamples, mCapacity - end);
+        memcpy(ring + end * mBytesPerSample, src,
+            firstPart * mBytesPerSample);
+        if (firstPart < numSamples)
+          memcpy(ring, src + firstPart * mBytesPerSample,
+              (numSamples - firstPart) * mBytesPerSample);
+        mNumSamples += numSamples;
+      }
+      retval = numSamples;
+    }
+    catch (std::bad_alloc & e)
+    {
+      throw e;
+    }
+    catch (std::exception & e)
+    {
+      VS_LOG_DEBUG("Error: %s", e.what());
+      retval = -1;
+    }
+    return retval;
+  }
+
+  int32_t
+  AudioFifo :: read(IAudioSamples* frame)
+  {
+    if (mNumSamples < mFrameSize)
+      return 0;
+    return copyOut(frame, mFrameSize);
+  }
+
+  int32_t
+  AudioFifo :: drain(IAudioSamples* frame)
+  {
+    return copyOut(frame, FFMIN(mNumSamples, mFrameSize));
+  }
+
+  void
+  AudioFifo :: clear()
+  {
+    mStart = 0;
+    mNumSamples = 0;
+    mBasePts = Global::NO_PTS;
+    mSamplesSinceBasePts = 0;
+  }
+
+  void
+  AudioFifo :: ensureCapacity(int32_t numSamples)
+  {
+    if (numSamples <= mCapacity)
+      return;
+
+    // grow geometrically so steady streams stop reallocating quickly
+    int32_t capacity = FFMAX(FFMAX(numSamples, mCapacity * 2),
+        mFrameSize * 2);
+    RefPointer<IBuffer> buffer = IBuffer::make(this,
+        capacity * mBytesPerSample);
+    uint8_t* dst = buffer ? (uint8_t*)buffer->getBytes(0,
+        capacity * mBytesPerSample) : 0;
+    if (!dst)
+      throw std::bad_alloc();
+
+    if (mNumSamples > 0)
+    {
+      uint8_t* ring = (uint8_t*)mBuffer->getBytes(0,
+          mCapacity * mBytesPerSample);
+      int32_t firstPart = FFMIN(mNumSamples, mCapacity - mStart);
+      memcpy(dst, ring + mStart * mBytesPerSample,
+          firstPart * mBytesPerSample);
+      if (firstPart < mNumSamples)
+        memcpy(dst + firstPart * mBytesPerSample, ring,
+            (mNumSamples - firstPart) * mBytesPerSample);
+    }
+    mBuffer = buffer;
+    mCapacity = capacity;
+    mStart = 0;
+  }
+
+  int32_t
+  AudioFifo :: copyOut(IAudioSamples* pFrame, int32_t numSamples)
+  {
+    int32_t retval = -1;
+    AudioSamples* frame = dynamic_cast<AudioSamples*>(pFrame);
+    try {
+      if (!frame)
+        throw std::invalid_argument("no samples to read into");
+      if (numSamples <= 0)
+        return 0;
+
+      int64_t pts = getNextPts();
+      int32_t bytes = numSamples * mBytesPerSample;
+
+      // set our format first so the frame sizes its buffer for it
+      frame->setComplete(false, 0, mSampleRate, mChannels, mFormat, pts);
+      frame->ensureCapacity(bytes);
+      RefPointer<IBuffer> data = frame->getData();
+      uint8_t* dst = data ? (uint8_t*)data->getBytes(0, bytes) : 0;
+      if (!dst)
+        throw std::runtime_error("could not get buffer for output samples");
+
+      uint8_t* ring = (uint8_t*)mBuffer->getBytes(0,
+          mCapacity * mBytesPerSample);
+      int32_t firstPart = FFMIN(numSamples, mCapacity - mStart);
+      memcpy(dst, ring + mStart * mBytesPerSample,
+          firstPart * mBytesPerSample);
+      if (firstPart < numSamples)
+        memcpy(dst + firstPart * mBytesPerSample, ring,
+            (numSamples - firstPart) * mBytesPerSample);
+
+      mStart = (mStart + numSamples) % mCapacity;
+      mNumSamples -= numSamples;
+      mSamplesSinceBasePts += numSamples;
+      frame->setComplete(true, numSamples, mSampleRate, mChannels, mFormat,
+          pts);
+      retval = numSamples;
+    }
+    catch (std::bad_alloc & e)
+    {
+      throw e;
+    }
+    catch (std::exception & e)
+    {
+      VS_LOG_DEBUG("Error: %s", e.what());
+      retval = -1;
+    }
+    return retval;
+  }
+
+  }}}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+#ifndef AUDIOFIFO_H_
+#define AUDIOFIFO_H_
+
+#include <com/xuggle/ferry/RefPointer.h>
+#include <com/xuggle/ferry/IBuffer.h>
+#include <com/xuggle/xuggler/IAudioFifo.h>
+
+namespace com { namespace xuggle { namespace xuggler
+  {
+
+  class AudioFifo : public IAudioFifo
+  {
+  private:
+    VS_JNIUTILS_REFCOUNTED_OBJECT_PRIVATE_MAKE(AudioFifo);
+  public:
+
+    // IAudioFifo
+    virtual int32_t getChannels();
+    virtual int32_t getSampleRate();
+    virtual IAudioSamples::Format getFormat();
+    virtual int32_t getFrameSize();
+    virtual int32_t getNumSamples();
+    virtual int64_t getNextPts();
+    virtual int32_t write(IAudioSamples* samples);
+    virtual int32_t read(IAudioSamples* frame);
+    virtual int32_t drain(IAudioSamples* frame);
+    virtual void clear();
+
+    // Not for calling from Java
+    static AudioFifo* make(int32_t channels, int32_t sampleRate,
+        IAudioSamples::Format format, int32_t frameSize);
+
+  protected:
+    AudioFifo();
+    virtual ~AudioFifo();
+  private:
+    void ensureCapacity(int32_t numSamples);
+    int32_t copyOut(IAudioSamples* frame, int32_t numSamples);
+
+    com::xuggle::ferry::RefPointer<com::xuggle::ferry::IBuffer> mBuffer;
+    int32_t mChannels;
+    int32_t mSampleRate;
+    IAudioSamples::Format mFormat;
+    int32_t mFrameSize;
+    int32_t mBytesPerSample;
+    // ring buffer state, in samples
+    int32_t mCapacity;
+    int32_t mStart;
+    int32_t mNumSamples;
+    // time stamp of the sample mSamplesSinceBasePts samples before mStart
+    int64_t mBasePts;
+    int64_t mSamplesSinceBasePts;
+  };
+
+  }}}
+
+#endif /*AUDIOFIFO_H_*/
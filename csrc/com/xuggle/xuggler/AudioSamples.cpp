@@ -23,6 +23,7 @@
 
 // for memset
 #include <com/xuggle/xuggler/FfmpegIncludes.h>
+#include <cmath>
 #include <cstring>
 #include <stdexcept>
 
@@ -371,6 +372,231 @@ namespace com { namespace xuggle { namespace xuggler
     return retval;
   }
 
+  /*
+   * Converts count samples starting at src (stepping srcStride samples
+   * at a time) into floats at dst (stepping dstStride floats at a time).
+   */
+  static void
+  copyToFloats(IAudioSamples::Format format, const void* src,
+      int32_t srcStride, float* dst, int32_t dstStride, int32_t count)
+  {
+    switch(format)
+    {
+      case IAudioSamples::FMT_U8:
+      case IAudioSamples::FMT_U8P:
+      {
+        const uint8_t* in = (const uint8_t*)src;
+        for(int32_t i = 0; i < count; i++)
+          dst[i*dstStride] = ((int32_t)in[i*srcStride] - 128) / 128.0f;
+        break;
+      }
+      case IAudioSamples::FMT_S16:
+      case IAudioSamples::FMT_S16P:
+      {
+        const int16_t* in = (const int16_t*)src;
+        for(int32_t i = 0; i < count; i++)
+          dst[i*dstStride] = in[i*srcStride] / 32768.0f;
+        break;
+      }
+      case IAudioSamples::FMT_S32:
+      case IAudioSamples::FMT_S32P:
+      {
+        const int32_t* in = (const int32_t*)src;
+        for(int32_t i = 0; i < count; i++)
+          dst[i*dstStride] = (float)(in[i*srcStride] / 2147483648.0);
+        break;
+      }
+      case IAudioSamples::FMT_FLT:
+      case IAudioSamples::FMT_FLTP:
+      {
+        const float* in = (const float*)src;
+        for(int32_t i = 0; i < count; i++)
+          dst[i*dstStride] = in[i*srcStride];
+        break;
+      }
+      case IAudioSamples::FMT_DBL:
+      case IAudioSamples::FMT_DBLP:
+      {
+        const double* in = (const double*)src;
+        for(int32_t i = 0; i < count; i++)
+          dst[i*dstStride] = (float)in[i*srcStride];
+        break;
+      }
+      default:
+        throw std::invalid_argument("unsupported sample format");
+    }
+  }
+
+  /*
+   * The reverse of copyToFloats; values outside [-1.0, 1.0) are clipped
+   * for integer formats.
+   */
+  static void
+  copyFromFloats(IAudioSamples::Format format, const float* src,
+      int32_t srcStride, void* dst, int32_t dstStride, int32_t count)
+  {
+    switch(format)
+    {
+      case IAudioSamples::FMT_U8:
+      case IAudioSamples::FMT_U8P:
+      {
+        uint8_t* out = (uint8_t*)dst;
+        for(int32_t i = 0; i < count; i++)
+        {
+          double value = floor(src[i*srcStride] * 128.0 + 128.5);
+          out[i*dstStride] = (uint8_t)(value < 0 ? 0 :
+              (value > 255 ? 255 : value));
+        }
+        break;
+      }
+      case IAudioSamples::FMT_S16:
+      case IAudioSamples::FMT_S16P:
+      {
+        int16_t* out = (int16_t*)dst;
+        for(int32_t i = 0; i < count; i++)
+        {
+          double value = floor(src[i*srcStride] * 32768.0 + 0.5);
+          out[i*dstStride] = (int16_t)(value < -32768 ? -32768 :
+              (value > 32767 ? 32767 : value));
+        }
+        break;
+      }
+      case IAudioSamples::FMT_S32:
+      case IAudioSamples::FMT_S32P:
+      {
+        int32_t* out = (int32_t*)dst;
+        for(int32_t i = 0; i < count; i++)
+        {
+          double value = floor(src[i*srcStride] * 2147483648.0 + 0.5);
+          out[i*dstStride] = (int32_t)(value < -2147483648.0 ? -2147483648.0 :
+              (value > 2147483647.0 ? 2147483647.0 : value));
+        }
+        break;
+      }
+      case IAudioSamples::FMT_FLT:
+      case IAudioSamples::FMT_FLTP:
+      {
+        float* out = (float*)dst;
+        for(int32_t i = 0; i < count; i++)
+          out[i*dstStride] = src[i*srcStride];
+        break;
+      }
+      case IAudioSamples::FMT_DBL:
+      case IAudioSamples::FMT_DBLP:
+      {
+        double* out = (double*)dst;
+        for(int32_t i = 0; i < count; i++)
+          out[i*dstStride] = src[i*srcStride];
+        break;
+      }
+      default:
+        throw std::invalid_argument("unsupported sample format");
+    }
+  }
+
+  /*
+   * Returns true if the format keeps each channel in its own plane.
+   */
+  static bool
+  isPlanar(IAudioSamples::Format format)
+  {
+    return format >= IAudioSamples::FMT_U8P &&
+        format <= IAudioSamples::FMT_DBLP;
+  }
+
+  int32_t
+  AudioSamples :: getFloatSamples(int32_t channel, float* samples,
+      int32_t numSamples)
+  {
+    int32_t retval = -1;
+    try
+    {
+      if (!samples)
+        throw std::invalid_argument("no samples passed in");
+      if (channel >= mChannels)
+        throw std::invalid_argument("cannot getFloatSamples for given channel");
+      if (numSamples < 0)
+        throw std::invalid_argument("numSamples must be >= 0");
+
+      int32_t available = this->getNumSamples();
+      if (numSamples > available)
+        numSamples = available;
+      if (numSamples == 0)
+        return 0;
+
+      uint8_t *rawSamples = (uint8_t*)this->getRawSamples(0);
+      if (!rawSamples)
+        throw std::runtime_error("no samples buffer set in AudioSamples");
+
+      int32_t bytesPerSample = this->getSampleSize() / mChannels;
+      bool planar = isPlanar(mSampleFmt);
+      int32_t first = channel < 0 ? 0 : channel;
+      int32_t last = channel < 0 ? mChannels : channel + 1;
+      for(int32_t i = first; i < last; i++)
+      {
+        // planes are back to back, each holding every sample we have
+        int32_t offset = planar ? i * available : i;
+        copyToFloats(mSampleFmt, rawSamples + offset * bytesPerSample,
+            planar ? 1 : mChannels,
+            samples + (channel < 0 ? i : 0),
+            channel < 0 ? mChannels : 1,
+            numSamples);
+      }
+      retval = numSamples;
+    }
+    catch(std::exception & e)
+    {
+      VS_LOG_DEBUG("Error: %s", e.what());
+      retval = -1;
+    }
+    return retval;
+  }
+
+  int32_t
+  AudioSamples :: setFloatSamples(int32_t channel, const float* samples,
+      int32_t numSamples)
+  {
+    int32_t retval = -1;
+    try
+    {
+      if (!samples)
+        throw std::invalid_argument("no samples passed in");
+      if (channel >= mChannels)
+        throw std::invalid_argument("cannot setFloatSamples for given channel");
+      if (numSamples < 0 || (uint32_t)numSamples > this->getMaxSamples())
+        throw std::invalid_argument("numSamples out of bounds");
+      if (numSamples == 0)
+        return 0;
+
+      int32_t size = numSamples * this->getSampleSize();
+      uint8_t *rawSamples = (uint8_t*)mSamples->getBytes(0, size);
+      if (!rawSamples)
+        throw std::runtime_error("no samples buffer set in AudioSamples");
+
+      int32_t bytesPerSample = this->getSampleSize() / mChannels;
+      bool planar = isPlanar(mSampleFmt);
+      int32_t first = channel < 0 ? 0 : channel;
+      int32_t last = channel < 0 ? mChannels : channel + 1;
+      for(int32_t i = first; i < last; i++)
+      {
+        int32_t offset = planar ? i * numSamples : i;
+        copyFromFloats(mSampleFmt,
+            samples + (channel < 0 ? i : 0),
+            channel < 0 ? mChannels : 1,
+            rawSamples + offset * bytesPerSample,
+            planar ? 1 : mChannels,
+            numSamples);
+      }
+      retval = numSamples;
+    }
+    catch(std::exception & e)
+    {
+      VS_LOG_DEBUG("Error: %s", e.what());
+      retval = -1;
+    }
+    return retval;
+  }
+
   void
   AudioSamples :: setBufferType(IAudioSamples::Format format,
       IBuffer* buffer)
@@ -62,6 +62,10 @@ namespace com { namespace xuggle { namespace xuggler
     virtual void setComplete(bool complete, uint32_t numSamples,
         int32_t sampleRate, int32_t channels, Format sampleFmt,
         int64_t pts);
+    virtual int32_t getFloatSamples(int32_t channel, float* samples,
+        int32_t numSamples);
+    virtual int32_t setFloatSamples(int32_t channel, const float* samples,
+        int32_t numSamples);
 
 
     /*
@@ -114,6 +114,9 @@ namespace com { namespace xuggle { namespace xuggler
     mNumStreams = 0;
     mInputBufferLength = 0;
     mReadRetryCount = 1;
+    mZeroCopyReading = false;
+    mDecodeOffset = 0;
+    mDecodeError = 0;
     mCustomIOHandler = 0;
   }
 
@@ -549,6 +552,9 @@ namespace com { namespace xuggle { namespace xuggler
   {
     int32_t retval = -1;
     mMetaData.reset();
+    mDecodePacket.reset();
+    mDecodeOffset = 0;
+    mDecodeError = 0;
 
     if (mFormatContext && mIsOpened)
     {
@@ -651,7 +657,10 @@ namespace com { namespace xuggle { namespace xuggler
           (mReadRetryCount < 0 || numReads <= mReadRetryCount));
 
       if (retval >= 0)
-        pkt->wrapAVPacket(packet);
+      {
+        if (!mZeroCopyReading || !pkt->adoptAVPacket(packet))
+          pkt->wrapAVPacket(packet);
+      }
       av_free_packet(packet);
 
       // Get a pointer to the wrapped packet
@@ -917,7 +926,12 @@ namespace com { namespace xuggle { namespace xuggler
         VS_LOG_WARN("Attempt to seek on streamIndex %d but only %d streams known about in container",
             streamIndex, mNumStreams);
       else
+      {
+        mDecodePacket.reset();
+        mDecodeOffset = 0;
+        mDecodeError = 0;
         retval = av_seek_frame(mFormatContext, streamIndex, timestamp, flags);
+      }
     }
     else
     {
@@ -939,11 +953,16 @@ namespace com { namespace xuggle { namespace xuggler
         VS_LOG_WARN("Attempt to seek on streamIndex %d but only %d streams known about in container",
             streamIndex, mNumStreams);
       else
+      {
+        mDecodePacket.reset();
+        mDecodeOffset = 0;
+        mDecodeError = 0;
         retval = avformat_seek_file(mFormatContext, streamIndex,
             minTimeStamp,
             targetTimeStamp,
             maxTimeStamp,
             flags);
+      }
     }
     else
     {
@@ -1211,6 +1230,128 @@ namespace com { namespace xuggle { namespace xuggler
   {
     mReadRetryCount = aCount;
   }
+
+  bool
+  Container :: getZeroCopyReading()
+  {
+    return mZeroCopyReading;
+  }
+
+  void
+  Container :: setZeroCopyReading(bool value)
+  {
+    mZeroCopyReading = value;
+  }
+
+  int32_t
+  Container :: decodeNextFrame(int32_t streamIndex, IMediaData* frame)
+  {
+    int32_t retval = -1;
+    if (!mIsOpened || !frame)
+      return retval;
+
+    RefPointer<IStream> stream = this->getStream(streamIndex);
+    if (!stream)
+    {
+      VS_LOG_WARN("Attempt to decode unknown stream: %d", streamIndex);
+      return retval;
+    }
+    RefPointer<IStreamCoder> coder = stream->getStreamCoder();
+    if (!coder || !coder->isOpen())
+    {
+      VS_LOG_WARN("Attempt to decode stream %d before its coder is open",
+          streamIndex);
+      return retval;
+    }
+    IVideoPicture* picture = 0;
+    IAudioSamples* samples = 0;
+    switch(coder->getCodecType())
+    {
+      case ICodec::CODEC_TYPE_VIDEO:
+        picture = dynamic_cast<IVideoPicture*>(frame);
+        break;
+      case ICodec::CODEC_TYPE_AUDIO:
+        samples = dynamic_cast<IAudioSamples*>(frame);
+        break;
+      default:
+        break;
+    }
+    if (!picture && !samples)
+    {
+      VS_LOG_WARN("Attempt to decode stream %d into the wrong kind of frame",
+          streamIndex);
+      return retval;
+    }
+
+    if (mDecodeError < 0)
+      return flushNextFrame(streamIndex, coder.value(), picture);
+
+    if (!mDecodePacket)
+    {
+      mDecodePacket = IPacket::make();
+      if (!mDecodePacket)
+        throw std::bad_alloc();
+      mDecodeOffset = 0;
+    }
+    IPacket* packet = mDecodePacket.value();
+    while(true)
+    {
+      if (mDecodeOffset >= packet->getSize() ||
+          packet->getStreamIndex() != streamIndex)
+      {
+        mDecodeOffset = 0;
+        retval = readNextPacket(packet);
+        if (retval == AVERROR(EAGAIN) || retval == AVERROR(EINTR))
+          // the caller can try again; don't give up on the stream
+          return retval;
+        if (retval < 0)
+        {
+          // nothing more to read, but decoders may still be holding
+          // frames back; hand those out before the error
+          mDecodeError = retval;
+          mDecodeOffset = 0;
+          return flushNextFrame(streamIndex, coder.value(), picture);
+        }
+        if (packet->getStreamIndex() != streamIndex || !packet->isComplete())
+          continue;
+      }
+      if (picture)
+        retval = coder->decodeVideo(picture, packet, mDecodeOffset);
+      else
+        retval = coder->decodeAudio(samples, packet, mDecodeOffset);
+      if (retval <= 0)
+      {
+        // drop the rest of this packet; we can't make progress on it
+        mDecodeOffset = packet->getSize();
+        if (retval < 0)
+          return retval;
+      }
+      else
+        mDecodeOffset += retval;
+
+      if (picture ? picture->isComplete() : samples->isComplete())
+        return 0;
+    }
+  }
+
+  int32_t
+  Container :: flushNextFrame(int32_t streamIndex, IStreamCoder* coder,
+      IVideoPicture* picture)
+  {
+    // only video decoders hold frames back
+    if (!picture)
+      return mDecodeError;
+
+    // an empty packet asks the decoder for what it has left
+    RefPointer<IPacket> packet = IPacket::make();
+    if (!packet)
+      throw std::bad_alloc();
+    packet->setStreamIndex(streamIndex);
+    if (coder->decodeVideo(picture, packet.value(), 0) < 0 ||
+        !picture->isComplete())
+      return mDecodeError;
+    return 0;
+  }
   
   int32_t
   Container :: setFormat(IContainerFormat* aFormat)
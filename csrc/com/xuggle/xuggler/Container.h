@@ -142,6 +142,10 @@ namespace com { namespace xuggle { namespace xuggler
     virtual int32_t open(const char *url, Type type,
         IContainerFormat* pContainerFormat, bool, bool,
         IMetaData*, IMetaData*);
+
+    virtual bool getZeroCopyReading();
+    virtual void setZeroCopyReading(bool value);
+    virtual int32_t decodeNextFrame(int32_t streamIndex, IMediaData* frame);
   protected:
     virtual ~Container();
     Container();
@@ -151,6 +155,8 @@ namespace com { namespace xuggle { namespace xuggler
     int32_t openInputURL(const char*url, bool, bool, AVDictionary** options);
     int32_t openOutputURL(const char*url, bool, AVDictionary **options);
     int32_t setupAllInputStreams();
+    int32_t flushNextFrame(int32_t streamIndex, IStreamCoder* coder,
+        IVideoPicture* picture);
     AVFormatContext *mFormatContext;
     void reset();
     void resetContext();
@@ -171,6 +177,14 @@ namespace com { namespace xuggle { namespace xuggler
     uint32_t mInputBufferLength;
     
     int32_t mReadRetryCount;
+    bool mZeroCopyReading;
+
+    // The packet decodeNextFrame is part way through, if any.
+    com::xuggle::ferry::RefPointer<IPacket> mDecodePacket;
+    int32_t mDecodeOffset;
+    // The error that ended reading, once decodeNextFrame is draining
+    // the decoders; 0 while still reading.
+    int32_t mDecodeError;
     com::xuggle::ferry::RefPointer<MetaData> mMetaData;
     com::xuggle::ferry::RefPointer<ContainerFormat> mFormat;
 
@@ -87,6 +87,10 @@ namespace com { namespace xuggle { namespace xuggler
     else
       logLevel = Logger::LEVEL_TRACE;
 
+    // don't bother formatting messages nobody will see
+    if (!ffmpegLogger || !ffmpegLogger->isLogging(logLevel))
+      return;
+
     // Revise the format string to add additional useful info
     char revisedFmt[1024];
     revisedFmt[sizeof(revisedFmt)-1] = 0;
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+#ifndef IAUDIOFIFO_H_
+#define IAUDIOFIFO_H_
+
+#include <com/xuggle/ferry/RefCounted.h>
+#include <com/xuggle/xuggler/Xuggler.h>
+#include <com/xuggle/xuggler/IAudioSamples.h>
+
+namespace com { namespace xuggle { namespace xuggler
+  {
+  /**
+   * Buffers {@link IAudioSamples} of any length and hands them back
+   * in frames of a fixed number of samples.
+   * <p>
+   * Encoders want audio in frames of exactly
+   * {@link IStreamCoder#getAudioFrameSize()} samples.  Decoders and
+   * resamplers hand out whatever they have.  Write the latter into an
+   * {@link IAudioFifo} and {@link #read(IAudioSamples)} out the former;
+   * each frame can then be encoded in a single
+   * {@link IStreamCoder#encodeAudio(IPacket, IAudioSamples, long)} call
+   * without the {@link IStreamCoder} copying it into its own frame buffer.
+   * </p>
+   * <p>
+   * Samples are copied into a native ring buffer that grows as needed,
+   * and frames are copied into {@link IAudioSamples} you pass in, so
+   * a loop that reuses its input and output objects allocates nothing.
+   * </p>
+   * @since 5.5
+   */
+  class VS_API_XUGGLER IAudioFifo : public com::xuggle::ferry::RefCounted
+  {
+  public:
+    /**
+     * Get the number of channels in the audio we buffer.
+     * @return the number of channels.
+     */
+    virtual int32_t getChannels()=0;
+
+    /**
+     * Get the sample rate of the audio we buffer.
+     * @return the sample rate.
+     */
+    virtual int32_t getSampleRate()=0;
+
+    /**
+     * Get the format of the audio we buffer.
+     * @return the sample format.
+     */
+    virtual IAudioSamples::Format getFormat()=0;
+
+    /**
+     * Get the number of samples in each frame returned by
+     * {@link #read(IAudioSamples)}.
+     * @return the frame size in samples.
+     */
+    virtual int32_t getFrameSize()=0;
+
+    /**
+     * Get the number of samples (per channel) waiting to be read.
+     * @return the number of buffered samples.
+     */
+    virtual int32_t getNumSamples()=0;
+
+    /**
+     * Get the time stamp, in microseconds, of the next sample that will
+     * be read.
+     * <p>
+     * Time stamps are taken from the first {@link IAudioSamples} written
+     * while this {@link IAudioFifo} is empty, and count forward by
+     * samples after that.  Gaps in the time stamps of samples written
+     * while others are still buffered are ignored.
+     * </p>
+     * @return the time stamp, or {@link Global#NO_PTS} if the samples
+     *   written had no time stamp.
+     */
+    virtual int64_t getNextPts()=0;
+
+    /**
+     * Copy all the samples in the given {@link IAudioSamples} onto the
+     * end of this {@link IAudioFifo}.
+     * 
+     * @param samples The samples to add.  They must be complete, and
+     *   have the same channels, sample rate and format as this
+     *   {@link IAudioFifo}.  They can be reused as soon as this returns.
+     * @return The number of samples added, or <0 on error.
+     */
+    virtual int32_t write(IAudioSamples* samples)=0;
+
+    /**
+     * If at least {@link #getFrameSize()} samples are buffered, copy
+     * exactly that many into frame and remove them.
+     * <p>
+     * frame is grown if needed and made complete, with the time stamp of
+     * its first sample.  Any data it held before is overwritten.
+     * </p>
+     * 
+     * @param frame The samples to copy into.
+     * @return The number of samples copied, which is either
+     *   {@link #getFrameSize()} or 0 if not enough are buffered,
+     *   or <0 on error.
+     */
+    virtual int32_t read(IAudioSamples* frame)=0;
+
+    /**
+     * Like {@link #read(IAudioSamples)}, but if fewer than
+     * {@link #getFrameSize()} samples are buffered, copies all of
+     * them.  Use this at the end of a stream.
+     * 
+     * @param frame The samples to copy into.
+     * @return The number of samples copied, 0 if this
+     *   {@link IAudioFifo} is empty, or <0 on error.
+     */
+    virtual int32_t drain(IAudioSamples* frame)=0;
+
+    /**
+     * Throw away all buffered samples and forget the time stamp.
+     */
+    virtual void clear()=0;
+
+    /**
+     * Create a new {@link IAudioFifo}.
+     * 
+     * @param channels The number of channels.
+     * @param sampleRate The sample rate.
+     * @param format The sample format.  Planar formats are not supported.
+     * @param frameSize The number of samples in each frame returned
+     *   by {@link #read(IAudioSamples)}; usually
+     *   {@link IStreamCoder#getAudioFrameSize()}.
+     * @return A new object, or null if the arguments are not valid.
+     */
+    static IAudioFifo* make(int32_t channels, int32_t sampleRate,
+        IAudioSamples::Format format, int32_t frameSize);
+
+  protected:
+    IAudioFifo();
+    virtual ~IAudioFifo();
+  };
+
+  }}}
+
+#endif /*IAUDIOFIFO_H_*/
@@ -349,7 +349,63 @@ namespace com { namespace xuggle { namespace xuggler
     static IAudioSamples* make(uint32_t numSamples,
         uint32_t numChannels,
         IAudioSamples::Format format);
-    
+
+  public:
+    /*
+     * Added for 5.5
+     */
+
+#ifndef SWIG
+    /**
+     * Copy samples out of this buffer into floats, converting
+     * from {@link #getFormat()} to floats in the range [-1.0, 1.0).
+     * <p>
+     * If channel is negative, all channels are copied and
+     * <code>samples</code> is filled interleaved (the way
+     * {@link #FMT_FLT} audio is laid out).  Otherwise only the given
+     * channel is copied.  Planar formats are handled.
+     * </p>
+     *
+     * @param channel The zero-based channel to copy, or <0 for all
+     *   channels.
+     * @param samples Receives the samples.  Must have room for
+     *   numSamples values per channel copied.
+     * @param numSamples The most samples (per channel) to copy.
+     * @return The number of samples (per channel) copied, which will
+     *   be no more than {@link #getNumSamples()}, or <0 on error.
+     * @since 5.5
+     */
+    virtual int32_t getFloatSamples(int32_t channel, float* samples,
+        int32_t numSamples)=0;
+
+    /**
+     * Copy floats in the range [-1.0, 1.0) into this buffer, starting at
+     * the first sample and converting to {@link #getFormat()}.
+     * Values outside the range are clipped.
+     * <p>
+     * If channel is negative, <code>samples</code> must be interleaved
+     * and fills all channels.  Otherwise only the given channel is
+     * written.  For planar formats each channel is assumed to hold
+     * numSamples samples.
+     * </p>
+     * <p>
+     * This does not change {@link #isComplete()} or
+     * {@link #getNumSamples()}; call
+     * #setComplete(bool, uint32_t, int32_t, int32_t, Format, int64_t)
+     * when done.
+     * </p>
+     *
+     * @param channel The zero-based channel to write, or <0 for all
+     *   channels.
+     * @param samples The samples to copy.
+     * @param numSamples The number of samples (per channel) to copy.
+     *   Must be no more than {@link #getMaxSamples()}.
+     * @return The number of samples (per channel) copied, or <0 on error.
+     * @since 5.5
+     */
+    virtual int32_t setFloatSamples(int32_t channel, const float* samples,
+        int32_t numSamples)=0;
+#endif
   };
 
 }}}
@@ -1009,6 +1009,99 @@ namespace com { namespace xuggle { namespace xuggler
         bool queryStreamMetaData,
         IMetaData* options,
         IMetaData* optionsNotSet)=0;
+
+    /**
+     * Does {@link #readNextPacket(IPacket)} hand packets the demuxer's
+     * own memory rather than copies of it?
+     *
+     * @return true if zero copy reading is on.
+     *
+     * @see #setZeroCopyReading(bool)
+     * @since 5.5
+     */
+    virtual bool getZeroCopyReading()=0;
+
+    /**
+     * Turn zero copy reading on or off.  Off by default.
+     * <p>
+     * By default {@link #readNextPacket(IPacket)} copies every packet
+     * the demuxer returns into the {@link IPacket}'s own buffer, reusing
+     * that buffer from read to read when it is large enough.  With zero
+     * copy reading on, the {@link IPacket} instead takes over the memory
+     * the demuxer allocated for the packet, and frees it when the
+     * packet's data is released.  This saves a copy of every packet
+     * read, but means each read gives the {@link IPacket} a new
+     * {@link com.xuggle.ferry.IBuffer}.
+     * </p>
+     * <p>
+     * Packets whose data the demuxer does not hand over (for example
+     * data still owned by a parser) are copied as before.
+     * </p>
+     *
+     * @param value true to turn zero copy reading on.
+     *
+     * @since 5.5
+     */
+    virtual void setZeroCopyReading(bool value)=0;
+
+    /**
+     * Read and decode packets from this container until one complete
+     * frame of the given stream has been decoded into <code>frame</code>.
+     * <p>
+     * This does the work of a {@link #readNextPacket(IPacket)} and
+     * {@link IStreamCoder#decodeVideo(IVideoPicture, IPacket, int)} or
+     * {@link IStreamCoder#decodeAudio(IAudioSamples, IPacket, int)}
+     * loop in one call.  Packets for other streams are read and
+     * dropped.  If a packet holds more than one frame, the rest of it is
+     * kept and decoded by the next call.  Seeking or closing the
+     * container throws away any such packet.
+     * </p>
+     * <p>
+     * Once there is nothing left to read, each call instead hands out
+     * one of the pictures the video decoder is still holding back (for
+     * example because of B-frame reordering or frame threading), and
+     * only returns the read error when it has none left.  Reads that
+     * fail with {@link IError.Type#ERROR_AGAIN} or
+     * {@link IError.Type#ERROR_INTERRUPTED} are returned straight away
+     * instead, and the next call reads again.
+     * </p>
+     * <p>
+     * The stream's {@link IStreamCoder} must already be open, and
+     * <code>frame</code> must be an {@link IVideoPicture} for a video
+     * stream or an {@link IAudioSamples} for an audio stream.
+     * </p>
+     *
+     * @param streamIndex The stream to decode.
+     * @param frame The picture or samples to decode into.
+     *
+     * @return >= 0 on success; < 0 on error or at the end of the
+     *   container.
+     *
+     * @since 5.5
+     */
+    virtual int32_t decodeNextFrame(int32_t streamIndex,
+        IMediaData* frame)=0;
+
+    /**
+     * The number of longs {@link #decodeNextFrames(int, IMediaData[], long[])}
+     * writes into its <code>info</code> array for each frame it decodes.
+     */
+    static const int32_t FRAME_INFO_STRIDE=3;
+    /**
+     * Offset of a frame's {@link IMediaData#getTimeStamp()} in its
+     * {@link #FRAME_INFO_STRIDE} longs of frame info.
+     */
+    static const int32_t FRAME_INFO_TIMESTAMP=0;
+    /**
+     * Offset of a frame's {@link IMediaData#isKey()} (1 or 0) in its
+     * {@link #FRAME_INFO_STRIDE} longs of frame info.
+     */
+    static const int32_t FRAME_INFO_KEY=1;
+    /**
+     * Offset of a frame's {@link IAudioSamples#getNumSamples()} (0 for
+     * pictures) in its {@link #FRAME_INFO_STRIDE} longs of frame info.
+     */
+    static const int32_t FRAME_INFO_NUM_SAMPLES=2;
   };
 }}}
 #endif /*ICONTAINER_H_*/
@@ -408,6 +408,34 @@ namespace com { namespace xuggle { namespace xuggler
     * @since 5.0
     */
    virtual void setId(int32_t id) = 0;
+
+   /*
+    * Added for 5.5
+    */
+
+#ifndef SWIG
+   /**
+    * Copy index entries into caller supplied arrays without
+    * making an {@link IIndexEntry} for each one.
+    * <p>
+    * Any of the arrays may be null, in which case that field is
+    * not copied.  The non-null arrays must each have room for
+    * <code>count</code> values.
+    * </p>
+    *
+    * @param start The position in the index of the first entry to copy.
+    * @param count The most entries to copy.
+    * @param timeStamps Receives the time stamp of each entry.
+    * @param positions Receives the byte position of each entry.
+    * @param sizes Receives the size of each entry.
+    * @param flags Receives the flags of each entry.
+    * @return The number of entries copied, or <0 on error.
+    * @since 5.5
+    */
+   virtual int32_t getIndexEntries(int32_t start, int32_t count,
+       int64_t* timeStamps, int64_t* positions,
+       int32_t* sizes, int32_t* flags)=0;
+#endif
   };
 }}}
 
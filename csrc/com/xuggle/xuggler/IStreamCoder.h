@@ -499,6 +499,13 @@ namespace com { namespace xuggle { namespace xuggler
      * you should pass the same IVideoPicture into this function
      * repeatedly until IVideoPicture::isComplete() is true.
      *
+     * <p>
+     * Some decoders hold on to pictures, for example when decoding
+     * frames on more than one thread.  Once there are no more packets,
+     * pass in an empty packet until IVideoPicture::isComplete() is false
+     * to get them.
+     * </p>
+     *
      * @param pOutFrame The AudioSamples we decode.
      * @param packet    The packet we're attempting to decode from.
      * @param byteOffset Where in the packet payload to start decoding
@@ -1060,6 +1067,237 @@ namespace com { namespace xuggle { namespace xuggler
      * {@inheritDoc}
      */
     virtual int32_t setProperty(IMetaData* valuesToSet, IMetaData* valuesNotFound)=0;
+
+    /**
+     * The ways a codec may spread its work over more than one thread.
+     * Not all codecs support all types; a codec ignores the types it
+     * does not support.
+     *
+     * @since 5.5
+     */
+    typedef enum ThreadType {
+      /**
+       * Do not use more than one thread, even if {@link #getNumThreads()}
+       * is greater than one.
+       */
+      THREAD_TYPE_NONE=0,
+      /**
+       * Decode more than one frame at once.  Each extra thread adds one
+       * frame of delay between a packet going in and its picture coming
+       * out.
+       */
+      THREAD_TYPE_FRAME=1,
+      /**
+       * Decode or encode more than one part of a single frame at once.
+       * Adds no delay, but only helps with streams that were encoded
+       * with more than one slice per frame.
+       */
+      THREAD_TYPE_SLICE=2,
+      /**
+       * Use frame threading if the codec supports it, and slice threading
+       * otherwise.  This is the default.
+       */
+      THREAD_TYPE_FRAME_AND_SLICE=3,
+    } ThreadType;
+
+    /**
+     * Get the number of threads this coder will use.
+     *
+     * @return the number of threads; 0 means one thread per available
+     *   CPU, which once the coder is open is replaced with the number
+     *   actually used.  <0 on error.
+     *
+     * @since 5.5
+     */
+    virtual int32_t getNumThreads()=0;
+
+    /**
+     * Set the number of threads this coder will use.  Must be called
+     * before the coder is opened.
+     *
+     * @param numThreads the number of threads, or 0 to use one thread per
+     *   available CPU.  The default is 1.
+     * @return 0 on success; <0 on error, including if the coder is
+     *   already open.
+     *
+     * @since 5.5
+     */
+    virtual int32_t setNumThreads(int32_t numThreads)=0;
+
+    /**
+     * Get the kinds of threading this coder may use.
+     *
+     * @return the thread type
+     *
+     * @see ThreadType
+     * @since 5.5
+     */
+    virtual ThreadType getThreadType()=0;
+
+    /**
+     * Set the kinds of threading this coder may use.  Must be called
+     * before the coder is opened.
+     *
+     * @param type the thread type
+     * @return 0 on success; <0 on error, including if the coder is
+     *   already open.
+     *
+     * @see ThreadType
+     * @since 5.5
+     */
+    virtual int32_t setThreadType(ThreadType type)=0;
+
+    /**
+     * Get the kind of threading this coder is actually using.  Only
+     * valid once the coder is open; it is {@link #THREAD_TYPE_NONE} if
+     * the codec does not support any of the types asked for, or only one
+     * thread is in use.
+     *
+     * @return the thread type in use
+     *
+     * @see ThreadType
+     * @since 5.5
+     */
+    virtual ThreadType getActiveThreadType()=0;
+
+    /**
+     * Should decodeVideo hand out the decoder's own pictures rather than
+     * copies of them?
+     *
+     * @return true if zero copy decoding is on.
+     *
+     * @see #setZeroCopyDecoding(bool)
+     * @since 5.5
+     */
+    virtual bool getZeroCopyDecoding()=0;
+
+    /**
+     * Turn zero copy decoding on or off.  Must be called before the
+     * coder is opened.  Off by default.
+     * <p>
+     * By default every picture decodeVideo completes is copied out of
+     * memory the decoder owns into the IVideoPicture's own buffer.  With
+     * zero copy decoding on, the decoder instead writes straight into
+     * reference-counted buffers from a pool this coder keeps, and the
+     * IVideoPicture is handed the decoder's buffer as is.  A buffer goes
+     * back to the pool once neither the decoder nor any picture refers
+     * to it.
+     * </p>
+     * <p>
+     * Pictures decoded this way must be treated as read-only, since the
+     * decoder may still be using them to decode later pictures.  Their
+     * data also keeps the decoder's layout: rows are padded out to
+     * IVideoPicture::getDataLineSize(int) bytes, and planes may not
+     * start right after each other in IVideoPicture::getData().
+     * Resampling, encoding and IVideoPicture::copy(IVideoPicture*) all
+     * handle this; use a copy if you need to change the picture or read
+     * its raw bytes.
+     * </p>
+     * <p>
+     * Only codecs that support direct rendering decode this way; others
+     * silently fall back to copying.
+     * </p>
+     *
+     * @param value true to turn zero copy decoding on.
+     * @return 0 on success; <0 on error, including if the coder is
+     *   already open.
+     *
+     * @since 5.5
+     */
+    virtual int32_t setZeroCopyDecoding(bool value)=0;
+
+    /**
+     * Which frames a decoder may skip work on, from none to all.  Each
+     * level also skips everything the levels before it skip.
+     *
+     * @since 5.5
+     */
+    typedef enum Discard {
+      /**
+       * Skip nothing, not even empty packets.
+       */
+      DISCARD_NONE=-16,
+      /**
+       * Skip only useless packets, such as empty ones.  This is the
+       * default.
+       */
+      DISCARD_DEFAULT=0,
+      /**
+       * Skip frames no other frame is predicted from, such as most
+       * B-frames.
+       */
+      DISCARD_NONREF=8,
+      /**
+       * Skip all bidirectionally predicted frames.
+       */
+      DISCARD_BIDIR=16,
+      /**
+       * Skip everything but key frames.
+       */
+      DISCARD_NONKEY=32,
+      /**
+       * Skip everything.
+       */
+      DISCARD_ALL=48,
+    } Discard;
+
+    /**
+     * Get which frames this decoder skips decoding.
+     *
+     * @return the frames skipped
+     *
+     * @see #setSkipFrame(Discard)
+     * @since 5.5
+     */
+    virtual Discard getSkipFrame()=0;
+
+    /**
+     * Set which frames this decoder skips decoding.  May be changed at
+     * any time, including while the coder is open.
+     * <p>
+     * A skipped frame uses up its packet like any other, but
+     * decodeVideo does not complete a picture for it.  Use
+     * {@link #DISCARD_NONKEY} to decode only key frames, for example to
+     * make previews or look for scene changes, or
+     * {@link #DISCARD_NONREF} to drop frames no other frame depends on.
+     * Not all codecs support all levels; most ignore this on encoding.
+     * </p>
+     *
+     * @param discard the frames to skip
+     * @return 0 on success; <0 on error.
+     *
+     * @see Discard
+     * @since 5.5
+     */
+    virtual int32_t setSkipFrame(Discard discard)=0;
+
+    /**
+     * Get which frames this decoder skips the loop filter for.
+     *
+     * @return the frames the loop filter is skipped for
+     *
+     * @see #setSkipLoopFilter(Discard)
+     * @since 5.5
+     */
+    virtual Discard getSkipLoopFilter()=0;
+
+    /**
+     * Set which frames this decoder skips the loop filter for.  May be
+     * changed at any time, including while the coder is open.
+     * <p>
+     * Skipping the in-loop deblocking filter of codecs like H.264 makes
+     * decoding faster at the cost of blockier pictures, and errors that
+     * add up until the next key frame.  Fine for thumbnails and
+     * analysis; not for anything people will watch.
+     * </p>
+     *
+     * @param discard the frames to skip the loop filter for
+     * @return 0 on success; <0 on error.
+     *
+     * @see Discard
+     * @since 5.5
+     */
+    virtual int32_t setSkipLoopFilter(Discard discard)=0;
   };
 
 }}}
@@ -261,6 +261,100 @@ namespace com { namespace xuggle { namespace xuggler
      * {@inheritDoc}
      */
     virtual int32_t setProperty(IMetaData* valuesToSet, IMetaData* valuesNotFound)=0;
+
+    /*
+     * Added for 5.5
+     */
+
+    /**
+     * Get the number of horizontal slices a picture is cut into when
+     * resampled on several threads.
+     *
+     * @return the number of slices; 1 means pictures are always
+     *   resampled whole.
+     *
+     * @see #setNumSlices(int32_t)
+     * @since 5.5
+     */
+    virtual int32_t getNumSlices()=0;
+
+    /**
+     * Ask for pictures to be cut into this many horizontal slices, so
+     * that each slice can be resampled on its own thread.
+     * <p>
+     * Slicing only works if the input and output pictures are the
+     * same height and neither format uses a palette; otherwise
+     * pictures are always resampled whole.  Slices are kept a multiple
+     * of 16 rows high, so small pictures may get fewer slices than
+     * asked for.  Pixels at the edges of slices may come out very
+     * slightly different than if the picture was resampled whole.
+     * </p>
+     * <p>
+     * Setting this has no effect on {@link #resample(IVideoPicture, IVideoPicture)},
+     * which always works on the calling thread; in Java use
+     * <code>resample(IVideoPicture, IVideoPicture, java.util.concurrent.Executor)</code>
+     * to resample the slices in parallel.
+     * </p>
+     *
+     * @param numSlices The number of slices wanted.
+     *
+     * @return the number of slices pictures will actually be cut
+     *   into, or <0 on error.
+     *
+     * @since 5.5
+     */
+    virtual int32_t setNumSlices(int32_t numSlices)=0;
+
+    /**
+     * Check <code>in</code> and <code>out</code> and get
+     * <code>out</code> ready for {@link #resampleSlice(IVideoPicture, IVideoPicture, int32_t)}
+     * to be called on every slice.
+     * <p>
+     * Internal only; used by the Java
+     * <code>resample(IVideoPicture, IVideoPicture, java.util.concurrent.Executor)</code>.
+     * </p>
+     *
+     * @param out The picture we'll resample to.
+     * @param in The picture we'll resample from.
+     *
+     * @return the number of slices to resample, or <0 on error.
+     */
+    virtual int32_t beginSlices(IVideoPicture *out, IVideoPicture *in)=0;
+
+    /**
+     * Resample one slice of <code>in</code> into <code>out</code>.
+     * Different slices of the same pictures may be resampled at the
+     * same time on different threads.
+     * <p>
+     * Internal only; used by the Java
+     * <code>resample(IVideoPicture, IVideoPicture, java.util.concurrent.Executor)</code>.
+     * </p>
+     *
+     * @param out The picture passed to {@link #beginSlices(IVideoPicture, IVideoPicture)}.
+     * @param in The picture passed to {@link #beginSlices(IVideoPicture, IVideoPicture)}.
+     * @param slice Which slice to resample, from 0.
+     *
+     * @return >= 0 on success; <0 on error.
+     */
+    virtual int32_t resampleSlice(IVideoPicture *out, IVideoPicture *in,
+        int32_t slice)=0;
+
+    /**
+     * Mark <code>out</code> complete (or not) once every slice has
+     * been resampled.
+     * <p>
+     * Internal only; used by the Java
+     * <code>resample(IVideoPicture, IVideoPicture, java.util.concurrent.Executor)</code>.
+     * </p>
+     *
+     * @param out The picture passed to {@link #beginSlices(IVideoPicture, IVideoPicture)}.
+     * @param in The picture passed to {@link #beginSlices(IVideoPicture, IVideoPicture)}.
+     * @param succeeded Whether every slice was resampled.
+     *
+     * @return >= 0 on success; <0 on error.
+     */
+    virtual int32_t endSlices(IVideoPicture *out, IVideoPicture *in,
+        bool succeeded)=0;
   protected:
     IVideoResampler();
     virtual ~IVideoResampler();
@@ -205,6 +205,36 @@ namespace com { namespace xuggle { namespace xuggler
     setComplete(true, mPacket->size);
   }
 
+  bool
+  Packet :: adoptAVPacket(AVPacket* pkt)
+  {
+    VS_ASSERT(mPacket, "No packet?");
+    // We can only take over memory the packet owns and that was
+    // allocated with av_malloc (and so padded); data that still
+    // belongs to a demuxer or parser has to be copied.
+    if (!mPacket || !pkt || !pkt->data || pkt->size <= 0 ||
+        pkt->destruct != av_destruct_packet)
+      return false;
+
+    reset();
+    mBuffer = Buffer::make(0, pkt->data, pkt->size,
+        Packet::freeAVBuffer, 0);
+    if (!mBuffer)
+      return false;
+
+    void (*orig_destruct)(struct AVPacket *) = mPacket->destruct;
+    *mPacket = *pkt;
+    mPacket->destruct = orig_destruct;
+
+    // The buffer owns the data now, so make sure freeing pkt
+    // leaves it alone.
+    pkt->data = 0;
+    pkt->size = 0;
+
+    setComplete(true, mPacket->size);
+    return true;
+  }
+
   void
   Packet :: reset()
   {
@@ -86,6 +86,13 @@ namespace com { namespace xuggle { namespace xuggler
      * our own buffer state.
      */
     void wrapAVPacket(AVPacket* pkt);
+    /*
+     * Like wrapAVPacket, but takes over pkt's data instead of copying
+     * it.  Only works if pkt owns av_malloc'ed data; returns false
+     * (and leaves pkt alone) if not, in which case the caller should
+     * fall back to wrapAVPacket.
+     */
+    bool adoptAVPacket(AVPacket* pkt);
     void wrapBuffer(com::xuggle::ferry::IBuffer *buffer);
     // Used by the IBuffer to free buffers.
     static void freeAVBuffer(void *buf, void *closure);
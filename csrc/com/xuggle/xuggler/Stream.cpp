@@ -490,4 +490,29 @@ namespace com { namespace xuggle { namespace xuggler
       return;
     mStream->id = aId;
   }
+
+  int32_t
+  Stream :: getIndexEntries(int32_t start, int32_t count,
+      int64_t* timeStamps, int64_t* positions,
+      int32_t* sizes, int32_t* flags)
+  {
+    if (!mStream || start < 0 || count < 0)
+      return -1;
+    if (!mStream->index_entries || start >= mStream->nb_index_entries)
+      return 0;
+    int32_t numEntries = FFMIN(count, mStream->nb_index_entries - start);
+    const AVIndexEntry* entries = mStream->index_entries + start;
+    for(int32_t i = 0; i < numEntries; i++)
+    {
+      if (timeStamps)
+        timeStamps[i] = entries[i].timestamp;
+      if (positions)
+        positions[i] = entries[i].pos;
+      if (sizes)
+        sizes[i] = entries[i].size;
+      if (flags)
+        flags[i] = entries[i].flags;
+    }
+    return numEntries;
+  }
 }}}
@@ -90,6 +90,9 @@ namespace com { namespace xuggle { namespace xuggler
     virtual IIndexEntry* getIndexEntry(int32_t position);
     virtual int32_t addIndexEntry(IIndexEntry* entry);
     void setId(int32_t id);
+    virtual int32_t getIndexEntries(int32_t start, int32_t count,
+        int64_t* timeStamps, int64_t* positions,
+        int32_t* sizes, int32_t* flags);
 
   protected:
     Stream();
@@ -37,6 +37,8 @@
 
 extern "C" {
 #include <libavutil/dict.h>
+#include <libavutil/imgutils.h>
+#include <libavutil/pixdesc.h>
 }
 VS_LOG_SETUP(VS_CPP_PACKAGE);
 
@@ -68,11 +70,18 @@ StreamCoder::StreamCoder() :
   {
     mPtsBuffer[i] = Global::NO_PTS;
   }
+  mDecodedFrame = 0;
+  mZeroCopyDecoding = false;
+  mNumPooledPictures = 0;
 }
 
 StreamCoder::~StreamCoder()
 {
   reset();
+  clearPicturePool();
+  if (mDecodedFrame)
+    av_free(mDecodedFrame);
+  mDecodedFrame = 0;
 }
 
 void
@@ -777,6 +786,18 @@ StreamCoder::open(IMetaData* aOptions, IMetaData* aUnsetOptions)
        */
       AVCodec* cachedCodec = mCodecContext->codec;
       mCodecContext->codec = 0;
+      if (mZeroCopyDecoding && mDirection == DECODING &&
+          mCodecContext->codec_type == AVMEDIA_TYPE_VIDEO)
+      {
+        // have the decoder allocate its pictures from our pool; our
+        // callbacks only touch the pool and atomic ref counts, so they
+        // are safe to call from the decoder's own threads
+        mCodecContext->opaque = this;
+        mCodecContext->get_buffer = StreamCoder::getBuffer;
+        mCodecContext->release_buffer = StreamCoder::releaseBuffer;
+        mCodecContext->reget_buffer = avcodec_default_reget_buffer;
+        mCodecContext->thread_safe_callbacks = 1;
+      }
       retval = avcodec_open2(mCodecContext, mCodec->getAVCodec(), &tmp);
 
       if (retval >= 0 && cachedCodec != 0 && cachedCodec != mCodecContext->codec)
@@ -844,7 +865,15 @@ StreamCoder::close()
   {
     retval = avcodec_close(mCodecContext);
     mOpened = false;
+    if (mCodecContext->get_buffer == StreamCoder::getBuffer)
+    {
+      // the decoder has given back all its pictures now
+      mCodecContext->get_buffer = avcodec_default_get_buffer;
+      mCodecContext->release_buffer = avcodec_default_release_buffer;
+      mCodecContext->thread_safe_callbacks = 0;
+    }
   }
+  clearPicturePool();
   mBytesInFrameBuffer = 0;
   return retval;
 }
@@ -894,32 +923,22 @@ StreamCoder::decodeAudio(IAudioSamples *pOutSamples, IPacket *pPacket,
   int outBufSize = 0;
   int32_t inBufSize = 0;
 
-  // When decoding with FFMPEG, ffmpeg needs the sample buffer
-  // to be at least this long.
-  samples->ensureCapacity(AVCODEC_MAX_AUDIO_FRAME_SIZE);
-  outBufSize = samples->getMaxBufferSize();
   inBufSize = packet->getSize() - startingByte;
 
-  if (inBufSize > 0 && outBufSize > 0)
+  if (inBufSize > 0)
   {
     RefPointer<IBuffer> buffer = packet->getData();
     uint8_t * inBuf = 0;
-    int16_t * outBuf = 0;
 
     VS_ASSERT(buffer, "no buffer in packet!");
     if (buffer)
       inBuf = (uint8_t*) buffer->getBytes(startingByte, inBufSize);
 
-    outBuf = samples->getRawSamples(0);
-
     VS_ASSERT(inBuf, "no in buffer");
-    VS_ASSERT(outBuf, "no out buffer");
-    if (outBuf && inBuf)
+    if (inBuf)
     {
-      VS_LOG_TRACE("Attempting decodeAudio(%p, %p, %d, %p, %d);",
+      VS_LOG_TRACE("Attempting decodeAudio(%p, %p, %d);",
           mCodecContext,
-          outBuf,
-          outBufSize,
           inBuf,
           inBufSize);
       AVPacket pkt;
@@ -949,7 +968,17 @@ StreamCoder::decodeAudio(IAudioSamples *pOutSamples, IPacket *pPacket,
             frame.nb_samples,
             mCodecContext->sample_fmt,
             1);
-          if (outBufSize < data_size) {
+          // the decoder keeps the frame in its own memory, so we only
+          // need room for what it actually decoded, and only grow the
+          // samples when that's more than they already have
+          int16_t * outBuf = 0;
+          if (data_size > 0 && samples->ensureCapacity(data_size) >= 0)
+          {
+            outBufSize = samples->getMaxBufferSize();
+            outBuf = samples->getRawSamples(0);
+          }
+          VS_ASSERT(outBuf, "no out buffer");
+          if (!outBuf || outBufSize < data_size) {
             VS_LOG_ERROR("Output buffer is not large enough; no audio actually returned");
             outBufSize = 0;
           } else {
@@ -965,10 +994,9 @@ StreamCoder::decodeAudio(IAudioSamples *pOutSamples, IPacket *pPacket,
           }
         }
       }
-      VS_LOG_TRACE("Finished %d decodeAudio(%p, %p, %d, %p, %d);",
+      VS_LOG_TRACE("Finished %d decodeAudio(%p, %d, %p, %d);",
           retval,
           mCodecContext,
-          outBuf,
           outBufSize,
           inBuf,
           inBufSize);
@@ -1105,9 +1133,13 @@ StreamCoder::decodeVideo(IVideoPicture *pOutFrame, IPacket *pPacket,
     return retval;
   }
 
-  AVFrame *avFrame = avcodec_alloc_frame();
+  // reuse one frame for every call rather than allocating one each time
+  if (!mDecodedFrame)
+    mDecodedFrame = avcodec_alloc_frame();
+  AVFrame *avFrame = mDecodedFrame;
   if (avFrame)
   {
+    avcodec_get_frame_defaults(avFrame);
     RefPointer<IBuffer> buffer = packet->getData();
     int frameFinished = 0;
     int32_t inBufSize = 0;
@@ -1115,13 +1147,21 @@ StreamCoder::decodeVideo(IVideoPicture *pOutFrame, IPacket *pPacket,
 
     inBufSize = packet->getSize() - byteOffset;
 
-    VS_ASSERT(buffer, "no buffer in packet?");
-    if (buffer)
-      inBuf = (uint8_t*) buffer->getBytes(byteOffset, inBufSize);
+    // an empty packet asks the decoder for any pictures it is still
+    // holding on to, for example when decoding frames on several threads
+    bool flushing = packet->getSize() <= 0 && byteOffset == 0;
+    if (flushing)
+      inBufSize = 0;
+    else
+    {
+      VS_ASSERT(buffer, "no buffer in packet?");
+      if (buffer)
+        inBuf = (uint8_t*) buffer->getBytes(byteOffset, inBufSize);
 
-    VS_ASSERT(inBuf, "incorrect size or no data in packet");
+      VS_ASSERT(inBuf, "incorrect size or no data in packet");
+    }
 
-    if (inBufSize > 0 && inBuf)
+    if ((inBufSize > 0 && inBuf) || flushing)
     {
       VS_LOG_TRACE("Attempting decodeVideo(%p, %p, %d, %p, %d);",
           mCodecContext,
@@ -1149,10 +1189,17 @@ StreamCoder::decodeVideo(IVideoPicture *pOutFrame, IPacket *pPacket,
           inBufSize);
       if (frameFinished)
       {
-        // copy FFMPEG's buffer into our buffer; don't try to get efficient
-        // and reuse the buffer FFMPEG is using; in order to allow our
-        // buffers to be thread safe, we must do a copy here.
-        frame->copyAVFrame(avFrame, getPixelType(), getWidth(), getHeight());
+        if (avFrame->type == FF_BUFFER_TYPE_USER && avFrame->opaque &&
+            mCodecContext->get_buffer == StreamCoder::getBuffer)
+          // the decoder wrote straight into one of our pooled buffers, so
+          // hand that out as is; see setZeroCopyDecoding(bool)
+          frame->adoptAVFrame(avFrame, static_cast<IBuffer*>(avFrame->opaque),
+              getPixelType(), getWidth(), getHeight());
+        else
+          // copy FFMPEG's buffer into our buffer; don't try to get efficient
+          // and reuse the buffer FFMPEG is using; in order to allow our
+          // buffers to be thread safe, we must do a copy here.
+          frame->copyAVFrame(avFrame, getPixelType(), getWidth(), getHeight());
         RefPointer<IRational> timeBase = 0;
         timeBase = this->mStream ? this->mStream->getTimeBase() : 0;
         if (!timeBase)
@@ -1205,7 +1252,6 @@ StreamCoder::decodeVideo(IVideoPicture *pOutFrame, IPacket *pPacket,
           this->getWidth(), this->getHeight(), mFakeCurrPts);
 
     }
-    av_free(avFrame);
   }
 
   return retval;
@@ -2107,6 +2153,324 @@ StreamCoder :: setStandardsCompliance(CodecStandardsCompliance compliance)
   mCodecContext->strict_std_compliance = compliance;
   return 0;
 }
+
+int32_t
+StreamCoder :: getNumThreads()
+{
+  if (mCodecContext)
+    return mCodecContext->thread_count;
+  return -1;
+}
+
+int32_t
+StreamCoder :: setNumThreads(int32_t numThreads)
+{
+  if (!mCodecContext || numThreads < 0)
+    return -1;
+  if (mOpened)
+  {
+    VS_LOG_WARN("Attempting to set number of threads on an open coder; ignored");
+    return -1;
+  }
+  mCodecContext->thread_count = numThreads;
+  return 0;
+}
+
+IStreamCoder::ThreadType
+StreamCoder :: getThreadType()
+{
+  if (mCodecContext)
+    return (ThreadType) (mCodecContext->thread_type &
+        (FF_THREAD_FRAME | FF_THREAD_SLICE));
+  return THREAD_TYPE_NONE;
+}
+
+int32_t
+StreamCoder :: setThreadType(ThreadType type)
+{
+  if (!mCodecContext)
+    return -1;
+  if (mOpened)
+  {
+    VS_LOG_WARN("Attempting to set thread type on an open coder; ignored");
+    return -1;
+  }
+  mCodecContext->thread_type = type & (FF_THREAD_FRAME | FF_THREAD_SLICE);
+  return 0;
+}
+
+IStreamCoder::ThreadType
+StreamCoder :: getActiveThreadType()
+{
+  if (mCodecContext && mOpened)
+    return (ThreadType) (mCodecContext->active_thread_type &
+        (FF_THREAD_FRAME | FF_THREAD_SLICE));
+  return THREAD_TYPE_NONE;
+}
+bool
+StreamCoder :: getZeroCopyDecoding()
+{
+  return mZeroCopyDecoding;
+}
+
+int32_t
+StreamCoder :: setZeroCopyDecoding(bool value)
+{
+  if (mOpened)
+  {
+    VS_LOG_WARN("Attempting to set zero copy decoding on an open coder; ignored");
+    return -1;
+  }
+  mZeroCopyDecoding = value;
+  return 0;
+}
+
+/**
+ * Returns true if discard is one of the AVDiscard levels.
+ */
+static bool
+isDiscard(IStreamCoder::Discard discard)
+{
+  switch(discard)
+  {
+    case IStreamCoder::DISCARD_NONE:
+    case IStreamCoder::DISCARD_DEFAULT:
+    case IStreamCoder::DISCARD_NONREF:
+    case IStreamCoder::DISCARD_BIDIR:
+    case IStreamCoder::DISCARD_NONKEY:
+    case IStreamCoder::DISCARD_ALL:
+      return true;
+  }
+  return false;
+}
+
+IStreamCoder::Discard
+StreamCoder :: getSkipFrame()
+{
+  if (mCodecContext)
+    return (Discard) mCodecContext->skip_frame;
+  return DISCARD_DEFAULT;
+}
+
+int32_t
+StreamCoder :: setSkipFrame(Discard discard)
+{
+  if (!mCodecContext || !isDiscard(discard))
+    return -1;
+  mCodecContext->skip_frame = (enum AVDiscard) discard;
+  return 0;
+}
+
+IStreamCoder::Discard
+StreamCoder :: getSkipLoopFilter()
+{
+  if (mCodecContext)
+    return (Discard) mCodecContext->skip_loop_filter;
+  return DISCARD_DEFAULT;
+}
+
+int32_t
+StreamCoder :: setSkipLoopFilter(Discard discard)
+{
+  if (!mCodecContext || !isDiscard(discard))
+    return -1;
+  mCodecContext->skip_loop_filter = (enum AVDiscard) discard;
+  return 0;
+}
+
+void
+StreamCoder :: clearPicturePool()
+{
+  for(int32_t i = 0; i < mNumPooledPictures; i++)
+  {
+    VS_REF_RELEASE(mPicturePool[i]);
+  }
+  mNumPooledPictures = 0;
+}
+
+void
+StreamCoder :: freePictureMemory(void* mem, void*)
+{
+  av_free(mem);
+}
+
+/*
+ * Called by the decoder, possibly on one of its own threads (but never
+ * on more than one at once), when it needs a picture to decode into.
+ *
+ * Lays the picture out the same way avcodec_default_get_buffer does,
+ * but in a single IBuffer we can hand out with the decoded picture.
+ * The pool holds one reference to each buffer and the decoder another
+ * until releaseBuffer, so a buffer only the pool refers to is free to
+ * reuse.  The memory is not from the JVM since this thread may not be
+ * attached to it.
+ */
+int
+StreamCoder :: getBuffer(AVCodecContext* ctx, AVFrame* pic)
+{
+  StreamCoder* coder = static_cast<StreamCoder*>(ctx->opaque);
+  if (!coder || ctx->codec_type != AVMEDIA_TYPE_VIDEO ||
+      !ctx->codec || !(ctx->codec->capabilities & CODEC_CAP_DR1) ||
+      ctx->pix_fmt < 0 || ctx->pix_fmt >= PIX_FMT_NB ||
+      (av_pix_fmt_descriptors[ctx->pix_fmt].flags &
+          (PIX_FMT_PAL | PIX_FMT_PSEUDOPAL | PIX_FMT_HWACCEL)) ||
+      pic->data[0])
+    // leave anything unusual to FFmpeg
+    return avcodec_default_get_buffer(ctx, pic);
+
+  int w = ctx->width;
+  int h = ctx->height;
+  if (av_image_check_size(w, h, 0, ctx) < 0)
+    return -1;
+
+  int strideAlign[AV_NUM_DATA_POINTERS];
+  int hChromaShift = 0;
+  int vChromaShift = 0;
+  const int pixelSize =
+      av_pix_fmt_descriptors[ctx->pix_fmt].comp[0].step_minus1+1;
+  avcodec_get_chroma_sub_sample(ctx->pix_fmt, &hChromaShift, &vChromaShift);
+  avcodec_align_dimensions2(ctx, &w, &h, strideAlign);
+  const int edge = (ctx->flags & CODEC_FLAG_EMU_EDGE) ? 0 :
+      (int) avcodec_get_edge_width();
+  w += edge*2;
+  h += edge*2;
+
+  int linesize[4];
+  int unaligned = 0;
+  do {
+    // don't align line sizes individually; see avcodec_default_get_buffer
+    av_image_fill_linesizes(linesize, ctx->pix_fmt, w);
+    w += w & ~(w-1);
+    unaligned = 0;
+    for(int i = 0; i < 4; i++)
+      unaligned |= linesize[i] % strideAlign[i];
+  } while (unaligned);
+
+  uint8_t* planes[4];
+  const int imageSize = av_image_fill_pointers(planes, ctx->pix_fmt, h, 0,
+      linesize);
+  if (imageSize < 0)
+    return -1;
+  int planeSize[4] = {0, 0, 0, 0};
+  int numPlanes = 0;
+  for(; numPlanes < 3 && planes[numPlanes+1]; numPlanes++)
+    planeSize[numPlanes] = planes[numPlanes+1] - planes[numPlanes];
+  planeSize[numPlanes] = imageSize - (planes[numPlanes] - planes[0]);
+  ++numPlanes;
+
+  // every plane starts aligned, with some slack at the end for
+  // assembly that reads a little past it
+  int32_t bufferSize = 0;
+  for(int i = 0; i < numPlanes; i++)
+    bufferSize += FFALIGN(planeSize[i] + 16, 32);
+
+  // find a free buffer of the right size, dropping any free ones left
+  // over from before the picture size changed
+  IBuffer* buffer = 0;
+  for(int32_t i = 0; i < coder->mNumPooledPictures; )
+  {
+    IBuffer* candidate = coder->mPicturePool[i];
+    if (candidate->getCurrentRefCount() == 1)
+    {
+      if (candidate->getBufferSize() != bufferSize)
+      {
+        candidate->release();
+        coder->mPicturePool[i] =
+            coder->mPicturePool[--coder->mNumPooledPictures];
+        continue;
+      }
+      if (!buffer)
+        buffer = candidate;
+    }
+    ++i;
+  }
+  if (buffer)
+    // for the decoder
+    buffer->acquire();
+  else
+  {
+    void* mem = av_malloc(bufferSize);
+    if (!mem)
+      return -1;
+    // start grey, like FFmpeg's own pictures
+    memset(mem, 128, bufferSize);
+    buffer = IBuffer::make(coder, mem, bufferSize,
+        StreamCoder::freePictureMemory, 0);
+    if (!buffer)
+    {
+      av_free(mem);
+      return -1;
+    }
+    // the reference make gave us goes to the decoder; if the pool is
+    // full, this buffer just goes away once everyone is done with it
+    if (coder->mNumPooledPictures < MAX_POOLED_PICTURES)
+    {
+      buffer->acquire();
+      coder->mPicturePool[coder->mNumPooledPictures++] = buffer;
+    }
+  }
+
+  uint8_t* base = static_cast<uint8_t*>(buffer->getBytes(0, bufferSize));
+  int32_t offset = 0;
+  int i = 0;
+  for(; i < numPlanes; i++)
+  {
+    const int hShift = i == 0 ? 0 : hChromaShift;
+    const int vShift = i == 0 ? 0 : vChromaShift;
+    pic->base[i] = base + offset;
+    pic->data[i] = pic->base[i];
+    // no edge if not planar YUV
+    if (edge && planeSize[2])
+      pic->data[i] += FFALIGN((linesize[i]*edge>>vShift) +
+          (pixelSize*edge>>hShift), strideAlign[i]);
+    pic->linesize[i] = linesize[i];
+    offset += FFALIGN(planeSize[i] + 16, 32);
+  }
+  for(; i < AV_NUM_DATA_POINTERS; i++)
+  {
+    pic->base[i] = pic->data[i] = 0;
+    pic->linesize[i] = 0;
+  }
+  pic->extended_data = pic->data;
+  pic->opaque = buffer;
+  pic->type = FF_BUFFER_TYPE_USER;
+  pic->width = ctx->width;
+  pic->height = ctx->height;
+  pic->format = ctx->pix_fmt;
+  pic->sample_aspect_ratio = ctx->sample_aspect_ratio;
+  if (ctx->pkt)
+  {
+    pic->pkt_pts = ctx->pkt->pts;
+    pic->pkt_pos = ctx->pkt->pos;
+  }
+  else
+  {
+    pic->pkt_pts = AV_NOPTS_VALUE;
+    pic->pkt_pos = -1;
+  }
+  // we rely on this to time stamp decoded pictures
+  pic->reordered_opaque = ctx->reordered_opaque;
+  return 0;
+}
+
+/*
+ * Called by the decoder when it no longer needs a picture it got from
+ * getBuffer.
+ */
+void
+StreamCoder :: releaseBuffer(AVCodecContext* ctx, AVFrame* pic)
+{
+  if (pic->type != FF_BUFFER_TYPE_USER)
+  {
+    avcodec_default_release_buffer(ctx, pic);
+    return;
+  }
+  IBuffer* buffer = static_cast<IBuffer*>(pic->opaque);
+  pic->opaque = 0;
+  for(int i = 0; i < AV_NUM_DATA_POINTERS; i++)
+    pic->data[i] = 0;
+  VS_REF_RELEASE(buffer);
+}
 }
 }
 }
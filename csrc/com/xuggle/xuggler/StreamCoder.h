@@ -176,6 +176,18 @@ namespace com { namespace xuggle { namespace xuggler
     virtual int32_t open(IMetaData *options, IMetaData* unsetOptions);
     virtual int32_t setProperty(IMetaData* valuesToSet, IMetaData* valuesNotFound);
 
+    virtual int32_t getNumThreads();
+    virtual int32_t setNumThreads(int32_t numThreads);
+    virtual ThreadType getThreadType();
+    virtual int32_t setThreadType(ThreadType type);
+    virtual ThreadType getActiveThreadType();
+    virtual bool getZeroCopyDecoding();
+    virtual int32_t setZeroCopyDecoding(bool value);
+    virtual Discard getSkipFrame();
+    virtual int32_t setSkipFrame(Discard discard);
+    virtual Discard getSkipLoopFilter();
+    virtual int32_t setSkipLoopFilter(Discard discard);
+
   protected:
     StreamCoder();
     virtual ~StreamCoder();
@@ -202,8 +214,21 @@ namespace com { namespace xuggle { namespace xuggler
     int64_t mNumDroppedFrames;
     bool mAutomaticallyStampPacketsForStream;
     int64_t mPtsBuffer[MAX_REORDER_DELAY+1];
+
+    // The frame we decode video into; reused across decodeVideo calls.
+    AVFrame* mDecodedFrame;
+
+    // Zero copy decoding; see getBuffer and releaseBuffer.
+    bool mZeroCopyDecoding;
+    static const int32_t MAX_POOLED_PICTURES = 32;
+    com::xuggle::ferry::IBuffer* mPicturePool[MAX_POOLED_PICTURES];
+    int32_t mNumPooledPictures;
     
     void reset();
+    void clearPicturePool();
+    static int getBuffer(AVCodecContext* ctx, AVFrame* pic);
+    static void releaseBuffer(AVCodecContext* ctx, AVFrame* pic);
+    static void freePictureMemory(void* mem, void* closure);
     void setPacketParameters(Packet *packet, int32_t size,
         int64_t dts,
         IRational * timebase,
@@ -33,6 +33,7 @@ namespace com { namespace xuggle { namespace xuggler
   VideoPicture :: VideoPicture()
   {
     mIsComplete = false;
+    mIsAdopted = false;
     mFrame = avcodec_alloc_frame();
     if (!mFrame)
       throw std::bad_alloc();
@@ -128,6 +129,19 @@ namespace com { namespace xuggle { namespace xuggler
     if (!buffer) return;
     /** Use the buffer */
     mBuffer.reset(buffer, true);
+    if (mIsAdopted)
+    {
+      // we were pointing into the decoder's layout; point at the
+      // new buffer instead
+      mIsAdopted = false;
+      int32_t size = getSize();
+      if (size > 0 && size <= mBuffer->getBufferSize())
+        avpicture_fill((AVPicture*)mFrame,
+            (uint8_t*)mBuffer->getBytes(0, size),
+            (enum PixelFormat) mFrame->format,
+            mFrame->width,
+            mFrame->height);
+    }
   }
   
   bool
@@ -149,12 +163,22 @@ namespace com { namespace xuggle { namespace xuggler
       // now copy the data
       allocInternalFrameBuffer();
 
-      // get the raw buffers
-      unsigned char* srcBuffer = (unsigned char*)src->mBuffer->getBytes(0, src->getSize());
-      unsigned char* dstBuffer = (unsigned char*)mBuffer->getBytes(0, getSize());
-      if (!srcBuffer || !dstBuffer)
-        throw std::runtime_error("could not get buffer to copy");
-      memcpy(dstBuffer, srcBuffer, getSize());
+      if (src->mIsAdopted)
+      {
+        // the source is laid out the way its decoder wanted it
+        av_picture_copy((AVPicture*)mFrame, (AVPicture*)src->mFrame,
+            (PixelFormat)src->mFrame->format,
+            src->mFrame->width, src->mFrame->height);
+      }
+      else
+      {
+        // get the raw buffers
+        unsigned char* srcBuffer = (unsigned char*)src->mBuffer->getBytes(0, src->getSize());
+        unsigned char* dstBuffer = (unsigned char*)mBuffer->getBytes(0, getSize());
+        if (!srcBuffer || !dstBuffer)
+          throw std::runtime_error("could not get buffer to copy");
+        memcpy(dstBuffer, srcBuffer, getSize());
+      }
 
       this->setComplete(true,
           srcFrame->getPixelType(),
@@ -207,9 +231,11 @@ namespace com { namespace xuggle { namespace xuggler
     memcpy(frame, mFrame, sizeof(AVFrame));
     //*frame = *mFrame;
     // and then relies on avpicture_fill to overwrite any areas in frame that
-    // are pointed to the wrong place.
-    avpicture_fill((AVPicture*)frame, buffer, (enum PixelFormat) frame->format,
-        frame->width, frame->height);
+    // are pointed to the wrong place.  A decoder's picture is already
+    // pointed at the right places.
+    if (!mIsAdopted)
+      avpicture_fill((AVPicture*)frame, buffer, (enum PixelFormat) frame->format,
+          frame->width, frame->height);
     frame->quality = getQuality();
     frame->type = FF_BUFFER_TYPE_USER;
   }
@@ -233,6 +259,8 @@ namespace com { namespace xuggle { namespace xuggler
       if (bufSize <= 0)
         throw std::runtime_error("invalid size for frame");
 
+      // never copy into a buffer a decoder is still using
+      dropAdoptedBuffer();
       if (!mBuffer || mBuffer->getBufferSize() < bufSize)
         // reuse buffers if we can.
         allocInternalFrameBuffer();
@@ -264,10 +292,47 @@ namespace com { namespace xuggle { namespace xuggler
     }
   }
 
+  void
+  VideoPicture :: adoptAVFrame(AVFrame* frame,
+      com::xuggle::ferry::IBuffer* buffer,
+      IPixelFormat::Type pixel, int32_t width, int32_t height)
+  {
+    VS_ASSERT(frame, "no frame?");
+    VS_ASSERT(buffer, "no buffer?");
+    if (!frame || !buffer)
+      return;
+    mFrame->width = width;
+    mFrame->height = height;
+    mFrame->format = (int)pixel;
+    mBuffer.reset(buffer, true);
+    for(int i = 0; i < AV_NUM_DATA_POINTERS; i++)
+    {
+      mFrame->data[i] = frame->data[i];
+      mFrame->linesize[i] = frame->linesize[i];
+    }
+    mFrame->key_frame = frame->key_frame;
+    mFrame->type = FF_BUFFER_TYPE_USER;
+    mIsAdopted = true;
+  }
+
+  void
+  VideoPicture :: dropAdoptedBuffer()
+  {
+    if (!mIsAdopted)
+      return;
+    mIsAdopted = false;
+    mBuffer = 0;
+    for(int i = 0; i < AV_NUM_DATA_POINTERS; i++)
+    {
+      mFrame->data[i] = 0;
+      mFrame->linesize[i] = 0;
+    }
+  }
+
   AVFrame*
   VideoPicture :: getAVFrame()
   {
-    if (!mBuffer || mBuffer->getBufferSize() < getSize())
+    if (!mIsAdopted && (!mBuffer || mBuffer->getBufferSize() < getSize()))
     {
       // reuse buffers if we can.
       allocInternalFrameBuffer();
@@ -375,6 +440,9 @@ namespace com { namespace xuggle { namespace xuggler
     if (bufSize <= 0)
       throw std::runtime_error("invalid size for frame");
 
+    // never fill in a buffer a decoder is still using
+    dropAdoptedBuffer();
+
     // reuse buffers if we can.
     if (!mBuffer || mBuffer->getBufferSize() < bufSize)
     {
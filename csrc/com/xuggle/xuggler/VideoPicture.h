@@ -85,6 +85,25 @@ namespace com { namespace xuggle { namespace xuggler
      */
     void copyAVFrame(AVFrame *frame, IPixelFormat::Type pixel,
         int32_t width, int32_t height);
+
+    /**
+     * Called by the StreamCoder once it's done decoding into a buffer
+     * it allocated for the decoder.
+     * 
+     * Rather than copying, we take a reference to that buffer and point
+     * at the decoder's planes within it.  The decoder may still be
+     * reading the buffer, so we never write to it; anything that would
+     * (re)fill this picture drops it and allocates a buffer of our own
+     * first.
+     * 
+     * @param frame The AVFrame that ffmpeg filled in.
+     * @param buffer The buffer frame's planes live in.
+     * @param pixel The pixel type
+     * @param width The width of the AVFrame
+     * @param height The height of the AVFrame
+     */
+    void adoptAVFrame(AVFrame *frame, com::xuggle::ferry::IBuffer* buffer,
+        IPixelFormat::Type pixel, int32_t width, int32_t height);
     
     /**
      * Call to get the raw underlying AVFrame we manage; don't
@@ -122,11 +141,14 @@ namespace com { namespace xuggle { namespace xuggler
     
   private:
     void allocInternalFrameBuffer();
+    void dropAdoptedBuffer();
     
     // This is where frame information is kept
     // about a decoded frame.
     AVFrame * mFrame;
     bool mIsComplete;
+    // true if mBuffer is shared with a decoder; see adoptAVFrame
+    bool mIsAdopted;
 
     com::xuggle::ferry::RefPointer<com::xuggle::ferry::IBuffer> mBuffer;
     com::xuggle::ferry::RefPointer<IRational> mTimeBase;
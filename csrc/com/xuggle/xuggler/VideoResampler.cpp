@@ -31,6 +31,7 @@
 // easier to yank later.
 extern "C" {
 #include <libswscale/swscale.h>
+#include <libavutil/pixdesc.h>
 }
 
 VS_LOG_SETUP(VS_CPP_PACKAGE);
@@ -49,10 +50,13 @@ namespace com { namespace xuggle { namespace xuggler
     mIPixelFmt = IPixelFormat::NONE;
     mOPixelFmt = IPixelFormat::NONE;
     mContext = 0;
+    mNumSlices = 1;
+    mSliceHeight = 0;
   }
 
   VideoResampler :: ~VideoResampler()
   {
+    freeSliceContexts();
     if (mContext)
       sws_freeContext(mContext);
     mContext = 0;
@@ -94,6 +98,31 @@ namespace com { namespace xuggle { namespace xuggler
     return mOPixelFmt;
   }
   
+  void
+  VideoResampler :: checkPictures(VideoPicture* outFrame, VideoPicture* inFrame)
+  {
+    if (!outFrame)
+      throw std::invalid_argument("invalid output frame");
+    if (outFrame->getHeight() != mOHeight)
+      throw std::runtime_error("output frame height does not match expected value");
+    if (outFrame->getWidth() != mOWidth)
+      throw std::runtime_error("output frame width does not match expected value");
+    if (outFrame->getPixelType() != mOPixelFmt)
+      throw std::runtime_error("output frame pixel format does not match expected value");
+
+    if (!inFrame)
+      throw std::invalid_argument("invalid input frame");
+
+    if (inFrame->getHeight() != mIHeight)
+      throw std::runtime_error("input frame height does not match expected value");
+    if (inFrame->getWidth() != mIWidth)
+      throw std::runtime_error("input frame width does not match expected value");
+    if (inFrame->getPixelType() != mIPixelFmt)
+      throw std::runtime_error("input frame pixel format does not match expected value");
+    if (!inFrame->isComplete())
+      throw std::runtime_error("incoming frame doesn't have complete data");
+  }
+
   int32_t
   VideoResampler :: resample(IVideoPicture* pOutFrame, IVideoPicture* pInFrame)
   {
@@ -102,27 +131,7 @@ namespace com { namespace xuggle { namespace xuggler
     VideoPicture* inFrame  = dynamic_cast<VideoPicture*>(pInFrame);
     try
     {
-      if (!outFrame)
-        throw std::invalid_argument("invalid output frame");
-      if (outFrame->getHeight() != mOHeight)
-        throw std::runtime_error("output frame height does not match expected value");
-      if (outFrame->getWidth() != mOWidth)
-        throw std::runtime_error("output frame width does not match expected value");
-      if (outFrame->getPixelType() != mOPixelFmt)
-        throw std::runtime_error("output frame pixel format does not match expected value");
-
-      
-      if (!inFrame)
-        throw std::invalid_argument("invalid input frame");
-      
-      if (inFrame->getHeight() != mIHeight)
-        throw std::runtime_error("input frame height does not match expected value");
-      if (inFrame->getWidth() != mIWidth)
-        throw std::runtime_error("input frame width does not match expected value");
-      if (inFrame->getPixelType() != mIPixelFmt)
-        throw std::runtime_error("input frame pixel format does not match expected value");
-      if (!inFrame->isComplete())
-        throw std::runtime_error("incoming frame doesn't have complete data");
+      checkPictures(outFrame, inFrame);
 
       // Allocate our output frame.
       outFrame->setComplete(false, mOPixelFmt, mOWidth, mOHeight,
@@ -254,6 +263,7 @@ static SwsContext *xuggleSws_getContext(int srcW, int srcH, enum PixelFormat src
         retval->mIHeight = inputHeight;
         retval->mIWidth = inputWidth;
         retval->mIPixelFmt = inputFmt;
+        retval->mSliceHeight = inputHeight;
         
         int32_t flags = 0;
         if (inputWidth < outputWidth)
@@ -292,6 +302,190 @@ static SwsContext *xuggleSws_getContext(int srcW, int srcH, enum PixelFormat src
     return retval;
   }
 
+  void
+  VideoResampler :: freeSliceContexts()
+  {
+    for(size_t i = 0; i < mSliceContexts.size(); i++)
+      if (mSliceContexts[i])
+        sws_freeContext(mSliceContexts[i]);
+    mSliceContexts.clear();
+  }
+
+  static bool
+  canSlice(IPixelFormat::Type format)
+  {
+    const AVPixFmtDescriptor* desc = &av_pix_fmt_descriptors[format];
+    // paletted formats keep the palette in data[1]; we can't offset that
+    return !(desc->flags & (PIX_FMT_PAL | PIX_FMT_PSEUDOPAL));
+  }
+
+  int32_t
+  VideoResampler :: getNumSlices()
+  {
+    return mNumSlices;
+  }
+
+  int32_t
+  VideoResampler :: setNumSlices(int32_t numSlices)
+  {
+    if (numSlices <= 0)
+    {
+      VS_LOG_WARN("Attempt to set number of slices to %d", numSlices);
+      return -1;
+    }
+    int32_t sliceHeight = mIHeight;
+    // Slices are only independent of each other if we're not scaling
+    // vertically.
+    if (numSlices > 1 && mIHeight == mOHeight &&
+        canSlice(mIPixelFmt) && canSlice(mOPixelFmt))
+    {
+      // Keep slices a multiple of 16 rows high so that every slice
+      // starts on a chroma row, whatever the subsampling.
+      sliceHeight = (mIHeight + numSlices - 1) / numSlices;
+      sliceHeight = (sliceHeight + 15) & ~15;
+    }
+    // Keep any contexts we've already built if nothing changes.
+    if (sliceHeight != mSliceHeight)
+    {
+      freeSliceContexts();
+      mSliceHeight = sliceHeight;
+      mNumSlices = (mIHeight + sliceHeight - 1) / sliceHeight;
+    }
+    return mNumSlices;
+  }
+
+  int32_t
+  VideoResampler :: beginSlices(IVideoPicture* pOutFrame, IVideoPicture* pInFrame)
+  {
+    int32_t retval = -1;
+    VideoPicture* outFrame = dynamic_cast<VideoPicture*>(pOutFrame);
+    VideoPicture* inFrame  = dynamic_cast<VideoPicture*>(pInFrame);
+    try
+    {
+      checkPictures(outFrame, inFrame);
+
+      if (mNumSlices > 1 && mSliceContexts.empty())
+      {
+        // Build the contexts now rather than in setNumSlices, so they
+        // pick up any flags set on us since.
+        int64_t flags = 0;
+        if (av_opt_get_int(mContext, "sws_flags", 0, &flags) < 0)
+          flags = SWS_BICUBIC;
+        for(int32_t i = 0; i < mNumSlices; i++)
+        {
+          int32_t height = mSliceHeight;
+          if (i == mNumSlices-1)
+            height = mIHeight - i*mSliceHeight;
+          SwsContext* context = xuggleSws_getContext(
+              mIWidth, height, (PixelFormat)mIPixelFmt,
+              mOWidth, height, (PixelFormat)mOPixelFmt,
+              (int)flags, 0, 0, 0);
+          if (!context)
+          {
+            freeSliceContexts();
+            throw std::runtime_error("could not allocate a slice rescaler");
+          }
+          mSliceContexts.push_back(context);
+        }
+      }
+      // Allocate our output frame.
+      outFrame->setComplete(false, mOPixelFmt, mOWidth, mOHeight,
+          inFrame->getPts());
+      if (!outFrame->getAVFrame())
+        throw std::bad_alloc();
+      retval = mNumSlices;
+    }
+    catch (std::bad_alloc& e)
+    {
+      throw e;
+    }
+    catch (std::exception& e)
+    {
+      VS_LOG_DEBUG("error: %s", e.what());
+      retval = -1;
+    }
+    return retval;
+  }
+
+  /**
+   * Point slice at row y of frame, for a picture of the given format.
+   */
+  static void
+  offsetSlice(uint8_t* slice[4], AVFrame* frame, IPixelFormat::Type format,
+      int32_t y)
+  {
+    const AVPixFmtDescriptor* desc = &av_pix_fmt_descriptors[format];
+    for(int i = 0; i < 4; i++)
+    {
+      if (!frame->data[i])
+      {
+        slice[i] = 0;
+        continue;
+      }
+      int32_t rows = (i == 1 || i == 2) ? (y >> desc->log2_chroma_h) : y;
+      slice[i] = frame->data[i] + rows*frame->linesize[i];
+    }
+  }
+
+  int32_t
+  VideoResampler :: resampleSlice(IVideoPicture* pOutFrame,
+      IVideoPicture* pInFrame, int32_t slice)
+  {
+    int32_t retval = -1;
+    VideoPicture* outFrame = dynamic_cast<VideoPicture*>(pOutFrame);
+    VideoPicture* inFrame  = dynamic_cast<VideoPicture*>(pInFrame);
+    if (!outFrame || !inFrame || slice < 0 || slice >= mNumSlices)
+      return retval;
+
+    AVFrame *inAVFrame = inFrame->getAVFrame();
+    AVFrame *outAVFrame = outFrame->getAVFrame();
+    if (!inAVFrame || !outAVFrame)
+      return retval;
+
+    if (mNumSlices == 1)
+    {
+      const uint8_t* srcFrame[4] = {
+          inAVFrame->data[0],
+          inAVFrame->data[1],
+          inAVFrame->data[2],
+          inAVFrame->data[3],
+      };
+      return sws_scale(mContext, srcFrame, inAVFrame->linesize, 0,
+          mIHeight, outAVFrame->data, outAVFrame->linesize);
+    }
+    if ((int32_t)mSliceContexts.size() != mNumSlices)
+    {
+      VS_LOG_DEBUG("resampleSlice called before beginSlices");
+      return retval;
+    }
+
+    int32_t y = slice*mSliceHeight;
+    int32_t height = mSliceHeight;
+    if (slice == mNumSlices-1)
+      height = mIHeight - y;
+    uint8_t* src[4];
+    uint8_t* dst[4];
+    offsetSlice(src, inAVFrame, mIPixelFmt, y);
+    offsetSlice(dst, outAVFrame, mOPixelFmt, y);
+    const uint8_t* srcSlice[4] = { src[0], src[1], src[2], src[3] };
+    return sws_scale(mSliceContexts[slice], srcSlice, inAVFrame->linesize,
+        0, height, dst, outAVFrame->linesize);
+  }
+
+  int32_t
+  VideoResampler :: endSlices(IVideoPicture* pOutFrame,
+      IVideoPicture* pInFrame, bool succeeded)
+  {
+    VideoPicture* outFrame = dynamic_cast<VideoPicture*>(pOutFrame);
+    VideoPicture* inFrame  = dynamic_cast<VideoPicture*>(pInFrame);
+    if (!outFrame || !inFrame)
+      return -1;
+    outFrame->setQuality(inFrame->getQuality());
+    outFrame->setComplete(succeeded, mOPixelFmt, mOWidth, mOHeight,
+        inFrame->getPts());
+    return succeeded ? 0 : -1;
+  }
+
   int32_t
   VideoResampler :: getNumProperties()
   {
@@ -313,6 +507,7 @@ static SwsContext *xuggleSws_getContext(int srcW, int srcH, enum PixelFormat src
   int32_t
   VideoResampler :: setProperty(IMetaData* valuesToSet, IMetaData* valuesNotFound)
   {
+    freeSliceContexts();
     return Property::setProperty(mContext, valuesToSet, valuesNotFound);
   }
 
@@ -320,24 +515,28 @@ static SwsContext *xuggleSws_getContext(int srcW, int srcH, enum PixelFormat src
   int32_t
   VideoResampler :: setProperty(const char* aName, const char *aValue)
   {
+    freeSliceContexts();
     return Property::setProperty(mContext, aName, aValue);
   }
 
   int32_t
   VideoResampler :: setProperty(const char* aName, double aValue)
   {
+    freeSliceContexts();
     return Property::setProperty(mContext, aName, aValue);
   }
 
   int32_t
   VideoResampler :: setProperty(const char* aName, int64_t aValue)
   {
+    freeSliceContexts();
     return Property::setProperty(mContext, aName, aValue);
   }
 
   int32_t
   VideoResampler :: setProperty(const char* aName, bool aValue)
   {
+    freeSliceContexts();
     return Property::setProperty(mContext, aName, aValue);
   }
 
@@ -345,6 +544,7 @@ static SwsContext *xuggleSws_getContext(int srcW, int srcH, enum PixelFormat src
   int32_t
   VideoResampler :: setProperty(const char* aName, IRational *aValue)
   {
+    freeSliceContexts();
     return Property::setProperty(mContext, aName, aValue);
   }
 
@@ -20,6 +20,7 @@
 #ifndef VIDEORESAMPLER_H_
 #define VIDEORESAMPLER_H_
 
+#include <vector>
 #include <com/xuggle/xuggler/IVideoResampler.h>
 
 
@@ -33,6 +34,8 @@ struct SwsContext;
 namespace com { namespace xuggle { namespace xuggler
   {
 
+  class VideoPicture;
+
   class VideoResampler : public IVideoResampler
   {
   private:
@@ -73,6 +76,14 @@ namespace com { namespace xuggle { namespace xuggler
         int32_t inputWidth, int32_t inputHeight,
         IPixelFormat::Type inputFmt);
     virtual int32_t setProperty(IMetaData* valuesToSet, IMetaData* valuesNotFound);
+
+    virtual int32_t getNumSlices();
+    virtual int32_t setNumSlices(int32_t numSlices);
+    virtual int32_t beginSlices(IVideoPicture *out, IVideoPicture *in);
+    virtual int32_t resampleSlice(IVideoPicture *out, IVideoPicture *in,
+        int32_t slice);
+    virtual int32_t endSlices(IVideoPicture *out, IVideoPicture *in,
+        bool succeeded);
   protected:
     VideoResampler();
     virtual ~VideoResampler();
@@ -85,6 +96,14 @@ namespace com { namespace xuggle { namespace xuggler
     IPixelFormat::Type mOPixelFmt;
     
     SwsContext* mContext;
+
+    void checkPictures(VideoPicture* out, VideoPicture* in);
+    void freeSliceContexts();
+    // Slices are all mSliceHeight rows high except maybe the last,
+    // and each has its own context so they can run in parallel.
+    int32_t mNumSlices;
+    int32_t mSliceHeight;
+    std::vector<SwsContext*> mSliceContexts;
   };
 
   }}}
@@ -34,6 +34,7 @@
 #include <com/xuggle/xuggler/IPacket.h>
 #include <com/xuggle/xuggler/IIndexEntry.h>
 #include <com/xuggle/xuggler/IAudioResampler.h>
+#include <com/xuggle/xuggler/IAudioFifo.h>
 #include <com/xuggle/xuggler/IVideoPicture.h>
 #include <com/xuggle/xuggler/IVideoResampler.h>
 #include <com/xuggle/xuggler/IStreamCoder.h>
@@ -153,6 +154,7 @@ import com.xuggle.ferry.*;
 %include <com/xuggle/xuggler/IVideoPicture.swg>
 %include <com/xuggle/xuggler/ICodec.swg>
 %include <com/xuggle/xuggler/IAudioResampler.h>
+%include <com/xuggle/xuggler/IAudioFifo.h>
 %include <com/xuggle/xuggler/IVideoResampler.swg>
 %include <com/xuggle/xuggler/IStreamCoder.swg>
 %include <com/xuggle/xuggler/IIndexEntry.swg>
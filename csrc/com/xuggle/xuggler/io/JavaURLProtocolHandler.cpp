@@ -114,6 +114,35 @@ JavaURLProtocolHandler :: cacheJavaMethods(jobject aProtoHandler)
   mJavaUrlIsStreamed_mid = env->GetMethodID(cls, "isStreamed",
       "(Ljava/lang/String;I)Z");
 
+  // See if this handler would rather get direct buffers over our
+  // memory instead of a Java byte[] copy.
+  mJavaUrlReadDirect_mid = 0;
+  mJavaUrlWriteDirect_mid = 0;
+  jclass directCls = env->FindClass(
+      "com/xuggle/xuggler/io/IDirectURLProtocolHandler");
+  if (!directCls || env->ExceptionCheck())
+  {
+    // not fatal; we'll just use the byte[] methods
+    env->ExceptionClear();
+  }
+  else
+  {
+    if (env->IsInstanceOf(aProtoHandler, directCls))
+    {
+      mJavaUrlReadDirect_mid = env->GetMethodID(directCls, "read",
+          "(Ljava/nio/ByteBuffer;I)I");
+      mJavaUrlWriteDirect_mid = env->GetMethodID(directCls, "write",
+          "(Ljava/nio/ByteBuffer;I)I");
+      if (env->ExceptionCheck())
+      {
+        env->ExceptionClear();
+        mJavaUrlReadDirect_mid = 0;
+        mJavaUrlWriteDirect_mid = 0;
+      }
+    }
+    env->DeleteLocalRef(directCls);
+  }
+  env->DeleteLocalRef(cls);
 }
 
 int
@@ -221,24 +250,40 @@ JavaURLProtocolHandler :: url_read(unsigned char* buf, int size)
 
   int retval = -1;
   jbyteArray byteArray = 0;
+  jobject directBuffer = 0;
   
   try
   {
     JavaURLProtocolHandler_CheckException(env);
-    byteArray = env->NewByteArray(size);
-    JavaURLProtocolHandler_CheckException(env);
-    // read into the Java byte array
-    if (byteArray)
+    if (mJavaUrlReadDirect_mid)
     {
-      retval = env->CallIntMethod(mJavaProtoHandler, mJavaUrlRead_mid,
-          byteArray, size);
+      // wrap FFmpeg's buffer and let Java fill it in place.
+      directBuffer = env->NewDirectByteBuffer(buf, size);
+      JavaURLProtocolHandler_CheckException(env);
+    }
+    if (directBuffer)
+    {
+      retval = env->CallIntMethod(mJavaProtoHandler, mJavaUrlReadDirect_mid,
+          directBuffer, size);
       JavaURLProtocolHandler_CheckException(env);
     }
-    // now, copy into the C array, but only up to retval.
-    if (retval > 0)
+    else
     {
-      env->GetByteArrayRegion(byteArray, 0, retval, (jbyte*)buf);
+      byteArray = env->NewByteArray(size);
       JavaURLProtocolHandler_CheckException(env);
+      // read into the Java byte array
+      if (byteArray)
+      {
+        retval = env->CallIntMethod(mJavaProtoHandler, mJavaUrlRead_mid,
+            byteArray, size);
+        JavaURLProtocolHandler_CheckException(env);
+      }
+      // now, copy into the C array, but only up to retval.
+      if (retval > 0)
+      {
+        env->GetByteArrayRegion(byteArray, 0, retval, (jbyte*)buf);
+        JavaURLProtocolHandler_CheckException(env);
+      }
     }
   }
   catch (std::exception& e)
@@ -255,6 +300,8 @@ JavaURLProtocolHandler :: url_read(unsigned char* buf, int size)
   // is not returning to Java soon.
   if (byteArray)
     env->DeleteLocalRef(byteArray);
+  if (directBuffer)
+    env->DeleteLocalRef(directBuffer);
   XUGGLER_CHECK_INTERRUPT(retval, retval < 0 || retval != size);
   return retval;
 }
@@ -268,12 +315,29 @@ JavaURLProtocolHandler :: url_write(const unsigned char* buf, int size)
 
   int retval = -1;
   jbyteArray byteArray = 0;
+  jobject directBuffer = 0;
 
   try
   {
     JavaURLProtocolHandler_CheckException(env);
-    byteArray = env->NewByteArray(size);
-    JavaURLProtocolHandler_CheckException(env);
+    if (mJavaUrlWriteDirect_mid)
+    {
+      // FFmpeg won't touch this buffer while we're in the call, so
+      // we can safely cast away the const to wrap it.
+      directBuffer = env->NewDirectByteBuffer((void*)buf, size);
+      JavaURLProtocolHandler_CheckException(env);
+    }
+    if (directBuffer)
+    {
+      retval = env->CallIntMethod(mJavaProtoHandler, mJavaUrlWriteDirect_mid,
+          directBuffer, size);
+      JavaURLProtocolHandler_CheckException(env);
+    }
+    else
+    {
+      byteArray = env->NewByteArray(size);
+      JavaURLProtocolHandler_CheckException(env);
+    }
 
     // copy the data passed into the new java byteArray
     if (byteArray)
@@ -302,6 +366,8 @@ JavaURLProtocolHandler :: url_write(const unsigned char* buf, int size)
   // is not returning to Java soon.
   if (byteArray)
     env->DeleteLocalRef(byteArray);
+  if (directBuffer)
+    env->DeleteLocalRef(directBuffer);
   XUGGLER_CHECK_INTERRUPT(retval, retval < 0 || retval != size);
 
   return retval;
@@ -51,6 +51,9 @@ namespace com { namespace xuggle { namespace xuggler { namespace io
     jmethodID mJavaUrlWrite_mid;
     jmethodID mJavaUrlSeek_mid;
     jmethodID mJavaUrlIsStreamed_mid;
+    // only set if the handler implements IDirectURLProtocolHandler
+    jmethodID mJavaUrlReadDirect_mid;
+    jmethodID mJavaUrlWriteDirect_mid;
 
   };
   }}}}
@@ -76,6 +76,7 @@ class FerryJNI {
   public final static native boolean Logger_isGlobalLogging(int jarg1);
   public final static native void Logger_setGlobalIsLogging(int jarg1, boolean jarg2);
   public final static native String Logger_getName(long jarg1, Logger jarg1_);
+  public final static native void Logger_refreshLevels();
   public final static native void delete_Logger(long jarg1);
   public final static native long Mutex_make();
   public final static native void Mutex_lock(long jarg1, Mutex jarg1_);
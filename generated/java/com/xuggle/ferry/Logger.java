@@ -218,6 +218,20 @@ public class Logger {
     return FerryJNI.Logger_getName(swigCPtr, this);
   }
 
+  /**
+   * Tells every Logger to ask Java again which levels are enabled.  
+   * <p>  
+   * Loggers cache the levels their Java logger has enabled so that  
+   * disabled messages are dropped without formatting them or  
+   * calling into Java. Call this after changing the Java logging  
+   * configuration.  
+   * </p>  
+   * @since	5.5  
+   */
+  public static void refreshLevels() {
+    FerryJNI.Logger_refreshLevels();
+  }
+
   public enum Level {
   /**
    * Different logging levels (noiseness) supported by us.
@@ -0,0 +1,249 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 2.0.0
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package com.xuggle.xuggler;
+import com.xuggle.ferry.*;
+/**
+ * Buffers {@link IAudioSamples} of any length and hands them back  
+ * in frames of a fixed number of samples.  
+ * <p>  
+ * Encoders want audio in frames of exactly  
+ * {@link IStreamCoder#getAudioFrameSize()} samples. Decoders and  
+ * resamplers hand out whatever they have. Write the latter into an  
+ * {@link IAudioFifo} and {@link #read(IAudioSamples)} out the former;  
+ * each frame can then be encoded in a single  
+ * {@link IStreamCoder#encodeAudio(IPacket, IAudioSamples, long)} call  
+ * without the {@link IStreamCoder} copying it into its own frame buffer.  
+ * </p>  
+ * <p>  
+ * Samples are copied into a native ring buffer that grows as needed,  
+ * and frames are copied into {@link IAudioSamples} you pass in, so  
+ * a loop that reuses its input and output objects allocates nothing.  
+ * </p>  
+ * @since	5.5  
+ */
+public class IAudioFifo extends RefCounted {
+  // JNIHelper.swg: Start generated code
+  // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+  /**
+   * This method is only here to use some references and remove
+   * a Eclipse compiler warning.
+   */
+  @SuppressWarnings("unused")
+  private void noop()
+  {
+    IBuffer.make(null, 1);
+  }
+   
+  private volatile long swigCPtr;
+
+  /**
+   * Internal Only.
+   */
+  protected IAudioFifo(long cPtr, boolean cMemoryOwn) {
+    super(XugglerJNI.SWIGIAudioFifoUpcast(cPtr), cMemoryOwn);
+    swigCPtr = cPtr;
+  }
+  
+  /**
+   * Internal Only.
+   */
+  protected IAudioFifo(long cPtr, boolean cMemoryOwn,
+      java.util.concurrent.atomic.AtomicLong ref)
+  {
+    super(XugglerJNI.SWIGIAudioFifoUpcast(cPtr),
+     cMemoryOwn, ref);
+    swigCPtr = cPtr;
+  }
+    
+  /**
+   * Internal Only.  Not part of public API.
+   *
+   * Get the raw value of the native object that obj is proxying for.
+   *   
+   * @param obj The java proxy object for a native object.
+   * @return The raw pointer obj is proxying for.
+   */
+  public static long getCPtr(IAudioFifo obj) {
+    if (obj == null) return 0;
+    return obj.getMyCPtr();
+  }
+
+  /**
+   * Internal Only.  Not part of public API.
+   *
+   * Get the raw value of the native object that we're proxying for.
+   *   
+   * @return The raw pointer we're proxying for.
+   */  
+  public long getMyCPtr() {
+    if (swigCPtr == 0) throw new IllegalStateException("underlying native object already deleted");
+    return swigCPtr;
+  }
+  
+  /**
+   * Create a new IAudioFifo object that is actually referring to the
+   * exact same underlying native object.
+   *
+   * @return the new Java object.
+   */
+  @Override
+  public IAudioFifo copyReference() {
+    if (swigCPtr == 0)
+      return null;
+    else
+      return new IAudioFifo(swigCPtr, swigCMemOwn, getJavaRefCount());
+  }
+
+  /**
+   * Compares two values, returning true if the underlying objects in native code are the same object.
+   *
+   * That means you can have two different Java objects, but when you do a comparison, you'll find out
+   * they are the EXACT same object.
+   *
+   * @return True if the underlying native object is the same.  False otherwise.
+   */
+  public boolean equals(Object obj) {
+    boolean equal = false;
+    if (obj instanceof IAudioFifo)
+      equal = (((IAudioFifo)obj).swigCPtr == this.swigCPtr);
+    return equal;
+  }
+  
+  /**
+   * Get a hashable value for this object.
+   *
+   * @return the hashable value.
+   */
+  public int hashCode() {
+     return (int)swigCPtr;
+  }
+  
+  // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+  // JNIHelper.swg: End generated code
+  
+/**
+ * Get the number of channels in the audio we buffer.  
+ * @return	the number of channels.  
+ */
+  public int getChannels() {
+    return XugglerJNI.IAudioFifo_getChannels(swigCPtr, this);
+  }
+
+/**
+ * Get the sample rate of the audio we buffer.  
+ * @return	the sample rate.  
+ */
+  public int getSampleRate() {
+    return XugglerJNI.IAudioFifo_getSampleRate(swigCPtr, this);
+  }
+
+/**
+ * Get the format of the audio we buffer.  
+ * @return	the sample format.  
+ */
+  public IAudioSamples.Format getFormat() {
+    return IAudioSamples.Format.swigToEnum(XugglerJNI.IAudioFifo_getFormat(swigCPtr, this));
+  }
+
+/**
+ * Get the number of samples in each frame returned by  
+ * {@link #read(IAudioSamples)}.  
+ * @return	the frame size in samples.  
+ */
+  public int getFrameSize() {
+    return XugglerJNI.IAudioFifo_getFrameSize(swigCPtr, this);
+  }
+
+/**
+ * Get the number of samples (per channel) waiting to be read.  
+ * @return	the number of buffered samples.  
+ */
+  public int getNumSamples() {
+    return XugglerJNI.IAudioFifo_getNumSamples(swigCPtr, this);
+  }
+
+/**
+ * Get the time stamp, in microseconds, of the next sample that will  
+ * be read.  
+ * <p>  
+ * Time stamps are taken from the first {@link IAudioSamples} written  
+ * while this {@link IAudioFifo} is empty, and count forward by  
+ * samples after that. Gaps in the time stamps of samples written  
+ * while others are still buffered are ignored.  
+ * </p>  
+ * @return	the time stamp, or {@link Global#NO_PTS} if the samples  
+ *   written had no time stamp.  
+ */
+  public long getNextPts() {
+    return XugglerJNI.IAudioFifo_getNextPts(swigCPtr, this);
+  }
+
+/**
+ * Copy all the samples in the given {@link IAudioSamples} onto the  
+ * end of this {@link IAudioFifo}.  
+ * @param	samples The samples to add. They must be complete, and  
+ *   have the same channels, sample rate and format as this  
+ *   {@link IAudioFifo}. They can be reused as soon as this returns.  
+ * @return	The number of samples added, or <0 on error.  
+ */
+  public int write(IAudioSamples samples) {
+    return XugglerJNI.IAudioFifo_write(swigCPtr, this, IAudioSamples.getCPtr(samples), samples);
+  }
+
+/**
+ * If at least {@link #getFrameSize()} samples are buffered, copy  
+ * exactly that many into frame and remove them.  
+ * <p>  
+ * frame is grown if needed and made complete, with the time stamp of  
+ * its first sample. Any data it held before is overwritten.  
+ * </p>  
+ * @param	frame The samples to copy into.  
+ * @return	The number of samples copied, which is either  
+ *   {@link #getFrameSize()} or 0 if not enough are buffered,  
+ *   or <0 on error.  
+ */
+  public int read(IAudioSamples frame) {
+    return XugglerJNI.IAudioFifo_read(swigCPtr, this, IAudioSamples.getCPtr(frame), frame);
+  }
+
+/**
+ * Like {@link #read(IAudioSamples)}, but if fewer than  
+ * {@link #getFrameSize()} samples are buffered, copies all of  
+ * them. Use this at the end of a stream.  
+ * @param	frame The samples to copy into.  
+ * @return	The number of samples copied, 0 if this  
+ *   {@link IAudioFifo} is empty, or <0 on error.  
+ */
+  public int drain(IAudioSamples frame) {
+    return XugglerJNI.IAudioFifo_drain(swigCPtr, this, IAudioSamples.getCPtr(frame), frame);
+  }
+
+/**
+ * Throw away all buffered samples and forget the time stamp.  
+ */
+  public void clear() {
+    XugglerJNI.IAudioFifo_clear(swigCPtr, this);
+  }
+
+/**
+ * Create a new {@link IAudioFifo}.  
+ * @param	channels The number of channels.  
+ * @param	sampleRate The sample rate.  
+ * @param	format The sample format. Planar formats are not supported.  
+ * @param	frameSize The number of samples in each frame returned  
+ *   by {@link #read(IAudioSamples)}; usually  
+ *   {@link IStreamCoder#getAudioFrameSize()}.  
+ * @return	A new object, or null if the arguments are not valid.  
+ */
+  public static IAudioFifo make(int channels, int sampleRate, IAudioSamples.Format format, int frameSize) {
+    long cPtr = XugglerJNI.IAudioFifo_make(channels, sampleRate, format.swigValue(), frameSize);
+    return (cPtr == 0) ? null : new IAudioFifo(cPtr, false);
+  }
+
+}
@@ -141,6 +141,181 @@ public class IAudioSamples extends IMediaData {
     return result.toString();
   }
 
+  /**
+   * Gets a {@link java.nio.ShortBuffer} view of the samples in this
+   * object, for {@link Format#FMT_S16} and {@link Format#FMT_S16P} audio.
+   * No data is copied; writes to the view change these samples.
+   * <p>
+   * The view covers {@link #getNumSamples()} samples times
+   * {@link #getChannels()}, so if you are filling an empty object call
+   * {@link #setComplete(boolean, long, int, int, Format, long)} first.
+   * </p>
+   * 
+   * @param ref A reference that on return from this method will
+   *   contain a {@link com.xuggle.ferry.JNIReference} object
+   *   that can be used for explicit memory management, or null.
+   * @return The view, or null if there is no data.
+   * @throws IllegalStateException if the samples are in another format.
+   * @see IMediaData#getByteBuffer(java.util.concurrent.atomic.AtomicReference)
+   * @since 5.5
+   */
+  public java.nio.ShortBuffer getShortBuffer(
+      java.util.concurrent.atomic.AtomicReference<com.xuggle.ferry.JNIReference> ref)
+  {
+    java.nio.ByteBuffer buffer = getTypedByteBuffer(Format.FMT_S16, ref);
+    return buffer == null ? null : buffer.asShortBuffer();
+  }
+
+  /**
+   * Gets a {@link java.nio.IntBuffer} view of the samples in this
+   * object, for {@link Format#FMT_S32} and {@link Format#FMT_S32P} audio.
+   * 
+   * @param ref A reference that on return from this method will
+   *   contain a {@link com.xuggle.ferry.JNIReference} object
+   *   that can be used for explicit memory management, or null.
+   * @return The view, or null if there is no data.
+   * @throws IllegalStateException if the samples are in another format.
+   * @see #getShortBuffer(java.util.concurrent.atomic.AtomicReference)
+   * @since 5.5
+   */
+  public java.nio.IntBuffer getIntBuffer(
+      java.util.concurrent.atomic.AtomicReference<com.xuggle.ferry.JNIReference> ref)
+  {
+    java.nio.ByteBuffer buffer = getTypedByteBuffer(Format.FMT_S32, ref);
+    return buffer == null ? null : buffer.asIntBuffer();
+  }
+
+  /**
+   * Gets a {@link java.nio.FloatBuffer} view of the samples in this
+   * object, for {@link Format#FMT_FLT} and {@link Format#FMT_FLTP} audio.
+   * 
+   * @param ref A reference that on return from this method will
+   *   contain a {@link com.xuggle.ferry.JNIReference} object
+   *   that can be used for explicit memory management, or null.
+   * @return The view, or null if there is no data.
+   * @throws IllegalStateException if the samples are in another format.
+   * @see #getShortBuffer(java.util.concurrent.atomic.AtomicReference)
+   * @since 5.5
+   */
+  public java.nio.FloatBuffer getFloatBuffer(
+      java.util.concurrent.atomic.AtomicReference<com.xuggle.ferry.JNIReference> ref)
+  {
+    java.nio.ByteBuffer buffer = getTypedByteBuffer(Format.FMT_FLT, ref);
+    return buffer == null ? null : buffer.asFloatBuffer();
+  }
+
+  private java.nio.ByteBuffer getTypedByteBuffer(Format packed,
+      java.util.concurrent.atomic.AtomicReference<com.xuggle.ferry.JNIReference> ref)
+  {
+    // each planar format follows the packed ones in the same order
+    Format format = getFormat();
+    if (format != packed &&
+        format.swigValue() != packed.swigValue() + Format.FMT_U8P.swigValue())
+      throw new IllegalStateException("samples are in format " + format);
+    return getByteBuffer(ref);
+  }
+
+  /**
+   * Copies samples out as floats in the range [-1.0, 1.0), converting
+   * from {@link #getFormat()} natively in one call.  All channels
+   * are copied, interleaved.
+   * 
+   * @param samples Receives the samples.
+   * @param offset The position in samples to start at.
+   * @param numSamples The most samples per channel to copy;
+   *   samples must have room for numSamples * {@link #getChannels()}
+   *   values after offset.
+   * @return The number of samples per channel copied, or <0 on error.
+   * @throws IllegalArgumentException if samples is null or too short.
+   * @since 5.5
+   */
+  public int getFloatSamples(float[] samples, int offset, int numSamples)
+  {
+    return getFloatSamples(-1, samples, offset, numSamples);
+  }
+
+  /**
+   * Copies one channel out as floats in the range [-1.0, 1.0),
+   * converting from {@link #getFormat()} natively in one call.
+   * Works for both interleaved and planar formats.
+   * 
+   * @param channel The zero-based channel to copy, or -1 for all
+   *   channels interleaved.
+   * @param samples Receives the samples.
+   * @param offset The position in samples to start at.
+   * @param numSamples The most samples to copy.
+   * @return The number of samples per channel copied, or <0 on error.
+   * @throws IllegalArgumentException if samples is null or too short,
+   *   or channel does not exist.
+   * @since 5.5
+   */
+  public int getFloatSamples(int channel, float[] samples, int offset,
+      int numSamples)
+  {
+    validateFloatSamples(channel, samples, offset, numSamples);
+    return copyToFloatArray(channel, samples, offset, numSamples);
+  }
+
+  /**
+   * Copies floats in the range [-1.0, 1.0) into all channels of this
+   * object, converting to {@link #getFormat()} natively in one call.
+   * Values outside the range are clipped.
+   * <p>
+   * Call {@link #setComplete(boolean, long, int, int, Format, long)}
+   * afterwards.
+   * </p>
+   * 
+   * @param samples The interleaved samples to copy.
+   * @param offset The position in samples to start at.
+   * @param numSamples The samples per channel to copy; must be
+   *   no more than {@link #getMaxSamples()}.
+   * @return The number of samples per channel copied, or <0 on error.
+   * @throws IllegalArgumentException if samples is null or too short.
+   * @since 5.5
+   */
+  public int setFloatSamples(float[] samples, int offset, int numSamples)
+  {
+    return setFloatSamples(-1, samples, offset, numSamples);
+  }
+
+  /**
+   * Copies floats in the range [-1.0, 1.0) into one channel of this
+   * object, converting to {@link #getFormat()} natively in one call.
+   * For planar formats each channel is taken to hold numSamples
+   * samples, so write every channel with the same count.
+   * 
+   * @param channel The zero-based channel to write, or -1 for all
+   *   channels interleaved.
+   * @param samples The samples to copy.
+   * @param offset The position in samples to start at.
+   * @param numSamples The samples to copy; must be
+   *   no more than {@link #getMaxSamples()}.
+   * @return The number of samples per channel copied, or <0 on error.
+   * @throws IllegalArgumentException if samples is null or too short,
+   *   or channel does not exist.
+   * @since 5.5
+   */
+  public int setFloatSamples(int channel, float[] samples, int offset,
+      int numSamples)
+  {
+    validateFloatSamples(channel, samples, offset, numSamples);
+    return copyFromFloatArray(channel, samples, offset, numSamples);
+  }
+
+  private void validateFloatSamples(int channel, float[] samples,
+      int offset, int numSamples)
+  {
+    if (samples == null)
+      throw new IllegalArgumentException("no samples");
+    if (channel < -1 || channel >= getChannels())
+      throw new IllegalArgumentException("no such channel: " + channel);
+    if (offset < 0 || numSamples < 0)
+      throw new IllegalArgumentException("offset and numSamples must be >= 0");
+    long values = (long) numSamples * (channel < 0 ? getChannels() : 1);
+    if (offset + values > samples.length)
+      throw new IllegalArgumentException("samples too short");
+  }
+
 
 /**
  * Returns whether or not we think this buffer has been filled  
@@ -404,6 +579,14 @@ public class IAudioSamples extends IMediaData {
     return (cPtr == 0) ? null : new IAudioSamples(cPtr, false);
   }
 
+  protected int copyToFloatArray(int channel, float[] samples, int offset, int numSamples) {
+    return XugglerJNI.IAudioSamples_copyToFloatArray(swigCPtr, this, channel, samples, offset, numSamples);
+  }
+
+  protected int copyFromFloatArray(int channel, float[] samples, int offset, int numSamples) {
+    return XugglerJNI.IAudioSamples_copyFromFloatArray(swigCPtr, this, channel, samples, offset, numSamples);
+  }
+
   public enum Format {
   /**
    * The format we use to represent audio. Today
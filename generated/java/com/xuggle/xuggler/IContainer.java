@@ -515,6 +515,57 @@ public class IContainer extends RefCounted implements com.xuggle.xuggler.IConfig
     return retval;
   }
 
+  /**
+   * Read and decode packets from this container until
+   * <code>frames.length</code> frames of the given stream have been
+   * decoded, in one call into native code.
+   * <p>
+   * This is {@link #decodeNextFrame(int, IMediaData)} called once for
+   * each of <code>frames</code> in turn, but without crossing into
+   * native code, and looking up the stream and its coder, for every
+   * frame.  For streams of many small frames, such as audio or low
+   * resolution video, that overhead can cost more than the decoding.
+   * </p>
+   * <p>
+   * If <code>info</code> is not null, for each frame decoded
+   * <code>i</code>, <code>info[i*FRAME_INFO_STRIDE+FRAME_INFO_TIMESTAMP]</code>,
+   * <code>info[i*FRAME_INFO_STRIDE+FRAME_INFO_KEY]</code> and
+   * <code>info[i*FRAME_INFO_STRIDE+FRAME_INFO_NUM_SAMPLES]</code>
+   * are filled in, so you don't have to ask each frame.
+   * </p>
+   * 
+   * @param streamIndex The stream to decode.
+   * @param frames The pictures (for a video stream) or samples (for an
+   *   audio stream) to decode into.  The stream's coder must be open.
+   * @param info If not null, an array at least
+   *   <code>frames.length*FRAME_INFO_STRIDE</code> long to fill with
+   *   information about each frame decoded.
+   * @return The number of frames decoded, which is less than
+   *   <code>frames.length</code> only if an error or the end of the
+   *   container was hit.  If no frames were decoded, the error (&lt;
+   *   0) instead.
+   * @throws IllegalArgumentException if <code>frames</code> or any of
+   *   its elements is null, or <code>info</code> is too short.
+   * @since 5.5
+   */
+  public int decodeNextFrames(int streamIndex, IMediaData[] frames,
+      long[] info)
+  {
+    if (frames == null)
+      throw new IllegalArgumentException("no frames");
+    if (info != null && info.length < frames.length*FRAME_INFO_STRIDE)
+      throw new IllegalArgumentException("info array too short");
+    final long[] pointers = new long[frames.length];
+    for(int i = 0; i < frames.length; i++)
+    {
+      if (frames[i] == null)
+        throw new IllegalArgumentException("null frame at index " + i);
+      pointers[i] = IMediaData.getCPtr(frames[i]);
+    }
+    // frames is passed too so the proxies stay reachable until we return
+    return decodeNextFrames(streamIndex, frames, pointers, info);
+  }
+
   
 
 /**
@@ -1519,6 +1570,80 @@ public class IContainer extends RefCounted implements com.xuggle.xuggler.IConfig
     return XugglerJNI.IContainer_open__SWIG_2(swigCPtr, this, url, type.swigValue(), IContainerFormat.getCPtr(containerFormat), containerFormat, streamsCanBeAddedDynamically, queryStreamMetaData, IMetaData.getCPtr(options), options, IMetaData.getCPtr(optionsNotSet), optionsNotSet);
   }
 
+/**
+ * Does {@link #readNextPacket(IPacket)} hand packets the demuxer's  
+ * own memory rather than copies of it?  
+ * @return	true if zero copy reading is on.  
+ * @see		#setZeroCopyReading(boolean)  
+ * @since	5.5  
+ */
+  public boolean getZeroCopyReading() {
+    return XugglerJNI.IContainer_getZeroCopyReading(swigCPtr, this);
+  }
+
+/**
+ * Turn zero copy reading on or off. Off by default.  
+ * <p>  
+ * By default {@link #readNextPacket(IPacket)} copies every packet  
+ * the demuxer returns into the {@link IPacket}'s own buffer, reusing  
+ * that buffer from read to read when it is large enough. With zero  
+ * copy reading on, the {@link IPacket} instead takes over the memory  
+ * the demuxer allocated for the packet, and frees it when the  
+ * packet's data is released. This saves a copy of every packet  
+ * read, but means each read gives the {@link IPacket} a new  
+ * {@link com.xuggle.ferry.IBuffer}.  
+ * </p>  
+ * <p>  
+ * Packets whose data the demuxer does not hand over (for example  
+ * data still owned by a parser) are copied as before.  
+ * </p>  
+ * @param	value true to turn zero copy reading on.  
+ * @since	5.5  
+ */
+  public void setZeroCopyReading(boolean value) {
+    XugglerJNI.IContainer_setZeroCopyReading(swigCPtr, this, value);
+  }
+
+/**
+ * Read and decode packets from this container until one complete  
+ * frame of the given stream has been decoded into <code>frame</code>.  
+ * <p>  
+ * This does the work of a {@link #readNextPacket(IPacket)} and  
+ * {@link IStreamCoder#decodeVideo(IVideoPicture, IPacket, int)} or  
+ * {@link IStreamCoder#decodeAudio(IAudioSamples, IPacket, int)}  
+ * loop in one call. Packets for other streams are read and  
+ * dropped. If a packet holds more than one frame, the rest of it is  
+ * kept and decoded by the next call. Seeking or closing the  
+ * container throws away any such packet.  
+ * </p>  
+ * <p>  
+ * Once there is nothing left to read, each call instead hands out  
+ * one of the pictures the video decoder is still holding back (for  
+ * example because of B-frame reordering or frame threading), and  
+ * only returns the read error when it has none left. Reads that  
+ * fail with {@link IError.Type#ERROR_AGAIN} or  
+ * {@link IError.Type#ERROR_INTERRUPTED} are returned straight away  
+ * instead, and the next call reads again.  
+ * </p>  
+ * <p>  
+ * The stream's {@link IStreamCoder} must already be open, and  
+ * <code>frame</code> must be an {@link IVideoPicture} for a video  
+ * stream or an {@link IAudioSamples} for an audio stream.  
+ * </p>  
+ * @param	streamIndex The stream to decode.  
+ * @param	frame The picture or samples to decode into.  
+ * @return	>= 0 on success; < 0 on error or at the end of the  
+ * container.  
+ * @since	5.5  
+ */
+  public int decodeNextFrame(int streamIndex, IMediaData frame) {
+    return XugglerJNI.IContainer_decodeNextFrame(swigCPtr, this, streamIndex, IMediaData.getCPtr(frame), frame);
+  }
+
+  protected int decodeNextFrames(int streamIndex, Object[] frames, long[] framePointers, long[] info) {
+    return XugglerJNI.IContainer_decodeNextFrames(swigCPtr, this, streamIndex, frames, framePointers, info);
+  }
+
   public enum Type {
   /**
    *
@@ -1628,4 +1753,24 @@ public class IContainer extends RefCounted implements com.xuggle.xuggler.IConfig
  * Flag; Seek based on frame number instead of time stamps  
  */
   public final static int SEEK_FLAG_FRAME = XugglerJNI.IContainer_SEEK_FLAG_FRAME_get();
+/**
+ * The number of longs {@link #decodeNextFrames(int, IMediaData[], long[])}  
+ * writes into its <code>info</code> array for each frame it decodes.  
+ */
+  public final static int FRAME_INFO_STRIDE = XugglerJNI.IContainer_FRAME_INFO_STRIDE_get();
+/**
+ * Offset of a frame's {@link IMediaData#getTimeStamp()} in its  
+ * {@link #FRAME_INFO_STRIDE} longs of frame info.  
+ */
+  public final static int FRAME_INFO_TIMESTAMP = XugglerJNI.IContainer_FRAME_INFO_TIMESTAMP_get();
+/**
+ * Offset of a frame's {@link IMediaData#isKey()} (1 or 0) in its  
+ * {@link #FRAME_INFO_STRIDE} longs of frame info.  
+ */
+  public final static int FRAME_INFO_KEY = XugglerJNI.IContainer_FRAME_INFO_KEY_get();
+/**
+ * Offset of a frame's {@link IAudioSamples#getNumSamples()} (0 for  
+ * pictures) in its {@link #FRAME_INFO_STRIDE} longs of frame info.  
+ */
+  public final static int FRAME_INFO_NUM_SAMPLES = XugglerJNI.IContainer_FRAME_INFO_NUM_SAMPLES_get();
 }
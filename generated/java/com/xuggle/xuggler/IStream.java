@@ -164,6 +164,43 @@ public class IStream extends RefCounted {
     return retval;
   }
 
+  /**
+   * Copy index entries into arrays without making an
+   * {@link IIndexEntry} for each one.  For streams with large indexes
+   * this is much cheaper than {@link #getIndexEntries()}.
+   * <p>
+   * Any of the arrays may be null, in which case that field is not
+   * copied.  The number of entries copied is the smallest length of
+   * the non-null arrays, or fewer if the index runs out first.
+   * </p>
+   * <p>
+   * Do not modify the {@link IContainer} this stream is from
+   * while copying in pieces, as indexes may be compacted while
+   * processing.
+   * </p>
+   * 
+   * @param start The position in the index of the first entry to copy.
+   * @param timeStamps Receives {@link IIndexEntry#getTimeStamp()} for
+   *   each entry, or null.
+   * @param positions Receives {@link IIndexEntry#getPosition()} for
+   *   each entry, or null.
+   * @param sizes Receives {@link IIndexEntry#getSize()} for each
+   *   entry, or null.
+   * @param flags Receives {@link IIndexEntry#getFlags()} for each
+   *   entry, or null.
+   * @return The number of entries copied, or <0 on error.
+   * @throws IllegalArgumentException if start is negative.
+   * @see KeyFrameIndex
+   * @since 5.5
+   */
+  public int getIndexEntries(int start, long[] timeStamps,
+      long[] positions, int[] sizes, int[] flags)
+  {
+    if (start < 0)
+      throw new IllegalArgumentException("start must be >= 0");
+    return copyIndexEntries(start, timeStamps, positions, sizes, flags);
+  }
+
 
 /**
  * Get the {@link Direction} this stream is pointing in.  
@@ -560,6 +597,10 @@ public class IStream extends RefCounted {
     XugglerJNI.IStream_setId(swigCPtr, this, id);
   }
 
+  protected int copyIndexEntries(int start, long[] timeStamps, long[] positions, int[] sizes, int[] flags) {
+    return XugglerJNI.IStream_copyIndexEntries(swigCPtr, this, start, timeStamps, positions, sizes, flags);
+  }
+
   public enum Direction {
   /**
    * The direction this stream is going (based on the container).
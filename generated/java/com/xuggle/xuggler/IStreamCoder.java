@@ -663,6 +663,12 @@ public class IStreamCoder extends RefCounted implements com.xuggle.xuggler.IConf
  * overwrite any data in the frame object, but  
  * you should pass the same IVideoPicture into this function  
  * repeatedly until IVideoPicture::isComplete() is true.  
+ * <p>  
+ * Some decoders hold on to pictures, for example when decoding  
+ * frames on more than one thread. Once there are no more packets,  
+ * pass in an empty packet until IVideoPicture::isComplete() is false  
+ * to get them.  
+ * </p>  
  * @param	pOutFrame The AudioSamples we decode.  
  * @param	packet The packet we're attempting to decode from.  
  *  
@@ -1235,6 +1241,171 @@ public class IStreamCoder extends RefCounted implements com.xuggle.xuggler.IConf
     return XugglerJNI.IStreamCoder_setProperty__SWIG_5(swigCPtr, this, IMetaData.getCPtr(valuesToSet), valuesToSet, IMetaData.getCPtr(valuesNotFound), valuesNotFound);
   }
 
+/**
+ * Get the number of threads this coder will use.  
+ * @return	the number of threads; 0 means one thread per available  
+ *		 CPU, which once the coder is open is replaced with the number  
+ *		 actually used. <0 on error.  
+ * @since	5.5  
+ */
+  public int getNumThreads() {
+    return XugglerJNI.IStreamCoder_getNumThreads(swigCPtr, this);
+  }
+
+/**
+ * Set the number of threads this coder will use. Must be called  
+ * before the coder is opened.  
+ * @param	numThreads the number of threads, or 0 to use one thread 
+ *		 per  
+ * available CPU. The default is 1.  
+ * @return	0 on success; <0 on error, including if the coder is  
+ * already open.  
+ * @since	5.5  
+ */
+  public int setNumThreads(int numThreads) {
+    return XugglerJNI.IStreamCoder_setNumThreads(swigCPtr, this, numThreads);
+  }
+
+/**
+ * Get the kinds of threading this coder may use.  
+ * @return	the thread type  
+ * @see		ThreadType  
+ * @since	5.5  
+ */
+  public IStreamCoder.ThreadType getThreadType() {
+    return IStreamCoder.ThreadType.swigToEnum(XugglerJNI.IStreamCoder_getThreadType(swigCPtr, this));
+  }
+
+/**
+ * Set the kinds of threading this coder may use. Must be called  
+ * before the coder is opened.  
+ * @param	type the thread type  
+ * @return	0 on success; <0 on error, including if the coder is  
+ * already open.  
+ * @see		ThreadType  
+ * @since	5.5  
+ */
+  public int setThreadType(IStreamCoder.ThreadType type) {
+    return XugglerJNI.IStreamCoder_setThreadType(swigCPtr, this, type.swigValue());
+  }
+
+/**
+ * Get the kind of threading this coder is actually using. Only  
+ * valid once the coder is open; it is {@link #THREAD_TYPE_NONE} if  
+ * the codec does not support any of the types asked for, or only one  
+ * thread is in use.  
+ * @return	the thread type in use  
+ * @see		ThreadType  
+ * @since	5.5  
+ */
+  public IStreamCoder.ThreadType getActiveThreadType() {
+    return IStreamCoder.ThreadType.swigToEnum(XugglerJNI.IStreamCoder_getActiveThreadType(swigCPtr, this));
+  }
+
+/**
+ * Should decodeVideo hand out the decoder's own pictures rather than  
+ * copies of them?  
+ * @return	true if zero copy decoding is on.  
+ * @see		#setZeroCopyDecoding(boolean)  
+ * @since	5.5  
+ */
+  public boolean getZeroCopyDecoding() {
+    return XugglerJNI.IStreamCoder_getZeroCopyDecoding(swigCPtr, this);
+  }
+
+/**
+ * Turn zero copy decoding on or off. Must be called before the  
+ * coder is opened. Off by default.  
+ * <p>  
+ * By default every picture decodeVideo completes is copied out of  
+ * memory the decoder owns into the IVideoPicture's own buffer. With  
+ * zero copy decoding on, the decoder instead writes straight into  
+ * reference-counted buffers from a pool this coder keeps, and the  
+ * IVideoPicture is handed the decoder's buffer as is. A buffer goes  
+ * back to the pool once neither the decoder nor any picture refers  
+ * to it.  
+ * </p>  
+ * <p>  
+ * Pictures decoded this way must be treated as read-only, since the  
+ * decoder may still be using them to decode later pictures. Their  
+ * data also keeps the decoder's layout: rows are padded out to  
+ * IVideoPicture::getDataLineSize(int) bytes, and planes may not  
+ * start right after each other in IVideoPicture::getData().  
+ * Resampling, encoding and IVideoPicture::copy(IVideoPicture*) all  
+ * handle this; use a copy if you need to change the picture or read  
+ * its raw bytes.  
+ * </p>  
+ * <p>  
+ * Only codecs that support direct rendering decode this way; others  
+ * silently fall back to copying.  
+ * </p>  
+ * @param	value true to turn zero copy decoding on.  
+ * @return	0 on success; <0 on error, including if the coder is  
+ * already open.  
+ * @since	5.5  
+ */
+  public int setZeroCopyDecoding(boolean value) {
+    return XugglerJNI.IStreamCoder_setZeroCopyDecoding(swigCPtr, this, value);
+  }
+
+/**
+ * Get which frames this decoder skips decoding.  
+ * @return	the frames skipped  
+ * @see		#setSkipFrame(IStreamCoder.Discard)  
+ * @since	5.5  
+ */
+  public IStreamCoder.Discard getSkipFrame() {
+    return IStreamCoder.Discard.swigToEnum(XugglerJNI.IStreamCoder_getSkipFrame(swigCPtr, this));
+  }
+
+/**
+ * Set which frames this decoder skips decoding. May be changed at  
+ * any time, including while the coder is open.  
+ * <p>  
+ * A skipped frame uses up its packet like any other, but  
+ * decodeVideo does not complete a picture for it. Use  
+ * {@link #DISCARD_NONKEY} to decode only key frames, for example to  
+ * make previews or look for scene changes, or  
+ * {@link #DISCARD_NONREF} to drop frames no other frame depends on.  
+ * Not all codecs support all levels; most ignore this on encoding.  
+ * </p>  
+ * @param	discard the frames to skip  
+ * @return	0 on success; <0 on error.  
+ * @see		Discard  
+ * @since	5.5  
+ */
+  public int setSkipFrame(IStreamCoder.Discard discard) {
+    return XugglerJNI.IStreamCoder_setSkipFrame(swigCPtr, this, discard.swigValue());
+  }
+
+/**
+ * Get which frames this decoder skips the loop filter for.  
+ * @return	the frames the loop filter is skipped for  
+ * @see		#setSkipLoopFilter(IStreamCoder.Discard)  
+ * @since	5.5  
+ */
+  public IStreamCoder.Discard getSkipLoopFilter() {
+    return IStreamCoder.Discard.swigToEnum(XugglerJNI.IStreamCoder_getSkipLoopFilter(swigCPtr, this));
+  }
+
+/**
+ * Set which frames this decoder skips the loop filter for. May be  
+ * changed at any time, including while the coder is open.  
+ * <p>  
+ * Skipping the in-loop deblocking filter of codecs like H.264 makes  
+ * decoding faster at the cost of blockier pictures, and errors that  
+ * add up until the next key frame. Fine for thumbnails and  
+ * analysis; not for anything people will watch.  
+ * </p>  
+ * @param	discard the frames to skip the loop filter for  
+ * @return	0 on success; <0 on error.  
+ * @see		Discard  
+ * @since	5.5  
+ */
+  public int setSkipLoopFilter(IStreamCoder.Discard discard) {
+    return XugglerJNI.IStreamCoder_setSkipLoopFilter(swigCPtr, this, discard.swigValue());
+  }
+
   public enum Direction {
   /**
    * The Direction in which this StreamCoder will work.
@@ -1513,4 +1684,142 @@ public class IStreamCoder extends RefCounted implements com.xuggle.xuggler.IConf
     }
   }
 
+  public enum ThreadType {
+  /**
+   * The ways a codec may spread its work over more than one thread. 
+   *
+   * Not all codecs support all types; a codec ignores the types it
+   * does not support.
+   * @since	5.5
+   * Do not use more than one thread, even if {@link #getNumThreads()} 
+   *
+   * is greater than one.
+   */
+    THREAD_TYPE_NONE(XugglerJNI.IStreamCoder_THREAD_TYPE_NONE_get()),
+  /**
+   * Decode more than one frame at once. Each extra thread adds one
+   * frame of delay between a packet going in and its picture coming
+   * out.
+   */
+    THREAD_TYPE_FRAME(XugglerJNI.IStreamCoder_THREAD_TYPE_FRAME_get()),
+  /**
+   * Decode or encode more than one part of a single frame at once.
+   * Adds no delay, but only helps with streams that were encoded
+   * with more than one slice per frame.
+   */
+    THREAD_TYPE_SLICE(XugglerJNI.IStreamCoder_THREAD_TYPE_SLICE_get()),
+  /**
+   * Use frame threading if the codec supports it, and slice threading 
+   *
+   * otherwise. This is the default.
+   */
+    THREAD_TYPE_FRAME_AND_SLICE(XugglerJNI.IStreamCoder_THREAD_TYPE_FRAME_AND_SLICE_get());
+
+    public final int swigValue() {
+      return swigValue;
+    }
+
+    public static ThreadType swigToEnum(int swigValue) {
+      ThreadType[] swigValues = ThreadType.class.getEnumConstants();
+      if (swigValue < swigValues.length && swigValue >= 0 && swigValues[swigValue].swigValue == swigValue)
+        return swigValues[swigValue];
+      for (ThreadType swigEnum : swigValues)
+        if (swigEnum.swigValue == swigValue)
+          return swigEnum;
+      throw new IllegalArgumentException("No enum " + ThreadType.class + " with value " + swigValue);
+    }
+
+    @SuppressWarnings("unused")
+    private ThreadType() {
+      this.swigValue = SwigNext.next++;
+    }
+
+    @SuppressWarnings("unused")
+    private ThreadType(int swigValue) {
+      this.swigValue = swigValue;
+      SwigNext.next = swigValue+1;
+    }
+
+    @SuppressWarnings("unused")
+    private ThreadType(ThreadType swigEnum) {
+      this.swigValue = swigEnum.swigValue;
+      SwigNext.next = this.swigValue+1;
+    }
+
+    private final int swigValue;
+
+    private static class SwigNext {
+      private static int next = 0;
+    }
+  }
+
+  public enum Discard {
+  /**
+   * Which frames a decoder may skip work on, from none to all. Each
+   * level also skips everything the levels before it skip.
+   * @since	5.5
+   * Skip nothing, not even empty packets.
+   */
+    DISCARD_NONE(XugglerJNI.IStreamCoder_DISCARD_NONE_get()),
+  /**
+   * Skip only useless packets, such as empty ones. This is the
+   * default.
+   */
+    DISCARD_DEFAULT(XugglerJNI.IStreamCoder_DISCARD_DEFAULT_get()),
+  /**
+   * Skip frames no other frame is predicted from, such as most
+   * B-frames.
+   */
+    DISCARD_NONREF(XugglerJNI.IStreamCoder_DISCARD_NONREF_get()),
+  /**
+   * Skip all bidirectionally predicted frames.
+   */
+    DISCARD_BIDIR(XugglerJNI.IStreamCoder_DISCARD_BIDIR_get()),
+  /**
+   * Skip everything but key frames.
+   */
+    DISCARD_NONKEY(XugglerJNI.IStreamCoder_DISCARD_NONKEY_get()),
+  /**
+   * Skip everything.
+   */
+    DISCARD_ALL(XugglerJNI.IStreamCoder_DISCARD_ALL_get());
+
+    public final int swigValue() {
+      return swigValue;
+    }
+
+    public static Discard swigToEnum(int swigValue) {
+      Discard[] swigValues = Discard.class.getEnumConstants();
+      if (swigValue < swigValues.length && swigValue >= 0 && swigValues[swigValue].swigValue == swigValue)
+        return swigValues[swigValue];
+      for (Discard swigEnum : swigValues)
+        if (swigEnum.swigValue == swigValue)
+          return swigEnum;
+      throw new IllegalArgumentException("No enum " + Discard.class + " with value " + swigValue);
+    }
+
+    @SuppressWarnings("unused")
+    private Discard() {
+      this.swigValue = SwigNext.next++;
+    }
+
+    @SuppressWarnings("unused")
+    private Discard(int swigValue) {
+      this.swigValue = swigValue;
+      SwigNext.next = swigValue+1;
+    }
+
+    @SuppressWarnings("unused")
+    private Discard(Discard swigEnum) {
+      this.swigValue = swigEnum.swigValue;
+      SwigNext.next = this.swigValue+1;
+    }
+
+    private final int swigValue;
+
+    private static class SwigNext {
+      private static int next = 0;
+    }
+  }
+
 }
@@ -129,6 +129,93 @@ public class IVideoResampler extends RefCounted implements com.xuggle.xuggler.IC
     return retval;
   }
 
+  /**
+   * Resample in to out, resampling the slices set with
+   * {@link #setNumSlices(int)} in parallel.
+   * <p>
+   * The first slice is resampled on the calling thread and the others
+   * are handed to <code>executor</code>; this method returns once all
+   * of them are done.  If the resampler has only one slice, or
+   * <code>executor</code> is null, this is the same as
+   * {@link #resample(IVideoPicture, IVideoPicture)}.  If
+   * <code>executor</code> rejects a slice, it is resampled on the
+   * calling thread instead.
+   * </p>
+   *
+   * @param out The picture we'll resample to.  Check
+   *     {@link IVideoPicture#isComplete()} after the call.
+   * @param in The picture we'll resample from.
+   * @param executor The executor to resample slices on.
+   *
+   * @return >= 0 on success; <0 on error.
+   * @since 5.5
+   */
+  public int resample(final IVideoPicture out, final IVideoPicture in,
+      java.util.concurrent.Executor executor)
+  {
+    if (executor == null || getNumSlices() <= 1)
+      return resample(out, in);
+    final int numSlices = beginSlices(out, in);
+    if (numSlices < 0)
+      return numSlices;
+
+    final java.util.concurrent.CountDownLatch done =
+      new java.util.concurrent.CountDownLatch(numSlices - 1);
+    final java.util.concurrent.atomic.AtomicBoolean failed =
+      new java.util.concurrent.atomic.AtomicBoolean(false);
+    for(int i = 1; i < numSlices; i++)
+    {
+      final int slice = i;
+      Runnable task = new Runnable() {
+        public void run()
+        {
+          try
+          {
+            if (resampleSlice(out, in, slice) < 0)
+              failed.set(true);
+          }
+          catch (RuntimeException e)
+          {
+            failed.set(true);
+          }
+          finally
+          {
+            done.countDown();
+          }
+        }
+      };
+      try
+      {
+        executor.execute(task);
+      }
+      catch (java.util.concurrent.RejectedExecutionException e)
+      {
+        task.run();
+      }
+    }
+    if (resampleSlice(out, in, 0) < 0)
+      failed.set(true);
+
+    // the other slices are still writing into out, so we must wait
+    // for them even if interrupted
+    boolean interrupted = false;
+    while(true)
+    {
+      try
+      {
+        done.await();
+        break;
+      }
+      catch (InterruptedException e)
+      {
+        interrupted = true;
+      }
+    }
+    if (interrupted)
+      Thread.currentThread().interrupt();
+    return endSlices(out, in, !failed.get());
+  }
+
 /**
  * Get the width in pixels we expect on the input frame to the resampler. 
  *  
@@ -368,6 +455,93 @@ public class IVideoResampler extends RefCounted implements com.xuggle.xuggler.IC
     return XugglerJNI.IVideoResampler_setProperty__SWIG_5(swigCPtr, this, IMetaData.getCPtr(valuesToSet), valuesToSet, IMetaData.getCPtr(valuesNotFound), valuesNotFound);
   }
 
+/**
+ * Get the number of horizontal slices a picture is cut into when  
+ * resampled on several threads.  
+ * @return	the number of slices; 1 means pictures are always  
+ * resampled whole.  
+ * @see		#setNumSlices(int)  
+ * @since	5.5  
+ */
+  public int getNumSlices() {
+    return XugglerJNI.IVideoResampler_getNumSlices(swigCPtr, this);
+  }
+
+/**
+ * Ask for pictures to be cut into this many horizontal slices, so  
+ * that each slice can be resampled on its own thread.  
+ * <p>  
+ * Slicing only works if the input and output pictures are the  
+ * same height and neither format uses a palette; otherwise  
+ * pictures are always resampled whole. Slices are kept a multiple  
+ * of 16 rows high, so small pictures may get fewer slices than  
+ * asked for. Pixels at the edges of slices may come out very  
+ * slightly different than if the picture was resampled whole.  
+ * </p>  
+ * <p>  
+ * Setting this has no effect on {@link #resample(IVideoPicture, IVideoPicture)},  
+ * which always works on the calling thread; in Java use  
+ * <code>resample(IVideoPicture, IVideoPicture, java.util.concurrent.Executor)</code>  
+ * to resample the slices in parallel.  
+ * </p>  
+ * @param	numSlices The number of slices wanted.  
+ * @return	the number of slices pictures will actually be cut  
+ * into, or <0 on error.  
+ * @since	5.5  
+ */
+  public int setNumSlices(int numSlices) {
+    return XugglerJNI.IVideoResampler_setNumSlices(swigCPtr, this, numSlices);
+  }
+
+/**
+ * Check <code>in</code> and <code>out</code> and get  
+ * <code>out</code> ready for {@link #resampleSlice(IVideoPicture, IVideoPicture, int)}  
+ * to be called on every slice.  
+ * <p>  
+ * Internal only; used by the Java  
+ * <code>resample(IVideoPicture, IVideoPicture, java.util.concurrent.Executor)</code>.  
+ * </p>  
+ * @param	out The picture we'll resample to.  
+ * @param	in The picture we'll resample from.  
+ * @return	the number of slices to resample, or <0 on error.  
+ */
+  protected int beginSlices(IVideoPicture out, IVideoPicture in) {
+    return XugglerJNI.IVideoResampler_beginSlices(swigCPtr, this, IVideoPicture.getCPtr(out), out, IVideoPicture.getCPtr(in), in);
+  }
+
+/**
+ * Resample one slice of <code>in</code> into <code>out</code>.  
+ * Different slices of the same pictures may be resampled at the  
+ * same time on different threads.  
+ * <p>  
+ * Internal only; used by the Java  
+ * <code>resample(IVideoPicture, IVideoPicture, java.util.concurrent.Executor)</code>.  
+ * </p>  
+ * @param	out The picture passed to {@link #beginSlices(IVideoPicture, IVideoPicture)}.  
+ * @param	in The picture passed to {@link #beginSlices(IVideoPicture, IVideoPicture)}.  
+ * @param	slice Which slice to resample, from 0.  
+ * @return	>= 0 on success; <0 on error.  
+ */
+  protected int resampleSlice(IVideoPicture out, IVideoPicture in, int slice) {
+    return XugglerJNI.IVideoResampler_resampleSlice(swigCPtr, this, IVideoPicture.getCPtr(out), out, IVideoPicture.getCPtr(in), in, slice);
+  }
+
+/**
+ * Mark <code>out</code> complete (or not) once every slice has  
+ * been resampled.  
+ * <p>  
+ * Internal only; used by the Java  
+ * <code>resample(IVideoPicture, IVideoPicture, java.util.concurrent.Executor)</code>.  
+ * </p>  
+ * @param	out The picture passed to {@link #beginSlices(IVideoPicture, IVideoPicture)}.  
+ * @param	in The picture passed to {@link #beginSlices(IVideoPicture, IVideoPicture)}.  
+ * @param	succeeded Whether every slice was resampled.  
+ * @return	>= 0 on success; <0 on error.  
+ */
+  protected int endSlices(IVideoPicture out, IVideoPicture in, boolean succeeded) {
+    return XugglerJNI.IVideoResampler_endSlices(swigCPtr, this, IVideoPicture.getCPtr(out), out, IVideoPicture.getCPtr(in), in, succeeded);
+  }
+
   /**
    * 特性枚举类型
    */
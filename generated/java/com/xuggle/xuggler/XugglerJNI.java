@@ -199,6 +199,8 @@ class XugglerJNI {
   public final static native int IAudioSamples_CH_LAYOUT_STEREO_DOWNMIX_get();
   public final static native long IAudioSamples_make__SWIG_1(long jarg1, IBuffer jarg1_, int jarg2, int jarg3);
   public final static native long IAudioSamples_make__SWIG_2(long jarg1, long jarg2, int jarg3);
+  public final static native int IAudioSamples_copyToFloatArray(long jarg1, IAudioSamples jarg1_, int jarg2, float[] jarg3, int jarg4, int jarg5);
+  public final static native int IAudioSamples_copyFromFloatArray(long jarg1, IAudioSamples jarg1_, int jarg2, float[] jarg3, int jarg4, int jarg5);
   public final static native boolean IVideoPicture_isKeyFrame(long jarg1, IVideoPicture jarg1_);
   public final static native void IVideoPicture_setKeyFrame(long jarg1, IVideoPicture jarg1_, boolean jarg2);
   public final static native boolean IVideoPicture_isComplete(long jarg1, IVideoPicture jarg1_);
@@ -314,6 +316,17 @@ class XugglerJNI {
   public final static native long IAudioResampler_make__SWIG_2(int jarg1, int jarg2, int jarg3, int jarg4, int jarg5, int jarg6, int jarg7, int jarg8, boolean jarg9, double jarg10);
   public final static native int IAudioResampler_getMinimumNumSamplesRequiredInOutputSamples__SWIG_0(long jarg1, IAudioResampler jarg1_, long jarg2, IAudioSamples jarg2_);
   public final static native int IAudioResampler_getMinimumNumSamplesRequiredInOutputSamples__SWIG_1(long jarg1, IAudioResampler jarg1_, int jarg2);
+  public final static native int IAudioFifo_getChannels(long jarg1, IAudioFifo jarg1_);
+  public final static native int IAudioFifo_getSampleRate(long jarg1, IAudioFifo jarg1_);
+  public final static native int IAudioFifo_getFormat(long jarg1, IAudioFifo jarg1_);
+  public final static native int IAudioFifo_getFrameSize(long jarg1, IAudioFifo jarg1_);
+  public final static native int IAudioFifo_getNumSamples(long jarg1, IAudioFifo jarg1_);
+  public final static native long IAudioFifo_getNextPts(long jarg1, IAudioFifo jarg1_);
+  public final static native int IAudioFifo_write(long jarg1, IAudioFifo jarg1_, long jarg2, IAudioSamples jarg2_);
+  public final static native int IAudioFifo_read(long jarg1, IAudioFifo jarg1_, long jarg2, IAudioSamples jarg2_);
+  public final static native int IAudioFifo_drain(long jarg1, IAudioFifo jarg1_, long jarg2, IAudioSamples jarg2_);
+  public final static native void IAudioFifo_clear(long jarg1, IAudioFifo jarg1_);
+  public final static native long IAudioFifo_make(int jarg1, int jarg2, int jarg3, int jarg4);
   public final static native int IVideoResampler_getInputWidth(long jarg1, IVideoResampler jarg1_);
   public final static native int IVideoResampler_getInputHeight(long jarg1, IVideoResampler jarg1_);
   public final static native int IVideoResampler_getInputPixelFormat(long jarg1, IVideoResampler jarg1_);
@@ -337,6 +350,11 @@ class XugglerJNI {
   public final static native long IVideoResampler_make(int jarg1, int jarg2, int jarg3, int jarg4, int jarg5, int jarg6);
   public final static native boolean IVideoResampler_isSupported(int jarg1);
   public final static native int IVideoResampler_setProperty__SWIG_5(long jarg1, IVideoResampler jarg1_, long jarg2, IMetaData jarg2_, long jarg3, IMetaData jarg3_);
+  public final static native int IVideoResampler_getNumSlices(long jarg1, IVideoResampler jarg1_);
+  public final static native int IVideoResampler_setNumSlices(long jarg1, IVideoResampler jarg1_, int jarg2);
+  public final static native int IVideoResampler_beginSlices(long jarg1, IVideoResampler jarg1_, long jarg2, IVideoPicture jarg2_, long jarg3, IVideoPicture jarg3_);
+  public final static native int IVideoResampler_resampleSlice(long jarg1, IVideoResampler jarg1_, long jarg2, IVideoPicture jarg2_, long jarg3, IVideoPicture jarg3_, int jarg4);
+  public final static native int IVideoResampler_endSlices(long jarg1, IVideoResampler jarg1_, long jarg2, IVideoPicture jarg2_, long jarg3, IVideoPicture jarg3_, boolean jarg4);
   public final static native int IStreamCoder_FLAG_QSCALE_get();
   public final static native int IStreamCoder_FLAG_4MV_get();
   public final static native int IStreamCoder_FLAG_QPEL_get();
@@ -448,6 +466,27 @@ class XugglerJNI {
   public final static native long IStreamCoder_make__SWIG_2(int jarg1, long jarg2, ICodec jarg2_);
   public final static native long IStreamCoder_make__SWIG_3(int jarg1, int jarg2);
   public final static native int IStreamCoder_setProperty__SWIG_5(long jarg1, IStreamCoder jarg1_, long jarg2, IMetaData jarg2_, long jarg3, IMetaData jarg3_);
+  public final static native int IStreamCoder_THREAD_TYPE_NONE_get();
+  public final static native int IStreamCoder_THREAD_TYPE_FRAME_get();
+  public final static native int IStreamCoder_THREAD_TYPE_SLICE_get();
+  public final static native int IStreamCoder_THREAD_TYPE_FRAME_AND_SLICE_get();
+  public final static native int IStreamCoder_getNumThreads(long jarg1, IStreamCoder jarg1_);
+  public final static native int IStreamCoder_setNumThreads(long jarg1, IStreamCoder jarg1_, int jarg2);
+  public final static native int IStreamCoder_getThreadType(long jarg1, IStreamCoder jarg1_);
+  public final static native int IStreamCoder_setThreadType(long jarg1, IStreamCoder jarg1_, int jarg2);
+  public final static native int IStreamCoder_getActiveThreadType(long jarg1, IStreamCoder jarg1_);
+  public final static native boolean IStreamCoder_getZeroCopyDecoding(long jarg1, IStreamCoder jarg1_);
+  public final static native int IStreamCoder_setZeroCopyDecoding(long jarg1, IStreamCoder jarg1_, boolean jarg2);
+  public final static native int IStreamCoder_DISCARD_NONE_get();
+  public final static native int IStreamCoder_DISCARD_DEFAULT_get();
+  public final static native int IStreamCoder_DISCARD_NONREF_get();
+  public final static native int IStreamCoder_DISCARD_BIDIR_get();
+  public final static native int IStreamCoder_DISCARD_NONKEY_get();
+  public final static native int IStreamCoder_DISCARD_ALL_get();
+  public final static native int IStreamCoder_getSkipFrame(long jarg1, IStreamCoder jarg1_);
+  public final static native int IStreamCoder_setSkipFrame(long jarg1, IStreamCoder jarg1_, int jarg2);
+  public final static native int IStreamCoder_getSkipLoopFilter(long jarg1, IStreamCoder jarg1_);
+  public final static native int IStreamCoder_setSkipLoopFilter(long jarg1, IStreamCoder jarg1_, int jarg2);
   public final static native int IIndexEntry_IINDEX_FLAG_KEYFRAME_get();
   public final static native long IIndexEntry_make(long jarg1, long jarg2, int jarg3, int jarg4, int jarg5);
   public final static native long IIndexEntry_getPosition(long jarg1, IIndexEntry jarg1_);
@@ -484,6 +523,7 @@ class XugglerJNI {
   public final static native long IStream_getIndexEntry(long jarg1, IStream jarg1_, int jarg2);
   public final static native int IStream_addIndexEntry(long jarg1, IStream jarg1_, long jarg2, IIndexEntry jarg2_);
   public final static native void IStream_setId(long jarg1, IStream jarg1_, int jarg2);
+  public final static native int IStream_copyIndexEntries(long jarg1, IStream jarg1_, int jarg2, long[] jarg3, long[] jarg4, int[] jarg5, int[] jarg6);
   public final static native int IContainerFormat_setInputFormat(long jarg1, IContainerFormat jarg1_, String jarg2);
   public final static native int IContainerFormat_setOutputFormat(long jarg1, IContainerFormat jarg1_, String jarg2, String jarg3, String jarg4);
   public final static native String IContainerFormat_getInputFormatShortName(long jarg1, IContainerFormat jarg1_);
@@ -599,6 +639,14 @@ class XugglerJNI {
   public final static native int IContainer_setFormat(long jarg1, IContainer jarg1_, long jarg2, IContainerFormat jarg2_);
   public final static native long IContainer_make__SWIG_1(long jarg1, IContainerFormat jarg1_);
   public final static native int IContainer_open__SWIG_2(long jarg1, IContainer jarg1_, String jarg2, int jarg3, long jarg4, IContainerFormat jarg4_, boolean jarg5, boolean jarg6, long jarg7, IMetaData jarg7_, long jarg8, IMetaData jarg8_);
+  public final static native boolean IContainer_getZeroCopyReading(long jarg1, IContainer jarg1_);
+  public final static native void IContainer_setZeroCopyReading(long jarg1, IContainer jarg1_, boolean jarg2);
+  public final static native int IContainer_decodeNextFrame(long jarg1, IContainer jarg1_, int jarg2, long jarg3, IMediaData jarg3_);
+  public final static native int IContainer_FRAME_INFO_STRIDE_get();
+  public final static native int IContainer_FRAME_INFO_TIMESTAMP_get();
+  public final static native int IContainer_FRAME_INFO_KEY_get();
+  public final static native int IContainer_FRAME_INFO_NUM_SAMPLES_get();
+  public final static native int IContainer_decodeNextFrames(long jarg1, IContainer jarg1_, int jarg2, Object[] jarg3, long[] jarg4, long[] jarg5);
   public final static native void IMediaDataWrapper_wrap(long jarg1, IMediaDataWrapper jarg1_, long jarg2, IMediaData jarg2_);
   public final static native void IMediaDataWrapper_setKey(long jarg1, IMediaDataWrapper jarg1_, boolean jarg2);
   public final static native long IMediaDataWrapper_make(long jarg1, IMediaData jarg1_);
@@ -641,6 +689,7 @@ class XugglerJNI {
   public final static native long SWIGIVideoPictureUpcast(long jarg1);
   public final static native long SWIGICodecUpcast(long jarg1);
   public final static native long SWIGIAudioResamplerUpcast(long jarg1);
+  public final static native long SWIGIAudioFifoUpcast(long jarg1);
   public final static native long SWIGIVideoResamplerUpcast(long jarg1);
   public final static native long SWIGIStreamCoderUpcast(long jarg1);
   public final static native long SWIGIIndexEntryUpcast(long jarg1);
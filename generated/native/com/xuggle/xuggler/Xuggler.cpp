@@ -220,6 +220,7 @@ static void SWIGUNUSED SWIG_JavaThrowException(JNIEnv *jenv, SWIG_JavaExceptionC
 #include <com/xuggle/xuggler/IPacket.h>
 #include <com/xuggle/xuggler/IIndexEntry.h>
 #include <com/xuggle/xuggler/IAudioResampler.h>
+#include <com/xuggle/xuggler/IAudioFifo.h>
 #include <com/xuggle/xuggler/IVideoPicture.h>
 #include <com/xuggle/xuggler/IVideoResampler.h>
 #include <com/xuggle/xuggler/IStreamCoder.h>
@@ -282,6 +283,138 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IMediaData_1getData(
 }
 }
 
+SWIGINTERN int32_t com_xuggle_xuggler_IAudioSamples_copyToFloatArray(com::xuggle::xuggler::IAudioSamples *self,int32_t channel,jfloatArray samples,int32_t offset,int32_t numSamples){
+      JNIEnv* env = com::xuggle::ferry::JNIHelper::sGetEnv();
+      if (!env || env->ExceptionCheck() || !samples || offset < 0)
+        return -1;
+      int32_t values = numSamples * (channel < 0 ? self->getChannels() : 1);
+      if (offset + values > env->GetArrayLength(samples))
+        return -1;
+
+      jfloat* floats = env->GetFloatArrayElements(samples, 0);
+      if (!floats)
+        return -1;
+      int32_t retval = self->getFloatSamples(channel, floats + offset,
+          numSamples);
+      // only copy back if we filled something in
+      env->ReleaseFloatArrayElements(samples, floats,
+          retval > 0 ? 0 : JNI_ABORT);
+      return retval;
+    }
+SWIGINTERN int32_t com_xuggle_xuggler_IAudioSamples_copyFromFloatArray(com::xuggle::xuggler::IAudioSamples *self,int32_t channel,jfloatArray samples,int32_t offset,int32_t numSamples){
+      JNIEnv* env = com::xuggle::ferry::JNIHelper::sGetEnv();
+      if (!env || env->ExceptionCheck() || !samples || offset < 0)
+        return -1;
+      int32_t values = numSamples * (channel < 0 ? self->getChannels() : 1);
+      if (offset + values > env->GetArrayLength(samples))
+        return -1;
+
+      jfloat* floats = env->GetFloatArrayElements(samples, 0);
+      if (!floats)
+        return -1;
+      int32_t retval = self->setFloatSamples(channel, floats + offset,
+          numSamples);
+      env->ReleaseFloatArrayElements(samples, floats, JNI_ABORT);
+      return retval;
+    }
+SWIGINTERN int32_t com_xuggle_xuggler_IStream_copyIndexEntries(com::xuggle::xuggler::IStream *self,int32_t start,jlongArray timeStamps,jlongArray positions,jintArray sizes,jintArray flags){
+      JNIEnv* env = com::xuggle::ferry::JNIHelper::sGetEnv();
+      if (!env || env->ExceptionCheck())
+        return -1;
+
+      // copy as many entries as fit in the shortest array we got
+      jarray arrays[] = { timeStamps, positions, sizes, flags };
+      jsize count = -1;
+      for(int i = 0; i < 4; i++)
+      {
+        if (!arrays[i])
+          continue;
+        jsize length = env->GetArrayLength(arrays[i]);
+        if (count < 0 || length < count)
+          count = length;
+      }
+      if (count <= 0)
+        return 0;
+
+      jlong* timeStampValues = timeStamps ?
+          env->GetLongArrayElements(timeStamps, 0) : 0;
+      jlong* positionValues = positions ?
+          env->GetLongArrayElements(positions, 0) : 0;
+      jint* sizeValues = sizes ? env->GetIntArrayElements(sizes, 0) : 0;
+      jint* flagValues = flags ? env->GetIntArrayElements(flags, 0) : 0;
+
+      int32_t retval = -1;
+      if ((!timeStamps || timeStampValues) && (!positions || positionValues)
+          && (!sizes || sizeValues) && (!flags || flagValues))
+        retval = self->getIndexEntries(start, count,
+            (int64_t*)timeStampValues, (int64_t*)positionValues,
+            (int32_t*)sizeValues, (int32_t*)flagValues);
+
+      // only copy back if we filled something in
+      jint mode = retval > 0 ? 0 : JNI_ABORT;
+      if (timeStampValues)
+        env->ReleaseLongArrayElements(timeStamps, timeStampValues, mode);
+      if (positionValues)
+        env->ReleaseLongArrayElements(positions, positionValues, mode);
+      if (sizeValues)
+        env->ReleaseIntArrayElements(sizes, sizeValues, mode);
+      if (flagValues)
+        env->ReleaseIntArrayElements(flags, flagValues, mode);
+      return retval;
+    }
+SWIGINTERN int32_t com_xuggle_xuggler_IContainer_decodeNextFrames(com::xuggle::xuggler::IContainer *self,int32_t streamIndex,jobjectArray frames,jlongArray framePointers,jlongArray info){
+      // frames is only passed in to keep the Java objects alive.
+      (void) frames;
+      JNIEnv* env = com::xuggle::ferry::JNIHelper::sGetEnv();
+      if (!env || env->ExceptionCheck() || !framePointers)
+        return -1;
+      jsize numFrames = env->GetArrayLength(framePointers);
+      if (numFrames <= 0)
+        return 0;
+      jlong* pointers = env->GetLongArrayElements(framePointers, 0);
+      if (!pointers)
+        return -1;
+      jlong* values = info ? env->GetLongArrayElements(info, 0) : 0;
+      if (info && !values)
+      {
+        env->ReleaseLongArrayElements(framePointers, pointers, JNI_ABORT);
+        return -1;
+      }
+
+      int32_t retval = 0;
+      int32_t numDecoded = 0;
+      try
+      {
+        for(; numDecoded < numFrames; numDecoded++)
+        {
+          IMediaData* frame = *(IMediaData**)&pointers[numDecoded];
+          retval = self->decodeNextFrame(streamIndex, frame);
+          if (retval < 0)
+            break;
+          if (values)
+          {
+            jlong* frameInfo =
+              values + numDecoded*IContainer::FRAME_INFO_STRIDE;
+            IAudioSamples* samples = dynamic_cast<IAudioSamples*>(frame);
+            frameInfo[IContainer::FRAME_INFO_TIMESTAMP] = frame->getTimeStamp();
+            frameInfo[IContainer::FRAME_INFO_KEY] = frame->isKey() ? 1 : 0;
+            frameInfo[IContainer::FRAME_INFO_NUM_SAMPLES] =
+              samples ? samples->getNumSamples() : 0;
+          }
+        }
+      }
+      catch (...)
+      {
+        if (values)
+          env->ReleaseLongArrayElements(info, values, 0);
+        env->ReleaseLongArrayElements(framePointers, pointers, JNI_ABORT);
+        throw;
+      }
+      if (values)
+        env->ReleaseLongArrayElements(info, values, 0);
+      env->ReleaseLongArrayElements(framePointers, pointers, JNI_ABORT);
+      return numDecoded > 0 ? numDecoded : retval;
+    }
 SWIGINTERN com::xuggle::xuggler::IPacket *com_xuggle_xuggler_IMediaDataWrapper_getPacket(com::xuggle::xuggler::IMediaDataWrapper *self){
       IMediaData* data = self->get();
       IPacket* retval = dynamic_cast<IPacket*>(data);
@@ -9525,244 +9658,23 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioSamples_1make_
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1isKeyFrame(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jboolean jresult = 0 ;
-  com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  bool result;
-  
-  (void)jenv;
-  (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      result = (bool)(arg1)->isKeyFrame();
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return 0;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return 0;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
-  }
-  jresult = (jboolean)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setKeyFrame(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jboolean jarg2) {
-  com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  bool arg2 ;
-  
-  (void)jenv;
-  (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
-  arg2 = jarg2 ? true : false; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return ;
-  }
-  
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      (arg1)->setKeyFrame(arg2);
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return ;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return ;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return ;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return ;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
-  }
-}
-
-
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1isComplete(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jboolean jresult = 0 ;
-  com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  bool result;
-  
-  (void)jenv;
-  (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      result = (bool)(arg1)->isComplete();
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return 0;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return 0;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
-  }
-  jresult = (jboolean)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioSamples_1copyToFloatArray(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jfloatArray jarg3, jint jarg4, jint jarg5) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  com::xuggle::xuggler::IAudioSamples *arg1 = (com::xuggle::xuggler::IAudioSamples *) 0 ;
+  int32_t arg2 ;
+  jfloatArray arg3 ;
+  int32_t arg4 ;
+  int32_t arg5 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IAudioSamples **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
+  arg3 = jarg3; 
+  arg4 = (int32_t)jarg4; 
+  arg5 = (int32_t)jarg5; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -9775,7 +9687,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getSiz
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getSize();
+      result = (int32_t)com_xuggle_xuggler_IAudioSamples_copyToFloatArray(arg1,arg2,arg3,arg4,arg5);
     }
     catch(std::invalid_argument & e)
     {
@@ -9831,15 +9743,23 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getSiz
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getWidth(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioSamples_1copyFromFloatArray(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jfloatArray jarg3, jint jarg4, jint jarg5) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  int result;
+  com::xuggle::xuggler::IAudioSamples *arg1 = (com::xuggle::xuggler::IAudioSamples *) 0 ;
+  int32_t arg2 ;
+  jfloatArray arg3 ;
+  int32_t arg4 ;
+  int32_t arg5 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IAudioSamples **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
+  arg3 = jarg3; 
+  arg4 = (int32_t)jarg4; 
+  arg5 = (int32_t)jarg5; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -9852,7 +9772,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getWid
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int)(arg1)->getWidth();
+      result = (int32_t)com_xuggle_xuggler_IAudioSamples_copyFromFloatArray(arg1,arg2,arg3,arg4,arg5);
     }
     catch(std::invalid_argument & e)
     {
@@ -9908,10 +9828,10 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getWid
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getHeight(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1isKeyFrame(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
   com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  int result;
+  bool result;
   
   (void)jenv;
   (void)jcls;
@@ -9929,7 +9849,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getHei
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int)(arg1)->getHeight();
+      result = (bool)(arg1)->isKeyFrame();
     }
     catch(std::invalid_argument & e)
     {
@@ -9980,15 +9900,90 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getHei
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getPixelType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setKeyFrame(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jboolean jarg2) {
   com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  com::xuggle::xuggler::IPixelFormat::Type result;
+  bool arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
+  arg2 = jarg2 ? true : false; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      (arg1)->setKeyFrame(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1isComplete(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
@@ -10006,7 +10001,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getPix
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IPixelFormat::Type)(arg1)->getPixelType();
+      result = (bool)(arg1)->isComplete();
     }
     catch(std::invalid_argument & e)
     {
@@ -10057,15 +10052,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getPix
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getPts(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  int64_t result;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
@@ -10083,7 +10078,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getPt
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getPts();
+      result = (int32_t)(arg1)->getSize();
     }
     catch(std::invalid_argument & e)
     {
@@ -10134,25 +10129,25 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getPt
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setPts(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getWidth(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  int64_t arg2 ;
+  int result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
-  arg2 = (int64_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -10160,7 +10155,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setPts
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setPts(arg2);
+      result = (int)(arg1)->getWidth();
     }
     catch(std::invalid_argument & e)
     {
@@ -10170,7 +10165,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setPts
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -10186,7 +10181,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setPts
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -10196,7 +10191,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setPts
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -10206,15 +10201,17 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setPts
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getQuality(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getHeight(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
   int result;
@@ -10235,7 +10232,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getQua
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int)(arg1)->getQuality();
+      result = (int)(arg1)->getHeight();
     }
     catch(std::invalid_argument & e)
     {
@@ -10291,20 +10288,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getQua
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setQuality(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getPixelType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  int arg2 ;
+  com::xuggle::xuggler::IPixelFormat::Type result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
-  arg2 = (int)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -10312,7 +10309,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setQua
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setQuality(arg2);
+      result = (com::xuggle::xuggler::IPixelFormat::Type)(arg1)->getPixelType();
     }
     catch(std::invalid_argument & e)
     {
@@ -10322,7 +10319,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setQua
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -10338,7 +10335,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setQua
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -10348,7 +10345,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setQua
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -10358,25 +10355,25 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setQua
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getDataLineSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getPts(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  int arg2 ;
-  int result;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
-  arg2 = (int)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -10389,7 +10386,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getDat
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int)(arg1)->getDataLineSize(arg2);
+      result = (int64_t)(arg1)->getPts();
     }
     catch(std::invalid_argument & e)
     {
@@ -10440,28 +10437,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getDat
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setComplete(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jboolean jarg2, jint jarg3, jint jarg4, jint jarg5, jlong jarg6) {
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setPts(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2) {
   com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  bool arg2 ;
-  com::xuggle::xuggler::IPixelFormat::Type arg3 ;
-  int arg4 ;
-  int arg5 ;
-  int64_t arg6 ;
+  int64_t arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
-  arg2 = jarg2 ? true : false; 
-  arg3 = (com::xuggle::xuggler::IPixelFormat::Type)jarg3; 
-  arg4 = (int)jarg4; 
-  arg5 = (int)jarg5; 
-  arg6 = (int64_t)jarg6; 
+  arg2 = (int64_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -10474,7 +10463,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setCom
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setComplete(arg2,arg3,arg4,arg5,arg6);
+      (arg1)->setPts(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -10528,18 +10517,15 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setCom
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1copy(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getQuality(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  com::xuggle::xuggler::IVideoPicture *arg2 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  bool result;
+  int result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IVideoPicture **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -10552,7 +10538,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1co
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->copy(arg2);
+      result = (int)(arg1)->getQuality();
     }
     catch(std::invalid_argument & e)
     {
@@ -10603,29 +10589,346 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1co
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1make_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jint jarg1, jint jarg2, jint jarg3) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IPixelFormat::Type arg1 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setQuality(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
   int arg2 ;
-  int arg3 ;
-  com::xuggle::xuggler::IVideoPicture *result = 0 ;
   
   (void)jenv;
   (void)jcls;
-  arg1 = (com::xuggle::xuggler::IPixelFormat::Type)jarg1; 
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
   arg2 = (int)jarg2; 
-  arg3 = (int)jarg3; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IVideoPicture *)com::xuggle::xuggler::IVideoPicture::make(arg1,arg2,arg3);
+      (arg1)->setQuality(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1getDataLineSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  int arg2 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
+  arg2 = (int)jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int)(arg1)->getDataLineSize(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1setComplete(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jboolean jarg2, jint jarg3, jint jarg4, jint jarg5, jlong jarg6) {
+  com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  bool arg2 ;
+  com::xuggle::xuggler::IPixelFormat::Type arg3 ;
+  int arg4 ;
+  int arg5 ;
+  int64_t arg6 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
+  arg2 = jarg2 ? true : false; 
+  arg3 = (com::xuggle::xuggler::IPixelFormat::Type)jarg3; 
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  arg6 = (int64_t)jarg6; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      (arg1)->setComplete(arg2,arg3,arg4,arg5,arg6);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1copy(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jboolean jresult = 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg1 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg2 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(com::xuggle::xuggler::IVideoPicture **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IVideoPicture **)&jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (bool)(arg1)->copy(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoPicture_1make_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jint jarg1, jint jarg2, jint jarg3) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IPixelFormat::Type arg1 ;
+  int arg2 ;
+  int arg3 ;
+  com::xuggle::xuggler::IVideoPicture *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (com::xuggle::xuggler::IPixelFormat::Type)jarg1; 
+  arg2 = (int)jarg2; 
+  arg3 = (int)jarg3; 
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::IVideoPicture *)com::xuggle::xuggler::IVideoPicture::make(arg1,arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -14986,15 +15289,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioResampler_1getM
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getInputWidth(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioFifo_1getChannels(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  com::xuggle::xuggler::IAudioFifo *arg1 = (com::xuggle::xuggler::IAudioFifo *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IAudioFifo **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -15007,7 +15310,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getI
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getInputWidth();
+      result = (int32_t)(arg1)->getChannels();
     }
     catch(std::invalid_argument & e)
     {
@@ -15063,15 +15366,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getI
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getInputHeight(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioFifo_1getSampleRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  com::xuggle::xuggler::IAudioFifo *arg1 = (com::xuggle::xuggler::IAudioFifo *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IAudioFifo **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -15084,7 +15387,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getI
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getInputHeight();
+      result = (int32_t)(arg1)->getSampleRate();
     }
     catch(std::invalid_argument & e)
     {
@@ -15140,15 +15443,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getI
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getInputPixelFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioFifo_1getFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  com::xuggle::xuggler::IPixelFormat::Type result;
+  com::xuggle::xuggler::IAudioFifo *arg1 = (com::xuggle::xuggler::IAudioFifo *) 0 ;
+  com::xuggle::xuggler::IAudioSamples::Format result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IAudioFifo **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -15161,7 +15464,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getI
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IPixelFormat::Type)(arg1)->getInputPixelFormat();
+      result = (com::xuggle::xuggler::IAudioSamples::Format)(arg1)->getFormat();
     }
     catch(std::invalid_argument & e)
     {
@@ -15217,15 +15520,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getI
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getOutputWidth(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioFifo_1getFrameSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  com::xuggle::xuggler::IAudioFifo *arg1 = (com::xuggle::xuggler::IAudioFifo *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IAudioFifo **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -15238,7 +15541,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getO
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getOutputWidth();
+      result = (int32_t)(arg1)->getFrameSize();
     }
     catch(std::invalid_argument & e)
     {
@@ -15294,15 +15597,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getO
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getOutputHeight(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioFifo_1getNumSamples(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  com::xuggle::xuggler::IAudioFifo *arg1 = (com::xuggle::xuggler::IAudioFifo *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IAudioFifo **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -15315,7 +15618,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getO
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getOutputHeight();
+      result = (int32_t)(arg1)->getNumSamples();
     }
     catch(std::invalid_argument & e)
     {
@@ -15371,15 +15674,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getO
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getOutputPixelFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  com::xuggle::xuggler::IPixelFormat::Type result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioFifo_1getNextPts(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IAudioFifo *arg1 = (com::xuggle::xuggler::IAudioFifo *) 0 ;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IAudioFifo **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -15392,7 +15695,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getO
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IPixelFormat::Type)(arg1)->getOutputPixelFormat();
+      result = (int64_t)(arg1)->getNextPts();
     }
     catch(std::invalid_argument & e)
     {
@@ -15443,26 +15746,23 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getO
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1resample(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioFifo_1write(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  com::xuggle::xuggler::IVideoPicture *arg2 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  com::xuggle::xuggler::IVideoPicture *arg3 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  com::xuggle::xuggler::IAudioFifo *arg1 = (com::xuggle::xuggler::IAudioFifo *) 0 ;
+  com::xuggle::xuggler::IAudioSamples *arg2 = (com::xuggle::xuggler::IAudioSamples *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
-  (void)jarg3_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IVideoPicture **)&jarg2; 
-  arg3 = *(com::xuggle::xuggler::IVideoPicture **)&jarg3; 
+  arg1 = *(com::xuggle::xuggler::IAudioFifo **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IAudioSamples **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -15475,7 +15775,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1resa
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->resample(arg2,arg3);
+      result = (int32_t)(arg1)->write(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -15531,15 +15831,18 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1resa
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getNumProperties(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioFifo_1read(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  com::xuggle::xuggler::IAudioFifo *arg1 = (com::xuggle::xuggler::IAudioFifo *) 0 ;
+  com::xuggle::xuggler::IAudioSamples *arg2 = (com::xuggle::xuggler::IAudioSamples *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  (void)jarg2_;
+  arg1 = *(com::xuggle::xuggler::IAudioFifo **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IAudioSamples **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -15552,7 +15855,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getN
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getNumProperties();
+      result = (int32_t)(arg1)->read(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -15608,17 +15911,18 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getN
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyMetaData_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  int32_t arg2 ;
-  com::xuggle::xuggler::IProperty *result = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioFifo_1drain(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IAudioFifo *arg1 = (com::xuggle::xuggler::IAudioFifo *) 0 ;
+  com::xuggle::xuggler::IAudioSamples *arg2 = (com::xuggle::xuggler::IAudioSamples *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  (void)jarg2_;
+  arg1 = *(com::xuggle::xuggler::IAudioFifo **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IAudioSamples **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -15631,7 +15935,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData(arg2);
+      result = (int32_t)(arg1)->drain(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -15682,31 +15986,23 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyMetaData_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IProperty *result = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioFifo_1clear(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  com::xuggle::xuggler::IAudioFifo *arg1 = (com::xuggle::xuggler::IAudioFifo *) 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
+  arg1 = *(com::xuggle::xuggler::IAudioFifo **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -15714,7 +16010,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData((char const *)arg2);
+      (arg1)->clear();
     }
     catch(std::invalid_argument & e)
     {
@@ -15724,7 +16020,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1get
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -15740,7 +16036,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1get
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -15750,7 +16046,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1get
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -15760,51 +16056,34 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1get
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
-  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jstring jarg3) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  char *arg2 = (char *) 0 ;
-  char *arg3 = (char *) 0 ;
-  int32_t result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IAudioFifo_1make(JNIEnv *jenv, jclass jcls, jint jarg1, jint jarg2, jint jarg3, jint jarg4) {
+  jlong jresult = 0 ;
+  int32_t arg1 ;
+  int32_t arg2 ;
+  com::xuggle::xuggler::IAudioSamples::Format arg3 ;
+  int32_t arg4 ;
+  com::xuggle::xuggler::IAudioFifo *result = 0 ;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = 0;
-  if (jarg3) {
-    arg3 = (char *)jenv->GetStringUTFChars(jarg3, 0);
-    if (!arg3) return 0;
-  }
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
+  arg1 = (int32_t)jarg1; 
+  arg2 = (int32_t)jarg2; 
+  arg3 = (com::xuggle::xuggler::IAudioSamples::Format)jarg3; 
+  arg4 = (int32_t)jarg4; 
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,(char const *)arg3);
+      result = (com::xuggle::xuggler::IAudioFifo *)com::xuggle::xuggler::IAudioFifo::make(arg1,arg2,arg3,arg4);
     }
     catch(std::invalid_argument & e)
     {
@@ -15855,30 +16134,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
-  if (arg3) jenv->ReleaseStringUTFChars(jarg3, (const char *)arg3);
+  *(com::xuggle::xuggler::IAudioFifo **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jdouble jarg3) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getInputWidth(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  char *arg2 = (char *) 0 ;
-  double arg3 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = (double)jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -15891,7 +16160,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (int32_t)(arg1)->getInputWidth();
     }
     catch(std::invalid_argument & e)
     {
@@ -15943,28 +16212,19 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getInputHeight(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  char *arg2 = (char *) 0 ;
-  int64_t arg3 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = (int64_t)jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -15977,7 +16237,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (int32_t)(arg1)->getInputHeight();
     }
     catch(std::invalid_argument & e)
     {
@@ -16029,28 +16289,19 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jboolean jarg3) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getInputPixelFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  char *arg2 = (char *) 0 ;
-  bool arg3 ;
-  int32_t result;
+  com::xuggle::xuggler::IPixelFormat::Type result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -16063,7 +16314,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (com::xuggle::xuggler::IPixelFormat::Type)(arg1)->getInputPixelFormat();
     }
     catch(std::invalid_argument & e)
     {
@@ -16115,29 +16366,19 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_14(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3, jobject jarg3_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getOutputWidth(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IRational *arg3 = (com::xuggle::xuggler::IRational *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = *(com::xuggle::xuggler::IRational **)&jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -16150,7 +16391,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (int32_t)(arg1)->getOutputWidth();
     }
     catch(std::invalid_argument & e)
     {
@@ -16202,26 +16443,19 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyAsString(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jstring jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getOutputHeight(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  char *arg2 = (char *) 0 ;
-  char *result = 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -16234,7 +16468,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1g
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (char *)(arg1)->getPropertyAsString((char const *)arg2);
+      result = (int32_t)(arg1)->getOutputHeight();
     }
     catch(std::invalid_argument & e)
     {
@@ -16285,28 +16519,20 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1g
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  if(result) jresult = jenv->NewStringUTF((const char *)result);
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
-  free(result);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyAsDouble(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jdouble jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getOutputPixelFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  char *arg2 = (char *) 0 ;
-  double result;
+  com::xuggle::xuggler::IPixelFormat::Type result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -16319,7 +16545,7 @@ SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1g
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (double)(arg1)->getPropertyAsDouble((char const *)arg2);
+      result = (com::xuggle::xuggler::IPixelFormat::Type)(arg1)->getOutputPixelFormat();
     }
     catch(std::invalid_argument & e)
     {
@@ -16370,27 +16596,26 @@ SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1g
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jdouble)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyAsLong(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1resample(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  char *arg2 = (char *) 0 ;
-  int64_t result;
+  com::xuggle::xuggler::IVideoPicture *arg2 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg3 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
+  arg2 = *(com::xuggle::xuggler::IVideoPicture **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IVideoPicture **)&jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -16403,7 +16628,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getPropertyAsLong((char const *)arg2);
+      result = (int32_t)(arg1)->resample(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -16454,27 +16679,20 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyAsRational(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getNumProperties(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IRational *result = 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -16487,7 +16705,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IRational *)(arg1)->getPropertyAsRational((char const *)arg2);
+      result = (int32_t)(arg1)->getNumProperties();
     }
     catch(std::invalid_argument & e)
     {
@@ -16538,27 +16756,22 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IRational **)&jresult = result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyAsBoolean(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyMetaData_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  char *arg2 = (char *) 0 ;
-  bool result;
+  int32_t arg2 ;
+  com::xuggle::xuggler::IProperty *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -16571,7 +16784,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->getPropertyAsBoolean((char const *)arg2);
+      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -16622,36 +16835,3359 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyMetaData_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  char *arg2 = (char *) 0 ;
+  com::xuggle::xuggler::IProperty *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData((char const *)arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jstring jarg3) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  char *arg2 = (char *) 0 ;
+  char *arg3 = (char *) 0 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = 0;
+  if (jarg3) {
+    arg3 = (char *)jenv->GetStringUTFChars(jarg3, 0);
+    if (!arg3) return 0;
+  }
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,(char const *)arg3);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  if (arg3) jenv->ReleaseStringUTFChars(jarg3, (const char *)arg3);
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jdouble jarg3) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  char *arg2 = (char *) 0 ;
+  double arg3 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = (double)jarg3; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  char *arg2 = (char *) 0 ;
+  int64_t arg3 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = (int64_t)jarg3; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jboolean jarg3) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  char *arg2 = (char *) 0 ;
+  bool arg3 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = jarg3 ? true : false; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
   if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1make(JNIEnv *jenv, jclass jcls, jint jarg1, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jint jarg6) {
-  jlong jresult = 0 ;
-  int32_t arg1 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_14(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3, jobject jarg3_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  char *arg2 = (char *) 0 ;
+  com::xuggle::xuggler::IRational *arg3 = (com::xuggle::xuggler::IRational *) 0 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg3_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = *(com::xuggle::xuggler::IRational **)&jarg3; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
+}
+
+
+SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyAsString(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jstring jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  char *arg2 = (char *) 0 ;
+  char *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (char *)(arg1)->getPropertyAsString((char const *)arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  if(result) jresult = jenv->NewStringUTF((const char *)result);
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  free(result);
+  return jresult;
+}
+
+
+SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyAsDouble(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jdouble jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  char *arg2 = (char *) 0 ;
+  double result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (double)(arg1)->getPropertyAsDouble((char const *)arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jdouble)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyAsLong(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  char *arg2 = (char *) 0 ;
+  int64_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int64_t)(arg1)->getPropertyAsLong((char const *)arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jlong)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyAsRational(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  char *arg2 = (char *) 0 ;
+  com::xuggle::xuggler::IRational *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::IRational *)(arg1)->getPropertyAsRational((char const *)arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  *(com::xuggle::xuggler::IRational **)&jresult = result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getPropertyAsBoolean(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jboolean jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  char *arg2 = (char *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (bool)(arg1)->getPropertyAsBoolean((char const *)arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jboolean)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1make(JNIEnv *jenv, jclass jcls, jint jarg1, jint jarg2, jint jarg3, jint jarg4, jint jarg5, jint jarg6) {
+  jlong jresult = 0 ;
+  int32_t arg1 ;
+  int32_t arg2 ;
+  com::xuggle::xuggler::IPixelFormat::Type arg3 ;
+  int32_t arg4 ;
+  int32_t arg5 ;
+  com::xuggle::xuggler::IPixelFormat::Type arg6 ;
+  com::xuggle::xuggler::IVideoResampler *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int32_t)jarg1; 
+  arg2 = (int32_t)jarg2; 
+  arg3 = (com::xuggle::xuggler::IPixelFormat::Type)jarg3; 
+  arg4 = (int32_t)jarg4; 
+  arg5 = (int32_t)jarg5; 
+  arg6 = (com::xuggle::xuggler::IPixelFormat::Type)jarg6; 
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::IVideoResampler *)com::xuggle::xuggler::IVideoResampler::make(arg1,arg2,arg3,arg4,arg5,arg6);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  *(com::xuggle::xuggler::IVideoResampler **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1isSupported(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jboolean jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler::Feature arg1 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = (com::xuggle::xuggler::IVideoResampler::Feature)jarg1; 
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (bool)com::xuggle::xuggler::IVideoResampler::isSupported(arg1);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_15(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
+  com::xuggle::xuggler::IMetaData *arg3 = (com::xuggle::xuggler::IMetaData *) 0 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IMetaData **)&jarg3; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->setProperty(arg2,arg3);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1getNumSlices(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->getNumSlices();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setNumSlices(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  int32_t arg2 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->setNumSlices(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1beginSlices(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg2 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg3 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IVideoPicture **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IVideoPicture **)&jarg3; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->beginSlices(arg2,arg3);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1resampleSlice(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg2 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg3 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  int32_t arg4 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IVideoPicture **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IVideoPicture **)&jarg3; 
+  arg4 = (int32_t)jarg4; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->resampleSlice(arg2,arg3,arg4);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1endSlices(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jboolean jarg4) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg2 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg3 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  bool arg4 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
+  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IVideoPicture **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IVideoPicture **)&jarg3; 
+  arg4 = jarg4 ? true : false; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->endSlices(arg2,arg3,arg4);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1QSCALE_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_QSCALE;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_14MV_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_4MV;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1QPEL_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_QPEL;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1GMC_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_GMC;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1MV0_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_MV0;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1INPUT_1PRESERVED_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_INPUT_PRESERVED;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1PASS1_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_PASS1;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1PASS2_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_PASS2;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1GRAY_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_GRAY;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1EMU_1EDGE_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_EMU_EDGE;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1PSNR_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_PSNR;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1TRUNCATED_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_TRUNCATED;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1NORMALIZE_1AQP_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_NORMALIZE_AQP;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1INTERLACED_1DCT_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_INTERLACED_DCT;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1LOW_1DELAY_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_LOW_DELAY;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1GLOBAL_1HEADER_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_GLOBAL_HEADER;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1BITEXACT_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_BITEXACT;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1AC_1PRED_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_AC_PRED;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1CBP_1RD_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_CBP_RD;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1QP_1RD_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_QP_RD;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1LOOP_1FILTER_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_LOOP_FILTER;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1INTERLACED_1ME_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_INTERLACED_ME;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1CLOSED_1GOP_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_CLOSED_GOP;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1FAST_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_FAST;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1STRICT_1GOP_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_STRICT_GOP;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1NO_1OUTPUT_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_NO_OUTPUT;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1LOCAL_1HEADER_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_LOCAL_HEADER;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1SKIP_1RD_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_SKIP_RD;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1CHUNKS_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_CHUNKS;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1SHOW_1ALL_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_SHOW_ALL;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getDirection(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::IStreamCoder::Direction result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::IStreamCoder::Direction)(arg1)->getDirection();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getStream(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::IStream *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::IStream *)(arg1)->getStream();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  *(com::xuggle::xuggler::IStream **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::ICodec *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::ICodec *)(arg1)->getCodec();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  *(com::xuggle::xuggler::ICodec **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCodecType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::ICodec::Type result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::ICodec::Type)(arg1)->getCodecType();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCodecID(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::ICodec::ID result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::ICodec::ID)(arg1)->getCodecID();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCodec_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::ICodec *arg2 = (com::xuggle::xuggler::ICodec *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::ICodec **)&jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      (arg1)->setCodec(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCodec_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::ICodec::ID arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      (arg1)->setCodec(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getBitRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->getBitRate();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setBitRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  int32_t arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      (arg1)->setBitRate(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getBitRateTolerance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->getBitRateTolerance();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setBitRateTolerance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  int32_t arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      (arg1)->setBitRateTolerance(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getHeight(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->getHeight();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setHeight(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
   int32_t arg2 ;
-  com::xuggle::xuggler::IPixelFormat::Type arg3 ;
-  int32_t arg4 ;
-  int32_t arg5 ;
-  com::xuggle::xuggler::IPixelFormat::Type arg6 ;
-  com::xuggle::xuggler::IVideoResampler *result = 0 ;
   
   (void)jenv;
   (void)jcls;
-  arg1 = (int32_t)jarg1; 
-  arg2 = (int32_t)jarg2; 
-  arg3 = (com::xuggle::xuggler::IPixelFormat::Type)jarg3; 
-  arg4 = (int32_t)jarg4; 
-  arg5 = (int32_t)jarg5; 
-  arg6 = (com::xuggle::xuggler::IPixelFormat::Type)jarg6; 
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      (arg1)->setHeight(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getWidth(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  int32_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)(arg1)->getWidth();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setWidth(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  int32_t arg2 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      (arg1)->setWidth(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getTimeBase(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::IRational *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::IRational *)(arg1)->getTimeBase();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  *(com::xuggle::xuggler::IRational **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setTimeBase(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::IRational *arg2 = (com::xuggle::xuggler::IRational *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IRational **)&jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      (arg1)->setTimeBase(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getFrameRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::IRational *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::IRational *)(arg1)->getFrameRate();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  *(com::xuggle::xuggler::IRational **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFrameRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::IRational *arg2 = (com::xuggle::xuggler::IRational *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IRational **)&jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IVideoResampler *)com::xuggle::xuggler::IVideoResampler::make(arg1,arg2,arg3,arg4,arg5,arg6);
+      (arg1)->setFrameRate(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -16661,7 +20197,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1mak
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -16677,7 +20213,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1mak
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -16687,7 +20223,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1mak
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -16697,30 +20233,36 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1mak
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IVideoResampler **)&jresult = result; 
-  return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1isSupported(JNIEnv *jenv, jclass jcls, jint jarg1) {
-  jboolean jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler::Feature arg1 ;
-  bool result;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNumPicturesInGroupOfPictures(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
-  arg1 = (com::xuggle::xuggler::IVideoResampler::Feature)jarg1; 
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)com::xuggle::xuggler::IVideoResampler::isSupported(arg1);
+      result = (int32_t)(arg1)->getNumPicturesInGroupOfPictures();
     }
     catch(std::invalid_argument & e)
     {
@@ -16771,31 +20313,25 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setProperty_1_1SWIG_15(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IVideoResampler *arg1 = (com::xuggle::xuggler::IVideoResampler *) 0 ;
-  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
-  com::xuggle::xuggler::IMetaData *arg3 = (com::xuggle::xuggler::IMetaData *) 0 ;
-  int32_t result;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setNumPicturesInGroupOfPictures(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  int32_t arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  (void)jarg3_;
-  arg1 = *(com::xuggle::xuggler::IVideoResampler **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
-  arg3 = *(com::xuggle::xuggler::IMetaData **)&jarg3; 
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -16803,7 +20339,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty(arg2,arg3);
+      (arg1)->setNumPicturesInGroupOfPictures(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -16813,7 +20349,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -16829,7 +20365,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -16839,7 +20375,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -16849,380 +20385,18 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IVideoResampler_1setP
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1QSCALE_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_QSCALE;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_14MV_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_4MV;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1QPEL_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_QPEL;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1GMC_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_GMC;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1MV0_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_MV0;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1INPUT_1PRESERVED_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_INPUT_PRESERVED;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1PASS1_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_PASS1;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1PASS2_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_PASS2;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1GRAY_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_GRAY;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1EMU_1EDGE_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_EMU_EDGE;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1PSNR_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_PSNR;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1TRUNCATED_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_TRUNCATED;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1NORMALIZE_1AQP_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_NORMALIZE_AQP;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1INTERLACED_1DCT_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_INTERLACED_DCT;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1LOW_1DELAY_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_LOW_DELAY;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1GLOBAL_1HEADER_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_GLOBAL_HEADER;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1BITEXACT_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_BITEXACT;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1AC_1PRED_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_AC_PRED;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1CBP_1RD_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_CBP_RD;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1QP_1RD_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_QP_RD;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1LOOP_1FILTER_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_LOOP_FILTER;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1INTERLACED_1ME_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_INTERLACED_ME;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG_1CLOSED_1GOP_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG_CLOSED_GOP;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1FAST_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_FAST;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1STRICT_1GOP_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_STRICT_GOP;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1NO_1OUTPUT_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_NO_OUTPUT;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1LOCAL_1HEADER_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_LOCAL_HEADER;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1SKIP_1RD_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_SKIP_RD;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1CHUNKS_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_CHUNKS;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1FLAG2_1SHOW_1ALL_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::Flags)com::xuggle::xuggler::IStreamCoder::FLAG2_SHOW_ALL;
-  jresult = (jint)result; 
-  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getDirection(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPixelType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IStreamCoder::Direction result;
+  com::xuggle::xuggler::IPixelFormat::Type result;
   
   (void)jenv;
   (void)jcls;
@@ -17240,7 +20414,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getDire
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStreamCoder::Direction)(arg1)->getDirection();
+      result = (com::xuggle::xuggler::IPixelFormat::Type)(arg1)->getPixelType();
     }
     catch(std::invalid_argument & e)
     {
@@ -17296,20 +20470,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getDire
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getStream(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setPixelType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IStream *result = 0 ;
+  com::xuggle::xuggler::IPixelFormat::Type arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::IPixelFormat::Type)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -17317,7 +20491,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getStr
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStream *)(arg1)->getStream();
+      (arg1)->setPixelType(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -17327,7 +20501,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getStr
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -17343,7 +20517,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getStr
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -17353,7 +20527,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getStr
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -17363,20 +20537,18 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getStr
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IStream **)&jresult = result; 
-  return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSampleRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::ICodec *result = 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
@@ -17394,7 +20566,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCod
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::ICodec *)(arg1)->getCodec();
+      result = (int32_t)(arg1)->getSampleRate();
     }
     catch(std::invalid_argument & e)
     {
@@ -17445,25 +20617,25 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCod
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::ICodec **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCodecType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSampleRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::ICodec::Type result;
+  int32_t arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -17471,7 +20643,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::ICodec::Type)(arg1)->getCodecType();
+      (arg1)->setSampleRate(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -17481,7 +20653,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -17497,7 +20669,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -17507,7 +20679,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -17517,20 +20689,18 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCodecID(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSampleFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::ICodec::ID result;
+  com::xuggle::xuggler::IAudioSamples::Format result;
   
   (void)jenv;
   (void)jcls;
@@ -17548,7 +20718,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::ICodec::ID)(arg1)->getCodecID();
+      result = (com::xuggle::xuggler::IAudioSamples::Format)(arg1)->getSampleFormat();
     }
     catch(std::invalid_argument & e)
     {
@@ -17604,16 +20774,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCodec_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSampleFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::ICodec *arg2 = (com::xuggle::xuggler::ICodec *) 0 ;
+  com::xuggle::xuggler::IAudioSamples::Format arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::ICodec **)&jarg2; 
+  arg2 = (com::xuggle::xuggler::IAudioSamples::Format)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -17626,7 +20795,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setCodec(arg2);
+      (arg1)->setSampleFormat(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -17680,20 +20849,20 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCodec_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getChannels(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::ICodec::ID arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -17701,7 +20870,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setCodec(arg2);
+      result = (int32_t)(arg1)->getChannels();
     }
     catch(std::invalid_argument & e)
     {
@@ -17711,7 +20880,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -17727,7 +20896,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -17737,7 +20906,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -17747,28 +20916,30 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getBitRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setChannels(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t result;
+  int32_t arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -17776,7 +20947,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getBitR
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getBitRate();
+      (arg1)->setChannels(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -17786,7 +20957,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getBitR
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -17802,7 +20973,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getBitR
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -17812,7 +20983,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getBitR
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -17822,30 +20993,28 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getBitR
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setBitRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getAudioFrameSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -17853,7 +21022,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setBitR
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setBitRate(arg2);
+      result = (int32_t)(arg1)->getAudioFrameSize();
     }
     catch(std::invalid_argument & e)
     {
@@ -17863,7 +21032,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setBitR
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -17879,7 +21048,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setBitR
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -17889,7 +21058,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setBitR
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -17899,15 +21068,17 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setBitR
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getBitRateTolerance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getGlobalQuality(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
   int32_t result;
@@ -17928,7 +21099,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getBitR
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getBitRateTolerance();
+      result = (int32_t)(arg1)->getGlobalQuality();
     }
     catch(std::invalid_argument & e)
     {
@@ -17984,7 +21155,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getBitR
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setBitRateTolerance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setGlobalQuality(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
   int32_t arg2 ;
   
@@ -18005,7 +21176,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setBitR
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setBitRateTolerance(arg2);
+      (arg1)->setGlobalQuality(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -18059,7 +21230,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setBitR
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getHeight(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
   int32_t result;
@@ -18080,7 +21251,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getHeig
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getHeight();
+      result = (int32_t)(arg1)->getFlags();
     }
     catch(std::invalid_argument & e)
     {
@@ -18136,7 +21307,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getHeig
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setHeight(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
   int32_t arg2 ;
   
@@ -18157,7 +21328,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setHeig
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setHeight(arg2);
+      (arg1)->setFlags(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -18211,15 +21382,17 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setHeig
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getWidth(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jboolean jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t result;
+  com::xuggle::xuggler::IStreamCoder::Flags arg2 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::IStreamCoder::Flags)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -18232,7 +21405,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getWidt
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getWidth();
+      result = (bool)(arg1)->getFlag(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -18283,20 +21456,22 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getWidt
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setWidth(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jboolean jarg3) {
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t arg2 ;
+  com::xuggle::xuggler::IStreamCoder::Flags arg2 ;
+  bool arg3 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg2 = (com::xuggle::xuggler::IStreamCoder::Flags)jarg2; 
+  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -18309,7 +21484,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setWidt
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setWidth(arg2);
+      (arg1)->setFlag(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -18363,10 +21538,10 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setWidt
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getTimeBase(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNextPredictedPts(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jlong jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IRational *result = 0 ;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
@@ -18384,7 +21559,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getTim
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IRational *)(arg1)->getTimeBase();
+      result = (int64_t)(arg1)->getNextPredictedPts();
     }
     catch(std::invalid_argument & e)
     {
@@ -18435,26 +21610,25 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getTim
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IRational **)&jresult = result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setTimeBase(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1open_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IRational *arg2 = (com::xuggle::xuggler::IRational *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IRational **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -18462,7 +21636,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setTime
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setTimeBase(arg2);
+      result = (int32_t)(arg1)->open();
     }
     catch(std::invalid_argument & e)
     {
@@ -18472,7 +21646,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setTime
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -18488,7 +21662,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setTime
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -18498,7 +21672,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setTime
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -18508,18 +21682,20 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setTime
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getFrameRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1close(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IRational *result = 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
@@ -18537,7 +21713,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getFra
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IRational *)(arg1)->getFrameRate();
+      result = (int32_t)(arg1)->close();
     }
     catch(std::invalid_argument & e)
     {
@@ -18588,26 +21764,33 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getFra
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IRational **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFrameRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1decodeAudio(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IRational *arg2 = (com::xuggle::xuggler::IRational *) 0 ;
+  com::xuggle::xuggler::IAudioSamples *arg2 = (com::xuggle::xuggler::IAudioSamples *) 0 ;
+  com::xuggle::xuggler::IPacket *arg3 = (com::xuggle::xuggler::IPacket *) 0 ;
+  int32_t arg4 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
+  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IRational **)&jarg2; 
+  arg2 = *(com::xuggle::xuggler::IAudioSamples **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IPacket **)&jarg3; 
+  arg4 = (int32_t)jarg4; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -18615,7 +21798,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFram
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setFrameRate(arg2);
+      result = (int32_t)(arg1)->decodeAudio(arg2,arg3,arg4);
     }
     catch(std::invalid_argument & e)
     {
@@ -18625,7 +21808,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFram
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -18641,7 +21824,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFram
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -18651,7 +21834,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFram
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -18661,23 +21844,33 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFram
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNumPicturesInGroupOfPictures(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1decodeVideo(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg2 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  com::xuggle::xuggler::IPacket *arg3 = (com::xuggle::xuggler::IPacket *) 0 ;
+  int32_t arg4 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IVideoPicture **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IPacket **)&jarg3; 
+  arg4 = (int32_t)jarg4; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -18690,7 +21883,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNumP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getNumPicturesInGroupOfPictures();
+      result = (int32_t)(arg1)->decodeVideo(arg2,arg3,arg4);
     }
     catch(std::invalid_argument & e)
     {
@@ -18746,90 +21939,23 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNumP
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setNumPicturesInGroupOfPictures(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t arg2 ;
-  
-  (void)jenv;
-  (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return ;
-  }
-  
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      (arg1)->setNumPicturesInGroupOfPictures(arg2);
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return ;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return ;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return ;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return ;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
-  }
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPixelType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1encodeVideo(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IPixelFormat::Type result;
+  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
+  com::xuggle::xuggler::IVideoPicture *arg3 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
+  int32_t arg4 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IVideoPicture **)&jarg3; 
+  arg4 = (int32_t)jarg4; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -18842,7 +21968,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPixe
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IPixelFormat::Type)(arg1)->getPixelType();
+      result = (int32_t)(arg1)->encodeVideo(arg2,arg3,arg4);
     }
     catch(std::invalid_argument & e)
     {
@@ -18898,20 +22024,28 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPixe
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setPixelType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1encodeAudio(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IPixelFormat::Type arg2 ;
+  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
+  com::xuggle::xuggler::IAudioSamples *arg3 = (com::xuggle::xuggler::IAudioSamples *) 0 ;
+  uint32_t arg4 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IPixelFormat::Type)jarg2; 
+  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IAudioSamples **)&jarg3; 
+  arg4 = (uint32_t)jarg4; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -18919,7 +22053,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setPixe
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setPixelType(arg2);
+      result = (int32_t)(arg1)->encodeAudio(arg2,arg3,arg4);
     }
     catch(std::invalid_argument & e)
     {
@@ -18929,7 +22063,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setPixe
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -18945,7 +22079,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setPixe
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -18955,7 +22089,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setPixe
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -18965,36 +22099,30 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setPixe
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSampleRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1make_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Direction arg1 ;
+  com::xuggle::xuggler::IStreamCoder *result = 0 ;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
+  arg1 = (com::xuggle::xuggler::IStreamCoder::Direction)jarg1; 
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getSampleRate();
+      result = (com::xuggle::xuggler::IStreamCoder *)com::xuggle::xuggler::IStreamCoder::make(arg1);
     }
     catch(std::invalid_argument & e)
     {
@@ -19045,25 +22173,25 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSamp
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IStreamCoder **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSampleRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCodecTag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -19071,7 +22199,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSamp
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setSampleRate(arg2);
+      result = (int32_t)(arg1)->getCodecTag();
     }
     catch(std::invalid_argument & e)
     {
@@ -19081,7 +22209,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSamp
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -19097,7 +22225,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSamp
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -19107,7 +22235,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSamp
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -19117,28 +22245,30 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSamp
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSampleFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCodecTag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IAudioSamples::Format result;
+  int32_t arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -19146,7 +22276,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSamp
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IAudioSamples::Format)(arg1)->getSampleFormat();
+      (arg1)->setCodecTag(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -19156,7 +22286,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSamp
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -19172,7 +22302,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSamp
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -19182,7 +22312,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSamp
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -19192,30 +22322,28 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSamp
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSampleFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNumProperties(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IAudioSamples::Format arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IAudioSamples::Format)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -19223,7 +22351,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSamp
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setSampleFormat(arg2);
+      result = (int32_t)(arg1)->getNumProperties();
     }
     catch(std::invalid_argument & e)
     {
@@ -19233,7 +22361,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSamp
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -19249,7 +22377,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSamp
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -19259,7 +22387,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSamp
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -19269,23 +22397,27 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSamp
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getChannels(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyMetaData_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t result;
+  int32_t arg2 ;
+  com::xuggle::xuggler::IProperty *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -19298,7 +22430,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getChan
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getChannels();
+      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -19349,25 +22481,31 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getChan
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setChannels(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyMetaData_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t arg2 ;
+  char *arg2 = (char *) 0 ;
+  com::xuggle::xuggler::IProperty *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -19375,7 +22513,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setChan
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setChannels(arg2);
+      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -19385,7 +22523,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setChan
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -19401,7 +22539,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setChan
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -19411,7 +22549,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setChan
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -19421,23 +22559,38 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setChan
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getAudioFrameSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jstring jarg3) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  char *arg2 = (char *) 0 ;
+  char *arg3 = (char *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = 0;
+  if (jarg3) {
+    arg3 = (char *)jenv->GetStringUTFChars(jarg3, 0);
+    if (!arg3) return 0;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -19450,7 +22603,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getAudi
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getAudioFrameSize();
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,(char const *)arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -19502,19 +22655,29 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getAudi
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  if (arg3) jenv->ReleaseStringUTFChars(jarg3, (const char *)arg3);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getGlobalQuality(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jdouble jarg3) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  char *arg2 = (char *) 0 ;
+  double arg3 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = (double)jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -19527,7 +22690,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getGlob
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getGlobalQuality();
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -19579,24 +22742,33 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getGlob
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setGlobalQuality(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t arg2 ;
+  char *arg2 = (char *) 0 ;
+  int64_t arg3 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = (int64_t)jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -19604,7 +22776,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setGlob
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setGlobalQuality(arg2);
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -19614,7 +22786,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setGlob
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -19630,7 +22802,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setGlob
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -19640,7 +22812,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setGlob
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -19650,23 +22822,34 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setGlob
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jboolean jarg3) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  char *arg2 = (char *) 0 ;
+  bool arg3 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -19679,7 +22862,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getFlag
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getFlags();
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -19731,24 +22914,34 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getFlag
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_14(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3, jobject jarg3_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t arg2 ;
+  char *arg2 = (char *) 0 ;
+  com::xuggle::xuggler::IRational *arg3 = (com::xuggle::xuggler::IRational *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = *(com::xuggle::xuggler::IRational **)&jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -19756,7 +22949,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setFlags(arg2);
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -19766,7 +22959,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -19782,7 +22975,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -19792,7 +22985,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -19802,25 +22995,32 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyAsString(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jstring jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags arg2 ;
-  bool result;
+  char *arg2 = (char *) 0 ;
+  char *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IStreamCoder::Flags)jarg2; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -19833,7 +23033,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->getFlag(arg2);
+      result = (char *)(arg1)->getPropertyAsString((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -19884,27 +23084,33 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  if(result) jresult = jenv->NewStringUTF((const char *)result);
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  free(result);
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jboolean jarg3) {
+SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyAsDouble(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jdouble jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IStreamCoder::Flags arg2 ;
-  bool arg3 ;
+  char *arg2 = (char *) 0 ;
+  double result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IStreamCoder::Flags)jarg2; 
-  arg3 = jarg3 ? true : false; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -19912,7 +23118,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setFlag(arg2,arg3);
+      result = (double)(arg1)->getPropertyAsDouble((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -19922,7 +23128,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -19938,7 +23144,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -19948,7 +23154,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -19958,23 +23164,32 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setFlag
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jdouble)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNextPredictedPts(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyAsLong(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
   jlong jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  char *arg2 = (char *) 0 ;
   int64_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -19987,7 +23202,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNex
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getNextPredictedPts();
+      result = (int64_t)(arg1)->getPropertyAsLong((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -20039,19 +23254,26 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNex
     // JNIHelper.swg: End generated code
   }
   jresult = (jlong)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1open_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyAsRational(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t result;
+  char *arg2 = (char *) 0 ;
+  com::xuggle::xuggler::IRational *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -20064,7 +23286,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1open_1_
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->open();
+      result = (com::xuggle::xuggler::IRational *)(arg1)->getPropertyAsRational((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -20115,20 +23337,27 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1open_1_
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IRational **)&jresult = result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1close(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyAsBoolean(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jboolean jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t result;
+  char *arg2 = (char *) 0 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -20141,7 +23370,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1close(J
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->close();
+      result = (bool)(arg1)->getPropertyAsBoolean((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -20192,28 +23421,21 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1close(J
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jboolean)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1decodeAudio(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4) {
-  jint jresult = 0 ;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1isOpen(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IAudioSamples *arg2 = (com::xuggle::xuggler::IAudioSamples *) 0 ;
-  com::xuggle::xuggler::IPacket *arg3 = (com::xuggle::xuggler::IPacket *) 0 ;
-  int32_t arg4 ;
-  int32_t result;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IAudioSamples **)&jarg2; 
-  arg3 = *(com::xuggle::xuggler::IPacket **)&jarg3; 
-  arg4 = (int32_t)jarg4; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -20226,7 +23448,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1decodeA
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->decodeAudio(arg2,arg3,arg4);
+      result = (bool)(arg1)->isOpen();
     }
     catch(std::invalid_argument & e)
     {
@@ -20277,28 +23499,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1decodeA
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1decodeVideo(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getDefaultAudioFrameSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IVideoPicture *arg2 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  com::xuggle::xuggler::IPacket *arg3 = (com::xuggle::xuggler::IPacket *) 0 ;
-  int32_t arg4 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IVideoPicture **)&jarg2; 
-  arg3 = *(com::xuggle::xuggler::IPacket **)&jarg3; 
-  arg4 = (int32_t)jarg4; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -20311,7 +23525,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1decodeV
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->decodeVideo(arg2,arg3,arg4);
+      result = (int32_t)(arg1)->getDefaultAudioFrameSize();
     }
     catch(std::invalid_argument & e)
     {
@@ -20367,23 +23581,162 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1decodeV
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1encodeVideo(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jint jarg4) {
-  jint jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setDefaultAudioFrameSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
-  com::xuggle::xuggler::IVideoPicture *arg3 = (com::xuggle::xuggler::IVideoPicture *) 0 ;
-  int32_t arg4 ;
-  int32_t result;
+  int32_t arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      (arg1)->setDefaultAudioFrameSize(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1make_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jint jarg1, jlong jarg2, jobject jarg2_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Direction arg1 ;
+  com::xuggle::xuggler::IStreamCoder *arg2 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::IStreamCoder *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
   (void)jarg2_;
-  (void)jarg3_;
+  arg1 = (com::xuggle::xuggler::IStreamCoder::Direction)jarg1; 
+  arg2 = *(com::xuggle::xuggler::IStreamCoder **)&jarg2; 
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::IStreamCoder *)com::xuggle::xuggler::IStreamCoder::make(arg1,arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  *(com::xuggle::xuggler::IStreamCoder **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNumDroppedFrames(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  int64_t result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
-  arg3 = *(com::xuggle::xuggler::IVideoPicture **)&jarg3; 
-  arg4 = (int32_t)jarg4; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -20396,7 +23749,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1encodeV
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->encodeVideo(arg2,arg3,arg4);
+      result = (int64_t)(arg1)->getNumDroppedFrames();
     }
     catch(std::invalid_argument & e)
     {
@@ -20447,33 +23800,25 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1encodeV
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1encodeAudio(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_, jlong jarg4) {
-  jint jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setAutomaticallyStampPacketsForStream(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jboolean jarg2) {
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
-  com::xuggle::xuggler::IAudioSamples *arg3 = (com::xuggle::xuggler::IAudioSamples *) 0 ;
-  uint32_t arg4 ;
-  int32_t result;
+  bool arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
-  arg3 = *(com::xuggle::xuggler::IAudioSamples **)&jarg3; 
-  arg4 = (uint32_t)jarg4; 
+  arg2 = jarg2 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -20481,7 +23826,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1encodeA
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->encodeAudio(arg2,arg3,arg4);
+      (arg1)->setAutomaticallyStampPacketsForStream(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -20491,7 +23836,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1encodeA
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -20507,7 +23852,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1encodeA
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -20517,7 +23862,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1encodeA
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -20527,30 +23872,36 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1encodeA
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1make_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jint jarg1) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Direction arg1 ;
-  com::xuggle::xuggler::IStreamCoder *result = 0 ;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getAutomaticallyStampPacketsForStream(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
-  arg1 = (com::xuggle::xuggler::IStreamCoder::Direction)jarg1; 
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStreamCoder *)com::xuggle::xuggler::IStreamCoder::make(arg1);
+      result = (bool)(arg1)->getAutomaticallyStampPacketsForStream();
     }
     catch(std::invalid_argument & e)
     {
@@ -20601,25 +23952,25 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1make_1
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IStreamCoder **)&jresult = result; 
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCodecTag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCodecID(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t result;
+  com::xuggle::xuggler::ICodec::ID arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -20627,7 +23978,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getCodecTag();
+      (arg1)->setCodecID(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -20637,7 +23988,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -20653,7 +24004,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -20663,7 +24014,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -20673,30 +24024,37 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getCode
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCodecTag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setExtraData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jboolean jarg5) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t arg2 ;
+  com::xuggle::ferry::IBuffer *arg2 = (com::xuggle::ferry::IBuffer *) 0 ;
+  int32_t arg3 ;
+  int32_t arg4 ;
+  bool arg5 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg2 = *(com::xuggle::ferry::IBuffer **)&jarg2; 
+  arg3 = (int32_t)jarg3; 
+  arg4 = (int32_t)jarg4; 
+  arg5 = jarg5 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -20704,7 +24062,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setCodecTag(arg2);
+      result = (int32_t)(arg1)->setExtraData(arg2,arg3,arg4,arg5);
     }
     catch(std::invalid_argument & e)
     {
@@ -20714,7 +24072,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -20730,7 +24088,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -20740,7 +24098,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -20750,23 +24108,32 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNumProperties(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getExtraData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::ferry::IBuffer *arg2 = (com::xuggle::ferry::IBuffer *) 0 ;
+  int32_t arg3 ;
+  int32_t arg4 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = *(com::xuggle::ferry::IBuffer **)&jarg2; 
+  arg3 = (int32_t)jarg3; 
+  arg4 = (int32_t)jarg4; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -20779,7 +24146,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNumP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getNumProperties();
+      result = (int32_t)(arg1)->getExtraData(arg2,arg3,arg4);
     }
     catch(std::invalid_argument & e)
     {
@@ -20835,17 +24202,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNumP
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyMetaData_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getExtraDataSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t arg2 ;
-  com::xuggle::xuggler::IProperty *result = 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -20858,7 +24223,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPro
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData(arg2);
+      result = (int32_t)(arg1)->getExtraDataSize();
     }
     catch(std::invalid_argument & e)
     {
@@ -20909,26 +24274,80 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPro
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyMetaData_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1COMPLIANCE_1VERY_1STRICT_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)com::xuggle::xuggler::IStreamCoder::COMPLIANCE_VERY_STRICT;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1COMPLIANCE_1STRICT_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)com::xuggle::xuggler::IStreamCoder::COMPLIANCE_STRICT;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1COMPLIANCE_1NORMAL_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)com::xuggle::xuggler::IStreamCoder::COMPLIANCE_NORMAL;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1COMPLIANCE_1UNOFFICIAL_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)com::xuggle::xuggler::IStreamCoder::COMPLIANCE_UNOFFICIAL;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1COMPLIANCE_1EXPERIMENTAL_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)com::xuggle::xuggler::IStreamCoder::COMPLIANCE_EXPERIMENTAL;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getStandardsCompliance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IProperty *result = 0 ;
+  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -20941,7 +24360,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPro
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData((char const *)arg2);
+      result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)(arg1)->getStandardsCompliance();
     }
     catch(std::invalid_argument & e)
     {
@@ -20992,33 +24411,22 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPro
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jstring jarg3) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setStandardsCompliance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  char *arg2 = (char *) 0 ;
-  char *arg3 = (char *) 0 ;
+  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance arg2 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = 0;
-  if (jarg3) {
-    arg3 = (char *)jenv->GetStringUTFChars(jarg3, 0);
-    if (!arg3) return 0;
-  }
+  arg2 = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -21031,7 +24439,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProp
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,(char const *)arg3);
+      result = (int32_t)(arg1)->setStandardsCompliance(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -21083,29 +24491,25 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProp
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
-  if (arg3) jenv->ReleaseStringUTFChars(jarg3, (const char *)arg3);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jdouble jarg3) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1open_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  char *arg2 = (char *) 0 ;
-  double arg3 ;
+  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
+  com::xuggle::xuggler::IMetaData *arg3 = (com::xuggle::xuggler::IMetaData *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = (double)jarg3; 
+  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IMetaData **)&jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -21118,7 +24522,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProp
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (int32_t)(arg1)->open(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -21170,41 +24574,27 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProp
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  char *arg2 = (char *) 0 ;
-  int64_t arg3 ;
-  int32_t result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1make_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jint jarg1, jlong jarg2, jobject jarg2_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Direction arg1 ;
+  com::xuggle::xuggler::ICodec *arg2 = (com::xuggle::xuggler::ICodec *) 0 ;
+  com::xuggle::xuggler::IStreamCoder *result = 0 ;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = (int64_t)jarg3; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
+  (void)jarg2_;
+  arg1 = (com::xuggle::xuggler::IStreamCoder::Direction)jarg1; 
+  arg2 = *(com::xuggle::xuggler::ICodec **)&jarg2; 
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (com::xuggle::xuggler::IStreamCoder *)com::xuggle::xuggler::IStreamCoder::make(arg1,arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -21255,42 +24645,27 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProp
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  *(com::xuggle::xuggler::IStreamCoder **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jboolean jarg3) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  char *arg2 = (char *) 0 ;
-  bool arg3 ;
-  int32_t result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1make_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jint jarg1, jint jarg2) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Direction arg1 ;
+  com::xuggle::xuggler::ICodec::ID arg2 ;
+  com::xuggle::xuggler::IStreamCoder *result = 0 ;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = jarg3 ? true : false; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
+  arg1 = (com::xuggle::xuggler::IStreamCoder::Direction)jarg1; 
+  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (com::xuggle::xuggler::IStreamCoder *)com::xuggle::xuggler::IStreamCoder::make(arg1,arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -21341,30 +24716,26 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProp
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  *(com::xuggle::xuggler::IStreamCoder **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_14(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3, jobject jarg3_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_15(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IRational *arg3 = (com::xuggle::xuggler::IRational *) 0 ;
+  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
+  com::xuggle::xuggler::IMetaData *arg3 = (com::xuggle::xuggler::IMetaData *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = *(com::xuggle::xuggler::IRational **)&jarg3; 
+  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IMetaData **)&jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -21377,7 +24748,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProp
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (int32_t)(arg1)->setProperty(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -21429,26 +24800,67 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProp
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyAsString(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jstring jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1THREAD_1TYPE_1NONE_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::ThreadType result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::ThreadType)com::xuggle::xuggler::IStreamCoder::THREAD_TYPE_NONE;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1THREAD_1TYPE_1FRAME_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::ThreadType result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::ThreadType)com::xuggle::xuggler::IStreamCoder::THREAD_TYPE_FRAME;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1THREAD_1TYPE_1SLICE_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::ThreadType result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::ThreadType)com::xuggle::xuggler::IStreamCoder::THREAD_TYPE_SLICE;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1THREAD_1TYPE_1FRAME_1AND_1SLICE_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::ThreadType result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::ThreadType)com::xuggle::xuggler::IStreamCoder::THREAD_TYPE_FRAME_AND_SLICE;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNumThreads(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  char *arg2 = (char *) 0 ;
-  char *result = 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -21461,7 +24873,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (char *)(arg1)->getPropertyAsString((char const *)arg2);
+      result = (int32_t)(arg1)->getNumThreads();
     }
     catch(std::invalid_argument & e)
     {
@@ -21512,28 +24924,22 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getP
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  if(result) jresult = jenv->NewStringUTF((const char *)result);
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
-  free(result);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyAsDouble(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jdouble jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setNumThreads(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  char *arg2 = (char *) 0 ;
-  double result;
+  int32_t arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -21546,7 +24952,7 @@ SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (double)(arg1)->getPropertyAsDouble((char const *)arg2);
+      result = (int32_t)(arg1)->setNumThreads(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -21597,27 +25003,20 @@ SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getP
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jdouble)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyAsLong(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getThreadType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  char *arg2 = (char *) 0 ;
-  int64_t result;
+  com::xuggle::xuggler::IStreamCoder::ThreadType result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -21630,7 +25029,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPro
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getPropertyAsLong((char const *)arg2);
+      result = (com::xuggle::xuggler::IStreamCoder::ThreadType)(arg1)->getThreadType();
     }
     catch(std::invalid_argument & e)
     {
@@ -21681,27 +25080,22 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPro
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyAsRational(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setThreadType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IRational *result = 0 ;
+  com::xuggle::xuggler::IStreamCoder::ThreadType arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
+  arg2 = (com::xuggle::xuggler::IStreamCoder::ThreadType)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -21714,7 +25108,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPro
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IRational *)(arg1)->getPropertyAsRational((char const *)arg2);
+      result = (int32_t)(arg1)->setThreadType(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -21765,27 +25159,20 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPro
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IRational **)&jresult = result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getPropertyAsBoolean(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getActiveThreadType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  char *arg2 = (char *) 0 ;
-  bool result;
+  com::xuggle::xuggler::IStreamCoder::ThreadType result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -21798,7 +25185,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->getPropertyAsBoolean((char const *)arg2);
+      result = (com::xuggle::xuggler::IStreamCoder::ThreadType)(arg1)->getActiveThreadType();
     }
     catch(std::invalid_argument & e)
     {
@@ -21849,13 +25236,12 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1isOpen(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getZeroCopyDecoding(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jboolean jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
   bool result;
@@ -21876,7 +25262,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1isO
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->isOpen();
+      result = (bool)(arg1)->getZeroCopyDecoding();
     }
     catch(std::invalid_argument & e)
     {
@@ -21932,15 +25318,17 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1isO
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getDefaultAudioFrameSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setZeroCopyDecoding(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jboolean jarg2) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  bool arg2 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = jarg2 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -21953,7 +25341,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getDefa
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getDefaultAudioFrameSize();
+      result = (int32_t)(arg1)->setZeroCopyDecoding(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -22009,20 +25397,92 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getDefa
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setDefaultAudioFrameSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1DISCARD_1NONE_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Discard result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Discard)com::xuggle::xuggler::IStreamCoder::DISCARD_NONE;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1DISCARD_1DEFAULT_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Discard result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Discard)com::xuggle::xuggler::IStreamCoder::DISCARD_DEFAULT;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1DISCARD_1NONREF_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Discard result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Discard)com::xuggle::xuggler::IStreamCoder::DISCARD_NONREF;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1DISCARD_1BIDIR_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Discard result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Discard)com::xuggle::xuggler::IStreamCoder::DISCARD_BIDIR;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1DISCARD_1NONKEY_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Discard result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Discard)com::xuggle::xuggler::IStreamCoder::DISCARD_NONKEY;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1DISCARD_1ALL_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder::Discard result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IStreamCoder::Discard)com::xuggle::xuggler::IStreamCoder::DISCARD_ALL;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSkipFrame(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t arg2 ;
+  com::xuggle::xuggler::IStreamCoder::Discard result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -22030,7 +25490,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setDefa
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setDefaultAudioFrameSize(arg2);
+      result = (com::xuggle::xuggler::IStreamCoder::Discard)(arg1)->getSkipFrame();
     }
     catch(std::invalid_argument & e)
     {
@@ -22040,7 +25500,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setDefa
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -22056,7 +25516,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setDefa
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -22066,7 +25526,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setDefa
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -22076,31 +25536,40 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setDefa
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1make_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jint jarg1, jlong jarg2, jobject jarg2_) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Direction arg1 ;
-  com::xuggle::xuggler::IStreamCoder *arg2 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IStreamCoder *result = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSkipFrame(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::IStreamCoder::Discard arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg2_;
-  arg1 = (com::xuggle::xuggler::IStreamCoder::Direction)jarg1; 
-  arg2 = *(com::xuggle::xuggler::IStreamCoder **)&jarg2; 
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::IStreamCoder::Discard)jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStreamCoder *)com::xuggle::xuggler::IStreamCoder::make(arg1,arg2);
+      result = (int32_t)(arg1)->setSkipFrame(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -22151,15 +25620,15 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1make_1
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IStreamCoder **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNumDroppedFrames(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getSkipLoopFilter(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int64_t result;
+  com::xuggle::xuggler::IStreamCoder::Discard result;
   
   (void)jenv;
   (void)jcls;
@@ -22177,7 +25646,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNum
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getNumDroppedFrames();
+      result = (com::xuggle::xuggler::IStreamCoder::Discard)(arg1)->getSkipLoopFilter();
     }
     catch(std::invalid_argument & e)
     {
@@ -22228,95 +25697,22 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getNum
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setAutomaticallyStampPacketsForStream(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jboolean jarg2) {
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  bool arg2 ;
-  
-  (void)jenv;
-  (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = jarg2 ? true : false; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return ;
-  }
-  
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      (arg1)->setAutomaticallyStampPacketsForStream(arg2);
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return ;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return ;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return ;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return ;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
-  }
-}
-
-
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getAutomaticallyStampPacketsForStream(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setSkipLoopFilter(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  bool result;
+  com::xuggle::xuggler::IStreamCoder::Discard arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::IStreamCoder::Discard)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -22329,7 +25725,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->getAutomaticallyStampPacketsForStream();
+      result = (int32_t)(arg1)->setSkipLoopFilter(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -22380,33 +25776,45 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCodecID(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::ICodec::ID arg2 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1IINDEX_1FLAG_1KEYFRAME_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  int result;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return ;
-  }
+  result = (int)com::xuggle::xuggler::IIndexEntry::IINDEX_FLAG_KEYFRAME;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1make(JNIEnv *jenv, jclass jcls, jlong jarg1, jlong jarg2, jint jarg3, jint jarg4, jint jarg5) {
+  jlong jresult = 0 ;
+  int64_t arg1 ;
+  int64_t arg2 ;
+  int32_t arg3 ;
+  int32_t arg4 ;
+  int32_t arg5 ;
+  com::xuggle::xuggler::IIndexEntry *result = 0 ;
   
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int64_t)jarg1; 
+  arg2 = (int64_t)jarg2; 
+  arg3 = (int32_t)jarg3; 
+  arg4 = (int32_t)jarg4; 
+  arg5 = (int32_t)jarg5; 
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setCodecID(arg2);
+      result = (com::xuggle::xuggler::IIndexEntry *)com::xuggle::xuggler::IIndexEntry::make(arg1,arg2,arg3,arg4,arg5);
     }
     catch(std::invalid_argument & e)
     {
@@ -22416,7 +25824,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -22432,7 +25840,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -22442,7 +25850,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -22452,32 +25860,25 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setCode
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  *(com::xuggle::xuggler::IIndexEntry **)&jresult = result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setExtraData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4, jboolean jarg5) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::ferry::IBuffer *arg2 = (com::xuggle::ferry::IBuffer *) 0 ;
-  int32_t arg3 ;
-  int32_t arg4 ;
-  bool arg5 ;
-  int32_t result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getPosition(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = *(com::xuggle::ferry::IBuffer **)&jarg2; 
-  arg3 = (int32_t)jarg3; 
-  arg4 = (int32_t)jarg4; 
-  arg5 = jarg5 ? true : false; 
+  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -22490,7 +25891,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setExtr
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setExtraData(arg2,arg3,arg4,arg5);
+      result = (int64_t)(arg1)->getPosition();
     }
     catch(std::invalid_argument & e)
     {
@@ -22541,27 +25942,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setExtr
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getExtraData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jint jarg3, jint jarg4) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::ferry::IBuffer *arg2 = (com::xuggle::ferry::IBuffer *) 0 ;
-  int32_t arg3 ;
-  int32_t arg4 ;
-  int32_t result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getTimeStamp(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = *(com::xuggle::ferry::IBuffer **)&jarg2; 
-  arg3 = (int32_t)jarg3; 
-  arg4 = (int32_t)jarg4; 
+  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -22574,7 +25968,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getExtr
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getExtraData(arg2,arg3,arg4);
+      result = (int64_t)(arg1)->getTimeStamp();
     }
     catch(std::invalid_argument & e)
     {
@@ -22625,20 +26019,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getExtr
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getExtraDataSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -22651,7 +26045,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getExtr
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getExtraDataSize();
+      result = (int32_t)(arg1)->getFlags();
     }
     catch(std::invalid_argument & e)
     {
@@ -22707,75 +26101,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getExtr
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1COMPLIANCE_1VERY_1STRICT_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)com::xuggle::xuggler::IStreamCoder::COMPLIANCE_VERY_STRICT;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1COMPLIANCE_1STRICT_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)com::xuggle::xuggler::IStreamCoder::COMPLIANCE_STRICT;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1COMPLIANCE_1NORMAL_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)com::xuggle::xuggler::IStreamCoder::COMPLIANCE_NORMAL;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1COMPLIANCE_1UNOFFICIAL_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)com::xuggle::xuggler::IStreamCoder::COMPLIANCE_UNOFFICIAL;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1COMPLIANCE_1EXPERIMENTAL_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)com::xuggle::xuggler::IStreamCoder::COMPLIANCE_EXPERIMENTAL;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getStandardsCompliance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance result;
+  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -22788,7 +26122,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getStan
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)(arg1)->getStandardsCompliance();
+      result = (int32_t)(arg1)->getSize();
     }
     catch(std::invalid_argument & e)
     {
@@ -22844,17 +26178,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1getStan
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setStandardsCompliance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getMinDistance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance arg2 ;
+  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IStreamCoder::CodecStandardsCompliance)jarg2; 
+  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -22867,7 +26199,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setStan
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setStandardsCompliance(arg2);
+      result = (int32_t)(arg1)->getMinDistance();
     }
     catch(std::invalid_argument & e)
     {
@@ -22923,21 +26255,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setStan
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1open_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
-  com::xuggle::xuggler::IMetaData *arg3 = (com::xuggle::xuggler::IMetaData *) 0 ;
-  int32_t result;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1isKeyFrame(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  (void)jarg3_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
-  arg3 = *(com::xuggle::xuggler::IMetaData **)&jarg3; 
+  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -22950,7 +26276,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1open_1_
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->open(arg2,arg3);
+      result = (bool)(arg1)->isKeyFrame();
     }
     catch(std::invalid_argument & e)
     {
@@ -23001,99 +26327,33 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1open_1_
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1make_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jint jarg1, jlong jarg2, jobject jarg2_) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Direction arg1 ;
-  com::xuggle::xuggler::ICodec *arg2 = (com::xuggle::xuggler::ICodec *) 0 ;
-  com::xuggle::xuggler::IStreamCoder *result = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getDirection(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
+  com::xuggle::xuggler::IStream::Direction result;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg2_;
-  arg1 = (com::xuggle::xuggler::IStreamCoder::Direction)jarg1; 
-  arg2 = *(com::xuggle::xuggler::ICodec **)&jarg2; 
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      result = (com::xuggle::xuggler::IStreamCoder *)com::xuggle::xuggler::IStreamCoder::make(arg1,arg2);
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return 0;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return 0;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
   }
-  *(com::xuggle::xuggler::IStreamCoder **)&jresult = result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1make_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jint jarg1, jint jarg2) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder::Direction arg1 ;
-  com::xuggle::xuggler::ICodec::ID arg2 ;
-  com::xuggle::xuggler::IStreamCoder *result = 0 ;
   
-  (void)jenv;
-  (void)jcls;
-  arg1 = (com::xuggle::xuggler::IStreamCoder::Direction)jarg1; 
-  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStreamCoder *)com::xuggle::xuggler::IStreamCoder::make(arg1,arg2);
+      result = (com::xuggle::xuggler::IStream::Direction)(arg1)->getDirection();
     }
     catch(std::invalid_argument & e)
     {
@@ -23144,26 +26404,20 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1make_1
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IStreamCoder **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProperty_1_1SWIG_15(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getIndex(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg1 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
-  com::xuggle::xuggler::IMetaData *arg3 = (com::xuggle::xuggler::IMetaData *) 0 ;
-  int32_t result;
+  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
+  int result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  (void)jarg3_;
-  arg1 = *(com::xuggle::xuggler::IStreamCoder **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
-  arg3 = *(com::xuggle::xuggler::IMetaData **)&jarg3; 
+  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -23176,7 +26430,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProp
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty(arg2,arg3);
+      result = (int)(arg1)->getIndex();
     }
     catch(std::invalid_argument & e)
     {
@@ -23232,40 +26486,28 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStreamCoder_1setProp
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1IINDEX_1FLAG_1KEYFRAME_1get(JNIEnv *jenv, jclass jcls) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getId(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
+  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
   int result;
   
   (void)jenv;
   (void)jcls;
-  result = (int)com::xuggle::xuggler::IIndexEntry::IINDEX_FLAG_KEYFRAME;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1make(JNIEnv *jenv, jclass jcls, jlong jarg1, jlong jarg2, jint jarg3, jint jarg4, jint jarg5) {
-  jlong jresult = 0 ;
-  int64_t arg1 ;
-  int64_t arg2 ;
-  int32_t arg3 ;
-  int32_t arg4 ;
-  int32_t arg5 ;
-  com::xuggle::xuggler::IIndexEntry *result = 0 ;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
   
-  (void)jenv;
-  (void)jcls;
-  arg1 = (int64_t)jarg1; 
-  arg2 = (int64_t)jarg2; 
-  arg3 = (int32_t)jarg3; 
-  arg4 = (int32_t)jarg4; 
-  arg5 = (int32_t)jarg5; 
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IIndexEntry *)com::xuggle::xuggler::IIndexEntry::make(arg1,arg2,arg3,arg4,arg5);
+      result = (int)(arg1)->getId();
     }
     catch(std::invalid_argument & e)
     {
@@ -23316,20 +26558,20 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1make(JN
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IIndexEntry **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getPosition(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getStreamCoder(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jlong jresult = 0 ;
-  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
-  int64_t result;
+  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
+  com::xuggle::xuggler::IStreamCoder *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -23342,7 +26584,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getPosi
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getPosition();
+      result = (com::xuggle::xuggler::IStreamCoder *)(arg1)->getStreamCoder();
     }
     catch(std::invalid_argument & e)
     {
@@ -23393,20 +26635,20 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getPosi
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  *(com::xuggle::xuggler::IStreamCoder **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getTimeStamp(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getFrameRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jlong jresult = 0 ;
-  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
-  int64_t result;
+  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
+  com::xuggle::xuggler::IRational *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -23419,7 +26661,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getTime
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getTimeStamp();
+      result = (com::xuggle::xuggler::IRational *)(arg1)->getFrameRate();
     }
     catch(std::invalid_argument & e)
     {
@@ -23470,20 +26712,20 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getTime
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  *(com::xuggle::xuggler::IRational **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
-  int32_t result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getTimeBase(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
+  com::xuggle::xuggler::IRational *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -23496,7 +26738,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getFlags
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getFlags();
+      result = (com::xuggle::xuggler::IRational *)(arg1)->getTimeBase();
     }
     catch(std::invalid_argument & e)
     {
@@ -23547,20 +26789,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getFlags
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IRational **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
-  int32_t result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getStartTime(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -23573,7 +26815,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getSize(
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getSize();
+      result = (int64_t)(arg1)->getStartTime();
     }
     catch(std::invalid_argument & e)
     {
@@ -23624,20 +26866,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getSize(
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getMinDistance(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
-  int32_t result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getDuration(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -23650,7 +26892,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getMinDi
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getMinDistance();
+      result = (int64_t)(arg1)->getDuration();
     }
     catch(std::invalid_argument & e)
     {
@@ -23701,20 +26943,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1getMinDi
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1isKeyFrame(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jboolean jresult = 0 ;
-  com::xuggle::xuggler::IIndexEntry *arg1 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
-  bool result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getCurrentDts(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IIndexEntry **)&jarg1; 
+  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -23727,7 +26969,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1isKe
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->isKeyFrame();
+      result = (int64_t)(arg1)->getCurrentDts();
     }
     catch(std::invalid_argument & e)
     {
@@ -23778,15 +27020,15 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IIndexEntry_1isKe
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getDirection(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getNumIndexEntries(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IStream::Direction result;
+  int result;
   
   (void)jenv;
   (void)jcls;
@@ -23804,7 +27046,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getDirection
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStream::Direction)(arg1)->getDirection();
+      result = (int)(arg1)->getNumIndexEntries();
     }
     catch(std::invalid_argument & e)
     {
@@ -23860,10 +27102,10 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getDirection
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getIndex(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getNumFrames(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  int result;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
@@ -23881,7 +27123,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getIndex(JNI
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int)(arg1)->getIndex();
+      result = (int64_t)(arg1)->getNumFrames();
     }
     catch(std::invalid_argument & e)
     {
@@ -23932,15 +27174,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getIndex(JNI
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getId(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getSampleAspectRatio(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  int result;
+  com::xuggle::xuggler::IRational *result = 0 ;
   
   (void)jenv;
   (void)jcls;
@@ -23958,7 +27200,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getId(JNIEnv
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int)(arg1)->getId();
+      result = (com::xuggle::xuggler::IRational *)(arg1)->getSampleAspectRatio();
     }
     catch(std::invalid_argument & e)
     {
@@ -24009,25 +27251,26 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getId(JNIEnv
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IRational **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getStreamCoder(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setSampleAspectRatio(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IStreamCoder *result = 0 ;
+  com::xuggle::xuggler::IRational *arg2 = (com::xuggle::xuggler::IRational *) 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IRational **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -24035,7 +27278,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getStreamCo
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStreamCoder *)(arg1)->getStreamCoder();
+      (arg1)->setSampleAspectRatio(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -24045,7 +27288,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getStreamCo
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -24061,7 +27304,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getStreamCo
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -24071,7 +27314,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getStreamCo
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -24081,20 +27324,18 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getStreamCo
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IStreamCoder **)&jresult = result; 
-  return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getFrameRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getLanguage(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jstring jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IRational *result = 0 ;
+  char *result = 0 ;
   
   (void)jenv;
   (void)jcls;
@@ -24112,7 +27353,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getFrameRat
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IRational *)(arg1)->getFrameRate();
+      result = (char *)(arg1)->getLanguage();
     }
     catch(std::invalid_argument & e)
     {
@@ -24163,25 +27404,29 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getFrameRat
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IRational **)&jresult = result; 
+  if(result) jresult = jenv->NewStringUTF((const char *)result);
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getTimeBase(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setLanguage(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IRational *result = 0 ;
+  char *arg2 = (char *) 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return ;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -24189,7 +27434,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getTimeBase
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IRational *)(arg1)->getTimeBase();
+      (arg1)->setLanguage((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -24199,7 +27444,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getTimeBase
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -24215,7 +27460,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getTimeBase
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -24225,7 +27470,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getTimeBase
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -24235,20 +27480,19 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getTimeBase
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IRational **)&jresult = result; 
-  return jresult;
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getStartTime(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getContainer(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jlong jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  int64_t result;
+  com::xuggle::xuggler::IContainer *result = 0 ;
   
   (void)jenv;
   (void)jcls;
@@ -24266,7 +27510,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getStartTim
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getStartTime();
+      result = (com::xuggle::xuggler::IContainer *)(arg1)->getContainer();
     }
     catch(std::invalid_argument & e)
     {
@@ -24317,20 +27561,23 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getStartTim
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  *(com::xuggle::xuggler::IContainer **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getDuration(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setStreamCoder_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  int64_t result;
+  com::xuggle::xuggler::IStreamCoder *arg2 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IStreamCoder **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -24343,7 +27590,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getDuration
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getDuration();
+      result = (int32_t)(arg1)->setStreamCoder(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -24394,15 +27641,15 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getDuration
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getCurrentDts(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getParseType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  int64_t result;
+  com::xuggle::xuggler::IStream::ParseType result;
   
   (void)jenv;
   (void)jcls;
@@ -24420,7 +27667,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getCurrentD
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getCurrentDts();
+      result = (com::xuggle::xuggler::IStream::ParseType)(arg1)->getParseType();
     }
     catch(std::invalid_argument & e)
     {
@@ -24471,25 +27718,25 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getCurrentD
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getNumIndexEntries(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setParseType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  int result;
+  com::xuggle::xuggler::IStream::ParseType arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::IStream::ParseType)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -24497,7 +27744,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getNumIndexE
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int)(arg1)->getNumIndexEntries();
+      (arg1)->setParseType(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -24507,7 +27754,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getNumIndexE
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -24523,7 +27770,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getNumIndexE
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -24533,7 +27780,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getNumIndexE
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -24543,20 +27790,18 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getNumIndexE
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getNumFrames(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getMetaData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jlong jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  int64_t result;
+  com::xuggle::xuggler::IMetaData *result = 0 ;
   
   (void)jenv;
   (void)jcls;
@@ -24574,7 +27819,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getNumFrame
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getNumFrames();
+      result = (com::xuggle::xuggler::IMetaData *)(arg1)->getMetaData();
     }
     catch(std::invalid_argument & e)
     {
@@ -24625,20 +27870,99 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getNumFrame
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  *(com::xuggle::xuggler::IMetaData **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getSampleAspectRatio(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setMetaData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IRational *result = 0 ;
+  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return ;
+  }
+  
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      (arg1)->setMetaData(arg2);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return ;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return ;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return ;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1stampOutputPacket(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
+  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -24651,7 +27975,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getSampleAs
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IRational *)(arg1)->getSampleAspectRatio();
+      result = (int32_t)(arg1)->stampOutputPacket(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -24702,26 +28026,30 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getSampleAs
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IRational **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setSampleAspectRatio(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setStreamCoder_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jboolean jarg3) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IRational *arg2 = (com::xuggle::xuggler::IRational *) 0 ;
+  com::xuggle::xuggler::IStreamCoder *arg2 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  bool arg3 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IRational **)&jarg2; 
+  arg2 = *(com::xuggle::xuggler::IStreamCoder **)&jarg2; 
+  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -24729,7 +28057,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setSampleAsp
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setSampleAspectRatio(arg2);
+      result = (int32_t)(arg1)->setStreamCoder(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -24739,7 +28067,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setSampleAsp
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -24755,7 +28083,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setSampleAsp
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -24765,7 +28093,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setSampleAsp
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -24775,23 +28103,29 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setSampleAsp
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getLanguage(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jstring jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1findTimeStampEntryInIndex(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jint jarg3) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  char *result = 0 ;
+  int64_t arg2 ;
+  int32_t arg3 ;
+  com::xuggle::xuggler::IIndexEntry *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  arg2 = (int64_t)jarg2; 
+  arg3 = (int32_t)jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -24804,7 +28138,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getLangua
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (char *)(arg1)->getLanguage();
+      result = (com::xuggle::xuggler::IIndexEntry *)(arg1)->findTimeStampEntryInIndex(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -24855,100 +28189,24 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getLangua
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  if(result) jresult = jenv->NewStringUTF((const char *)result);
+  *(com::xuggle::xuggler::IIndexEntry **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setLanguage(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  char *arg2 = (char *) 0 ;
-  
-  (void)jenv;
-  (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return ;
-  }
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return ;
-  }
-  
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      (arg1)->setLanguage((char const *)arg2);
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return ;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return ;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return ;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return ;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
-  }
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
-}
-
-
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getContainer(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1findTimeStampPositionInIndex(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jint jarg3) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IContainer *result = 0 ;
+  int64_t arg2 ;
+  int32_t arg3 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  arg2 = (int64_t)jarg2; 
+  arg3 = (int32_t)jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -24961,7 +28219,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getContaine
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IContainer *)(arg1)->getContainer();
+      result = (int32_t)(arg1)->findTimeStampPositionInIndex(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -25012,23 +28270,22 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getContaine
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IContainer **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setStreamCoder_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getIndexEntry(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg2 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  int32_t result;
+  int32_t arg2 ;
+  com::xuggle::xuggler::IIndexEntry *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IStreamCoder **)&jarg2; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -25041,7 +28298,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setStreamCod
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setStreamCoder(arg2);
+      result = (com::xuggle::xuggler::IIndexEntry *)(arg1)->getIndexEntry(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -25092,20 +28349,23 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setStreamCod
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IIndexEntry **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getParseType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1addIndexEntry(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IStream::ParseType result;
+  com::xuggle::xuggler::IIndexEntry *arg2 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IIndexEntry **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -25118,7 +28378,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getParseType
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStream::ParseType)(arg1)->getParseType();
+      result = (int32_t)(arg1)->addIndexEntry(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -25174,15 +28434,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getParseType
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setParseType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setId(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IStream::ParseType arg2 ;
+  int32_t arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IStream::ParseType)jarg2; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -25195,7 +28455,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setParseType
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setParseType(arg2);
+      (arg1)->setId(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -25249,15 +28509,25 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setParseType
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getMetaData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1copyIndexEntries(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jlongArray jarg3, jlongArray jarg4, jintArray jarg5, jintArray jarg6) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IMetaData *result = 0 ;
+  int32_t arg2 ;
+  jlongArray arg3 ;
+  jlongArray arg4 ;
+  jintArray arg5 ;
+  jintArray arg6 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
+  arg3 = jarg3; 
+  arg4 = jarg4; 
+  arg5 = jarg5; 
+  arg6 = jarg6; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -25270,7 +28540,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getMetaData
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IMetaData *)(arg1)->getMetaData();
+      result = (int32_t)com_xuggle_xuggler_IStream_copyIndexEntries(arg1,arg2,arg3,arg4,arg5,arg6);
     }
     catch(std::invalid_argument & e)
     {
@@ -25321,99 +28591,26 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getMetaData
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IMetaData **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setMetaData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
-  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
-  
-  (void)jenv;
-  (void)jcls;
-  (void)jarg1_;
-  (void)jarg2_;
-  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return ;
-  }
-  
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      (arg1)->setMetaData(arg2);
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return ;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return ;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return ;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return ;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
-  }
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1stampOutputPacket(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setInputFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
+  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
+  char *arg2 = (char *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
+  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -25426,7 +28623,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1stampOutputP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->stampOutputPacket(arg2);
+      result = (int32_t)(arg1)->setInputFormat((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -25478,24 +28675,38 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1stampOutputP
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setStreamCoder_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jboolean jarg3) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setOutputFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jstring jarg3, jstring jarg4) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg2 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  bool arg3 ;
+  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
+  char *arg2 = (char *) 0 ;
+  char *arg3 = (char *) 0 ;
+  char *arg4 = (char *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IStreamCoder **)&jarg2; 
-  arg3 = jarg3 ? true : false; 
+  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = 0;
+  if (jarg3) {
+    arg3 = (char *)jenv->GetStringUTFChars(jarg3, 0);
+    if (!arg3) return 0;
+  }
+  arg4 = 0;
+  if (jarg4) {
+    arg4 = (char *)jenv->GetStringUTFChars(jarg4, 0);
+    if (!arg4) return 0;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -25508,7 +28719,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setStreamCod
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setStreamCoder(arg2,arg3);
+      result = (int32_t)(arg1)->setOutputFormat((char const *)arg2,(char const *)arg3,(char const *)arg4);
     }
     catch(std::invalid_argument & e)
     {
@@ -25560,23 +28771,22 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setStreamCod
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  if (arg3) jenv->ReleaseStringUTFChars(jarg3, (const char *)arg3);
+  if (arg4) jenv->ReleaseStringUTFChars(jarg4, (const char *)arg4);
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1findTimeStampEntryInIndex(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jint jarg3) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  int64_t arg2 ;
-  int32_t arg3 ;
-  com::xuggle::xuggler::IIndexEntry *result = 0 ;
+SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInputFormatShortName(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jstring jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
+  char *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = (int64_t)jarg2; 
-  arg3 = (int32_t)jarg3; 
+  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -25589,7 +28799,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1findTimeSta
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IIndexEntry *)(arg1)->findTimeStampEntryInIndex(arg2,arg3);
+      result = (char *)(arg1)->getInputFormatShortName();
     }
     catch(std::invalid_argument & e)
     {
@@ -25640,24 +28850,20 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1findTimeSta
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IIndexEntry **)&jresult = result; 
+  if(result) jresult = jenv->NewStringUTF((const char *)result);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1findTimeStampPositionInIndex(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jint jarg3) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  int64_t arg2 ;
-  int32_t arg3 ;
-  int32_t result;
+SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInputFormatLongName(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jstring jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
+  char *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = (int64_t)jarg2; 
-  arg3 = (int32_t)jarg3; 
+  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -25670,7 +28876,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1findTimeStam
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->findTimeStampPositionInIndex(arg2,arg3);
+      result = (char *)(arg1)->getInputFormatLongName();
     }
     catch(std::invalid_argument & e)
     {
@@ -25721,22 +28927,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1findTimeStam
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  if(result) jresult = jenv->NewStringUTF((const char *)result);
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getIndexEntry(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  int32_t arg2 ;
-  com::xuggle::xuggler::IIndexEntry *result = 0 ;
+SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputFormatShortName(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jstring jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
+  char *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -25749,7 +28953,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getIndexEnt
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IIndexEntry *)(arg1)->getIndexEntry(arg2);
+      result = (char *)(arg1)->getOutputFormatShortName();
     }
     catch(std::invalid_argument & e)
     {
@@ -25800,23 +29004,20 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1getIndexEnt
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IIndexEntry **)&jresult = result; 
+  if(result) jresult = jenv->NewStringUTF((const char *)result);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1addIndexEntry(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  com::xuggle::xuggler::IIndexEntry *arg2 = (com::xuggle::xuggler::IIndexEntry *) 0 ;
-  int32_t result;
+SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputFormatLongName(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jstring jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
+  char *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
-  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IIndexEntry **)&jarg2; 
+  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -25829,7 +29030,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1addIndexEntr
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->addIndexEntry(arg2);
+      result = (char *)(arg1)->getOutputFormatLongName();
     }
     catch(std::invalid_argument & e)
     {
@@ -25880,25 +29081,25 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1addIndexEntr
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  if(result) jresult = jenv->NewStringUTF((const char *)result);
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setId(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  com::xuggle::xuggler::IStream *arg1 = (com::xuggle::xuggler::IStream *) 0 ;
-  int32_t arg2 ;
+SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputFormatMimeType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jstring jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
+  char *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IStream **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -25906,7 +29107,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setId(JNIEnv
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setId(arg2);
+      result = (char *)(arg1)->getOutputFormatMimeType();
     }
     catch(std::invalid_argument & e)
     {
@@ -25916,7 +29117,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setId(JNIEnv
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -25932,7 +29133,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setId(JNIEnv
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -25942,7 +29143,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setId(JNIEnv
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -25952,42 +29153,28 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IStream_1setId(JNIEnv
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  if(result) jresult = jenv->NewStringUTF((const char *)result);
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setInputFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  char *arg2 = (char *) 0 ;
-  int32_t result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1make(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat *result = 0 ;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setInputFormat((char const *)arg2);
+      result = (com::xuggle::xuggler::IContainerFormat *)com::xuggle::xuggler::IContainerFormat::make();
     }
     catch(std::invalid_argument & e)
     {
@@ -26038,39 +29225,116 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  *(com::xuggle::xuggler::IContainerFormat **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1NOFILE_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_NOFILE;
   jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setOutputFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jstring jarg3, jstring jarg4) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1NEEDNUMBER_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_NEEDNUMBER;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1SHOW_1IDS_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_SHOW_IDS;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1RAWPICTURE_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_RAWPICTURE;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1GLOBALHEADER_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_GLOBALHEADER;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1NOTIMESTAMPS_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_NOTIMESTAMPS;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1GENERIC_1INDEX_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_GENERIC_INDEX;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1TS_1DISCONT_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_TS_DISCONT;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInputFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  char *arg2 = (char *) 0 ;
-  char *arg3 = (char *) 0 ;
-  char *arg4 = (char *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = 0;
-  if (jarg3) {
-    arg3 = (char *)jenv->GetStringUTFChars(jarg3, 0);
-    if (!arg3) return 0;
-  }
-  arg4 = 0;
-  if (jarg4) {
-    arg4 = (char *)jenv->GetStringUTFChars(jarg4, 0);
-    if (!arg4) return 0;
-  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -26083,7 +29347,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setOutputFormat((char const *)arg2,(char const *)arg3,(char const *)arg4);
+      result = (int32_t)(arg1)->getInputFlags();
     }
     catch(std::invalid_argument & e)
     {
@@ -26135,27 +29399,24 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
-  if (arg3) jenv->ReleaseStringUTFChars(jarg3, (const char *)arg3);
-  if (arg4) jenv->ReleaseStringUTFChars(jarg4, (const char *)arg4);
   return jresult;
 }
 
 
-SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInputFormatShortName(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jstring jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setInputFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  char *result = 0 ;
+  int32_t arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -26163,7 +29424,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (char *)(arg1)->getInputFormatShortName();
+      (arg1)->setInputFlags(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -26173,7 +29434,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -26189,7 +29450,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -26199,7 +29460,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -26209,25 +29470,25 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  if(result) jresult = jenv->NewStringUTF((const char *)result);
-  return jresult;
 }
 
 
-SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInputFormatLongName(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jstring jresult = 0 ;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInputFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jboolean jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  char *result = 0 ;
+  com::xuggle::xuggler::IContainerFormat::Flags arg2 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::IContainerFormat::Flags)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -26240,7 +29501,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (char *)(arg1)->getInputFormatLongName();
+      result = (bool)(arg1)->getInputFlag(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -26291,25 +29552,27 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  if(result) jresult = jenv->NewStringUTF((const char *)result);
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputFormatShortName(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jstring jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setInputFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jboolean jarg3) {
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  char *result = 0 ;
+  com::xuggle::xuggler::IContainerFormat::Flags arg2 ;
+  bool arg3 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::IContainerFormat::Flags)jarg2; 
+  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -26317,7 +29580,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (char *)(arg1)->getOutputFormatShortName();
+      (arg1)->setInputFlag(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -26327,7 +29590,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -26343,7 +29606,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -26353,7 +29616,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -26363,20 +29626,18 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  if(result) jresult = jenv->NewStringUTF((const char *)result);
-  return jresult;
 }
 
 
-SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputFormatLongName(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jstring jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  char *result = 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
@@ -26394,7 +29655,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (char *)(arg1)->getOutputFormatLongName();
+      result = (int32_t)(arg1)->getOutputFlags();
     }
     catch(std::invalid_argument & e)
     {
@@ -26445,100 +29706,33 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  if(result) jresult = jenv->NewStringUTF((const char *)result);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputFormatMimeType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jstring jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setOutputFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  char *result = 0 ;
+  int32_t arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      result = (char *)(arg1)->getOutputFormatMimeType();
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return 0;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return 0;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
+    return ;
   }
-  if(result) jresult = jenv->NewStringUTF((const char *)result);
-  return jresult;
-}
-
-
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1make(JNIEnv *jenv, jclass jcls) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat *result = 0 ;
   
-  (void)jenv;
-  (void)jcls;
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IContainerFormat *)com::xuggle::xuggler::IContainerFormat::make();
+      (arg1)->setOutputFlags(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -26548,7 +29742,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1ma
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -26564,7 +29758,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1ma
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -26574,7 +29768,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1ma
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -26584,121 +29778,25 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1ma
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IContainerFormat **)&jresult = result; 
-  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1NOFILE_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_NOFILE;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1NEEDNUMBER_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_NEEDNUMBER;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1SHOW_1IDS_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_SHOW_IDS;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1RAWPICTURE_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_RAWPICTURE;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1GLOBALHEADER_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_GLOBALHEADER;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1NOTIMESTAMPS_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_NOTIMESTAMPS;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1GENERIC_1INDEX_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_GENERIC_INDEX;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1FLAG_1TS_1DISCONT_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainerFormat::Flags)com::xuggle::xuggler::IContainerFormat::FLAG_TS_DISCONT;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInputFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jboolean jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  int32_t result;
+  com::xuggle::xuggler::IContainerFormat::Flags arg2 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::IContainerFormat::Flags)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -26711,7 +29809,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getInputFlags();
+      result = (bool)(arg1)->getOutputFlag(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -26762,20 +29860,22 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setInputFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setOutputFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jboolean jarg3) {
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  int32_t arg2 ;
+  com::xuggle::xuggler::IContainerFormat::Flags arg2 ;
+  bool arg3 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg2 = (com::xuggle::xuggler::IContainerFormat::Flags)jarg2; 
+  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -26788,7 +29888,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setInputFlags(arg2);
+      (arg1)->setOutputFlag(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -26842,17 +29942,15 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInputFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1isOutput(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jboolean jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags arg2 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IContainerFormat::Flags)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -26865,7 +29963,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->getInputFlag(arg2);
+      result = (bool)(arg1)->isOutput();
     }
     catch(std::invalid_argument & e)
     {
@@ -26921,22 +30019,20 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setInputFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jboolean jarg3) {
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1isInput(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags arg2 ;
-  bool arg3 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IContainerFormat::Flags)jarg2; 
-  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -26944,7 +30040,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setInputFlag(arg2,arg3);
+      result = (bool)(arg1)->isInput();
     }
     catch(std::invalid_argument & e)
     {
@@ -26954,7 +30050,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -26970,7 +30066,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -26980,7 +30076,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -26990,18 +30086,20 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jboolean)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputExtensions(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jstring jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  int32_t result;
+  char *result = 0 ;
   
   (void)jenv;
   (void)jcls;
@@ -27019,7 +30117,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getOutputFlags();
+      result = (char *)(arg1)->getOutputExtensions();
     }
     catch(std::invalid_argument & e)
     {
@@ -27070,25 +30168,25 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  if(result) jresult = jenv->NewStringUTF((const char *)result);
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setOutputFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputDefaultAudioCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  int32_t arg2 ;
+  com::xuggle::xuggler::ICodec::ID result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -27096,7 +30194,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setOutputFlags(arg2);
+      result = (com::xuggle::xuggler::ICodec::ID)(arg1)->getOutputDefaultAudioCodec();
     }
     catch(std::invalid_argument & e)
     {
@@ -27106,7 +30204,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -27122,7 +30220,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -27132,7 +30230,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -27142,25 +30240,25 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputDefaultVideoCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags arg2 ;
-  bool result;
+  com::xuggle::xuggler::ICodec::ID result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IContainerFormat::Flags)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -27173,7 +30271,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->getOutputFlag(arg2);
+      result = (com::xuggle::xuggler::ICodec::ID)(arg1)->getOutputDefaultVideoCodec();
     }
     catch(std::invalid_argument & e)
     {
@@ -27224,27 +30322,25 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1setOutputFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jboolean jarg3) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputDefaultSubtitleCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  com::xuggle::xuggler::IContainerFormat::Flags arg2 ;
-  bool arg3 ;
+  com::xuggle::xuggler::ICodec::ID result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IContainerFormat::Flags)jarg2; 
-  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -27252,7 +30348,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setOutputFlag(arg2,arg3);
+      result = (com::xuggle::xuggler::ICodec::ID)(arg1)->getOutputDefaultSubtitleCodec();
     }
     catch(std::invalid_argument & e)
     {
@@ -27262,7 +30358,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -27278,7 +30374,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -27288,7 +30384,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -27298,18 +30394,20 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1set
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1isOutput(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputNumCodecsSupported(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  bool result;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
@@ -27327,7 +30425,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->isOutput();
+      result = (int32_t)(arg1)->getOutputNumCodecsSupported();
     }
     catch(std::invalid_argument & e)
     {
@@ -27378,20 +30476,22 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1isInput(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputCodecID(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  bool result;
+  int32_t arg2 ;
+  com::xuggle::xuggler::ICodec::ID result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -27404,7 +30504,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->isInput();
+      result = (com::xuggle::xuggler::ICodec::ID)(arg1)->getOutputCodecID(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -27455,20 +30555,22 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputExtensions(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jstring jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputCodecTag_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  char *result = 0 ;
+  int32_t arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -27481,7 +30583,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (char *)(arg1)->getOutputExtensions();
+      result = (int32_t)(arg1)->getOutputCodecTag(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -27532,20 +30634,22 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  if(result) jresult = jenv->NewStringUTF((const char *)result);
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputDefaultAudioCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputCodecTag_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  com::xuggle::xuggler::ICodec::ID result;
+  com::xuggle::xuggler::ICodec::ID arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -27558,7 +30662,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::ICodec::ID)(arg1)->getOutputDefaultAudioCodec();
+      result = (int32_t)(arg1)->getOutputCodecTag(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -27614,15 +30718,17 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputDefaultVideoCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jint jresult = 0 ;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1isCodecSupportedForOutput(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jboolean jresult = 0 ;
   com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  com::xuggle::xuggler::ICodec::ID result;
+  com::xuggle::xuggler::ICodec::ID arg2 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -27635,7 +30741,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::ICodec::ID)(arg1)->getOutputDefaultVideoCodec();
+      result = (bool)(arg1)->isCodecSupportedForOutput(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -27686,33 +30792,92 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputDefaultSubtitleCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getNumInstalledInputFormats(JNIEnv *jenv, jclass jcls) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  com::xuggle::xuggler::ICodec::ID result;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (int32_t)com::xuggle::xuggler::IContainerFormat::getNumInstalledInputFormats();
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInstalledInputFormat(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jlong jresult = 0 ;
+  int32_t arg1 ;
+  com::xuggle::xuggler::IContainerFormat *result = 0 ;
   
+  (void)jenv;
+  (void)jcls;
+  arg1 = (int32_t)jarg1; 
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::ICodec::ID)(arg1)->getOutputDefaultSubtitleCodec();
+      result = (com::xuggle::xuggler::IContainerFormat *)com::xuggle::xuggler::IContainerFormat::getInstalledInputFormat(arg1);
     }
     catch(std::invalid_argument & e)
     {
@@ -27763,33 +30928,23 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IContainerFormat **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputNumCodecsSupported(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getNumInstalledOutputFormats(JNIEnv *jenv, jclass jcls) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getOutputNumCodecsSupported();
+      result = (int32_t)com::xuggle::xuggler::IContainerFormat::getNumInstalledOutputFormats();
     }
     catch(std::invalid_argument & e)
     {
@@ -27845,30 +31000,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputCodecID(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  int32_t arg2 ;
-  com::xuggle::xuggler::ICodec::ID result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInstalledOutputFormat(JNIEnv *jenv, jclass jcls, jint jarg1) {
+  jlong jresult = 0 ;
+  int32_t arg1 ;
+  com::xuggle::xuggler::IContainerFormat *result = 0 ;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
+  arg1 = (int32_t)jarg1; 
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::ICodec::ID)(arg1)->getOutputCodecID(arg2);
+      result = (com::xuggle::xuggler::IContainerFormat *)com::xuggle::xuggler::IContainerFormat::getInstalledOutputFormat(arg1);
     }
     catch(std::invalid_argument & e)
     {
@@ -27919,22 +31064,22 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IContainerFormat **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputCodecTag_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setInputBufferLength(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  int32_t arg2 ;
+  com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  uint32_t arg2 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = (uint32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -27947,7 +31092,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getOutputCodecTag(arg2);
+      result = (int32_t)(arg1)->setInputBufferLength(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -28003,17 +31148,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getOutputCodecTag_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  com::xuggle::xuggler::ICodec::ID arg2 ;
-  int32_t result;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getInputBufferLength(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
+  com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  uint32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
+  arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -28026,7 +31169,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getOutputCodecTag(arg2);
+      result = (uint32_t)(arg1)->getInputBufferLength();
     }
     catch(std::invalid_argument & e)
     {
@@ -28077,22 +31220,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1isCodecSupportedForOutput(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1isOpened(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jboolean jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  com::xuggle::xuggler::ICodec::ID arg2 ;
+  com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
+  arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -28105,7 +31246,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->isCodecSupportedForOutput(arg2);
+      result = (bool)(arg1)->isOpened();
     }
     catch(std::invalid_argument & e)
     {
@@ -28161,87 +31302,28 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getNumInstalledInputFormats(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  int32_t result;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1isHeaderWritten(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      result = (int32_t)com::xuggle::xuggler::IContainerFormat::getNumInstalledInputFormats();
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return 0;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return 0;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
   }
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInstalledInputFormat(JNIEnv *jenv, jclass jcls, jint jarg1) {
-  jlong jresult = 0 ;
-  int32_t arg1 ;
-  com::xuggle::xuggler::IContainerFormat *result = 0 ;
   
-  (void)jenv;
-  (void)jcls;
-  arg1 = (int32_t)jarg1; 
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IContainerFormat *)com::xuggle::xuggler::IContainerFormat::getInstalledInputFormat(arg1);
+      result = (bool)(arg1)->isHeaderWritten();
     }
     catch(std::invalid_argument & e)
     {
@@ -28292,23 +31374,44 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1ge
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IContainerFormat **)&jresult = result; 
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getNumInstalledOutputFormats(JNIEnv *jenv, jclass jcls) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jint jarg3, jlong jarg4, jobject jarg4_) {
   jint jresult = 0 ;
+  com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  char *arg2 = (char *) 0 ;
+  com::xuggle::xuggler::IContainer::Type arg3 ;
+  com::xuggle::xuggler::IContainerFormat *arg4 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
+  (void)jarg1_;
+  (void)jarg4_;
+  arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = (com::xuggle::xuggler::IContainer::Type)jarg3; 
+  arg4 = *(com::xuggle::xuggler::IContainerFormat **)&jarg4; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)com::xuggle::xuggler::IContainerFormat::getNumInstalledOutputFormats();
+      result = (int32_t)(arg1)->open((char const *)arg2,arg3,arg4);
     }
     catch(std::invalid_argument & e)
     {
@@ -28360,24 +31463,48 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1get
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1getInstalledOutputFormat(JNIEnv *jenv, jclass jcls, jint jarg1) {
-  jlong jresult = 0 ;
-  int32_t arg1 ;
-  com::xuggle::xuggler::IContainerFormat *result = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jint jarg3, jlong jarg4, jobject jarg4_, jboolean jarg5, jboolean jarg6) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  char *arg2 = (char *) 0 ;
+  com::xuggle::xuggler::IContainer::Type arg3 ;
+  com::xuggle::xuggler::IContainerFormat *arg4 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
+  bool arg5 ;
+  bool arg6 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
-  arg1 = (int32_t)jarg1; 
+  (void)jarg1_;
+  (void)jarg4_;
+  arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = (com::xuggle::xuggler::IContainer::Type)jarg3; 
+  arg4 = *(com::xuggle::xuggler::IContainerFormat **)&jarg4; 
+  arg5 = jarg5 ? true : false; 
+  arg6 = jarg6 ? true : false; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IContainerFormat *)com::xuggle::xuggler::IContainerFormat::getInstalledOutputFormat(arg1);
+      result = (int32_t)(arg1)->open((char const *)arg2,arg3,arg4,arg5,arg6);
     }
     catch(std::invalid_argument & e)
     {
@@ -28428,22 +31555,21 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainerFormat_1ge
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IContainerFormat **)&jresult = result; 
+  jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setInputBufferLength(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getContainerFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  uint32_t arg2 ;
-  int32_t result;
+  com::xuggle::xuggler::IContainerFormat *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (uint32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -28456,7 +31582,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setInputB
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setInputBufferLength(arg2);
+      result = (com::xuggle::xuggler::IContainerFormat *)(arg1)->getContainerFormat();
     }
     catch(std::invalid_argument & e)
     {
@@ -28507,15 +31633,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setInputB
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IContainerFormat **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getInputBufferLength(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1close(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  uint32_t result;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
@@ -28533,7 +31659,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getInput
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (uint32_t)(arg1)->getInputBufferLength();
+      result = (int32_t)(arg1)->close();
     }
     catch(std::invalid_argument & e)
     {
@@ -28584,15 +31710,15 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getInput
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1isOpened(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  bool result;
+  com::xuggle::xuggler::IContainer::Type result;
   
   (void)jenv;
   (void)jcls;
@@ -28610,7 +31736,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1isOpe
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->isOpened();
+      result = (com::xuggle::xuggler::IContainer::Type)(arg1)->getType();
     }
     catch(std::invalid_argument & e)
     {
@@ -28661,15 +31787,15 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1isOpe
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1isHeaderWritten(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getNumStreams(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  bool result;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
@@ -28687,7 +31813,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1isHea
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->isHeaderWritten();
+      result = (int32_t)(arg1)->getNumStreams();
     }
     catch(std::invalid_argument & e)
     {
@@ -28738,31 +31864,22 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1isHea
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jint jarg3, jlong jarg4, jobject jarg4_) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getStream(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IContainer::Type arg3 ;
-  com::xuggle::xuggler::IContainerFormat *arg4 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  int32_t result;
+  uint32_t arg2 ;
+  com::xuggle::xuggler::IStream *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg4_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = (com::xuggle::xuggler::IContainer::Type)jarg3; 
-  arg4 = *(com::xuggle::xuggler::IContainerFormat **)&jarg4; 
+  arg2 = (uint32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -28775,7 +31892,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1S
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->open((char const *)arg2,arg3,arg4);
+      result = (com::xuggle::xuggler::IStream *)(arg1)->getStream(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -28826,36 +31943,22 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1S
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  *(com::xuggle::xuggler::IStream **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jint jarg3, jlong jarg4, jobject jarg4_, jboolean jarg5, jboolean jarg6) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewStream_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IContainer::Type arg3 ;
-  com::xuggle::xuggler::IContainerFormat *arg4 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  bool arg5 ;
-  bool arg6 ;
-  int32_t result;
+  int32_t arg2 ;
+  com::xuggle::xuggler::IStream *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg4_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = (com::xuggle::xuggler::IContainer::Type)jarg3; 
-  arg4 = *(com::xuggle::xuggler::IContainerFormat **)&jarg4; 
-  arg5 = jarg5 ? true : false; 
-  arg6 = jarg6 ? true : false; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -28868,7 +31971,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1S
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->open((char const *)arg2,arg3,arg4,arg5,arg6);
+      result = (com::xuggle::xuggler::IStream *)(arg1)->addNewStream(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -28919,16 +32022,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1S
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  *(com::xuggle::xuggler::IStream **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getContainerFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writeHeader(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IContainerFormat *result = 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
@@ -28946,7 +32048,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getConta
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IContainerFormat *)(arg1)->getContainerFormat();
+      result = (int32_t)(arg1)->writeHeader();
     }
     catch(std::invalid_argument & e)
     {
@@ -28997,12 +32099,12 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getConta
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IContainerFormat **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1close(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writeTrailer(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   int32_t result;
@@ -29023,7 +32125,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1close(JNI
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->close();
+      result = (int32_t)(arg1)->writeTrailer();
     }
     catch(std::invalid_argument & e)
     {
@@ -29079,15 +32181,18 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1close(JNI
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getType(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1readNextPacket(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IContainer::Type result;
+  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -29100,7 +32205,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getType(J
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IContainer::Type)(arg1)->getType();
+      result = (int32_t)(arg1)->readNextPacket(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -29156,15 +32261,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getType(J
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getNumStreams(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writePacket_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jboolean jarg3) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
+  bool arg3 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
+  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -29177,7 +32287,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getNumStr
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getNumStreams();
+      result = (int32_t)(arg1)->writePacket(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -29233,17 +32343,18 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getNumStr
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getStream(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writePacket_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  uint32_t arg2 ;
-  com::xuggle::xuggler::IStream *result = 0 ;
+  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (uint32_t)jarg2; 
+  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -29256,7 +32367,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getStrea
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStream *)(arg1)->getStream(arg2);
+      result = (int32_t)(arg1)->writePacket(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -29307,35 +32418,23 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getStrea
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IStream **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewStream_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1make_1_1SWIG_10(JNIEnv *jenv, jclass jcls) {
   jlong jresult = 0 ;
-  com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  int32_t arg2 ;
-  com::xuggle::xuggler::IStream *result = 0 ;
+  com::xuggle::xuggler::IContainer *result = 0 ;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStream *)(arg1)->addNewStream(arg2);
+      result = (com::xuggle::xuggler::IContainer *)com::xuggle::xuggler::IContainer::make();
     }
     catch(std::invalid_argument & e)
     {
@@ -29386,12 +32485,12 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewSt
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IStream **)&jresult = result; 
+  *(com::xuggle::xuggler::IContainer **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writeHeader(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1queryStreamMetaData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   int32_t result;
@@ -29412,7 +32511,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writeHead
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->writeHeader();
+      result = (int32_t)(arg1)->queryStreamMetaData();
     }
     catch(std::invalid_argument & e)
     {
@@ -29468,15 +32567,21 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writeHead
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writeTrailer(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1seekKeyFrame_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jlong jarg3, jint jarg4) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  int32_t arg2 ;
+  int64_t arg3 ;
+  int32_t arg4 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
+  arg3 = (int64_t)jarg3; 
+  arg4 = (int32_t)jarg4; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -29489,7 +32594,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writeTrai
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->writeTrailer();
+      result = (int32_t)(arg1)->seekKeyFrame(arg2,arg3,arg4);
     }
     catch(std::invalid_argument & e)
     {
@@ -29545,18 +32650,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writeTrai
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1readNextPacket(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getDuration(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
-  int32_t result;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -29569,7 +32671,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1readNextP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->readNextPacket(arg2);
+      result = (int64_t)(arg1)->getDuration();
     }
     catch(std::invalid_argument & e)
     {
@@ -29620,25 +32722,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1readNextP
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writePacket_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jboolean jarg3) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getStartTime(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
-  bool arg3 ;
-  int32_t result;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
-  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -29651,7 +32748,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writePack
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->writePacket(arg2,arg3);
+      result = (int64_t)(arg1)->getStartTime();
     }
     catch(std::invalid_argument & e)
     {
@@ -29702,23 +32799,20 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writePack
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writePacket_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFileSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IPacket *arg2 = (com::xuggle::xuggler::IPacket *) 0 ;
-  int32_t result;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IPacket **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -29731,7 +32825,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writePack
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->writePacket(arg2);
+      result = (int64_t)(arg1)->getFileSize();
     }
     catch(std::invalid_argument & e)
     {
@@ -29782,23 +32876,33 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1writePack
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1make_1_1SWIG_10(JNIEnv *jenv, jclass jcls) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IContainer *result = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getBitRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  
+  if (!arg1) {
+    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
+      "invalid native object; delete() likely already called");
+    return 0;
+  }
+  
   {
     // JNIHelper.swg: Start generated code
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IContainer *)com::xuggle::xuggler::IContainer::make();
+      result = (int32_t)(arg1)->getBitRate();
     }
     catch(std::invalid_argument & e)
     {
@@ -29849,12 +32953,12 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1make_1_1
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IContainer **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1queryStreamMetaData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getNumProperties(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   int32_t result;
@@ -29875,7 +32979,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1queryStre
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->queryStreamMetaData();
+      result = (int32_t)(arg1)->getNumProperties();
     }
     catch(std::invalid_argument & e)
     {
@@ -29931,21 +33035,17 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1queryStre
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1seekKeyFrame_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jlong jarg3, jint jarg4) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyMetaData_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   int32_t arg2 ;
-  int64_t arg3 ;
-  int32_t arg4 ;
-  int32_t result;
+  com::xuggle::xuggler::IProperty *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
   arg2 = (int32_t)jarg2; 
-  arg3 = (int64_t)jarg3; 
-  arg4 = (int32_t)jarg4; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -29958,7 +33058,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1seekKeyFr
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->seekKeyFrame(arg2,arg3,arg4);
+      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -30009,20 +33109,26 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1seekKeyFr
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getDuration(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyMetaData_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
   jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  int64_t result;
+  char *arg2 = (char *) 0 ;
+  com::xuggle::xuggler::IProperty *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -30035,7 +33141,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getDurat
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getDuration();
+      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -30086,20 +33192,33 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getDurat
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getStartTime(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jstring jarg3) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  int64_t result;
+  char *arg2 = (char *) 0 ;
+  char *arg3 = (char *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = 0;
+  if (jarg3) {
+    arg3 = (char *)jenv->GetStringUTFChars(jarg3, 0);
+    if (!arg3) return 0;
+  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -30112,7 +33231,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getStart
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getStartTime();
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,(char const *)arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -30163,20 +33282,30 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getStart
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  if (arg3) jenv->ReleaseStringUTFChars(jarg3, (const char *)arg3);
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFileSize(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jdouble jarg3) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  int64_t result;
+  char *arg2 = (char *) 0 ;
+  double arg3 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = (double)jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -30189,7 +33318,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFileS
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getFileSize();
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -30240,20 +33369,29 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFileS
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
+  jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getBitRate(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  char *arg2 = (char *) 0 ;
+  int64_t arg3 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = (int64_t)jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -30266,7 +33404,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getBitRat
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getBitRate();
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -30318,19 +33456,28 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getBitRat
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getNumProperties(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jboolean jarg3) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  char *arg2 = (char *) 0 ;
+  bool arg3 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -30343,7 +33490,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getNumPro
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getNumProperties();
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -30395,21 +33542,29 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getNumPro
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyMetaData_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_14(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3, jobject jarg3_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  int32_t arg2 ;
-  com::xuggle::xuggler::IProperty *result = 0 ;
+  char *arg2 = (char *) 0 ;
+  com::xuggle::xuggler::IRational *arg3 = (com::xuggle::xuggler::IRational *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = *(com::xuggle::xuggler::IRational **)&jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -30422,7 +33577,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPrope
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData(arg2);
+      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -30473,16 +33628,17 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPrope
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
+  jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyMetaData_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jlong jresult = 0 ;
+SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyAsString(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jstring jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IProperty *result = 0 ;
+  char *result = 0 ;
   
   (void)jenv;
   (void)jcls;
@@ -30505,7 +33661,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPrope
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IProperty *)(arg1)->getPropertyMetaData((char const *)arg2);
+      result = (char *)(arg1)->getPropertyAsString((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -30556,18 +33712,18 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPrope
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IProperty **)&jresult = result; 
+  if(result) jresult = jenv->NewStringUTF((const char *)result);
   if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  free(result);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_10(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jstring jarg3) {
-  jint jresult = 0 ;
+SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyAsDouble(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jdouble jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   char *arg2 = (char *) 0 ;
-  char *arg3 = (char *) 0 ;
-  int32_t result;
+  double result;
   
   (void)jenv;
   (void)jcls;
@@ -30578,11 +33734,6 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
     if (!arg2) return 0;
   }
-  arg3 = 0;
-  if (jarg3) {
-    arg3 = (char *)jenv->GetStringUTFChars(jarg3, 0);
-    if (!arg3) return 0;
-  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -30595,7 +33746,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,(char const *)arg3);
+      result = (double)(arg1)->getPropertyAsDouble((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -30646,19 +33797,17 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jdouble)result; 
   if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
-  if (arg3) jenv->ReleaseStringUTFChars(jarg3, (const char *)arg3);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jdouble jarg3) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyAsLong(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   char *arg2 = (char *) 0 ;
-  double arg3 ;
-  int32_t result;
+  int64_t result;
   
   (void)jenv;
   (void)jcls;
@@ -30669,7 +33818,6 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
     if (!arg2) return 0;
   }
-  arg3 = (double)jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -30682,7 +33830,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (int64_t)(arg1)->getPropertyAsLong((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -30733,18 +33881,17 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jlong)result; 
   if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyAsRational(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   char *arg2 = (char *) 0 ;
-  int64_t arg3 ;
-  int32_t result;
+  com::xuggle::xuggler::IRational *result = 0 ;
   
   (void)jenv;
   (void)jcls;
@@ -30755,7 +33902,6 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
     if (!arg2) return 0;
   }
-  arg3 = (int64_t)jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -30768,7 +33914,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (com::xuggle::xuggler::IRational *)(arg1)->getPropertyAsRational((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -30819,18 +33965,17 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IRational **)&jresult = result; 
   if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jboolean jarg3) {
-  jint jresult = 0 ;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyAsBoolean(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
+  jboolean jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   char *arg2 = (char *) 0 ;
-  bool arg3 ;
-  int32_t result;
+  bool result;
   
   (void)jenv;
   (void)jcls;
@@ -30841,7 +33986,6 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
     if (!arg2) return 0;
   }
-  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -30854,7 +33998,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (bool)(arg1)->getPropertyAsBoolean((char const *)arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -30905,30 +34049,105 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  jresult = (jboolean)result; 
   if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_14(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jlong jarg3, jobject jarg3_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1GENPTS_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainer::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_GENPTS;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1IGNIDX_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainer::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_IGNIDX;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1NONBLOCK_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainer::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_NONBLOCK;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1IGNDTS_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainer::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_IGNDTS;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1NOFILLIN_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainer::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_NOFILLIN;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1NOPARSE_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainer::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_NOPARSE;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1RTP_1HINT_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  com::xuggle::xuggler::IContainer::Flags result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_RTP_HINT;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IRational *arg3 = (com::xuggle::xuggler::IRational *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = *(com::xuggle::xuggler::IRational **)&jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -30941,7 +34160,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty((char const *)arg2,arg3);
+      result = (int32_t)(arg1)->getFlags();
     }
     catch(std::invalid_argument & e)
     {
@@ -30993,31 +34212,24 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyAsString(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jstring jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  char *arg2 = (char *) 0 ;
-  char *result = 0 ;
+  int32_t arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -31025,7 +34237,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPro
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (char *)(arg1)->getPropertyAsString((char const *)arg2);
+      (arg1)->setFlags(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -31035,7 +34247,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPro
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -31051,7 +34263,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPro
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -31061,7 +34273,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPro
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -31071,33 +34283,25 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPro
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  if(result) jresult = jenv->NewStringUTF((const char *)result);
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
-  free(result);
-  return jresult;
 }
 
 
-SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyAsDouble(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jdouble jresult = 0 ;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jboolean jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  char *arg2 = (char *) 0 ;
-  double result;
+  com::xuggle::xuggler::IContainer::Flags arg2 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
+  arg2 = (com::xuggle::xuggler::IContainer::Flags)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -31110,7 +34314,7 @@ SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPro
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (double)(arg1)->getPropertyAsDouble((char const *)arg2);
+      result = (bool)(arg1)->getFlag(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -31161,32 +34365,27 @@ SWIGEXPORT jdouble JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPro
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jdouble)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyAsLong(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jlong jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jboolean jarg3) {
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  char *arg2 = (char *) 0 ;
-  int64_t result;
+  com::xuggle::xuggler::IContainer::Flags arg2 ;
+  bool arg3 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
+  arg2 = (com::xuggle::xuggler::IContainer::Flags)jarg2; 
+  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -31194,7 +34393,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPrope
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int64_t)(arg1)->getPropertyAsLong((char const *)arg2);
+      (arg1)->setFlag(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -31204,7 +34403,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPrope
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -31220,7 +34419,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPrope
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -31230,7 +34429,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPrope
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -31240,32 +34439,23 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPrope
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jlong)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
-  return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyAsRational(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jlong jresult = 0 ;
+SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getURL(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jstring jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IRational *result = 0 ;
+  char *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -31278,7 +34468,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPrope
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IRational *)(arg1)->getPropertyAsRational((char const *)arg2);
+      result = (char *)(arg1)->getURL();
     }
     catch(std::invalid_argument & e)
     {
@@ -31329,27 +34519,20 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPrope
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IRational **)&jresult = result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
+  if(result) jresult = jenv->NewStringUTF((const char *)result);
   return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPropertyAsBoolean(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1flushPackets(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  char *arg2 = (char *) 0 ;
-  bool result;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -31362,7 +34545,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPr
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->getPropertyAsBoolean((char const *)arg2);
+      result = (int32_t)(arg1)->flushPackets();
     }
     catch(std::invalid_argument & e)
     {
@@ -31413,97 +34596,12 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPr
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1GENPTS_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainer::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_GENPTS;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1IGNIDX_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainer::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_IGNIDX;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1NONBLOCK_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainer::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_NONBLOCK;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1IGNDTS_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainer::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_IGNDTS;
   jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1NOFILLIN_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainer::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_NOFILLIN;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1NOPARSE_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainer::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_NOPARSE;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FLAG_1RTP_1HINT_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  com::xuggle::xuggler::IContainer::Flags result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (com::xuggle::xuggler::IContainer::Flags)com::xuggle::xuggler::IContainer::FLAG_RTP_HINT;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getReadRetryCount(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   int32_t result;
@@ -31524,7 +34622,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFlags(
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getFlags();
+      result = (int32_t)(arg1)->getReadRetryCount();
     }
     catch(std::invalid_argument & e)
     {
@@ -31580,7 +34678,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFlags(
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFlags(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setReadRetryCount(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   int32_t arg2 ;
   
@@ -31601,7 +34699,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFlags(
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setFlags(arg2);
+      (arg1)->setReadRetryCount(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -31655,17 +34753,15 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFlags(
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1canStreamsBeAddedDynamically(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jboolean jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IContainer::Flags arg2 ;
   bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IContainer::Flags)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -31678,7 +34774,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFl
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->getFlag(arg2);
+      result = (bool)(arg1)->canStreamsBeAddedDynamically();
     }
     catch(std::invalid_argument & e)
     {
@@ -31734,22 +34830,20 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFl
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFlag(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jboolean jarg3) {
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getMetaData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IContainer::Flags arg2 ;
-  bool arg3 ;
+  com::xuggle::xuggler::IMetaData *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::IContainer::Flags)jarg2; 
-  arg3 = jarg3 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -31757,7 +34851,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFlag(J
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setFlag(arg2,arg3);
+      result = (com::xuggle::xuggler::IMetaData *)(arg1)->getMetaData();
     }
     catch(std::invalid_argument & e)
     {
@@ -31767,7 +34861,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFlag(J
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -31783,7 +34877,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFlag(J
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -31793,7 +34887,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFlag(J
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -31803,28 +34897,31 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFlag(J
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  *(com::xuggle::xuggler::IMetaData **)&jresult = result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getURL(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jstring jresult = 0 ;
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setMetaData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  char *result = 0 ;
+  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -31832,7 +34929,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getURL
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (char *)(arg1)->getURL();
+      (arg1)->setMetaData(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -31842,7 +34939,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getURL
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -31858,7 +34955,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getURL
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -31868,7 +34965,7 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getURL
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -31878,25 +34975,26 @@ SWIGEXPORT jstring JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getURL
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  if(result) jresult = jenv->NewStringUTF((const char *)result);
-  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1flushPackets(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1createSDPData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  com::xuggle::ferry::IBuffer *arg2 = (com::xuggle::ferry::IBuffer *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = *(com::xuggle::ferry::IBuffer **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -31909,7 +35007,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1flushPack
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->flushPackets();
+      result = (int32_t)(arg1)->createSDPData(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -31965,15 +35063,17 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1flushPack
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getReadRetryCount(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForcedAudioCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  com::xuggle::xuggler::ICodec::ID arg2 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -31986,7 +35086,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getReadRe
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getReadRetryCount();
+      result = (int32_t)(arg1)->setForcedAudioCodec(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -32042,20 +35142,22 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getReadRe
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setReadRetryCount(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForcedVideoCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  int32_t arg2 ;
+  com::xuggle::xuggler::ICodec::ID arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -32063,7 +35165,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setReadRe
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setReadRetryCount(arg2);
+      result = (int32_t)(arg1)->setForcedVideoCodec(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -32073,7 +35175,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setReadRe
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -32089,7 +35191,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setReadRe
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -32099,7 +35201,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setReadRe
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -32109,23 +35211,27 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setReadRe
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1canStreamsBeAddedDynamically(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jboolean jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForcedSubtitleCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  bool result;
+  com::xuggle::xuggler::ICodec::ID arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -32138,7 +35244,7 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1canSt
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (bool)(arg1)->canStreamsBeAddedDynamically();
+      result = (int32_t)(arg1)->setForcedSubtitleCodec(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -32189,20 +35295,78 @@ SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1canSt
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jboolean)result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getMetaData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1SEEK_1FLAG_1BACKWARDS_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (int)com::xuggle::xuggler::IContainer::SEEK_FLAG_BACKWARDS;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1SEEK_1FLAG_1BYTE_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (int)com::xuggle::xuggler::IContainer::SEEK_FLAG_BYTE;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1SEEK_1FLAG_1ANY_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (int)com::xuggle::xuggler::IContainer::SEEK_FLAG_ANY;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1SEEK_1FLAG_1FRAME_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (int)com::xuggle::xuggler::IContainer::SEEK_FLAG_FRAME;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1seekKeyFrame_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jlong jarg3, jlong jarg4, jlong jarg5, jint jarg6) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IMetaData *result = 0 ;
+  int32_t arg2 ;
+  int64_t arg3 ;
+  int64_t arg4 ;
+  int64_t arg5 ;
+  int32_t arg6 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = (int32_t)jarg2; 
+  arg3 = (int64_t)jarg3; 
+  arg4 = (int64_t)jarg4; 
+  arg5 = (int64_t)jarg5; 
+  arg6 = (int32_t)jarg6; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -32215,7 +35379,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getMetaD
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IMetaData *)(arg1)->getMetaData();
+      result = (int32_t)(arg1)->seekKeyFrame(arg2,arg3,arg4,arg5,arg6);
     }
     catch(std::invalid_argument & e)
     {
@@ -32266,26 +35430,27 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getMetaD
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IMetaData **)&jresult = result; 
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setMetaData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setPreload(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
+  int32_t arg2 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return ;
+    return 0;
   }
   
   {
@@ -32293,7 +35458,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setMetaDa
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      (arg1)->setMetaData(arg2);
+      result = (int32_t)(arg1)->setPreload(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -32303,7 +35468,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setMetaDa
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(std::bad_alloc & e)
     {
@@ -32319,7 +35484,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setMetaDa
           helper->throwOutOfMemoryError();
         }
       }
-      return ;
+      return 0;
     }
     catch(std::exception & e)
     {
@@ -32329,7 +35494,7 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setMetaDa
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return ;
+      return 0;
     }
     catch(...)
     {
@@ -32339,26 +35504,25 @@ SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setMetaDa
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return ;
+      return 0;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
+  jresult = (jint)result; 
+  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1createSDPData(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPreload(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::ferry::IBuffer *arg2 = (com::xuggle::ferry::IBuffer *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = *(com::xuggle::ferry::IBuffer **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -32371,7 +35535,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1createSDP
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->createSDPData(arg2);
+      result = (int32_t)(arg1)->getPreload();
     }
     catch(std::invalid_argument & e)
     {
@@ -32427,17 +35591,17 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1createSDP
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForcedAudioCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setMaxDelay(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::ICodec::ID arg2 ;
+  int32_t arg2 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
+  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -32450,7 +35614,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForced
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setForcedAudioCodec(arg2);
+      result = (int32_t)(arg1)->setMaxDelay(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -32506,17 +35670,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForced
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForcedVideoCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getMaxDelay(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::ICodec::ID arg2 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -32529,7 +35691,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForced
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setForcedVideoCodec(arg2);
+      result = (int32_t)(arg1)->getMaxDelay();
     }
     catch(std::invalid_argument & e)
     {
@@ -32585,11 +35747,11 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForced
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForcedSubtitleCodec(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewStream_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
   com::xuggle::xuggler::ICodec::ID arg2 ;
-  int32_t result;
+  com::xuggle::xuggler::IStream *result = 0 ;
   
   (void)jenv;
   (void)jcls;
@@ -32608,7 +35770,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForced
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setForcedSubtitleCodec(arg2);
+      result = (com::xuggle::xuggler::IStream *)(arg1)->addNewStream(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -32659,78 +35821,23 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setForced
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1SEEK_1FLAG_1BACKWARDS_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  int result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (int)com::xuggle::xuggler::IContainer::SEEK_FLAG_BACKWARDS;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1SEEK_1FLAG_1BYTE_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  int result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (int)com::xuggle::xuggler::IContainer::SEEK_FLAG_BYTE;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1SEEK_1FLAG_1ANY_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  int result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (int)com::xuggle::xuggler::IContainer::SEEK_FLAG_ANY;
-  jresult = (jint)result; 
-  return jresult;
-}
-
-
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1SEEK_1FLAG_1FRAME_1get(JNIEnv *jenv, jclass jcls) {
-  jint jresult = 0 ;
-  int result;
-  
-  (void)jenv;
-  (void)jcls;
-  result = (int)com::xuggle::xuggler::IContainer::SEEK_FLAG_FRAME;
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IStream **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1seekKeyFrame_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jlong jarg3, jlong jarg4, jlong jarg5, jint jarg6) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewStream_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  int32_t arg2 ;
-  int64_t arg3 ;
-  int64_t arg4 ;
-  int64_t arg5 ;
-  int32_t arg6 ;
-  int32_t result;
+  com::xuggle::xuggler::ICodec *arg2 = (com::xuggle::xuggler::ICodec *) 0 ;
+  com::xuggle::xuggler::IStream *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
-  arg3 = (int64_t)jarg3; 
-  arg4 = (int64_t)jarg4; 
-  arg5 = (int64_t)jarg5; 
-  arg6 = (int32_t)jarg6; 
+  arg2 = *(com::xuggle::xuggler::ICodec **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -32743,7 +35850,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1seekKeyFr
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->seekKeyFrame(arg2,arg3,arg4,arg5,arg6);
+      result = (com::xuggle::xuggler::IStream *)(arg1)->addNewStream(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -32794,22 +35901,23 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1seekKeyFr
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IStream **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setPreload(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewStream_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  int32_t arg2 ;
-  int32_t result;
+  com::xuggle::xuggler::IStreamCoder *arg2 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
+  com::xuggle::xuggler::IStream *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
+  arg2 = *(com::xuggle::xuggler::IStreamCoder **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -32822,7 +35930,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setPreloa
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setPreload(arg2);
+      result = (com::xuggle::xuggler::IStream *)(arg1)->addNewStream(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -32873,20 +35981,26 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setPreloa
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IStream **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPreload(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_15(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
+  com::xuggle::xuggler::IMetaData *arg3 = (com::xuggle::xuggler::IMetaData *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
+  (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
+  arg3 = *(com::xuggle::xuggler::IMetaData **)&jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -32899,7 +36013,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPreloa
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getPreload();
+      result = (int32_t)(arg1)->setProperty(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -32955,17 +36069,15 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getPreloa
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setMaxDelay(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
-  jint jresult = 0 ;
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jlong jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  int32_t arg2 ;
-  int32_t result;
+  com::xuggle::xuggler::IContainerFormat *result = 0 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (int32_t)jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -32978,7 +36090,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setMaxDel
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setMaxDelay(arg2);
+      result = (com::xuggle::xuggler::IContainerFormat *)(arg1)->getFormat();
     }
     catch(std::invalid_argument & e)
     {
@@ -33029,20 +36141,23 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setMaxDel
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  jresult = (jint)result; 
+  *(com::xuggle::xuggler::IContainerFormat **)&jresult = result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getMaxDelay(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
+  com::xuggle::xuggler::IContainerFormat *arg2 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
+  arg2 = *(com::xuggle::xuggler::IContainerFormat **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -33055,7 +36170,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getMaxDel
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->getMaxDelay();
+      result = (int32_t)(arg1)->setFormat(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -33111,17 +36226,106 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getMaxDel
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewStream_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2) {
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1make_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
   jlong jresult = 0 ;
+  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
+  com::xuggle::xuggler::IContainer *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
+  {
+    // JNIHelper.swg: Start generated code
+    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
+    try
+    {
+      result = (com::xuggle::xuggler::IContainer *)com::xuggle::xuggler::IContainer::make(arg1);
+    }
+    catch(std::invalid_argument & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(std::bad_alloc & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        // OK, this is bad and may mean we can't do things like 
+        // allocate a new class at this time; but we should have
+        // one lying around
+        com::xuggle::ferry::JNIHelper *helper = 
+        com::xuggle::ferry::JNIHelper::getHelper();
+        if (helper) {
+          helper->throwOutOfMemoryError();
+        }
+      }
+      return 0;
+    }
+    catch(std::exception & e)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, e.what());
+      }
+      return 0;
+    }
+    catch(...)
+    {
+      // we don't let a native exception override a java exception
+      if (!jenv->ExceptionCheck())
+      {
+        jclass cls=jenv->FindClass("java/lang/RuntimeException");
+        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
+      }
+      return 0;
+    }
+    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
+    // JNIHelper.swg: End generated code
+  }
+  *(com::xuggle::xuggler::IContainer **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jint jarg3, jlong jarg4, jobject jarg4_, jboolean jarg5, jboolean jarg6, jlong jarg7, jobject jarg7_, jlong jarg8, jobject jarg8_) {
+  jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::ICodec::ID arg2 ;
-  com::xuggle::xuggler::IStream *result = 0 ;
+  char *arg2 = (char *) 0 ;
+  com::xuggle::xuggler::IContainer::Type arg3 ;
+  com::xuggle::xuggler::IContainerFormat *arg4 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
+  bool arg5 ;
+  bool arg6 ;
+  com::xuggle::xuggler::IMetaData *arg7 = (com::xuggle::xuggler::IMetaData *) 0 ;
+  com::xuggle::xuggler::IMetaData *arg8 = (com::xuggle::xuggler::IMetaData *) 0 ;
+  int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
+  (void)jarg4_;
+  (void)jarg7_;
+  (void)jarg8_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = (com::xuggle::xuggler::ICodec::ID)jarg2; 
+  arg2 = 0;
+  if (jarg2) {
+    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
+    if (!arg2) return 0;
+  }
+  arg3 = (com::xuggle::xuggler::IContainer::Type)jarg3; 
+  arg4 = *(com::xuggle::xuggler::IContainerFormat **)&jarg4; 
+  arg5 = jarg5 ? true : false; 
+  arg6 = jarg6 ? true : false; 
+  arg7 = *(com::xuggle::xuggler::IMetaData **)&jarg7; 
+  arg8 = *(com::xuggle::xuggler::IMetaData **)&jarg8; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -33134,7 +36338,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewSt
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStream *)(arg1)->addNewStream(arg2);
+      result = (int32_t)(arg1)->open((char const *)arg2,arg3,arg4,arg5,arg6,arg7,arg8);
     }
     catch(std::invalid_argument & e)
     {
@@ -33185,23 +36389,21 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewSt
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IStream **)&jresult = result; 
+  jresult = (jint)result; 
+  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewStream_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
-  jlong jresult = 0 ;
+SWIGEXPORT jboolean JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getZeroCopyReading(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::ICodec *arg2 = (com::xuggle::xuggler::ICodec *) 0 ;
-  com::xuggle::xuggler::IStream *result = 0 ;
+  bool result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::ICodec **)&jarg2; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -33214,7 +36416,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewSt
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStream *)(arg1)->addNewStream(arg2);
+      result = (bool)(arg1)->getZeroCopyReading();
     }
     catch(std::invalid_argument & e)
     {
@@ -33265,28 +36467,27 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewSt
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IStream **)&jresult = result; 
+  jresult = (jboolean)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewStream_1_1SWIG_13(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
-  jlong jresult = 0 ;
+
+
+SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setZeroCopyReading(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jboolean jarg2) {
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IStreamCoder *arg2 = (com::xuggle::xuggler::IStreamCoder *) 0 ;
-  com::xuggle::xuggler::IStream *result = 0 ;
+  bool arg2 ;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IStreamCoder **)&jarg2; 
+  arg2 = jarg2 ? true : false; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
       "invalid native object; delete() likely already called");
-    return 0;
+    return ;
   }
   
   {
@@ -33294,7 +36495,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewSt
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (com::xuggle::xuggler::IStream *)(arg1)->addNewStream(arg2);
+      (arg1)->setZeroCopyReading(arg2);
     }
     catch(std::invalid_argument & e)
     {
@@ -33304,7 +36505,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewSt
         jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(std::bad_alloc & e)
     {
@@ -33320,7 +36521,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewSt
           helper->throwOutOfMemoryError();
         }
       }
-      return 0;
+      return ;
     }
     catch(std::exception & e)
     {
@@ -33330,7 +36531,7 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewSt
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, e.what());
       }
-      return 0;
+      return ;
     }
     catch(...)
     {
@@ -33340,31 +36541,28 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1addNewSt
         jclass cls=jenv->FindClass("java/lang/RuntimeException");
         jenv->ThrowNew(cls, "Unhandled and unknown native exception");
       }
-      return 0;
+      return ;
     }
     // <<<<<<<<<<<<<<<<<<<<<<<<<<<
     // JNIHelper.swg: End generated code
   }
-  *(com::xuggle::xuggler::IStream **)&jresult = result; 
-  return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProperty_1_1SWIG_15(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_, jlong jarg3, jobject jarg3_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1decodeNextFrame(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jlong jarg3, jobject jarg3_) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IMetaData *arg2 = (com::xuggle::xuggler::IMetaData *) 0 ;
-  com::xuggle::xuggler::IMetaData *arg3 = (com::xuggle::xuggler::IMetaData *) 0 ;
+  int32_t arg2 ;
+  com::xuggle::xuggler::IMediaData *arg3 = (com::xuggle::xuggler::IMediaData *) 0 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg2_;
   (void)jarg3_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IMetaData **)&jarg2; 
-  arg3 = *(com::xuggle::xuggler::IMetaData **)&jarg3; 
+  arg2 = (int32_t)jarg2; 
+  arg3 = *(com::xuggle::xuggler::IMediaData **)&jarg3; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -33377,7 +36575,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->setProperty(arg2,arg3);
+      result = (int32_t)(arg1)->decodeNextFrame(arg2,arg3);
     }
     catch(std::invalid_argument & e)
     {
@@ -33433,263 +36631,73 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setProper
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1getFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IContainerFormat *result = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FRAME_1INFO_1STRIDE_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  int result;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
-  
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      result = (com::xuggle::xuggler::IContainerFormat *)(arg1)->getFormat();
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return 0;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return 0;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
-  }
-  *(com::xuggle::xuggler::IContainerFormat **)&jresult = result; 
+  result = (int)com::xuggle::xuggler::IContainer::FRAME_INFO_STRIDE;
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1setFormat(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FRAME_1INFO_1TIMESTAMP_1get(JNIEnv *jenv, jclass jcls) {
   jint jresult = 0 ;
-  com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  com::xuggle::xuggler::IContainerFormat *arg2 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  int32_t result;
+  int result;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  (void)jarg2_;
-  arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = *(com::xuggle::xuggler::IContainerFormat **)&jarg2; 
-  
-  if (!arg1) {
-    SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
-      "invalid native object; delete() likely already called");
-    return 0;
-  }
+  result = (int)com::xuggle::xuggler::IContainer::FRAME_INFO_TIMESTAMP;
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FRAME_1INFO_1KEY_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  int result;
   
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      result = (int32_t)(arg1)->setFormat(arg2);
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return 0;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return 0;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
-  }
+  (void)jenv;
+  (void)jcls;
+  result = (int)com::xuggle::xuggler::IContainer::FRAME_INFO_KEY;
   jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1make_1_1SWIG_11(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
-  jlong jresult = 0 ;
-  com::xuggle::xuggler::IContainerFormat *arg1 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  com::xuggle::xuggler::IContainer *result = 0 ;
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1FRAME_1INFO_1NUM_1SAMPLES_1get(JNIEnv *jenv, jclass jcls) {
+  jint jresult = 0 ;
+  int result;
   
   (void)jenv;
   (void)jcls;
-  (void)jarg1_;
-  arg1 = *(com::xuggle::xuggler::IContainerFormat **)&jarg1; 
-  {
-    // JNIHelper.swg: Start generated code
-    // >>>>>>>>>>>>>>>>>>>>>>>>>>>
-    try
-    {
-      result = (com::xuggle::xuggler::IContainer *)com::xuggle::xuggler::IContainer::make(arg1);
-    }
-    catch(std::invalid_argument & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/IllegalArgumentException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(std::bad_alloc & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        // OK, this is bad and may mean we can't do things like 
-        // allocate a new class at this time; but we should have
-        // one lying around
-        com::xuggle::ferry::JNIHelper *helper = 
-        com::xuggle::ferry::JNIHelper::getHelper();
-        if (helper) {
-          helper->throwOutOfMemoryError();
-        }
-      }
-      return 0;
-    }
-    catch(std::exception & e)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, e.what());
-      }
-      return 0;
-    }
-    catch(...)
-    {
-      // we don't let a native exception override a java exception
-      if (!jenv->ExceptionCheck())
-      {
-        jclass cls=jenv->FindClass("java/lang/RuntimeException");
-        jenv->ThrowNew(cls, "Unhandled and unknown native exception");
-      }
-      return 0;
-    }
-    // <<<<<<<<<<<<<<<<<<<<<<<<<<<
-    // JNIHelper.swg: End generated code
-  }
-  *(com::xuggle::xuggler::IContainer **)&jresult = result; 
+  result = (int)com::xuggle::xuggler::IContainer::FRAME_INFO_NUM_SAMPLES;
+  jresult = (jint)result; 
   return jresult;
 }
 
 
-SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1SWIG_12(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jstring jarg2, jint jarg3, jlong jarg4, jobject jarg4_, jboolean jarg5, jboolean jarg6, jlong jarg7, jobject jarg7_, jlong jarg8, jobject jarg8_) {
+
+
+SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1decodeNextFrames(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jint jarg2, jobjectArray jarg3, jlongArray jarg4, jlongArray jarg5) {
   jint jresult = 0 ;
   com::xuggle::xuggler::IContainer *arg1 = (com::xuggle::xuggler::IContainer *) 0 ;
-  char *arg2 = (char *) 0 ;
-  com::xuggle::xuggler::IContainer::Type arg3 ;
-  com::xuggle::xuggler::IContainerFormat *arg4 = (com::xuggle::xuggler::IContainerFormat *) 0 ;
-  bool arg5 ;
-  bool arg6 ;
-  com::xuggle::xuggler::IMetaData *arg7 = (com::xuggle::xuggler::IMetaData *) 0 ;
-  com::xuggle::xuggler::IMetaData *arg8 = (com::xuggle::xuggler::IMetaData *) 0 ;
+  int32_t arg2 ;
+  jobjectArray arg3 ;
+  jlongArray arg4 ;
+  jlongArray arg5 ;
   int32_t result;
   
   (void)jenv;
   (void)jcls;
   (void)jarg1_;
-  (void)jarg4_;
-  (void)jarg7_;
-  (void)jarg8_;
   arg1 = *(com::xuggle::xuggler::IContainer **)&jarg1; 
-  arg2 = 0;
-  if (jarg2) {
-    arg2 = (char *)jenv->GetStringUTFChars(jarg2, 0);
-    if (!arg2) return 0;
-  }
-  arg3 = (com::xuggle::xuggler::IContainer::Type)jarg3; 
-  arg4 = *(com::xuggle::xuggler::IContainerFormat **)&jarg4; 
-  arg5 = jarg5 ? true : false; 
-  arg6 = jarg6 ? true : false; 
-  arg7 = *(com::xuggle::xuggler::IMetaData **)&jarg7; 
-  arg8 = *(com::xuggle::xuggler::IMetaData **)&jarg8; 
+  arg2 = (int32_t)jarg2; 
+  arg3 = jarg3; 
+  arg4 = jarg4; 
+  arg5 = jarg5; 
   
   if (!arg1) {
     SWIG_JavaThrowException(jenv, SWIG_JavaNullPointerException,
@@ -33702,7 +36710,7 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1S
     // >>>>>>>>>>>>>>>>>>>>>>>>>>>
     try
     {
-      result = (int32_t)(arg1)->open((char const *)arg2,arg3,arg4,arg5,arg6,arg7,arg8);
+      result = (int32_t)com_xuggle_xuggler_IContainer_decodeNextFrames(arg1,arg2,arg3,arg4,arg5);
     }
     catch(std::invalid_argument & e)
     {
@@ -33754,11 +36762,14 @@ SWIGEXPORT jint JNICALL Java_com_xuggle_xuggler_XugglerJNI_IContainer_1open_1_1S
     // JNIHelper.swg: End generated code
   }
   jresult = (jint)result; 
-  if (arg2) jenv->ReleaseStringUTFChars(jarg2, (const char *)arg2);
   return jresult;
 }
 
 
+
+
+
+
 SWIGEXPORT void JNICALL Java_com_xuggle_xuggler_XugglerJNI_IMediaDataWrapper_1wrap(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
   com::xuggle::xuggler::IMediaDataWrapper *arg1 = (com::xuggle::xuggler::IMediaDataWrapper *) 0 ;
   com::xuggle::xuggler::IMediaData *arg2 = (com::xuggle::xuggler::IMediaData *) 0 ;
@@ -35945,6 +38956,14 @@ SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_SWIGIAudioResamplerU
     return baseptr;
 }
 
+SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_SWIGIAudioFifoUpcast(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+    jlong baseptr = 0;
+    (void)jenv;
+    (void)jcls;
+    *(com::xuggle::ferry::RefCounted **)&baseptr = *(com::xuggle::xuggler::IAudioFifo **)&jarg1;
+    return baseptr;
+}
+
 SWIGEXPORT jlong JNICALL Java_com_xuggle_xuggler_XugglerJNI_SWIGIVideoResamplerUpcast(JNIEnv *jenv, jclass jcls, jlong jarg1) {
     jlong baseptr = 0;
     (void)jenv;
@@ -19,9 +19,7 @@
 
 package com.xuggle.ferry;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.concurrent.locks.ReentrantLock;
+import java.nio.ByteBuffer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +35,13 @@ import org.slf4j.LoggerFactory;
  * your Java code.
  * </p>
  * <p>
+ * Freed blocks are recycled through a pool of power-of-two size classes
+ * shared by all allocators, so steady-state decoding reuses the same
+ * frame and packet buffers instead of creating new ones.  The same is
+ * done for the direct {@link ByteBuffer}s used by the direct buffer
+ * {@link JNIMemoryManager.MemoryModel}s.
+ * </p>
+ * <p>
  * This function is called DIRECTLY from native code; names of methods MUST NOT
  * CHANGE.
  * </p>
@@ -50,48 +55,45 @@ public final class JNIMemoryAllocator
   private static final Logger log = LoggerFactory
       .getLogger(JNIMemoryAllocator.class);
 
-  // don't allocate this unless we malloc; most classes don't even
-  // touch this memory manager with a 100 foot pole
-  final private Set<byte[]> mBuffers =
-    new HashSet<byte[]>();
-  final private ReentrantLock mLock = 
-    new ReentrantLock();
-  final static private int MAX_ALLOCATION_ATTEMPTS = 5;
-  final static private double FALLBACK_TIME_DECAY = 1.5;
-  final static private boolean SHOULD_RETRY_FAILED_ALLOCS = true;
-
-  private void addToBuffer(byte[] mem)
-  {
-    mLock.lock();
-    try
+  // the pool of byte arrays shared by all allocators
+  private static final JNIMemoryPool<byte[]> sHeapPool =
+    new JNIMemoryPool<byte[]>() {
+    @Override
+    protected byte[] create(int size)
     {
-      if (!mBuffers.add(mem))
-      {
-        assert false : "buffers already added";
-      }
+      return new byte[size];
     }
-    finally
+    @Override
+    protected int getSize(byte[] block)
     {
-      mLock.unlock();
+      return block.length;
     }
-  }
+  };
 
-  private void removeFromBuffer(byte[] mem)
-  {
-    mLock.lock();
-    try
+  // the pool of direct byte buffers
+  private static final JNIMemoryPool<ByteBuffer> sDirectPool =
+    new JNIMemoryPool<ByteBuffer>() {
+    @Override
+    protected ByteBuffer create(int size)
     {
-      if (!mBuffers.remove(mem))
-      {
-        assert false : "buffer not in memory";
-      }
+      return ByteBuffer.allocateDirect(size);
     }
-    finally
+    @Override
+    protected int getSize(ByteBuffer block)
     {
-      mLock.unlock();
+      return block.capacity();
     }
-  }
-  
+    @Override
+    protected void reset(ByteBuffer block)
+    {
+      block.clear();
+    }
+  };
+
+  final static private int MAX_ALLOCATION_ATTEMPTS = 5;
+  final static private double FALLBACK_TIME_DECAY = 1.5;
+  final static private boolean SHOULD_RETRY_FAILED_ALLOCS = true;
+
   /**
    * Not for use outside the package
    */
@@ -118,90 +120,134 @@ public final class JNIMemoryAllocator
   public byte[] malloc(int size)
   {
     byte[] retval = null;
+    try
+    {
+      retval = allocate(sHeapPool, size);
+      retval[retval.length - 1] = 0;
+      
+//      log.debug("malloc: {}({}:{})", new Object[]
+//      {
+//          retval.hashCode(), retval.length, size
+//      });
+      
+    }
+    catch (Throwable t)
+    {
+      // do not let an exception leak out since we go back to native code.
+      retval = null;
+    }
+    return retval;
+  }
+
+  /**
+   * Internal Only.  Allocate a new direct buffer. Called from native code
+   * for the direct buffer {@link JNIMemoryManager.MemoryModel}s.
+   * <p>
+   * Retries the same way {@link #malloc(int)} does.
+   * </p>
+   * <p>
+   * Callers must eventually call {@link #freeDirect(ByteBuffer)} when
+   * done with the buffer, or it will not be recycled.
+   * </p>
+   * @param size
+   *          # of bytes requested
+   * @return A buffer with a capacity of size or more bytes, or null on
+   *   failure.
+   */
+
+  public static ByteBuffer mallocDirect(int size)
+  {
+    ByteBuffer retval = null;
+    try
+    {
+      retval = allocate(sDirectPool, size);
+    }
+    catch (Throwable t)
+    {
+      // do not let an exception leak out since we go back to native code.
+      retval = null;
+    }
+    return retval;
+  }
+
+  /**
+   * Allocate a block from a pool, retrying many times if we can't get
+   * memory, backing off in timeouts to get there.
+   */
+  private static <T> T allocate(JNIMemoryPool<T> pool, int size)
+  {
+    T retval = null;
     // first check the parachute
     JNIMemoryParachute.getParachute().packChute();
-    try
+    if (SHOULD_RETRY_FAILED_ALLOCS)
     {
-      if (SHOULD_RETRY_FAILED_ALLOCS)
+      int allocationAttempts = 0;
+      int backoffTimeout = 10; // start at 10 milliseconds
+      while (true)
       {
-        int allocationAttempts = 0;
-        int backoffTimeout = 10; // start at 10 milliseconds
-        while (true)
+        try
         {
-          try
+          // log.debug("attempting malloc of size: {}", size);
+          retval = pool.allocate(size);
+          // log.debug("malloced block of size: {}", size);
+          // we succeed, so break out
+          break;
+        }
+        catch (final OutOfMemoryError e)
+        {
+          // try clearing our queue now and do it again. Why?
+          // because the first failure may have allowed us to
+          // catch a RefCounted no longer in use, and the second
+          // attempt may have freed that memory.
+
+          // and give back everything we're holding on to
+          clearPools();
+
+          // do a JNI collect before the alloc
+          ++allocationAttempts;
+          if (allocationAttempts >= MAX_ALLOCATION_ATTEMPTS)
           {
-            // log.debug("attempting malloc of size: {}", size);
-            retval = new byte[size];
-            // log.debug("malloced block of size: {}", size);
-            // we succeed, so break out
-            break;
+            // try pulling our rip cord
+            JNIMemoryParachute.getParachute().pullCord();
+            // do one last "hope gc" to free our own memory
+            JNIReference.getMgr().gcInternal();
+            // and throw the error back to the native code
+            throw e;
           }
-          catch (final OutOfMemoryError e)
-          {
-            // try clearing our queue now and do it again. Why?
-            // because the first failure may have allowed us to
-            // catch a RefCounted no longer in use, and the second
-            // attempt may have freed that memory.
-
-            // do a JNI collect before the alloc
-            ++allocationAttempts;
-            if (allocationAttempts >= MAX_ALLOCATION_ATTEMPTS)
-            {
-              // try pulling our rip cord
-              JNIMemoryParachute.getParachute().pullCord();
-              // do one last "hope gc" to free our own memory
-              JNIReference.getMgr().gcInternal();
-              // and throw the error back to the native code
-              throw e;
-            }
 
-            log.debug("retrying ({}) allocation of {} bytes",
-                allocationAttempts, size);
-            try
+          log.debug("retrying ({}) allocation of {} bytes",
+              allocationAttempts, size);
+          try
+          {
+            // give the finalizer a chance
+            if (allocationAttempts <= 1)
             {
-              // give the finalizer a chance
-              if (allocationAttempts <= 1)
-              {
-                // first just yield
-                Thread.yield();
-              }
-              else
-              {
-                Thread.sleep(backoffTimeout);
-                // and slowly get longer...
-                backoffTimeout = (int) (backoffTimeout * FALLBACK_TIME_DECAY);
-              }
+              // first just yield
+              Thread.yield();
             }
-            catch (InterruptedException e1)
+            else
             {
-              // reset the interruption so underlying
-              // code can also interrupt
-              Thread.currentThread().interrupt();
-              // and throw the error condition
-              throw e;
+              Thread.sleep(backoffTimeout);
+              // and slowly get longer...
+              backoffTimeout = (int) (backoffTimeout * FALLBACK_TIME_DECAY);
             }
-            // do a JNI collect before the alloc
-            JNIReference.getMgr().gcInternal();
           }
+          catch (InterruptedException e1)
+          {
+            // reset the interruption so underlying
+            // code can also interrupt
+            Thread.currentThread().interrupt();
+            // and throw the error condition
+            throw e;
+          }
+          // do a JNI collect before the alloc
+          JNIReference.getMgr().gcInternal();
         }
       }
-      else
-      {
-        retval = new byte[size];
-      }
-      addToBuffer(retval);
-      retval[retval.length - 1] = 0;
-      
-//      log.debug("malloc: {}({}:{})", new Object[]
-//      {
-//          retval.hashCode(), retval.length, size
-//      });
-      
     }
-    catch (Throwable t)
+    else
     {
-      // do not let an exception leak out since we go back to native code.
-      retval = null;
+      retval = pool.allocate(size);
     }
     return retval;
   }
@@ -216,10 +262,54 @@ public final class JNIMemoryAllocator
 
   public void free(byte[] mem)
   {
-    removeFromBuffer(mem);
+    sHeapPool.free(mem);
 //      log.debug("free:   {}({})", mem.hashCode(), mem.length);
   }
 
+  /**
+   * Free a buffer allocated by the {@link #mallocDirect(int)} method.
+   * Called from native code.
+   * 
+   * @param buffer
+   *          the buffer to be freed.
+   */
+
+  public static void freeDirect(ByteBuffer buffer)
+  {
+    sDirectPool.free(buffer);
+  }
+
+  /**
+   * Set the most bytes of freed memory we hold on to for reuse, per pool.
+   * 
+   * @param maxPooledBytes The most bytes to pool; 0 turns pooling off.
+   * @throws IllegalArgumentException if < 0
+   */
+  static void setMaxPooledBytes(long maxPooledBytes)
+  {
+    sHeapPool.setMaxPooledBytes(maxPooledBytes);
+    sDirectPool.setMaxPooledBytes(maxPooledBytes);
+  }
+
+  /**
+   * Get the most bytes of freed memory we hold on to for reuse, per pool.
+   * 
+   * @return The most bytes to pool.
+   */
+  static long getMaxPooledBytes()
+  {
+    return sHeapPool.getMaxPooledBytes();
+  }
+
+  /**
+   * Drop all freed memory we're holding on to for reuse.
+   */
+  static void clearPools()
+  {
+    sHeapPool.clear();
+    sDirectPool.clear();
+  }
+
   /**
    * Internal Only.  Native method that tells a native objects (represented by the nativeObj
    * long pointer val) that this JNIMemoryAllocator is being used to allocate
@@ -900,18 +900,23 @@ public final class JNIMemoryManager
   private final ReferenceQueue<Object> mRefQueue;
 
   /**
-   * Used for managing our collect-and-sweep JNIReference heap.
+   * Used for managing our collect-and-sweep JNIReference heap.  The heap
+   * is split into stripes, and each thread adds references to the stripe
+   * picked by its id, so threads allocating at the same time rarely
+   * contend for the same locks, and a full stripe is swept on its own.
    */
-  private final AtomicBoolean mSpinLock;
-  private final Lock mLock;
-  private JNIReference mValidReferences[];
-  private volatile int mNextAvailableReferenceSlot;
-  private volatile int mMaxValidReference;
+  private final ReferenceStripe mStripes[];
+  private final int mStripeMask;
   private int mMinimumReferencesToCache;
   private double mExpandIncrement;
   private double mShrinkScaleFactor;
   private double mMaxFreeRatio;
   private double mMinFreeRatio;
+
+  /**
+   * The most stripes we split the reference heap into.
+   */
+  private static final int MAX_STRIPES = 64;
   
   /**
    * The constructor is package level so others can't create it.
@@ -920,30 +925,39 @@ public final class JNIMemoryManager
   {
     mRefQueue = new ReferenceQueue<Object>();
     mCollectionThread = null;
-    mLock = new ReentrantLock();
-    mSpinLock = new AtomicBoolean(false);
     final int minReferences=1024*4;
     mMinimumReferencesToCache = minReferences;
     mExpandIncrement = 0.20; // expand by 20% at a time
     mShrinkScaleFactor = 0.25; // shrink by 25% of mExpandIncrement
-    mValidReferences = new JNIReference[minReferences]; 
-    mMaxValidReference = minReferences;
-    mNextAvailableReferenceSlot = 0;
     mMaxFreeRatio = 0.70;
     mMinFreeRatio = 0.30;
+
+    // one stripe per processor, rounded up to a power of two so
+    // picking a stripe is a mask
+    int numStripes = 1;
+    final int processors = Runtime.getRuntime().availableProcessors();
+    while (numStripes < processors && numStripes < MAX_STRIPES)
+      numStripes <<= 1;
+    mStripes = new ReferenceStripe[numStripes];
+    mStripeMask = numStripes - 1;
+    for(int i = 0; i < numStripes; i++)
+      mStripes[i] = new ReferenceStripe(getMinimumReferencesPerStripe());
   }
-  
-  private void blockingLock()
+
+  /**
+   * Get the stripe the calling thread adds references to.
+   */
+  private ReferenceStripe getStripe()
   {
-    mLock.lock();
-    while(!mSpinLock.compareAndSet(false, true))
-      ; // grab the spin lock
+    return mStripes[(int) Thread.currentThread().getId() & mStripeMask];
   }
-  private void blockingUnlock()
+
+  /**
+   * Get the smallest size a stripe's table shrinks to.
+   */
+  private int getMinimumReferencesPerStripe()
   {
-    final boolean result = mSpinLock.compareAndSet(true, false);
-    assert result : "Should never ever be unlocked here";
-    mLock.unlock();
+    return Math.max(1, mMinimumReferencesToCache / mStripes.length);
   }
 
   /**
@@ -1072,47 +1086,38 @@ public final class JNIMemoryManager
     return mMinFreeRatio*100;
   }
 
-  private int sweepAndCollect()
+  /**
+   * Sets the most bytes of freed native-backed memory we hold on to
+   * for reuse.
+   * <p>
+   * In the {@link MemoryModel#JAVA_STANDARD_HEAP} and direct buffer
+   * {@link MemoryModel}s, freed frame and packet buffers are recycled
+   * rather than left for the garbage collector.  This setting bounds
+   * the byte arrays held for reuse, and separately the direct buffers
+   * held for reuse.  Each thread may additionally hold a couple of
+   * recently freed buffers of up to 8 MB each.
+   * </p>
+   * 
+   * @param maxBytesToPool The most bytes to hold for reuse; 0 turns
+   *   reuse off.
+   * @throws IllegalArgumentException if < 0
+   */
+  public void setMaxBytesToPool(long maxBytesToPool)
   {
-    // time to sweep, collect, and possibly grow.
-    JNIReference[] survivors = new JNIReference[mMaxValidReference];
-    int numSurvivors=0;
-    final int numValid = mMaxValidReference;
-    for(int i = 0; i < numValid; i++)
-    {
-      JNIReference victim = mValidReferences[i];
-      if (victim != null && !victim.isDeleted())
-      {
-        survivors[numSurvivors] = victim;
-        ++numSurvivors;
-      }
-    }
-    final int survivorLength = survivors.length;
-    int freeSpace = survivorLength - numSurvivors;
-    if (freeSpace > survivorLength * mMaxFreeRatio)
-    {
-      // time to shrink
-      int newSize = (int) (survivorLength*(1.0 - mExpandIncrement*mShrinkScaleFactor));
-      // never shrink smaller than the minimum
-      if (newSize >= mMinimumReferencesToCache) {
-        JNIReference[] shrunk = new JNIReference[newSize];
-        System.arraycopy(survivors, 0, shrunk, 0, newSize);
-        survivors = shrunk;
-      }
-    } else if (freeSpace <= survivorLength*mMinFreeRatio)
-    {
-      // time to expand
-      int newSize = (int) (survivorLength*(1.0 + mExpandIncrement));
-      JNIReference[] expanded = new JNIReference[newSize];
-      System.arraycopy(survivors, 0, expanded, 0, survivorLength);
-      survivors = expanded;
-    }
-    // and swap in our new array
-    // ORDER REALLY MATTERS HERE.  See #addReference
-    mValidReferences = survivors;
-    mMaxValidReference = survivors.length;
-    mNextAvailableReferenceSlot = numSurvivors;
-    return numSurvivors;
+    if (maxBytesToPool < 0)
+      throw new IllegalArgumentException("Must pass in a non-negative number");
+    JNIMemoryAllocator.setMaxPooledBytes(maxBytesToPool);
+  }
+
+  /**
+   * Gets the most bytes of freed native-backed memory we hold on to for
+   * reuse.
+   * @return The most bytes to hold for reuse.
+   * @see #setMaxBytesToPool(long)
+   */
+  public long getMaxBytesToPool()
+  {
+    return JNIMemoryAllocator.getMaxPooledBytes();
   }
 
   /**
@@ -1137,8 +1142,8 @@ public final class JNIMemoryManager
    * collector may not have collected all objects yet.
    * </p>
    * <p>
-   * Also, this method needs to walk the entire ferry reference heap, so it
-   * can be expensive and not accurate (as the value may change even before
+   * Also, this method needs to walk the entire ferry reference heap, one
+   * stripe at a time, so it can be expensive and not accurate (as the value may change even before
    * this method returns).  Use only for debugging.
    * </p>
    * @return number of ferry objects in use.
@@ -1146,43 +1151,22 @@ public final class JNIMemoryManager
   public long getNumPinnedObjects()
   {
     long numPinnedObjects = 0;
-    blockingLock();
-    try {
-      int numItems = mNextAvailableReferenceSlot;
-      for(int i = 0; i < numItems; i++)
-      {
-        JNIReference ref = mValidReferences[i];
-        if (ref != null && !ref.isDeleted())
-          ++numPinnedObjects;
-      }
-    } finally {
-      blockingUnlock();
-    }
+    for(ReferenceStripe stripe : mStripes)
+      numPinnedObjects += stripe.getNumPinnedObjects();
     return numPinnedObjects;
   }
 
   /**
    * Dump the contents of our memory cache to the log.
    * <p>
-   * This method requires a global lock in order to run so only
-   * use for debugging.  
+   * This method locks each stripe of the cache in turn in order to
+   * run so only use for debugging.  
    * </p>
    */
   public void dumpMemoryLog()
   {
-    blockingLock();
-    try {
-      int numItems = mNextAvailableReferenceSlot;
-      log.debug("Memory slots in use: {}", numItems);
-      for(int i = 0; i < numItems; i++)
-      {
-        JNIReference ref = mValidReferences[i];
-        if (ref != null)
-          log.debug("Slot: {}; Ref: {}", i, ref);
-      }
-    } finally {
-      blockingUnlock();
-    }
+    for(int i = 0; i < mStripes.length; i++)
+      mStripes[i].dumpMemoryLog(i);
     return;
   }
   
@@ -1236,56 +1220,7 @@ public final class JNIMemoryManager
    */
   final boolean addReference(final JNIReference ref)
   {
-    /* Implementation note: This method is extremely
-     * hot, and so I've unrolled the lock and unlock
-     * methods from above.  Take care if you change
-     * them to change the unrolled versions here.
-     * 
-     */
-    // First try to grab the non blocking lock
-    boolean gotNonblockingLock = false;
-    gotNonblockingLock = mSpinLock.compareAndSet(false, true);
-    if (gotNonblockingLock)
-    {
-      final int slot = mNextAvailableReferenceSlot++;
-      if (slot < mMaxValidReference)
-      {
-        mValidReferences[slot] = ref;
-        // unlock the non-blocking lock, and progress to a full lock.
-        final boolean result = mSpinLock.compareAndSet(true, false);
-        assert result : "Should never be unlocked here";
-        return true;
-      }
-      // try the big lock without blocking
-      if (!mLock.tryLock()) {
-        // we couldn't get the big lock, so release the spin lock
-        // and try getting the bit lock while blocking
-        gotNonblockingLock = false;
-        mSpinLock.compareAndSet(true, false);
-      }
-    }
-    // The above code needs to make sure that we never
-    // have gotNonblockingLock set, unless we have both
-    // the spin lock and the big lock.
-    if (!gotNonblockingLock){
-      mLock.lock();
-      while(!mSpinLock.compareAndSet(false, true))
-        ; // grab the spin lock
-    }
-    try {
-      int slot = mNextAvailableReferenceSlot++;
-      if (slot >= mMaxValidReference)
-      {
-        sweepAndCollect();
-        slot = mNextAvailableReferenceSlot++;
-      }
-      mValidReferences[slot] = ref;
-    } finally {
-      final boolean result = mSpinLock.compareAndSet(true, false);
-      assert result : "Should never ever be unlocked here";
-      mLock.unlock();
-    }
-    return true;
+    return getStripe().addReference(ref);
   }
 
   /**
@@ -1311,19 +1246,15 @@ public final class JNIMemoryManager
    * Does a Ferry Garbage Collection, and also sweeps our internal
    * {@link JNIReference} heap to remove any lightweight references we may
    * have left around.
-   * @param doSweep if true, we sweep the heap.  This involves a global lock
-   *   and so should be used sparingly.
+   * @param doSweep if true, we sweep the heap.  This locks each stripe of
+   *   the heap in turn and so should be used sparingly.
    */
   public void gc(boolean doSweep)
   {
     gcInternal();
     if (doSweep) {
-      blockingLock();
-      try {
-        sweepAndCollect();
-      } finally {
-        blockingUnlock();
-      }
+      for(ReferenceStripe stripe : mStripes)
+        stripe.sweep();
     }
   }
   /**
@@ -1447,22 +1378,217 @@ public final class JNIMemoryManager
    */
   final public void flush()
   {
-    blockingLock();
-    try {
-      int numSurvivors = sweepAndCollect();
-      for(int i = 0; i < numSurvivors; i++)
+    for(ReferenceStripe stripe : mStripes)
+      stripe.flush();
+    JNIMemoryAllocator.clearPools();
+  }
+
+  /**
+   * One stripe of our collect-and-sweep {@link JNIReference} heap, with
+   * its own locks and table.
+   */
+  private final class ReferenceStripe
+  {
+    private final AtomicBoolean mSpinLock;
+    private final Lock mLock;
+    private JNIReference mValidReferences[];
+    private volatile int mNextAvailableReferenceSlot;
+    private volatile int mMaxValidReference;
+
+    ReferenceStripe(int minReferences)
+    {
+      mLock = new ReentrantLock();
+      mSpinLock = new AtomicBoolean(false);
+      mValidReferences = new JNIReference[minReferences]; 
+      mMaxValidReference = minReferences;
+      mNextAvailableReferenceSlot = 0;
+    }
+
+    private void blockingLock()
+    {
+      mLock.lock();
+      while(!mSpinLock.compareAndSet(false, true))
+        ; // grab the spin lock
+    }
+    private void blockingUnlock()
+    {
+      final boolean result = mSpinLock.compareAndSet(true, false);
+      assert result : "Should never ever be unlocked here";
+      mLock.unlock();
+    }
+
+    private int sweepAndCollect()
+    {
+      // time to sweep, collect, and possibly grow.
+      JNIReference[] survivors = new JNIReference[mMaxValidReference];
+      int numSurvivors=0;
+      final int numValid = mMaxValidReference;
+      for(int i = 0; i < numValid; i++)
       {
-        final JNIReference ref = mValidReferences[i];
-        if (ref != null)
-          ref.delete();
+        JNIReference victim = mValidReferences[i];
+        if (victim != null && !victim.isDeleted())
+        {
+          survivors[numSurvivors] = victim;
+          ++numSurvivors;
+        }
+      }
+      final int survivorLength = survivors.length;
+      int freeSpace = survivorLength - numSurvivors;
+      if (freeSpace > survivorLength * mMaxFreeRatio)
+      {
+        // time to shrink
+        int newSize = (int) (survivorLength*(1.0 - mExpandIncrement*mShrinkScaleFactor));
+        // never shrink smaller than the minimum
+        if (newSize >= getMinimumReferencesPerStripe()) {
+          JNIReference[] shrunk = new JNIReference[newSize];
+          System.arraycopy(survivors, 0, shrunk, 0, newSize);
+          survivors = shrunk;
+        }
+      } else if (freeSpace <= survivorLength*mMinFreeRatio)
+      {
+        // time to expand; always by at least one slot
+        int newSize = Math.max(survivorLength + 1,
+            (int) (survivorLength*(1.0 + mExpandIncrement)));
+        JNIReference[] expanded = new JNIReference[newSize];
+        System.arraycopy(survivors, 0, expanded, 0, survivorLength);
+        survivors = expanded;
+      }
+      // and swap in our new array
+      // ORDER REALLY MATTERS HERE.  See #addReference
+      mValidReferences = survivors;
+      mMaxValidReference = survivors.length;
+      mNextAvailableReferenceSlot = numSurvivors;
+      return numSurvivors;
+    }
+
+    /**
+     * Add a reference to this stripe.
+     * 
+     * @param ref The reference to collect.
+     * @return true if already in list; false otherwise.
+     */
+    final boolean addReference(final JNIReference ref)
+    {
+      /* Implementation note: This method is extremely
+       * hot, and so I've unrolled the lock and unlock
+       * methods from above.  Take care if you change
+       * them to change the unrolled versions here.
+       * 
+       */
+      // First try to grab the non blocking lock
+      boolean gotNonblockingLock = false;
+      gotNonblockingLock = mSpinLock.compareAndSet(false, true);
+      if (gotNonblockingLock)
+      {
+        final int slot = mNextAvailableReferenceSlot++;
+        if (slot < mMaxValidReference)
+        {
+          mValidReferences[slot] = ref;
+          // unlock the non-blocking lock, and progress to a full lock.
+          final boolean result = mSpinLock.compareAndSet(true, false);
+          assert result : "Should never be unlocked here";
+          return true;
+        }
+        // try the big lock without blocking
+        if (!mLock.tryLock()) {
+          // we couldn't get the big lock, so release the spin lock
+          // and try getting the bit lock while blocking
+          gotNonblockingLock = false;
+          mSpinLock.compareAndSet(true, false);
+        }
+      }
+      // The above code needs to make sure that we never
+      // have gotNonblockingLock set, unless we have both
+      // the spin lock and the big lock.
+      if (!gotNonblockingLock){
+        mLock.lock();
+        while(!mSpinLock.compareAndSet(false, true))
+          ; // grab the spin lock
+      }
+      try {
+        int slot = mNextAvailableReferenceSlot++;
+        if (slot >= mMaxValidReference)
+        {
+          sweepAndCollect();
+          slot = mNextAvailableReferenceSlot++;
+        }
+        mValidReferences[slot] = ref;
+      } finally {
+        final boolean result = mSpinLock.compareAndSet(true, false);
+        assert result : "Should never ever be unlocked here";
+        mLock.unlock();
+      }
+      return true;
+    }
+
+    void sweep()
+    {
+      blockingLock();
+      try {
+        sweepAndCollect();
+      } finally {
+        blockingUnlock();
+      }
+    }
+
+    long getNumPinnedObjects()
+    {
+      long numPinnedObjects = 0;
+      blockingLock();
+      try {
+        int numItems = Math.min(mNextAvailableReferenceSlot,
+            mMaxValidReference);
+        for(int i = 0; i < numItems; i++)
+        {
+          JNIReference ref = mValidReferences[i];
+          if (ref != null && !ref.isDeleted())
+            ++numPinnedObjects;
+        }
+      } finally {
+        blockingUnlock();
+      }
+      return numPinnedObjects;
+    }
+
+    void dumpMemoryLog(int stripe)
+    {
+      blockingLock();
+      try {
+        int numItems = Math.min(mNextAvailableReferenceSlot,
+            mMaxValidReference);
+        log.debug("Stripe: {}; Memory slots in use: {}", stripe, numItems);
+        for(int i = 0; i < numItems; i++)
+        {
+          JNIReference ref = mValidReferences[i];
+          if (ref != null)
+            log.debug("Stripe: {}; Slot: {}; Ref: {}",
+                new Object[]{stripe, i, ref});
+        }
+      } finally {
+        blockingUnlock();
+      }
+    }
+
+    void flush()
+    {
+      blockingLock();
+      try {
+        int numSurvivors = sweepAndCollect();
+        for(int i = 0; i < numSurvivors; i++)
+        {
+          final JNIReference ref = mValidReferences[i];
+          if (ref != null)
+            ref.delete();
+        }
+        sweepAndCollect();
+        // finally, reset the valid references to the minimum
+        final int minReferences = getMinimumReferencesPerStripe();
+        mValidReferences = new JNIReference[minReferences];
+        mNextAvailableReferenceSlot = 0;
+        mMaxValidReference = minReferences;
+      } finally {
+        blockingUnlock();
       }
-      sweepAndCollect();
-      // finally, reset the valid references to the minimum
-      mValidReferences = new JNIReference[mMinimumReferencesToCache];
-      mNextAvailableReferenceSlot = 0;
-      mMaxValidReference = mMinimumReferencesToCache;
-    } finally {
-      blockingUnlock();
     }
   }
 
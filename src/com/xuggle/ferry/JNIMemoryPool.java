@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.ferry;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Internal Only.
+ * <p>
+ * A pool of memory blocks sorted into power-of-two size classes, used by
+ * the {@link JNIMemoryAllocator} to recycle the large blocks native code
+ * allocates for decoded frames and packets instead of creating a fresh
+ * block (which often goes straight into the old generation) every time.
+ * </p>
+ * <p>
+ * Each thread keeps a small cache per size class, so a thread that frees
+ * a block and then allocates one of the same size takes no locks at all.
+ * Blocks freed beyond that go to a lock-free queue per size class shared
+ * by all threads; the bytes held in those queues are bounded by
+ * {@link #getMaxPooledBytes()}, and blocks that would exceed it are left
+ * to the garbage collector.
+ * </p>
+ * <p>
+ * Thread caches are not counted against {@link #getMaxPooledBytes()};
+ * instead each one holds at most the smaller of {@link #MAX_LOCAL_BYTES}
+ * and {@link #getMaxPooledBytes()}.  So the most a pool keeps alive is
+ * {@link #getMaxPooledBytes()} plus that much again for every thread
+ * that has freed blocks into it.
+ * </p>
+ * 
+ * @param <T> The type of block pooled.
+ */
+abstract class JNIMemoryPool<T>
+{
+  /**
+   * Blocks this size or smaller are not pooled; they're cheap to
+   * allocate and die young.
+   */
+  static final int MIN_SIZE_CLASS = 10; // 1 KB
+
+  /**
+   * Blocks larger than this are not pooled.
+   */
+  static final int MAX_SIZE_CLASS = 28; // 256 MB
+
+  /**
+   * Blocks larger than this are never held in a thread's own cache.
+   */
+  static final int MAX_LOCAL_SIZE_CLASS = 23; // 8 MB
+
+  /**
+   * The number of blocks per size class a thread holds in its own cache.
+   */
+  static final int LOCAL_CACHE_DEPTH = 2;
+
+  /**
+   * The most bytes a thread holds in its own cache.
+   */
+  static final long MAX_LOCAL_BYTES = 1L << (MAX_LOCAL_SIZE_CLASS + 1);
+
+  /**
+   * The default number of bytes held in the shared queues.
+   */
+  static final long DEFAULT_MAX_POOLED_BYTES = 64L * 1024 * 1024;
+
+  // blocks freed by any thread, one queue per size class
+  private final ConcurrentLinkedQueue<T>[] mShared;
+
+  // bytes currently held in mShared
+  private final AtomicLong mPooledBytes;
+
+  // the most bytes we'll hold in mShared
+  private volatile long mMaxPooledBytes;
+
+  // bumped on every clear() so threads can drop their stale caches
+  private final AtomicInteger mGeneration;
+
+  // each thread's own cache
+  private final ThreadLocal<LocalCache> mLocalCache;
+
+  /**
+   * A thread's own cache; only ever touched by that thread.
+   */
+  private static final class LocalCache
+  {
+    final Object[][] mBlocks;
+    final int[] mCounts;
+    long mBytes;
+    int mGeneration;
+
+    LocalCache(int generation)
+    {
+      mBlocks = new Object[MAX_LOCAL_SIZE_CLASS + 1][LOCAL_CACHE_DEPTH];
+      mCounts = new int[MAX_LOCAL_SIZE_CLASS + 1];
+      mBytes = 0;
+      mGeneration = generation;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  JNIMemoryPool()
+  {
+    mShared = (ConcurrentLinkedQueue<T>[])
+      new ConcurrentLinkedQueue<?>[MAX_SIZE_CLASS + 1];
+    for(int i = MIN_SIZE_CLASS; i <= MAX_SIZE_CLASS; i++)
+      mShared[i] = new ConcurrentLinkedQueue<T>();
+    mPooledBytes = new AtomicLong(0);
+    mMaxPooledBytes = DEFAULT_MAX_POOLED_BYTES;
+    mGeneration = new AtomicInteger(0);
+    mLocalCache = new ThreadLocal<LocalCache>();
+  }
+
+  /**
+   * Create a new block.
+   * 
+   * @param size The size of the block.
+   * @return A new block exactly size bytes long.
+   * @throws OutOfMemoryError if the block cannot be created.
+   */
+  protected abstract T create(int size);
+
+  /**
+   * Get the size of a block.
+   * 
+   * @param block The block.
+   * @return The number of bytes in the block.
+   */
+  protected abstract int getSize(T block);
+
+  /**
+   * Prepare a recycled block to be handed out again.  By default does
+   * nothing.
+   * 
+   * @param block The block.
+   */
+  protected void reset(T block)
+  {
+  }
+
+  /**
+   * Get the size class a request for size bytes is served from.
+   * 
+   * @param size The number of bytes requested.
+   * @return The size class (the log base 2 of the block size), or -1 if
+   *   blocks that big or small are not pooled.
+   */
+  static int getSizeClass(int size)
+  {
+    if (size <= (1 << MIN_SIZE_CLASS) || size > (1 << MAX_SIZE_CLASS))
+      return -1;
+    return 32 - Integer.numberOfLeadingZeros(size - 1);
+  }
+
+  /**
+   * Get a block at least size bytes long, recycling a freed one if
+   * we can.  If pooling is off the block is exactly size bytes long.
+   * 
+   * @param size The number of bytes requested.
+   * @return A block at least size bytes long.
+   * @throws OutOfMemoryError if a new block cannot be created.
+   */
+  T allocate(int size)
+  {
+    final int sizeClass = getSizeClass(size);
+    if (sizeClass < 0 || mMaxPooledBytes <= 0)
+      return create(size);
+
+    T retval = null;
+    if (sizeClass <= MAX_LOCAL_SIZE_CLASS)
+    {
+      final LocalCache cache = getLocalCache();
+      final int count = cache.mCounts[sizeClass];
+      if (count > 0)
+      {
+        @SuppressWarnings("unchecked")
+        final T block = (T) cache.mBlocks[sizeClass][count - 1];
+        retval = block;
+        cache.mBlocks[sizeClass][count - 1] = null;
+        cache.mCounts[sizeClass] = count - 1;
+        cache.mBytes -= getSize(block);
+      }
+    }
+    if (retval == null)
+    {
+      retval = mShared[sizeClass].poll();
+      if (retval != null)
+        mPooledBytes.addAndGet(-getSize(retval));
+    }
+    if (retval == null)
+      return create(1 << sizeClass);
+    reset(retval);
+    return retval;
+  }
+
+  /**
+   * Return a block to the pool.  Blocks not created by this pool, and
+   * blocks that don't fit, are left for the garbage collector.
+   * 
+   * @param block The block; the caller must not touch it again.
+   */
+  void free(T block)
+  {
+    if (block == null)
+      return;
+    final long maxPooledBytes = mMaxPooledBytes;
+    if (maxPooledBytes <= 0)
+      return;
+    final int size = getSize(block);
+    final int sizeClass = getSizeClass(size);
+    if (sizeClass < 0 || size != (1 << sizeClass))
+      return;
+
+    if (sizeClass <= MAX_LOCAL_SIZE_CLASS)
+    {
+      final LocalCache cache = getLocalCache();
+      final int count = cache.mCounts[sizeClass];
+      if (count < LOCAL_CACHE_DEPTH
+          && cache.mBytes + size <= Math.min(MAX_LOCAL_BYTES, maxPooledBytes))
+      {
+        cache.mBlocks[sizeClass][count] = block;
+        cache.mCounts[sizeClass] = count + 1;
+        cache.mBytes += size;
+        return;
+      }
+    }
+    if (mPooledBytes.addAndGet(size) > maxPooledBytes)
+    {
+      // no room; let the garbage collector have it
+      mPooledBytes.addAndGet(-size);
+      return;
+    }
+    mShared[sizeClass].offer(block);
+  }
+
+  /**
+   * Drop every pooled block so the garbage collector can reclaim them.
+   * Caches held by other threads are dropped the next time those
+   * threads use the pool.
+   */
+  void clear()
+  {
+    mGeneration.incrementAndGet();
+    mLocalCache.remove();
+    for(int i = MIN_SIZE_CLASS; i <= MAX_SIZE_CLASS; i++)
+    {
+      T block;
+      while((block = mShared[i].poll()) != null)
+        mPooledBytes.addAndGet(-getSize(block));
+    }
+  }
+
+  /**
+   * Set the most bytes held in the queues shared between threads.
+   * Setting 0 turns pooling off.
+   * 
+   * @param maxPooledBytes The most bytes to pool.
+   * @throws IllegalArgumentException if < 0
+   */
+  void setMaxPooledBytes(long maxPooledBytes)
+  {
+    if (maxPooledBytes < 0)
+      throw new IllegalArgumentException("Must pass in a non-negative number");
+    final long oldMaxPooledBytes = mMaxPooledBytes;
+    mMaxPooledBytes = maxPooledBytes;
+    if (maxPooledBytes < oldMaxPooledBytes)
+      clear();
+  }
+
+  /**
+   * Get the most bytes held in the queues shared between threads.
+   * 
+   * @return The most bytes to pool.
+   * @see #setMaxPooledBytes(long)
+   */
+  long getMaxPooledBytes()
+  {
+    return mMaxPooledBytes;
+  }
+
+  /**
+   * Get the bytes currently held in the queues shared between threads.
+   * 
+   * @return The bytes pooled.
+   */
+  long getPooledBytes()
+  {
+    return mPooledBytes.get();
+  }
+
+  private LocalCache getLocalCache()
+  {
+    final int generation = mGeneration.get();
+    LocalCache cache = mLocalCache.get();
+    if (cache == null || cache.mGeneration != generation)
+    {
+      cache = new LocalCache(generation);
+      mLocalCache.set(cache);
+    }
+    return cache;
+  }
+}
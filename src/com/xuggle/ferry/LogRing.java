@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.ferry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Internal Only.
+ * <p>
+ * A bounded, lock-free queue that many threads can add to and one thread
+ * takes from.  Producers never block; if the ring is full {@link #offer}
+ * just returns false.
+ * </p>
+ * <p>
+ * Each slot carries a sequence number that tells producers and the consumer
+ * whose turn it is to use the slot, so the only contended operation is a
+ * compare-and-set on the tail position.
+ * </p>
+ */
+final class LogRing<E>
+{
+  private final int mMask;
+  private final AtomicReferenceArray<E> mSlots;
+  private final AtomicLongArray mSequences;
+  private final AtomicLong mTail = new AtomicLong(0);
+  // only the consumer writes this
+  private volatile long mHead = 0;
+
+  /**
+   * Create a new ring.
+   * 
+   * @param capacity the number of elements the ring can hold; rounded up to
+   *   a power of two.
+   */
+  LogRing(int capacity)
+  {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity must be positive");
+    int size = 1;
+    while (size < capacity)
+      size <<= 1;
+    mMask = size - 1;
+    mSlots = new AtomicReferenceArray<E>(size);
+    mSequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++)
+      mSequences.set(i, i);
+  }
+
+  /**
+   * Get the number of elements this ring can hold.
+   * 
+   * @return the capacity.
+   */
+  int getCapacity()
+  {
+    return mMask + 1;
+  }
+
+  /**
+   * Get the number of elements waiting in the ring.  Only approximate
+   * while other threads are using the ring.
+   * 
+   * @return the number of elements.
+   */
+  int size()
+  {
+    long size = mTail.get() - mHead;
+    return (int) Math.max(0, Math.min(size, getCapacity()));
+  }
+
+  /**
+   * Add an element to the ring.  Safe to call from any thread.
+   * 
+   * @param element the element; must not be null.
+   * @return true if added, false if the ring was full.
+   */
+  boolean offer(E element)
+  {
+    if (element == null)
+      throw new IllegalArgumentException("element must not be null");
+    long pos = mTail.get();
+    for (;;)
+    {
+      int index = (int) (pos & mMask);
+      long sequence = mSequences.get(index);
+      long difference = sequence - pos;
+      if (difference == 0)
+      {
+        if (mTail.compareAndSet(pos, pos + 1))
+        {
+          mSlots.set(index, element);
+          // publish the slot to the consumer
+          mSequences.set(index, pos + 1);
+          return true;
+        }
+      }
+      else if (difference < 0)
+      {
+        // the consumer hasn't freed this slot yet; we're full
+        return false;
+      }
+      pos = mTail.get();
+    }
+  }
+
+  /**
+   * Take the oldest element from the ring.  Must only be called from one
+   * thread at a time.
+   * 
+   * @return the element, or null if the ring is empty.
+   */
+  E poll()
+  {
+    long head = mHead;
+    int index = (int) (head & mMask);
+    if (mSequences.get(index) != head + 1)
+      return null;
+    E element = mSlots.get(index);
+    mSlots.set(index, null);
+    // hand the slot back to producers for the next lap
+    mSequences.set(index, head + mMask + 1);
+    mHead = head + 1;
+    return element;
+  }
+}
@@ -19,6 +19,9 @@
 
 package com.xuggle.ferry;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +34,18 @@ import com.xuggle.ferry.NativeLogger;
  * to our SLF4J logger.
  * </p>
  * <p>
+ * Native code caches the levels returned by {@link #getEnabledLevels()} so
+ * that it never formats, or calls into Java for, messages that would be
+ * thrown away. Call {@link #refreshLevels()} after changing the logging
+ * configuration so native code picks up the new levels.
+ * </p>
+ * <p>
+ * Messages that are logged can optionally be handed to a background thread
+ * (see {@link #setAsynchronous(boolean)}) so that native threads, for example
+ * decoding threads, never wait on log output. This can also be turned on by
+ * setting the system property {@value #ASYNCHRONOUS_PROPERTY} to true.
+ * </p>
+ * <p>
  * <strong>Do not change the signatures of methods in this class without
  * changing the corresponding native code that depends on it.</strong>
  * </p>
@@ -38,9 +53,56 @@ import com.xuggle.ferry.NativeLogger;
  */
 public final class NativeLogger
 {
+  /**
+   * The system property that, if set to true, turns on asynchronous logging
+   * when this class is loaded.
+   */
+  public static final String ASYNCHRONOUS_PROPERTY =
+    "com.xuggle.ferry.NativeLogger.asynchronous";
+
+  /**
+   * The number of messages that can be waiting for the background thread
+   * before new messages are dropped.
+   */
+  public static final int ASYNCHRONOUS_CAPACITY = 8192;
+
   // This is a logger this class can use for its own logging
   private static final Logger log = LoggerFactory.getLogger(NativeLogger.class);
 
+  // how long the background thread sleeps if nobody wakes it up
+  private static final long WRITER_IDLE_NANOS = 100L * 1000 * 1000;
+
+  private static final LogRing<Message> sRing =
+    new LogRing<Message>(ASYNCHRONOUS_CAPACITY);
+  private static final AtomicLong sNumDroppedMessages = new AtomicLong(0);
+  private static final Object sWriterLock = new Object();
+  private static volatile boolean sAsynchronous = false;
+  private static volatile boolean sWriterIdle = false;
+  private static volatile Thread sWriter = null;
+
+  static
+  {
+    if (Boolean.getBoolean(ASYNCHRONOUS_PROPERTY))
+      setAsynchronous(true);
+  }
+
+  /**
+   * A message waiting to be logged by the background thread.
+   */
+  private static final class Message
+  {
+    final NativeLogger mLogger;
+    final int mLevel;
+    final String mMsg;
+
+    Message(NativeLogger logger, int level, String msg)
+    {
+      mLogger = logger;
+      mLevel = level;
+      mMsg = msg;
+    }
+  }
+
   public static NativeLogger getLogger(String loggerName)
   {
     log.trace("Native code asked for logger: {}", loggerName);
@@ -51,6 +113,103 @@ public final class NativeLogger
     return retval;
   }
 
+  /**
+   * Tells native code to ask again which levels are enabled. Call this after
+   * changing the logging configuration.
+   */
+  public static void refreshLevels()
+  {
+    com.xuggle.ferry.Logger.refreshLevels();
+  }
+
+  /**
+   * Turns asynchronous logging on or off. When on, {@link #log(int, String)}
+   * queues messages for a background thread instead of logging them on the
+   * calling thread. If more than {@link #ASYNCHRONOUS_CAPACITY} messages are
+   * waiting, new messages are dropped and counted (see
+   * {@link #getNumDroppedMessages()}). Turning it off logs whatever is still
+   * waiting.
+   * 
+   * @param asynchronous true to log on a background thread.
+   */
+  public static void setAsynchronous(boolean asynchronous)
+  {
+    synchronized (sWriterLock)
+    {
+      if (asynchronous && sWriter == null)
+      {
+        Thread writer = new Thread(new Runnable()
+        {
+          public void run()
+          {
+            writeMessages();
+          }
+        }, NativeLogger.class.getName());
+        writer.setDaemon(true);
+        writer.start();
+        sWriter = writer;
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable()
+        {
+          public void run()
+          {
+            flush();
+          }
+        }, NativeLogger.class.getName() + " flush"));
+      }
+      sAsynchronous = asynchronous;
+    }
+    if (!asynchronous)
+      flush();
+  }
+
+  /**
+   * Is asynchronous logging turned on?
+   * 
+   * @return true if messages are logged on a background thread.
+   */
+  public static boolean isAsynchronous()
+  {
+    return sAsynchronous;
+  }
+
+  /**
+   * Get the number of messages dropped because too many were waiting for the
+   * background thread.
+   * 
+   * @return the number of dropped messages.
+   */
+  public static long getNumDroppedMessages()
+  {
+    return sNumDroppedMessages.get();
+  }
+
+  /**
+   * Logs every message still waiting for the background thread, on the
+   * calling thread.
+   */
+  public static void flush()
+  {
+    synchronized (sWriterLock)
+    {
+      Message message;
+      while ((message = sRing.poll()) != null)
+        message.mLogger.write(message.mLevel, message.mMsg);
+    }
+  }
+
+  private static void writeMessages()
+  {
+    while (true)
+    {
+      flush();
+      sWriterIdle = true;
+      // check again in case a message arrived before we said we were idle
+      if (sRing.size() == 0)
+        LockSupport.parkNanos(WRITER_IDLE_NANOS);
+      sWriterIdle = false;
+    }
+  }
+
   private final Logger mLogger;
 
   private NativeLogger(Logger logger)
@@ -63,53 +222,84 @@ public final class NativeLogger
     return mLogger.getName();
   }
 
+  /**
+   * Get the levels that are enabled for this logger, as a bit mask with
+   * bit n set if level n is enabled (0 is error, through 4 for trace).
+   * 
+   * @return the enabled levels.
+   */
+  public int getEnabledLevels()
+  {
+    int levels = 0;
+    for (int level = 0; level <= 4; level++)
+      if (isEnabled(level))
+        levels |= 1 << level;
+    return levels;
+  }
+
   public boolean log(int level, String msg)
   {
-    boolean didLog = false;
     log.trace("log level: {}, msg: {}", level, msg);
 
+    if (!isEnabled(level))
+      return false;
+
+    if (sAsynchronous)
+    {
+      if (sRing.offer(new Message(this, level, msg)))
+      {
+        if (sWriterIdle)
+          LockSupport.unpark(sWriter);
+      }
+      else
+        sNumDroppedMessages.incrementAndGet();
+      // native code stops logging at levels we return false for, so
+      // a dropped message still counts as logged
+      return true;
+    }
+    write(level, msg);
+    return true;
+  }
+
+  private boolean isEnabled(int level)
+  {
     switch (level)
     {
       case 1:
-        if (mLogger.isWarnEnabled())
-        {
-          mLogger.warn(msg);
-          didLog = true;
-        }
+        return mLogger.isWarnEnabled();
+      case 2:
+        return mLogger.isInfoEnabled();
+      case 3:
+        return mLogger.isDebugEnabled();
+      case 4:
+        return mLogger.isTraceEnabled();
+      case 0:
+      default: // treat default as Error
+        return mLogger.isErrorEnabled();
+    }
+  }
+
+  private void write(int level, String msg)
+  {
+    switch (level)
+    {
+      case 1:
+        mLogger.warn(msg);
         break;
       case 2:
-        if (mLogger.isInfoEnabled())
-        {
-          mLogger.info(msg);
-          didLog = true;
-        }
+        mLogger.info(msg);
         break;
       case 3:
-        if (mLogger.isDebugEnabled())
-        {
-          mLogger.debug(msg);
-          didLog = true;
-        }
+        mLogger.debug(msg);
         break;
       case 4:
-        if (mLogger.isTraceEnabled())
-        {
-          mLogger.trace(msg);
-          didLog = true;
-        }
+        mLogger.trace(msg);
         break;
       case 0:
       default: // treat default as Error
-        if (mLogger.isErrorEnabled())
-        {
-          mLogger.error(msg);
-          didLog = true;
-        }
+        mLogger.error(msg);
         break;
-
     }
-
-    return didLog;
   }
 
 }
@@ -22,6 +22,7 @@ package com.xuggle.mediatool;
 
 
 import com.xuggle.xuggler.IContainer;
+import com.xuggle.xuggler.IStreamCoder;
 
 /**
  * 所有{@link IMediaCoder}方法的一个抽象实现，仅仅是没有声明{@link IMediaCoder}
@@ -48,6 +49,19 @@ public abstract class AMediaCoderMixin extends AMediaToolMixin
   //要读取或写入的URL
   private final String mUrl;
 
+  // number of threads given to each coder opened; 0 is one per CPU
+
+  private int mNumThreads = 0;
+
+  // kinds of threading each coder opened may use
+
+  private IStreamCoder.ThreadType mThreadType =
+    IStreamCoder.ThreadType.THREAD_TYPE_FRAME_AND_SLICE;
+
+  // where to record stage metrics; null if not recording
+
+  private volatile MediaMetrics mMetrics = null;
+
   // all the media reader listeners
 
   /**
@@ -121,4 +135,65 @@ public abstract class AMediaCoderMixin extends AMediaToolMixin
   {
     return mCloseContainer;
   }
+
+  /** {@inheritDoc} */
+
+  public void setNumThreads(int numThreads)
+  {
+    if (numThreads < 0)
+      throw new IllegalArgumentException("numThreads must be >= 0");
+    mNumThreads = numThreads;
+  }
+
+  /** {@inheritDoc} */
+
+  public int getNumThreads()
+  {
+    return mNumThreads;
+  }
+
+  /** {@inheritDoc} */
+
+  public void setThreadType(IStreamCoder.ThreadType threadType)
+  {
+    if (threadType == null)
+      throw new IllegalArgumentException("threadType must not be null");
+    mThreadType = threadType;
+  }
+
+  /** {@inheritDoc} */
+
+  public IStreamCoder.ThreadType getThreadType()
+  {
+    return mThreadType;
+  }
+
+  /** {@inheritDoc} */
+
+  public void setMetrics(MediaMetrics metrics)
+  {
+    mMetrics = metrics;
+  }
+
+  /** {@inheritDoc} */
+
+  public MediaMetrics getMetrics()
+  {
+    return mMetrics;
+  }
+
+  /**
+   * Apply the threading settings of this {@link IMediaCoder} to a
+   * coder about to be opened.
+   *
+   * @param coder the coder, which must not yet be open
+   */
+
+  protected void setUpThreading(IStreamCoder coder)
+  {
+    if (coder.setNumThreads(mNumThreads) < 0 ||
+        coder.setThreadType(mThreadType) < 0)
+      throw new RuntimeException("could not set threading on coder: "
+          + coder);
+  }
 }
@@ -0,0 +1,514 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.mediatool;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.xuggle.xuggler.Global;
+import com.xuggle.xuggler.ICodec;
+import com.xuggle.xuggler.IContainer;
+import com.xuggle.xuggler.IError;
+import com.xuggle.xuggler.IIndexEntry;
+import com.xuggle.xuggler.IPacket;
+import com.xuggle.xuggler.IRational;
+import com.xuggle.xuggler.IStream;
+import com.xuggle.xuggler.IStreamCoder;
+import com.xuggle.xuggler.IVideoPicture;
+import com.xuggle.xuggler.video.ConverterFactory;
+import com.xuggle.xuggler.video.IConverter;
+
+/**
+ * An implementation of {@link IFrameExtractor}.
+ * 
+ * <p>
+ * 
+ * Each time stamp is a task on a fixed pool of daemon threads.  A task
+ * borrows one of {@link #getNumThreads()} workers, each of which owns an
+ * {@link IContainer} and video decoder opened the first time it is used.
+ * 
+ * </p>
+ */
+
+class FrameExtractor implements IFrameExtractor
+{
+  final private Logger log = LoggerFactory.getLogger(this.getClass());
+  { log.trace("<init>"); }
+
+  /** The most video packets read after a seek looking for a key frame. */
+
+  static final int MAX_PACKETS_PER_FRAME = 1000;
+
+  // the time base time stamps are passed around in
+
+  private static final IRational MICROSECONDS = IRational.make(1, 1000000);
+
+  // used to give each pool thread a unique name
+
+  private static final AtomicInteger mThreadCount = new AtomicInteger(0);
+
+  // the url of the media
+
+  private final String mUrl;
+
+  // the number of threads and workers
+
+  private final int mNumThreads;
+
+  // the threads tasks run on
+
+  private final ExecutorService mExecutor;
+
+  // the workers not in use right now
+
+  private final BlockingQueue<Worker> mWorkers;
+
+  // true once close has been called
+
+  private volatile boolean mClosed = false;
+
+  /**
+   * Create a frame extractor.
+   * 
+   * @param url the location of the media
+   * @param numThreads the number of threads to decode on
+   * 
+   * @throws IllegalArgumentException if url is null or numThreads &lt;= 0
+   */
+
+  FrameExtractor(String url, int numThreads)
+  {
+    if (url == null)
+      throw new IllegalArgumentException("null url");
+    if (numThreads <= 0)
+      throw new IllegalArgumentException("numThreads must be > 0");
+
+    mUrl = url;
+    mNumThreads = numThreads;
+    mExecutor = Executors.newFixedThreadPool(numThreads, new ThreadFactory()
+    {
+      public Thread newThread(Runnable runnable)
+      {
+        Thread thread = new Thread(runnable,
+          "FrameExtractor-" + mThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    mWorkers = new ArrayBlockingQueue<Worker>(numThreads);
+    for (int i = 0; i < numThreads; i++)
+      mWorkers.add(new Worker());
+  }
+
+  /** {@inheritDoc} */
+
+  public String getUrl()
+  {
+    return mUrl;
+  }
+
+  /** {@inheritDoc} */
+
+  public int getNumThreads()
+  {
+    return mNumThreads;
+  }
+
+  /** {@inheritDoc} */
+
+  public BufferedImage[] extract(long[] timeStamps, TimeUnit timeUnit)
+  {
+    if (timeStamps == null || timeUnit == null)
+      throw new IllegalArgumentException("null time stamps or time unit");
+    if (mClosed)
+      throw new RuntimeException("frame extractor is closed: " + mUrl);
+
+    // queue a task per time stamp
+
+    List<Future<BufferedImage>> futures =
+      new ArrayList<Future<BufferedImage>>(timeStamps.length);
+    for (long timeStamp : timeStamps)
+    {
+      final long microseconds = timeUnit.toMicros(timeStamp);
+      futures.add(mExecutor.submit(new Callable<BufferedImage>()
+      {
+        public BufferedImage call() throws InterruptedException
+        {
+          Worker worker = mWorkers.take();
+          try
+          {
+            return worker.grab(microseconds);
+          }
+          finally
+          {
+            mWorkers.put(worker);
+          }
+        }
+      }));
+    }
+
+    // collect the images in the order asked for
+
+    BufferedImage[] images = new BufferedImage[timeStamps.length];
+    try
+    {
+      for (int i = 0; i < images.length; i++)
+        images[i] = futures.get(i).get();
+    }
+    catch (InterruptedException e)
+    {
+      cancel(futures);
+      throw new RuntimeException("interrupted extracting frames from "
+        + mUrl, e);
+    }
+    catch (ExecutionException e)
+    {
+      cancel(futures);
+      if (e.getCause() instanceof RuntimeException)
+        throw (RuntimeException) e.getCause();
+      throw new RuntimeException("failed extracting frames from " + mUrl,
+        e.getCause());
+    }
+    return images;
+  }
+
+  /** {@inheritDoc} */
+
+  public BufferedImage[] extract(int count)
+  {
+    if (count <= 0)
+      throw new IllegalArgumentException("count must be > 0");
+
+    long duration = getDuration();
+    if (duration == Global.NO_PTS || duration <= 0)
+      throw new RuntimeException("duration unknown for " + mUrl);
+
+    // the middle of each of count equal shares of the media
+
+    long[] timeStamps = new long[count];
+    for (int i = 0; i < count; i++)
+      timeStamps[i] = (2 * i + 1) * duration / (2 * count);
+    return extract(timeStamps, TimeUnit.MICROSECONDS);
+  }
+
+  /** {@inheritDoc} */
+
+  public void close()
+  {
+    synchronized (this)
+    {
+      if (mClosed)
+        return;
+      mClosed = true;
+    }
+    mExecutor.shutdown();
+
+    // take back every worker, waiting for any still in use
+
+    try
+    {
+      for (int i = 0; i < mNumThreads; i++)
+        mWorkers.take().close();
+    }
+    catch (InterruptedException e)
+    {
+      throw new RuntimeException("interrupted closing frame extractor for "
+        + mUrl, e);
+    }
+  }
+
+  /** Get the duration of the media, in microseconds. */
+
+  private long getDuration()
+  {
+    if (mClosed)
+      throw new RuntimeException("frame extractor is closed: " + mUrl);
+    Worker worker;
+    try
+    {
+      worker = mWorkers.take();
+    }
+    catch (InterruptedException e)
+    {
+      throw new RuntimeException("interrupted opening " + mUrl, e);
+    }
+    try
+    {
+      return worker.getDuration();
+    }
+    finally
+    {
+      mWorkers.add(worker);
+    }
+  }
+
+  /** Cancel every task not yet done. */
+
+  private static void cancel(List<Future<BufferedImage>> futures)
+  {
+    for (Future<BufferedImage> future : futures)
+      future.cancel(false);
+  }
+
+  /** Get the error message for an error code. */
+
+  private static String getErrorMessage(int rv)
+  {
+    String errorString = "";
+    IError error = IError.make(rv);
+    if (error != null) {
+       errorString = error.toString();
+       error.delete();
+    }
+    return errorString;
+  }
+
+  /**
+   * One container and video decoder.  Only ever used by one thread at a
+   * time.
+   */
+
+  private class Worker
+  {
+    private IContainer mContainer = null;
+    private IStream mStream = null;
+    private IStreamCoder mCoder = null;
+    private IRational mTimeBase = null;
+    private IConverter mConverter = null;
+
+    /** Open the container and video decoder if not already open. */
+
+    private void open()
+    {
+      if (mContainer != null)
+        return;
+
+      IContainer container = IContainer.make();
+      int rv = container.open(mUrl, IContainer.Type.READ, null);
+      if (rv < 0)
+      {
+        container.delete();
+        throw new RuntimeException("error " + getErrorMessage(rv)
+          + ", failed to open " + mUrl);
+      }
+      mContainer = container;
+
+      // use the first video stream
+
+      for (int i = 0; i < container.getNumStreams() && mCoder == null; i++)
+      {
+        IStream stream = container.getStream(i);
+        IStreamCoder coder = stream.getStreamCoder();
+        if (coder.getCodecType() == ICodec.Type.CODEC_TYPE_VIDEO)
+        {
+          mStream = stream;
+          mCoder = coder;
+        }
+        else
+        {
+          coder.delete();
+          stream.delete();
+        }
+      }
+      if (mCoder == null)
+      {
+        close();
+        throw new RuntimeException("no video stream in " + mUrl);
+      }
+      rv = mCoder.open(null, null);
+      if (rv < 0)
+      {
+        close();
+        throw new RuntimeException("error " + getErrorMessage(rv)
+          + ", failed to open video decoder for " + mUrl);
+      }
+      mTimeBase = mStream.getTimeBase();
+    }
+
+    /** Get the duration of the container, in microseconds. */
+
+    private long getDuration()
+    {
+      open();
+      return mContainer.getDuration();
+    }
+
+    /**
+     * Grab the key frame at or before a time stamp.
+     * 
+     * @param microseconds the time stamp, from the start of the media
+     * 
+     * @return the image, or null if no key frame could be found
+     */
+
+    private BufferedImage grab(long microseconds)
+    {
+      open();
+
+      // find the time stamp in the stream's time base, and move it to
+      // the key frame before it if the stream keeps an index
+
+      long target = mTimeBase.rescale(microseconds, MICROSECONDS);
+      long startTime = mStream.getStartTime();
+      if (startTime != Global.NO_PTS)
+        target += startTime;
+      IIndexEntry entry = mStream.findTimeStampEntryInIndex(target,
+        IContainer.SEEK_FLAG_BACKWARDS);
+      if (entry != null)
+      {
+        target = entry.getTimeStamp();
+        entry.delete();
+      }
+
+      int streamIndex = mStream.getIndex();
+      if (mContainer.seekKeyFrame(streamIndex, Long.MIN_VALUE, target,
+          target, 0) < 0 &&
+        mContainer.seekKeyFrame(streamIndex, target,
+          IContainer.SEEK_FLAG_BACKWARDS) < 0)
+      {
+        log.debug("could not seek to {} in {}", microseconds, mUrl);
+        return null;
+      }
+
+      // decode until the key frame we landed on comes out of the decoder;
+      // earlier pictures can still be queued in it from before the seek
+
+      IPacket packet = IPacket.make();
+      IVideoPicture picture = IVideoPicture.make(mCoder.getPixelType(),
+        mCoder.getWidth(), mCoder.getHeight());
+      try
+      {
+        long keyTimeStamp = Global.NO_PTS;
+        int packets = 0;
+        while (packets < MAX_PACKETS_PER_FRAME)
+        {
+          if (mContainer.readNextPacket(packet) < 0)
+          {
+            // end of file; an empty packet asks for delayed pictures
+
+            packet.delete();
+            packet = IPacket.make();
+            packet.setStreamIndex(streamIndex);
+            while (decode(packet, picture))
+              if (isKeyFrame(picture, keyTimeStamp))
+                return toImage(picture);
+            return null;
+          }
+          if (packet.getStreamIndex() != streamIndex)
+            continue;
+          if (packets++ == 0 && packet.getPts() != Global.NO_PTS)
+            keyTimeStamp = MICROSECONDS.rescale(packet.getPts(), mTimeBase);
+          if (decode(packet, picture) && isKeyFrame(picture, keyTimeStamp))
+            return toImage(picture);
+        }
+        log.debug("no key frame within {} packets of {} in {}",
+          new Object[] { MAX_PACKETS_PER_FRAME, microseconds, mUrl });
+        return null;
+      }
+      finally
+      {
+        packet.delete();
+        picture.delete();
+      }
+    }
+
+    /**
+     * Decode a packet.
+     * 
+     * @return true if a complete picture was decoded
+     */
+
+    private boolean decode(IPacket packet, IVideoPicture picture)
+    {
+      int rv = mCoder.decodeVideo(picture, packet, 0);
+      if (rv < 0)
+      {
+        // packets right after a seek can reference frames we skipped
+        log.debug("error {} decoding video from {}", getErrorMessage(rv),
+          mUrl);
+        return false;
+      }
+      return picture.isComplete();
+    }
+
+    /**
+     * Test whether a picture is the key frame we seeked to, and not one
+     * left in the decoder from before.
+     */
+
+    private boolean isKeyFrame(IVideoPicture picture, long keyTimeStamp)
+    {
+      return picture.isKeyFrame() && (keyTimeStamp == Global.NO_PTS ||
+        picture.getTimeStamp() >= keyTimeStamp - 1);
+    }
+
+    /** Convert a picture to an image, making the converter if needed. */
+
+    private BufferedImage toImage(IVideoPicture picture)
+    {
+      if (mConverter == null)
+        mConverter = ConverterFactory.createConverter(
+          ConverterFactory.XUGGLER_BGR_24, picture);
+      return mConverter.toImage(picture);
+    }
+
+    /** Close and release everything this worker opened. */
+
+    private void close()
+    {
+      if (mConverter != null)
+        mConverter.delete();
+      mConverter = null;
+      if (mTimeBase != null)
+        mTimeBase.delete();
+      mTimeBase = null;
+      if (mCoder != null)
+      {
+        if (mCoder.isOpen())
+          mCoder.close();
+        mCoder.delete();
+      }
+      mCoder = null;
+      if (mStream != null)
+        mStream.delete();
+      mStream = null;
+      if (mContainer != null)
+      {
+        mContainer.close();
+        mContainer.delete();
+      }
+      mContainer = null;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.mediatool;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grabs still images from a media container by decoding only the key
+ * frames nearest the requested time stamps, spreading the work over a
+ * pool of threads.
+ * 
+ * <p>
+ * 
+ * An {@link IMediaReader} decodes every frame in a file one after
+ * another.  To make a handful of thumbnails that is almost all wasted
+ * work: an {@link IFrameExtractor} instead seeks to the key frame at or
+ * before each time stamp, using the stream's index when the container
+ * keeps one, and decodes just that frame.  Each thread in the pool
+ * keeps its own open {@link com.xuggle.xuggler.IContainer}, so seeks on
+ * one thread do not disturb reads on another.
+ * 
+ * </p>
+ * <p>
+ * 
+ * Here's an example that makes ten evenly spaced thumbnails:
+ * 
+ * </p>
+ * <pre>
+ * IFrameExtractor extractor = ToolFactory.makeFrameExtractor(&quot;input.mp4&quot;);
+ * try
+ * {
+ *   BufferedImage[] thumbnails = extractor.extract(10);
+ *   ...
+ * }
+ * finally
+ * {
+ *   extractor.close();
+ * }
+ * </pre>
+ * <p>
+ * 
+ * Images are key frames, so they may come from some time before the
+ * time stamp asked for; how far depends on how often the media was
+ * encoded with key frames.
+ * 
+ * </p>
+ */
+
+public interface IFrameExtractor
+{
+  /**
+   * The URL of the media this extractor grabs images from.
+   * 
+   * @return the url
+   */
+
+  public abstract String getUrl();
+
+  /**
+   * The number of threads, and so open containers, this extractor uses.
+   * 
+   * @return the number of threads
+   */
+
+  public abstract int getNumThreads();
+
+  /**
+   * Grab the key frame at or before each of the given time stamps.
+   * 
+   * <p>
+   * 
+   * Time stamps are measured from the start of the media.  Images are
+   * returned in the same order as the time stamps.  If no key frame
+   * can be found for a time stamp, for example because the container
+   * cannot seek, its image is null.
+   * 
+   * </p>
+   * 
+   * @param timeStamps the time stamps to grab images at
+   * @param timeUnit the unit of the time stamps
+   * 
+   * @return one image per time stamp
+   * 
+   * @throws RuntimeException if the media cannot be opened or decoded,
+   *         this extractor is closed, or the calling thread is
+   *         interrupted.
+   */
+
+  public abstract BufferedImage[] extract(long[] timeStamps,
+    TimeUnit timeUnit);
+
+  /**
+   * Grab a number of images evenly spaced over the duration of the
+   * media; each image is from the key frame at or before the middle of
+   * its share of the media.
+   * 
+   * @param count the number of images
+   * 
+   * @return count images, some of which may be null; see
+   *         {@link #extract(long[], TimeUnit)}
+   * 
+   * @throws IllegalArgumentException if count &lt;= 0
+   * @throws RuntimeException if the duration of the media is not known,
+   *         or for the same reasons as {@link #extract(long[], TimeUnit)}.
+   */
+
+  public abstract BufferedImage[] extract(int count);
+
+  /**
+   * Stop all threads and close all containers.  Calls already in
+   * progress are allowed to finish first.
+   */
+
+  public abstract void close();
+}
@@ -77,4 +77,76 @@ public interface IMediaCoder extends IMediaGenerator
    */
 
   public abstract void close();
+
+  /**
+   * Set the number of threads each {@link IStreamCoder} opened by this
+   * {@link IMediaCoder} will use.  Only coders opened after this call
+   * are affected.
+   *
+   * <p> By default coders use one thread per available CPU. </p>
+   *
+   * @param numThreads the number of threads, or 0 for one per available
+   *        CPU
+   *
+   * @throws IllegalArgumentException if numThreads &lt; 0
+   *
+   * @see IStreamCoder#setNumThreads(int)
+   */
+
+  public abstract void setNumThreads(int numThreads);
+
+  /**
+   * Get the number of threads each {@link IStreamCoder} opened by this
+   * {@link IMediaCoder} will use.
+   *
+   * @return the number of threads, or 0 for one per available CPU
+   */
+
+  public abstract int getNumThreads();
+
+  /**
+   * Set the kinds of threading each {@link IStreamCoder} opened by this
+   * {@link IMediaCoder} may use.  Only coders opened after this call are
+   * affected.
+   *
+   * <p> By default coders may use {@link
+   * IStreamCoder.ThreadType#THREAD_TYPE_FRAME_AND_SLICE}. </p>
+   *
+   * @param threadType the thread type
+   *
+   * @throws IllegalArgumentException if threadType is null
+   *
+   * @see IStreamCoder#setThreadType(IStreamCoder.ThreadType)
+   */
+
+  public abstract void setThreadType(IStreamCoder.ThreadType threadType);
+
+  /**
+   * Get the kinds of threading each {@link IStreamCoder} opened by this
+   * {@link IMediaCoder} may use.
+   *
+   * @return the thread type
+   */
+
+  public abstract IStreamCoder.ThreadType getThreadType();
+
+  /**
+   * Set the {@link MediaMetrics} this {@link IMediaCoder} records the
+   * time and throughput of each stage of its work in.  The same
+   * metrics may be given to more than one tool.
+   *
+   * <p> By default no metrics are recorded, which costs nothing. </p>
+   *
+   * @param metrics the metrics, or null to stop recording
+   */
+
+  public abstract void setMetrics(MediaMetrics metrics);
+
+  /**
+   * Get the {@link MediaMetrics} this {@link IMediaCoder} records in.
+   *
+   * @return the metrics, or null if none are recorded
+   */
+
+  public abstract MediaMetrics getMetrics();
 }
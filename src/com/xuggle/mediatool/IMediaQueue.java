@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.mediatool;
+
+/**
+ * An {@link IMediaTool} that hands every event it receives to its own
+ * thread, and calls its listeners from that thread.
+ * 
+ * <p>
+ * 
+ * By default every {@link IMediaTool} calls its listeners on the
+ * thread that called it, so an {@link IMediaReader} feeding an
+ * {@link IMediaWriter} demuxes, decodes, converts, encodes and muxes
+ * one frame after another on one core.  Putting an {@link IMediaQueue}
+ * between two tools splits that chain into two stages that run at the
+ * same time, and a pipeline runs at the speed of its slowest stage
+ * instead of the sum of all of them.
+ * 
+ * </p>
+ * <p>
+ * 
+ * Here's an example that decodes on the calling thread and encodes on
+ * the queue's thread:
+ * 
+ * </p>
+ * <pre>
+ * IMediaReader reader = ToolFactory.makeReader(&quot;input.mpg&quot;);
+ * IMediaQueue queue = ToolFactory.makeQueue();
+ * reader.addListener(queue);
+ * queue.addListener(ToolFactory.makeWriter(&quot;output.flv&quot;, reader));
+ * while (reader.readPacket() == null)
+ *   ;
+ * </pre>
+ * <p>
+ * 
+ * Queues can be chained to add more stages, for example a queue
+ * before and after an {@link IMediaTool} that modifies pictures.
+ * 
+ * </p>
+ * <p>
+ * 
+ * The guarantees are:
+ * 
+ * </p>
+ * <ul>
+ * <li>Listeners get exactly the events the queue got, in the order it
+ *   got them, all on the queue's thread.</li>
+ * <li>The queue holds at most {@link #getCapacity()} events.  Once full,
+ *   the thread calling the queue blocks until there is room.</li>
+ * <li>Media data and packets passed on are held by the queue until all
+ *   listeners have been called, so the generator is free to delete or
+ *   reuse its own copies once its call into the queue returns.</li>
+ * <li>{@link IMediaListener#onCloseCoder} and
+ *   {@link IMediaListener#onClose} do not return until every earlier
+ *   event, and that event, have been handled.  So when an
+ *   {@link IMediaReader} returns end of file, everything downstream of
+ *   the queue is done too.</li>
+ * <li>If a listener throws an exception, all later events are dropped,
+ *   and the exception is re-thrown, wrapped in a
+ *   {@link RuntimeException}, on the next thread that calls the queue or
+ *   {@link #drain()}.</li>
+ * </ul>
+ * 
+ */
+
+public interface IMediaQueue extends IMediaTool
+{
+  /**
+   * The maximum number of events this queue will hold before blocking.
+   * 
+   * @return the capacity
+   */
+
+  public abstract int getCapacity();
+
+  /**
+   * The number of events waiting to be handed to listeners, including
+   * one being handled right now.
+   * 
+   * @return the number of events in the queue
+   */
+
+  public abstract int size();
+
+  /**
+   * Blocks until every event queued so far has been handed to all
+   * listeners.
+   * 
+   * @throws RuntimeException if a listener threw an exception, or the
+   *         calling thread was interrupted.
+   */
+
+  public abstract void drain();
+}
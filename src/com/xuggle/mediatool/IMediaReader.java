@@ -26,6 +26,8 @@ import com.xuggle.xuggler.IAudioSamples;
 import com.xuggle.xuggler.IContainer;
 import com.xuggle.xuggler.IContainerFormat;
 import com.xuggle.xuggler.IError;
+import com.xuggle.xuggler.IPacket;
+import com.xuggle.xuggler.IStreamCoder;
 import com.xuggle.xuggler.IVideoPicture;
 
 /**
@@ -176,6 +178,30 @@ public interface IMediaReader extends IMediaCoder
 
   public abstract boolean willCloseOnEofOnly();
 
+  /**
+   * Set whether {@link #readPacket} decodes the packets it reads.  If
+   * false, listeners only get {@link IMediaListener#onReadPacket} for
+   * each packet, and no decoders are opened, which is all a
+   * {@link IMediaWriter} that is stream copying needs.  The default
+   * value for this is true.
+   * 
+   * @param decodeMedia true if packets are to be decoded
+   * 
+   * @see IMediaWriter#setStreamCopy(boolean)
+   */
+
+  public abstract void setDecodeMedia(boolean decodeMedia);
+
+  /**
+   * Report if {@link #readPacket} decodes the packets it reads.  The
+   * default value for this is true.
+   * 
+   * @return true if packets are decoded
+   * @see #setDecodeMedia(boolean)
+   */
+
+  public abstract boolean willDecodeMedia();
+
   /**
    * Decodes the next packet and calls all registered {@link IMediaListener}
    * objects.
@@ -242,6 +268,132 @@ public interface IMediaReader extends IMediaCoder
    */
 
   public abstract int getBufferedImageTypeToGenerate();
+
+  /**
+   * Sets how many decoded {@link IVideoPicture} and {@link IAudioSamples}
+   * objects this {@link IMediaReader} recycles per stream.
+   * 
+   * <p>
+   * 
+   * By default (a ring size of 0) {@link #readPacket()} makes a new
+   * {@link IPacket} for every packet read, and a new
+   * {@link IVideoPicture} or {@link IAudioSamples} for every frame
+   * decoded, and deletes each one once all listeners have been called.
+   * 
+   * </p>
+   * <p>
+   * 
+   * If set to a positive value, {@link #readPacket()} reuses one
+   * {@link IPacket} for every read, and keeps a ring of
+   * <code>ringSize</code> pictures or samples per stream that it
+   * decodes into in turn.  This avoids a native allocation and free
+   * for every packet and frame, but changes who owns the objects
+   * passed to listeners:
+   * 
+   * </p>
+   * <ul>
+   * <li>The {@link IMediaReader} owns them.  Listeners must never call
+   *   {@link com.xuggle.ferry.RefCounted#delete()} on them.</li>
+   * <li>A packet is only valid until the next call to
+   *   {@link #readPacket()}.</li>
+   * <li>A picture or set of samples is only valid until
+   *   <code>ringSize</code> more pictures or samples have been decoded
+   *   for the same stream.  So with a ring size of 1, it is only valid
+   *   for the duration of the listener call.</li>
+   * <li>Taking a {@link com.xuggle.ferry.RefCounted#copyReference()}
+   *   does not extend those lifetimes, as the underlying data is still
+   *   overwritten.  Listeners that need the data for longer must copy
+   *   it, for example with {@link IVideoPicture#make(IVideoPicture)}.</li>
+   * <li>Everything is released when {@link #close()} is called.</li>
+   * </ul>
+   * <p>
+   * 
+   * Changes take effect on the next call to {@link #readPacket()}.
+   * 
+   * </p>
+   * 
+   * @param ringSize the number of pictures or samples to recycle per
+   *        stream, or 0 to disable recycling.
+   * 
+   * @throws IllegalArgumentException if ringSize &lt; 0
+   */
+
+  public abstract void setMediaDataRingSize(int ringSize);
+
+  /**
+   * Get the number of decoded {@link IVideoPicture} and
+   * {@link IAudioSamples} objects this {@link IMediaReader} recycles
+   * per stream.
+   * 
+   * @return the ring size, or 0 if recycling is disabled.
+   * 
+   * @see #setMediaDataRingSize(int)
+   */
+
+  public abstract int getMediaDataRingSize();
+
+  /**
+   * Sets which frames the video decoders of this {@link IMediaReader}
+   * skip.
+   * 
+   * <p>
+   * 
+   * For example {@link IStreamCoder.Discard#DISCARD_NONKEY} decodes
+   * only key frames, which is much faster when listeners only want a
+   * picture every so often, such as for previews or finding scene
+   * changes.  Skipped frames still get {@link
+   * IMediaListener#onReadPacket} calls but no {@link
+   * IMediaListener#onVideoPicture} ones.  Applies to video decoders
+   * already open as well as ones opened later.  The default is {@link
+   * IStreamCoder.Discard#DISCARD_DEFAULT}.
+   * 
+   * </p>
+   * 
+   * @param discard the frames to skip
+   * 
+   * @throws IllegalArgumentException if discard is null
+   * 
+   * @see IStreamCoder#setSkipFrame(IStreamCoder.Discard)
+   */
+
+  public abstract void setVideoSkipFrame(IStreamCoder.Discard discard);
+
+  /**
+   * Get which frames the video decoders of this {@link IMediaReader}
+   * skip.
+   * 
+   * @return the frames skipped
+   * 
+   * @see #setVideoSkipFrame(IStreamCoder.Discard)
+   */
+
+  public abstract IStreamCoder.Discard getVideoSkipFrame();
+
+  /**
+   * Sets which frames the video decoders of this {@link IMediaReader}
+   * skip the loop filter for, trading picture quality for speed.
+   * Applies to video decoders already open as well as ones opened
+   * later.  The default is {@link IStreamCoder.Discard#DISCARD_DEFAULT}.
+   * 
+   * @param discard the frames to skip the loop filter for
+   * 
+   * @throws IllegalArgumentException if discard is null
+   * 
+   * @see IStreamCoder#setSkipLoopFilter(IStreamCoder.Discard)
+   */
+
+  public abstract void setVideoSkipLoopFilter(IStreamCoder.Discard discard);
+
+  /**
+   * Get which frames the video decoders of this {@link IMediaReader}
+   * skip the loop filter for.
+   * 
+   * @return the frames the loop filter is skipped for
+   * 
+   * @see #setVideoSkipLoopFilter(IStreamCoder.Discard)
+   */
+
+  public abstract IStreamCoder.Discard getVideoSkipLoopFilter();
   
   /**
    * {@inheritDoc}
@@ -177,6 +177,60 @@ public interface IMediaWriter extends IMediaCoder, IMediaTool
 
   public abstract boolean willForceInterleave();
 
+  /**
+   * Set the stream copy option.
+   * 
+   * <p>
+   * 
+   * If true, streams are copied from the input container with the same
+   * codec and codec settings, and packets passed to
+   * {@link #onReadPacket} are written to the output container as they
+   * are, with their time stamps rescaled to the output stream's time
+   * base.  Nothing is decoded or encoded, so this is the cheap way to
+   * move media from one container format to another.  Decoded media
+   * passed to {@link #onVideoPicture} or {@link #onAudioSamples} is
+   * ignored, so pair this with
+   * {@link IMediaReader#setDecodeMedia(boolean)} set to false:
+   * 
+   * </p>
+   * <pre>
+   * IMediaReader reader = ToolFactory.makeReader(&quot;input.flv&quot;);
+   * reader.setDecodeMedia(false);
+   * IMediaWriter writer = ToolFactory.makeWriter(&quot;output.mp4&quot;, reader);
+   * writer.setStreamCopy(true);
+   * reader.addListener(writer);
+   * while (reader.readPacket() == null)
+   *   ;
+   * </pre>
+   * <p>
+   * 
+   * The output container format must support the input codecs.  The
+   * default value for this is false.
+   * 
+   * </p>
+   * 
+   * @param streamCopy true if streams are to be copied, not encoded
+   * 
+   * @throws UnsupportedOperationException if this writer has no input
+   *         container to copy streams from
+   * @throws RuntimeException if streams have already been added
+   * 
+   * @see #willStreamCopy
+   */
+
+  public abstract void setStreamCopy(boolean streamCopy);
+
+  /**
+   * Test if the {@link IMediaWriter} copies streams rather than
+   * encoding them.  The default value for this value is false.
+   * 
+   * @return true if streams are copied
+   * 
+   * @see #setStreamCopy
+   */
+
+  public abstract boolean willStreamCopy();
+
   /**
    * Test if this {@link IMediaWriter} can write streams of this type.
    * 
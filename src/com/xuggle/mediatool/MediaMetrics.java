@@ -0,0 +1,641 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.mediatool;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
+import javax.management.ObjectName;
+
+import com.xuggle.xuggler.IStreamCoder;
+
+/**
+ * Counts the time spent, and the frames and bytes handled, in each stage of
+ * reading and writing media.
+ * 
+ * <p>
+ * 
+ * Attach one to an {@link IMediaReader}, an {@link IMediaWriter} or both
+ * with {@link IMediaCoder#setMetrics(MediaMetrics)}, and the tools record
+ * every packet read, every frame decoded, converted and encoded, and every
+ * packet written.  The tools check for metrics with a single null test, so
+ * when none are attached they cost nothing.
+ * 
+ * </p>
+ * <p>
+ * 
+ * Read the numbers with {@link #snapshot()}, or from JMX after calling
+ * {@link #registerMBean(String)}.  Here's an example that finds out which
+ * stage of a transcode is the slow one:
+ * 
+ * </p>
+ * <pre>
+ * MediaMetrics metrics = new MediaMetrics();
+ * IMediaReader reader = ToolFactory.makeReader(&quot;input.mpg&quot;);
+ * IMediaWriter writer = ToolFactory.makeWriter(&quot;output.flv&quot;, reader);
+ * reader.setMetrics(metrics);
+ * writer.setMetrics(metrics);
+ * reader.addListener(writer);
+ * while (reader.readPacket() == null)
+ *   ;
+ * System.out.println(metrics.snapshot());
+ * </pre>
+ * <p>
+ * 
+ * Time is measured on the thread doing the work and does not include time
+ * spent in listeners, so when tools are split across threads with an
+ * {@link IMediaQueue} the stage times can add up to more than the elapsed
+ * time.  Queues added with {@link #addQueue(String, IMediaQueue)} have their
+ * depth reported, which shows which side of each queue is waiting.
+ * 
+ * </p>
+ * <p>
+ * 
+ * Metrics may be shared by tools on different threads.
+ * 
+ * </p>
+ */
+
+public class MediaMetrics
+{
+  /**
+   * The stages of reading and writing media that are measured.
+   */
+
+  public enum Stage
+  {
+    /** Reading (demuxing) packets from a container. */
+    READ_PACKET("ReadPacket"),
+    /** Decoding video packets into pictures. */
+    DECODE_VIDEO("DecodeVideo"),
+    /** Decoding audio packets into samples. */
+    DECODE_AUDIO("DecodeAudio"),
+    /** Converting between pictures and {@link java.awt.image.BufferedImage}s. */
+    CONVERT_VIDEO("ConvertVideo"),
+    /** Encoding pictures into video packets. */
+    ENCODE_VIDEO("EncodeVideo"),
+    /** Encoding samples into audio packets. */
+    ENCODE_AUDIO("EncodeAudio"),
+    /** Writing (muxing) packets to a container. */
+    WRITE_PACKET("WritePacket");
+
+    private final String mName;
+
+    private Stage(String name)
+    {
+      mName = name;
+    }
+
+    /**
+     * The name of this stage as used in JMX attribute names.
+     * 
+     * @return the name
+     */
+
+    public String getName()
+    {
+      return mName;
+    }
+  }
+
+  // the counters kept for each stage, in order
+
+  private static final int COUNT = 0;
+  private static final int FRAMES = 1;
+  private static final int NANOS = 2;
+  private static final int BYTES = 3;
+  private static final int COUNTERS = 4;
+
+  private final AtomicLongArray mCounters =
+    new AtomicLongArray(Stage.values().length * COUNTERS);
+  private final AtomicLong mDroppedFrames = new AtomicLong(0);
+  private final List<QueueEntry> mQueues =
+    new CopyOnWriteArrayList<QueueEntry>();
+  private volatile long mStartTime = System.nanoTime();
+  private ObjectName mObjectName;
+
+  /** A queue whose depth is reported. */
+
+  private static class QueueEntry
+  {
+    final String mName;
+    final IMediaQueue mQueue;
+
+    QueueEntry(String name, IMediaQueue queue)
+    {
+      mName = name;
+      mQueue = queue;
+    }
+  }
+
+  /**
+   * Record one pass through a stage that started at startTime.  This is
+   * what the media tools call, but any {@link IMediaTool} can record its
+   * own work too.
+   * 
+   * @param stage the stage
+   * @param startTime when the work started, from {@link System#nanoTime()}
+   * @param frames the number of whole frames produced or consumed; 0 if
+   *        the work did not complete a frame
+   * @param bytes the number of bytes read, decoded, converted, encoded or
+   *        written
+   */
+
+  public void record(Stage stage, long startTime, long frames, long bytes)
+  {
+    long nanos = System.nanoTime() - startTime;
+    int index = stage.ordinal() * COUNTERS;
+    mCounters.incrementAndGet(index + COUNT);
+    if (frames != 0)
+      mCounters.addAndGet(index + FRAMES, frames);
+    mCounters.addAndGet(index + NANOS, nanos);
+    if (bytes != 0)
+      mCounters.addAndGet(index + BYTES, bytes);
+  }
+
+  /**
+   * Add to the number of frames dropped by encoders.
+   * 
+   * @param frames the number of newly dropped frames
+   * 
+   * @see IStreamCoder#getNumDroppedFrames()
+   */
+
+  public void addDroppedFrames(long frames)
+  {
+    mDroppedFrames.addAndGet(frames);
+  }
+
+  /**
+   * Report the depth of a queue in snapshots.
+   * 
+   * @param name the name to report the depth under
+   * @param queue the queue
+   * 
+   * @throws IllegalArgumentException if name or queue is null
+   */
+
+  public void addQueue(String name, IMediaQueue queue)
+  {
+    if (name == null)
+      throw new IllegalArgumentException("name must not be null");
+    if (queue == null)
+      throw new IllegalArgumentException("queue must not be null");
+    mQueues.add(new QueueEntry(name, queue));
+  }
+
+  /**
+   * Stop reporting the depth of a queue.
+   * 
+   * @param queue the queue
+   */
+
+  public void removeQueue(IMediaQueue queue)
+  {
+    for (QueueEntry entry : mQueues)
+      if (entry.mQueue == queue)
+        mQueues.remove(entry);
+  }
+
+  /**
+   * Zero all counters and restart the clock that rates are measured over.
+   * Counts recorded while resetting may be lost.
+   */
+
+  public void reset()
+  {
+    for (int i = 0; i < mCounters.length(); i++)
+      mCounters.set(i, 0);
+    mDroppedFrames.set(0);
+    mStartTime = System.nanoTime();
+  }
+
+  /**
+   * Take a copy of the current counters.
+   * 
+   * @return the snapshot
+   */
+
+  public Snapshot snapshot()
+  {
+    return new Snapshot(this);
+  }
+
+  /**
+   * Export these metrics as a JMX MBean named
+   * <code>com.xuggle.mediatool:type=MediaMetrics,name=</code><i>name</i>
+   * on the platform MBean server.  For each stage, say
+   * {@link Stage#DECODE_VIDEO}, it has the attributes DecodeVideoCount,
+   * DecodeVideoFrames, DecodeVideoNanos, DecodeVideoBytes,
+   * DecodeVideoFramesPerSecond and DecodeVideoBytesPerSecond.  It also has
+   * ElapsedNanos, DroppedFrames, a QueueDepth attribute per queue and a
+   * reset operation.
+   * 
+   * @param name the name of these metrics
+   * 
+   * @return the name the MBean was registered under
+   * 
+   * @throws IllegalStateException if already registered, or the MBean
+   *         could not be registered
+   */
+
+  public synchronized ObjectName registerMBean(String name)
+  {
+    if (mObjectName != null)
+      throw new IllegalStateException("already registered as "
+          + mObjectName);
+    try
+    {
+      ObjectName objectName = new ObjectName(
+          "com.xuggle.mediatool:type=MediaMetrics,name="
+          + ObjectName.quote(name));
+      ManagementFactory.getPlatformMBeanServer().registerMBean(
+          new MBean(this), objectName);
+      mObjectName = objectName;
+      return objectName;
+    }
+    catch (JMException e)
+    {
+      throw new IllegalStateException("could not register metrics " + name,
+          e);
+    }
+  }
+
+  /**
+   * Remove the MBean registered by {@link #registerMBean(String)}, if
+   * there is one.
+   */
+
+  public synchronized void unregisterMBean()
+  {
+    if (mObjectName == null)
+      return;
+    try
+    {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(
+          mObjectName);
+    }
+    catch (JMException e)
+    {
+      throw new IllegalStateException("could not unregister metrics "
+          + mObjectName, e);
+    }
+    finally
+    {
+      mObjectName = null;
+    }
+  }
+
+  /**
+   * The counters of a {@link MediaMetrics} at one moment.
+   */
+
+  public static final class Snapshot
+  {
+    private final long mElapsedNanos;
+    private final long[] mCounters;
+    private final long mDroppedFrames;
+    private final Map<String, Integer> mQueueDepths;
+
+    private Snapshot(MediaMetrics metrics)
+    {
+      mElapsedNanos = System.nanoTime() - metrics.mStartTime;
+      mCounters = new long[metrics.mCounters.length()];
+      for (int i = 0; i < mCounters.length; i++)
+        mCounters[i] = metrics.mCounters.get(i);
+      mDroppedFrames = metrics.mDroppedFrames.get();
+      Map<String, Integer> depths = new LinkedHashMap<String, Integer>();
+      for (QueueEntry entry : metrics.mQueues)
+        depths.put(entry.mName, entry.mQueue.size());
+      mQueueDepths = Collections.unmodifiableMap(depths);
+    }
+
+    private long get(Stage stage, int counter)
+    {
+      return mCounters[stage.ordinal() * COUNTERS + counter];
+    }
+
+    private double perSecond(long value)
+    {
+      return mElapsedNanos <= 0 ? 0 : value * 1e9 / mElapsedNanos;
+    }
+
+    /**
+     * The time from when the metrics were made or last reset to this
+     * snapshot.
+     * 
+     * @return the elapsed time in nanoseconds
+     */
+
+    public long getElapsedNanos()
+    {
+      return mElapsedNanos;
+    }
+
+    /**
+     * The number of times a stage was run.
+     * 
+     * @param stage the stage
+     * @return the count
+     */
+
+    public long getCount(Stage stage)
+    {
+      return get(stage, COUNT);
+    }
+
+    /**
+     * The number of whole frames a stage produced or consumed.  For
+     * {@link Stage#READ_PACKET} and {@link Stage#WRITE_PACKET} this is the
+     * number of packets.
+     * 
+     * @param stage the stage
+     * @return the number of frames
+     */
+
+    public long getFrames(Stage stage)
+    {
+      return get(stage, FRAMES);
+    }
+
+    /**
+     * The time spent in a stage.
+     * 
+     * @param stage the stage
+     * @return the time in nanoseconds
+     */
+
+    public long getNanos(Stage stage)
+    {
+      return get(stage, NANOS);
+    }
+
+    /**
+     * The number of bytes a stage handled.  For the read, decode, encode
+     * and write stages this is compressed bytes; for
+     * {@link Stage#CONVERT_VIDEO} it is the size of the pictures made or
+     * converted.
+     * 
+     * @param stage the stage
+     * @return the number of bytes
+     */
+
+    public long getBytes(Stage stage)
+    {
+      return get(stage, BYTES);
+    }
+
+    /**
+     * The frames a stage handled per second of elapsed time.
+     * 
+     * @param stage the stage
+     * @return the frame rate
+     */
+
+    public double getFramesPerSecond(Stage stage)
+    {
+      return perSecond(getFrames(stage));
+    }
+
+    /**
+     * The bytes a stage handled per second of elapsed time.
+     * 
+     * @param stage the stage
+     * @return the byte rate
+     */
+
+    public double getBytesPerSecond(Stage stage)
+    {
+      return perSecond(getBytes(stage));
+    }
+
+    /**
+     * The number of frames dropped by encoders.
+     * 
+     * @return the number of frames
+     */
+
+    public long getDroppedFrames()
+    {
+      return mDroppedFrames;
+    }
+
+    /**
+     * The depth of each queue added with
+     * {@link MediaMetrics#addQueue(String, IMediaQueue)}, by name.
+     * 
+     * @return the queue depths
+     */
+
+    public Map<String, Integer> getQueueDepths()
+    {
+      return mQueueDepths;
+    }
+
+    /**
+     * Prints the count, time and frame rate of every stage that ran.
+     * {@inheritDoc}
+     * @return a nicely formatted string.
+     */
+
+    public String toString()
+    {
+      StringBuilder builder = new StringBuilder();
+      builder.append("elapsed=").append(mElapsedNanos / 1000000).append("ms");
+      for (Stage stage : Stage.values())
+      {
+        if (getCount(stage) == 0)
+          continue;
+        builder.append("; ").append(stage.getName())
+          .append("[count=").append(getCount(stage))
+          .append(", time=").append(getNanos(stage) / 1000000).append("ms")
+          .append(", fps=").append(String.format("%.1f",
+              getFramesPerSecond(stage)))
+          .append(", Bps=").append(String.format("%.0f",
+              getBytesPerSecond(stage)))
+          .append("]");
+      }
+      builder.append("; dropped=").append(mDroppedFrames);
+      for (Map.Entry<String, Integer> entry : mQueueDepths.entrySet())
+        builder.append("; ").append(entry.getKey()).append("=")
+          .append(entry.getValue());
+      return builder.toString();
+    }
+  }
+
+  /**
+   * The JMX view of a {@link MediaMetrics}.  Attributes are read from a
+   * fresh snapshot each time.
+   */
+
+  private static class MBean implements DynamicMBean
+  {
+    private static final String QUEUE_DEPTH = "QueueDepth";
+
+    private final MediaMetrics mMetrics;
+
+    MBean(MediaMetrics metrics)
+    {
+      mMetrics = metrics;
+    }
+
+    public Object getAttribute(String name) throws AttributeNotFoundException
+    {
+      return getAttribute(mMetrics.snapshot(), name);
+    }
+
+    private Object getAttribute(Snapshot snapshot, String name)
+      throws AttributeNotFoundException
+    {
+      if (name.equals("ElapsedNanos"))
+        return snapshot.getElapsedNanos();
+      if (name.equals("DroppedFrames"))
+        return snapshot.getDroppedFrames();
+      if (name.startsWith(QUEUE_DEPTH))
+      {
+        Integer depth = snapshot.getQueueDepths().get(
+            name.substring(QUEUE_DEPTH.length()));
+        if (depth != null)
+          return depth;
+      }
+      for (Stage stage : Stage.values())
+      {
+        if (!name.startsWith(stage.getName()))
+          continue;
+        String counter = name.substring(stage.getName().length());
+        if (counter.equals("Count"))
+          return snapshot.getCount(stage);
+        if (counter.equals("Frames"))
+          return snapshot.getFrames(stage);
+        if (counter.equals("Nanos"))
+          return snapshot.getNanos(stage);
+        if (counter.equals("Bytes"))
+          return snapshot.getBytes(stage);
+        if (counter.equals("FramesPerSecond"))
+          return snapshot.getFramesPerSecond(stage);
+        if (counter.equals("BytesPerSecond"))
+          return snapshot.getBytesPerSecond(stage);
+      }
+      throw new AttributeNotFoundException(name);
+    }
+
+    public AttributeList getAttributes(String[] names)
+    {
+      Snapshot snapshot = mMetrics.snapshot();
+      AttributeList attributes = new AttributeList();
+      for (String name : names)
+      {
+        try
+        {
+          attributes.add(new Attribute(name, getAttribute(snapshot, name)));
+        }
+        catch (AttributeNotFoundException e)
+        {
+          // leave out attributes we don't have, as JMX expects
+        }
+      }
+      return attributes;
+    }
+
+    public void setAttribute(Attribute attribute)
+      throws AttributeNotFoundException
+    {
+      throw new AttributeNotFoundException(attribute.getName()
+          + " is read only");
+    }
+
+    public AttributeList setAttributes(AttributeList attributes)
+    {
+      return new AttributeList();
+    }
+
+    public Object invoke(String action, Object[] params, String[] signature)
+    {
+      if ("reset".equals(action) && (params == null || params.length == 0))
+      {
+        mMetrics.reset();
+        return null;
+      }
+      throw new UnsupportedOperationException("no operation " + action);
+    }
+
+    public MBeanInfo getMBeanInfo()
+    {
+      List<MBeanAttributeInfo> attributes = new ArrayList<MBeanAttributeInfo>();
+      attributes.add(attribute("ElapsedNanos", "long",
+          "nanoseconds since the metrics were made or reset"));
+      attributes.add(attribute("DroppedFrames", "long",
+          "frames dropped by encoders"));
+      for (Stage stage : Stage.values())
+      {
+        String name = stage.getName();
+        attributes.add(attribute(name + "Count", "long",
+            "times " + name + " ran"));
+        attributes.add(attribute(name + "Frames", "long",
+            "frames handled by " + name));
+        attributes.add(attribute(name + "Nanos", "long",
+            "nanoseconds spent in " + name));
+        attributes.add(attribute(name + "Bytes", "long",
+            "bytes handled by " + name));
+        attributes.add(attribute(name + "FramesPerSecond", "double",
+            "frames per second handled by " + name));
+        attributes.add(attribute(name + "BytesPerSecond", "double",
+            "bytes per second handled by " + name));
+      }
+      for (String queue : mMetrics.snapshot().getQueueDepths().keySet())
+        attributes.add(attribute(QUEUE_DEPTH + queue, "int",
+            "events waiting in queue " + queue));
+
+      return new MBeanInfo(MediaMetrics.class.getName(),
+          "Per stage media tool metrics",
+          attributes.toArray(new MBeanAttributeInfo[attributes.size()]),
+          null,
+          new MBeanOperationInfo[] {
+            new MBeanOperationInfo("reset", "zero all counters",
+                new MBeanParameterInfo[0], "void",
+                MBeanOperationInfo.ACTION)
+          },
+          null);
+    }
+
+    private static MBeanAttributeInfo attribute(String name, String type,
+        String description)
+    {
+      return new MBeanAttributeInfo(name, type, description, true, false,
+          false);
+    }
+  }
+}
@@ -0,0 +1,550 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.mediatool;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.xuggle.ferry.JNIReference;
+import com.xuggle.mediatool.event.AudioSamplesEvent;
+import com.xuggle.mediatool.event.IAddStreamEvent;
+import com.xuggle.mediatool.event.IAudioSamplesEvent;
+import com.xuggle.mediatool.event.ICloseCoderEvent;
+import com.xuggle.mediatool.event.ICloseEvent;
+import com.xuggle.mediatool.event.IFlushEvent;
+import com.xuggle.mediatool.event.IOpenCoderEvent;
+import com.xuggle.mediatool.event.IOpenEvent;
+import com.xuggle.mediatool.event.IReadPacketEvent;
+import com.xuggle.mediatool.event.IVideoPictureEvent;
+import com.xuggle.mediatool.event.IWriteHeaderEvent;
+import com.xuggle.mediatool.event.IWritePacketEvent;
+import com.xuggle.mediatool.event.IWriteTrailerEvent;
+import com.xuggle.mediatool.event.ReadPacketEvent;
+import com.xuggle.mediatool.event.VideoPictureEvent;
+import com.xuggle.mediatool.event.WritePacketEvent;
+import com.xuggle.xuggler.IAudioSamples;
+import com.xuggle.xuggler.IMediaData;
+import com.xuggle.xuggler.IPacket;
+import com.xuggle.xuggler.IVideoPicture;
+
+/**
+ * An implementation of {@link IMediaQueue}.
+ * 
+ * <p>
+ * 
+ * The worker thread is a daemon thread that is started when the first
+ * event is queued, and exits once the queue has been empty for
+ * {@link #IDLE_TIMEOUT} milliseconds; it is restarted on demand.
+ * 
+ * </p>
+ */
+
+class MediaQueue extends AMediaToolMixin implements IMediaQueue
+{
+  final private Logger log = LoggerFactory.getLogger(this.getClass());
+  { log.trace("<init>"); }
+
+  /** The default capacity of a queue. */
+
+  static final int DEFAULT_CAPACITY = 16;
+
+  /** How long, in milliseconds, an idle worker thread waits for work. */
+
+  static final long IDLE_TIMEOUT = 1000;
+
+  // used to give each worker thread a unique name
+
+  private static final AtomicInteger mQueueCount = new AtomicInteger(0);
+
+  // the events waiting to be dispatched
+
+  private final BlockingQueue<QueuedEvent> mEvents;
+
+  // the capacity of the queue
+
+  private final int mCapacity;
+
+  // events queued but not yet completely dispatched; guarded by mLock
+
+  private int mPending = 0;
+
+  // the first exception thrown by a listener; guarded by mLock
+
+  private Throwable mFailure = null;
+
+  // the thread dispatching events, or null if none; guarded by mLock
+
+  private Thread mWorker = null;
+
+  private final Object mLock = new Object();
+
+  /**
+   * An event waiting in the queue.  Dispatch calls the listeners, and
+   * release frees anything the queue is holding on to, whether or
+   * not dispatch was called.
+   */
+
+  private static abstract class QueuedEvent
+  {
+    abstract void dispatch();
+
+    void release()
+    {
+    }
+  }
+
+  /**
+   * An event holding on to a copy of some native data.
+   */
+
+  private static abstract class QueuedDataEvent extends QueuedEvent
+  {
+    private final IMediaData mData;
+
+    QueuedDataEvent(IMediaData data)
+    {
+      mData = data;
+    }
+
+    void release()
+    {
+      if (mData != null)
+        mData.delete();
+    }
+  }
+
+  /**
+   * Create a queue.
+   * 
+   * @param capacity the number of events the queue will hold before
+   *        blocking callers.
+   * 
+   * @throws IllegalArgumentException if capacity &lt;= 0
+   */
+
+  MediaQueue(int capacity)
+  {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity must be > 0");
+    mCapacity = capacity;
+    mEvents = new ArrayBlockingQueue<QueuedEvent>(capacity);
+  }
+
+  /** {@inheritDoc} */
+
+  public int getCapacity()
+  {
+    return mCapacity;
+  }
+
+  /** {@inheritDoc} */
+
+  public int size()
+  {
+    synchronized(mLock)
+    {
+      return mPending;
+    }
+  }
+
+  /** {@inheritDoc} */
+
+  public void drain()
+  {
+    synchronized(mLock)
+    {
+      try
+      {
+        while (mPending > 0 && mFailure == null)
+          mLock.wait();
+      }
+      catch (InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("interrupted while draining queue", e);
+      }
+      checkFailure();
+    }
+  }
+
+  // throw the failure of a listener, if any, on to the calling thread;
+  // must be called with mLock held
+
+  private void checkFailure()
+  {
+    if (mFailure != null)
+      throw new RuntimeException("listener failed on queue thread",
+          mFailure);
+  }
+
+  /**
+   * Add an event to the queue, blocking while it is full.
+   * 
+   * @param event the event
+   * @param wait if true, wait until the event has been dispatched
+   */
+
+  private void enqueue(QueuedEvent event, boolean wait)
+  {
+    synchronized(mLock)
+    {
+      if (mFailure != null)
+      {
+        event.release();
+        checkFailure();
+      }
+      ++mPending;
+      if (mWorker == null)
+      {
+        mWorker = new Thread(new Runnable()
+        {
+          public void run()
+          {
+            dispatchLoop();
+          }
+        }, "MediaQueue-" + mQueueCount.incrementAndGet());
+        mWorker.setDaemon(true);
+        mWorker.start();
+      }
+    }
+    try
+    {
+      mEvents.put(event);
+    }
+    catch (InterruptedException e)
+    {
+      synchronized(mLock)
+      {
+        --mPending;
+        mLock.notifyAll();
+      }
+      event.release();
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("interrupted while adding to queue", e);
+    }
+    if (wait)
+      drain();
+  }
+
+  /**
+   * Take events off the queue and dispatch them until the queue has
+   * been idle for {@link #IDLE_TIMEOUT} milliseconds.
+   */
+
+  private void dispatchLoop()
+  {
+    while (true)
+    {
+      QueuedEvent event;
+      try
+      {
+        event = mEvents.poll(IDLE_TIMEOUT, TimeUnit.MILLISECONDS);
+      }
+      catch (InterruptedException e)
+      {
+        log.debug("queue thread interrupted; ignoring");
+        continue;
+      }
+      if (event == null)
+      {
+        // only exit if no producer has counted an event it has yet to
+        // put; otherwise that event would have no one to dispatch it
+        synchronized(mLock)
+        {
+          if (mPending == 0)
+          {
+            mWorker = null;
+            return;
+          }
+        }
+        continue;
+      }
+      boolean failed;
+      synchronized(mLock)
+      {
+        failed = mFailure != null;
+      }
+      try
+      {
+        if (!failed)
+          event.dispatch();
+      }
+      catch (Throwable t)
+      {
+        log.error("listener failed; dropping all later events: {}", t);
+        synchronized(mLock)
+        {
+          mFailure = t;
+        }
+      }
+      finally
+      {
+        event.release();
+        synchronized(mLock)
+        {
+          --mPending;
+          mLock.notifyAll();
+        }
+      }
+    }
+  }
+
+  /**
+   * Copy media data so that the queue can hold on to it.  If the
+   * generator recycles its media data we must copy the contents,
+   * otherwise a new reference to the same data is enough.
+   */
+
+  private static boolean mustCopyContents(Object source)
+  {
+    return source instanceof IMediaReader &&
+      ((IMediaReader) source).getMediaDataRingSize() > 0;
+  }
+
+  private static IAudioSamples copy(IAudioSamples samples)
+  {
+    final int numBytes = (int) (samples.getNumSamples() *
+        samples.getSampleSize());
+    IAudioSamples copy = IAudioSamples.make(samples.getNumSamples(),
+        samples.getChannels(), samples.getFormat());
+    AtomicReference<JNIReference> srcRef =
+      new AtomicReference<JNIReference>(null);
+    AtomicReference<JNIReference> dstRef =
+      new AtomicReference<JNIReference>(null);
+    try
+    {
+      ByteBuffer src = samples.getByteBuffer(srcRef);
+      ByteBuffer dst = copy.getByteBuffer(dstRef);
+      src.limit(numBytes);
+      dst.put(src);
+    }
+    finally
+    {
+      if (srcRef.get() != null)
+        srcRef.get().delete();
+      if (dstRef.get() != null)
+        dstRef.get().delete();
+    }
+    copy.setComplete(samples.isComplete(), samples.getNumSamples(),
+        samples.getSampleRate(), samples.getChannels(), samples.getFormat(),
+        samples.getPts());
+    copy.setTimeStamp(samples.getTimeStamp());
+    return copy;
+  }
+
+  /** {@inheritDoc} */
+
+  public void onVideoPicture(final IVideoPictureEvent event)
+  {
+    final IVideoPicture source = event.getPicture();
+    final IVideoPicture picture = source == null ? null
+      : mustCopyContents(event.getSource()) ? IVideoPicture.make(source)
+        : source.copyReference();
+    final IVideoPictureEvent queued = picture == null ? event
+      : new VideoPictureEvent(event.getSource(), picture, event.getImage(),
+          event.getTimeStamp(event.getTimeUnit()), event.getTimeUnit(),
+          event.getStreamIndex());
+    enqueue(new QueuedDataEvent(picture)
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onVideoPicture(queued);
+      }
+    }, false);
+  }
+
+  /** {@inheritDoc} */
+
+  public void onAudioSamples(final IAudioSamplesEvent event)
+  {
+    final IAudioSamples source = event.getAudioSamples();
+    final IAudioSamples samples = mustCopyContents(event.getSource())
+      ? copy(source) : source.copyReference();
+    final IAudioSamplesEvent queued = new AudioSamplesEvent(
+        event.getSource(), samples, event.getStreamIndex());
+    enqueue(new QueuedDataEvent(samples)
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onAudioSamples(queued);
+      }
+    }, false);
+  }
+
+  /** {@inheritDoc} */
+
+  public void onReadPacket(final IReadPacketEvent event)
+  {
+    // a reader recycling its packet reads the next one into the same
+    // payload, so copy it; otherwise a new packet sharing the payload
+    // is enough
+    final IPacket packet = IPacket.make(event.getPacket(),
+        mustCopyContents(event.getSource()));
+    final IReadPacketEvent queued = new ReadPacketEvent(event.getSource(),
+        packet);
+    enqueue(new QueuedDataEvent(packet)
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onReadPacket(queued);
+      }
+    }, false);
+  }
+
+  /** {@inheritDoc} */
+
+  public void onWritePacket(final IWritePacketEvent event)
+  {
+    // writers encode every frame of a call into the same packet, and
+    // encoders reuse its payload when it's big enough, so always copy
+    final IPacket packet = IPacket.make(event.getPacket(), true);
+    final IWritePacketEvent queued = new WritePacketEvent(event.getSource(),
+        packet);
+    enqueue(new QueuedDataEvent(packet)
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onWritePacket(queued);
+      }
+    }, false);
+  }
+
+  /** {@inheritDoc} */
+
+  public void onOpen(final IOpenEvent event)
+  {
+    enqueue(new QueuedEvent()
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onOpen(event);
+      }
+    }, false);
+  }
+
+  /** {@inheritDoc} */
+
+  public void onClose(final ICloseEvent event)
+  {
+    enqueue(new QueuedEvent()
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onClose(event);
+      }
+    }, true);
+  }
+
+  /** {@inheritDoc} */
+
+  public void onAddStream(final IAddStreamEvent event)
+  {
+    enqueue(new QueuedEvent()
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onAddStream(event);
+      }
+    }, false);
+  }
+
+  /** {@inheritDoc} */
+
+  public void onOpenCoder(final IOpenCoderEvent event)
+  {
+    enqueue(new QueuedEvent()
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onOpenCoder(event);
+      }
+    }, false);
+  }
+
+  /** {@inheritDoc} */
+
+  public void onCloseCoder(final ICloseCoderEvent event)
+  {
+    enqueue(new QueuedEvent()
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onCloseCoder(event);
+      }
+    }, true);
+  }
+
+  /** {@inheritDoc} */
+
+  public void onWriteHeader(final IWriteHeaderEvent event)
+  {
+    enqueue(new QueuedEvent()
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onWriteHeader(event);
+      }
+    }, false);
+  }
+
+  /** {@inheritDoc} */
+
+  public void onFlush(final IFlushEvent event)
+  {
+    enqueue(new QueuedEvent()
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onFlush(event);
+      }
+    }, false);
+  }
+
+  /** {@inheritDoc} */
+
+  public void onWriteTrailer(final IWriteTrailerEvent event)
+  {
+    enqueue(new QueuedEvent()
+    {
+      void dispatch()
+      {
+        MediaQueue.super.onWriteTrailer(event);
+      }
+    }, false);
+  }
+
+  /** 
+   * Prints the {@link MediaQueue} class, object id, and how full it is.
+   * {@inheritDoc}
+   * @return a nicely formatted string.
+   */
+
+  public String toString()
+  {
+    return super.toString() + "[" + size() + "/" + getCapacity() + "]";
+  }
+}
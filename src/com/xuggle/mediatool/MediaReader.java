@@ -39,12 +39,14 @@ import com.xuggle.mediatool.event.OpenCoderEvent;
 import com.xuggle.mediatool.event.OpenEvent;
 import com.xuggle.mediatool.event.ReadPacketEvent;
 import com.xuggle.mediatool.event.VideoPictureEvent;
+import com.xuggle.ferry.IBuffer;
 import com.xuggle.xuggler.ICodec;
 import com.xuggle.xuggler.IError;
 import com.xuggle.xuggler.IPacket;
 import com.xuggle.xuggler.IStream;
 import com.xuggle.xuggler.IContainer;
 import com.xuggle.xuggler.IStreamCoder;
+import com.xuggle.xuggler.IMediaData;
 import com.xuggle.xuggler.IAudioSamples;
 import com.xuggle.xuggler.IVideoPicture;
 import com.xuggle.xuggler.IContainerFormat;
@@ -100,11 +102,113 @@ class MediaReader extends AMediaCoderMixin implements IMediaReader
 
   private boolean mCloseOnEofOnly = false;
 
+  // decode packets, or only dispatch them
+
+  private boolean mDecodeMedia = true;
+
   // What buffered image type do people want us to produce
   // -1 disables
   
   private int mBufferedImageType = -1;
 
+  // number of pictures or samples recycled per stream; 0 disables
+  // recycling
+
+  private int mMediaDataRingSize = 0;
+
+  // the frames video decoders skip decoding and loop filtering
+
+  private IStreamCoder.Discard mVideoSkipFrame =
+    IStreamCoder.Discard.DISCARD_DEFAULT;
+  private IStreamCoder.Discard mVideoSkipLoopFilter =
+    IStreamCoder.Discard.DISCARD_DEFAULT;
+
+  // the packet reused for every read when recycling
+
+  private IPacket mRecycledPacket;
+
+  // a map between stream IDs and their rings of recycled media data
+
+  private final Map<Integer, MediaDataRing> mMediaDataRings =
+    new HashMap<Integer, MediaDataRing>();
+
+  // a map between stream IDs and a spare set of audio samples to decode
+  // into next, used when not recycling through rings
+
+  private final Map<Integer, IAudioSamples> mSpareAudioSamples =
+    new HashMap<Integer, IAudioSamples>();
+
+  /**
+   * A fixed size ring of pictures or samples that are decoded into in
+   * turn.  Slots are filled lazily, and refilled if the coder's output
+   * no longer matches what is in them.
+   */
+
+  private static class MediaDataRing
+  {
+    private final IMediaData[] mData;
+    private int mNext = 0;
+
+    MediaDataRing(int size)
+    {
+      mData = new IMediaData[size];
+    }
+
+    int size()
+    {
+      return mData.length;
+    }
+
+    IVideoPicture nextPicture(IStreamCoder coder)
+    {
+      int slot = advance();
+      IVideoPicture picture = (IVideoPicture) mData[slot];
+      if (picture == null
+          || picture.getPixelType() != coder.getPixelType()
+          || picture.getWidth() != coder.getWidth()
+          || picture.getHeight() != coder.getHeight())
+      {
+        if (picture != null)
+          picture.delete();
+        picture = IVideoPicture.make(coder.getPixelType(),
+            coder.getWidth(), coder.getHeight());
+        mData[slot] = picture;
+      }
+      return picture;
+    }
+
+    IAudioSamples nextSamples(IStreamCoder coder)
+    {
+      int slot = advance();
+      IAudioSamples samples = (IAudioSamples) mData[slot];
+      if (samples == null || samples.getChannels() != coder.getChannels())
+      {
+        if (samples != null)
+          samples.delete();
+        samples = makeAudioSamples(coder);
+        mData[slot] = samples;
+      }
+      return samples;
+    }
+
+    private int advance()
+    {
+      int slot = mNext;
+      mNext = (mNext + 1) % mData.length;
+      return slot;
+    }
+
+    void delete()
+    {
+      for(int i = 0; i < mData.length; i++)
+      {
+        if (mData[i] != null)
+          mData[i].delete();
+        mData[i] = null;
+      }
+    }
+  }
+
   /**
    * Create a MediaReader which reads and dispatches data from a media
    * stream for a given source URL. The media stream is opened, and
@@ -317,6 +421,107 @@ class MediaReader extends AMediaCoderMixin implements IMediaReader
     return mCloseOnEofOnly;
   }
 
+  /** 
+   * Set whether {@link #readPacket} decodes the packets it reads.
+   * If false, listeners only get read packet events and no decoders
+   * are opened.  The default value for this is true.
+   *
+   * @param decodeMedia true if packets are to be decoded
+   */
+
+  public void setDecodeMedia(boolean decodeMedia)
+  {
+    mDecodeMedia = decodeMedia;
+  }
+
+  /** 
+   * Report if {@link #readPacket} decodes the packets it reads.  The
+   * default value for this is true.
+   * 
+   * @return true if packets are decoded
+   */
+
+  public boolean willDecodeMedia()
+  {
+    return mDecodeMedia;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+
+  public void setMediaDataRingSize(int ringSize)
+  {
+    if (ringSize < 0)
+      throw new IllegalArgumentException("ring size must be >= 0");
+    mMediaDataRingSize = ringSize;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+
+  public int getMediaDataRingSize()
+  {
+    return mMediaDataRingSize;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+
+  public void setVideoSkipFrame(IStreamCoder.Discard discard)
+  {
+    if (discard == null)
+      throw new IllegalArgumentException("null discard");
+    mVideoSkipFrame = discard;
+    for (IStreamCoder coder : mCoders.values())
+      setUpSkipping(coder);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+
+  public IStreamCoder.Discard getVideoSkipFrame()
+  {
+    return mVideoSkipFrame;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+
+  public void setVideoSkipLoopFilter(IStreamCoder.Discard discard)
+  {
+    if (discard == null)
+      throw new IllegalArgumentException("null discard");
+    mVideoSkipLoopFilter = discard;
+    for (IStreamCoder coder : mCoders.values())
+      setUpSkipping(coder);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+
+  public IStreamCoder.Discard getVideoSkipLoopFilter()
+  {
+    return mVideoSkipLoopFilter;
+  }
+
+  /** Tell a video decoder which frames to skip work on. */
+
+  private void setUpSkipping(IStreamCoder coder)
+  {
+    if (coder.getCodecType() != ICodec.Type.CODEC_TYPE_VIDEO)
+      return;
+    if (coder.setSkipFrame(mVideoSkipFrame) < 0 ||
+        coder.setSkipLoopFilter(mVideoSkipLoopFilter) < 0)
+      throw new RuntimeException("could not set frame skipping on coder: "
+          + coder);
+  }
+
   /** Get the correct {@link IStreamCoder} for a given stream in the
    * container.  If this is a new stream not been seen before, we record
    * it and open it before returning.
@@ -383,6 +588,8 @@ class MediaReader extends AMediaCoderMixin implements IMediaReader
       if (!coder.isOpen()
           && (type == ICodec.Type.CODEC_TYPE_AUDIO || type == ICodec.Type.CODEC_TYPE_VIDEO))
       {
+        setUpThreading(coder);
+        setUpSkipping(coder);
         if (coder.open(null, null) < 0)
           throw new RuntimeException("could not open coder for stream: "
               + streamIndex);
@@ -421,17 +628,44 @@ class MediaReader extends AMediaCoderMixin implements IMediaReader
     if (!isOpen())
       open();
 
+    // drop any recycled media data that no longer matches the ring
+    // size asked for; no listener can be holding it at this point
+
+    final boolean recycle = mMediaDataRingSize > 0;
+    if (!recycle || (!mMediaDataRings.isEmpty() && mMediaDataRings.values()
+        .iterator().next().size() != mMediaDataRingSize))
+      releaseMediaDataRings();
+
     // if there is an off-nominal result from read packet, return the
     // correct error
 
-    IPacket packet = IPacket.make();
+    IPacket packet;
+    if (recycle)
+    {
+      if (mRecycledPacket == null)
+        mRecycledPacket = IPacket.make();
+      packet = mRecycledPacket;
+    }
+    else
+      packet = IPacket.make();
     try
     {
+      final MediaMetrics metrics = getMetrics();
+      final long start = metrics == null ? 0 : System.nanoTime();
       int rv = getContainer().readNextPacket(packet);
+      if (metrics != null && rv >= 0)
+        metrics.record(MediaMetrics.Stage.READ_PACKET, start, 1,
+            packet.getSize());
       if (rv < 0)
       {
         IError error = IError.make(rv);
 
+        // at end of file get any pictures the decoders are still
+        // holding on to
+
+        if (IError.Type.ERROR_EOF == error.getType())
+          flushVideoDecoders();
+
         // if this is an end of file, or unknow, call close
 
         if (!mCloseOnEofOnly || IError.Type.ERROR_EOF == error.getType())
@@ -444,6 +678,11 @@ class MediaReader extends AMediaCoderMixin implements IMediaReader
 
       super.onReadPacket(new ReadPacketEvent(this,packet));
 
+      // if not decoding, that's all there is to do
+
+      if (!mDecodeMedia)
+        return null;
+
       // get the coder for this packet
 
       IStreamCoder coder = getStreamCoder(packet.getStreamIndex());
@@ -472,7 +711,7 @@ class MediaReader extends AMediaCoderMixin implements IMediaReader
     }
     finally
     {
-      if (packet != null)
+      if (!recycle && packet != null)
         packet.delete();
     }
 
@@ -481,32 +720,73 @@ class MediaReader extends AMediaCoderMixin implements IMediaReader
     return null;
   }
   
+  /** Decode and dispatch any pictures the open video decoders are still
+   * holding on to, such as those delayed by frame threading.
+   */
+
+  private void flushVideoDecoders()
+  {
+    for (Map.Entry<Integer, IStreamCoder> entry : mCoders.entrySet())
+    {
+      IStreamCoder coder = entry.getValue();
+      if (!coder.isOpen() ||
+          coder.getCodecType() != ICodec.Type.CODEC_TYPE_VIDEO)
+        continue;
+
+      // an empty packet asks the decoder for what it has left
+
+      IPacket packet = IPacket.make();
+      try
+      {
+        packet.setStreamIndex(entry.getKey());
+        while (decodeVideo(coder, packet))
+          ;
+      }
+      finally
+      {
+        packet.delete();
+      }
+    }
+  }
+
   /** Decode and dispatch a video packet.
    *
    * @param videoCoder the video coder
    * @param packet the packet containing the media data
+   *
+   * @return true if a complete picture was decoded and dispatched
    */
 
-  private void decodeVideo(IStreamCoder videoCoder, IPacket packet)
+  private boolean decodeVideo(IStreamCoder videoCoder, IPacket packet)
   {
-    // create a blank video picture
+    // create a blank video picture, or take the next recycled one
     
-    IVideoPicture picture = IVideoPicture.make(videoCoder.getPixelType(),
-        videoCoder.getWidth(), videoCoder.getHeight());
+    final boolean recycle = mMediaDataRingSize > 0;
+    IVideoPicture picture = recycle
+      ? getMediaDataRing(packet.getStreamIndex()).nextPicture(videoCoder)
+      : IVideoPicture.make(videoCoder.getPixelType(),
+          videoCoder.getWidth(), videoCoder.getHeight());
     try {
       // decode the packet into the video picture
 
+      final MediaMetrics metrics = getMetrics();
+      final long start = metrics == null ? 0 : System.nanoTime();
       int rv = videoCoder.decodeVideo(picture, packet, 0);
       if (rv < 0)
         throw new RuntimeException("error " + getErrorMessage(rv)
             + " decoding video");
+      if (metrics != null)
+        metrics.record(MediaMetrics.Stage.DECODE_VIDEO, start,
+            picture.isComplete() ? 1 : 0, rv);
 
       // if this is a complete picture, dispatch the picture
 
-      if (picture.isComplete())
-        dispatchVideoPicture(packet.getStreamIndex(), picture);
+      if (!picture.isComplete())
+        return false;
+      dispatchVideoPicture(packet.getStreamIndex(), picture);
+      return true;
     } finally {
-      if (picture != null) picture.delete();
+      if (!recycle && picture != null) picture.delete();
     }
   }
 
@@ -521,33 +801,141 @@ class MediaReader extends AMediaCoderMixin implements IMediaReader
     // packet may contain multiple audio frames, decode audio until
     // all audio frames are extracted from the packet 
     
+    final boolean recycle = mMediaDataRingSize > 0;
+    final int streamIndex = packet.getStreamIndex();
     int offset = 0;
     while (offset < packet.getSize())
     {
-      // allocate a set of samples with the correct number of channels
-      // and a stock size of 1024 (currently the buffer size will be
-      // expanded to 32k to conform to ffmpeg requirements)
+      // take the next recycled set of samples, or else the spare set
+      // left from the last frame if there is one
           
-      IAudioSamples samples = IAudioSamples.make(1024, audioCoder.getChannels());
+      IAudioSamples samples = recycle
+        ? getMediaDataRing(streamIndex).nextSamples(audioCoder)
+        : takeSpareAudioSamples(streamIndex, audioCoder);
 
       // decode audio
 
+      final MediaMetrics metrics = getMetrics();
+      final long start = metrics == null ? 0 : System.nanoTime();
       int bytesDecoded = audioCoder.decodeAudio(samples, packet, offset);
       if (bytesDecoded < 0)
         throw new RuntimeException("error " + bytesDecoded + " decoding audio");
+      if (metrics != null)
+        metrics.record(MediaMetrics.Stage.DECODE_AUDIO, start,
+            samples.isComplete() ? 1 : 0, bytesDecoded);
       offset += bytesDecoded;
 
       // if samples are a compelete audio frame, dispatch that frame
       try {
         if (samples.isComplete())
-          dispatchAudioSamples(packet.getStreamIndex(), samples);
+          dispatchAudioSamples(streamIndex, samples);
       } finally {
-        if (samples != null)
-          samples.delete();
+        if (!recycle && samples != null)
+          putSpareAudioSamples(streamIndex, samples);
       }
     }
   }
 
+  /** Make a set of samples for a coder's frames.  It starts out sized
+   * for one frame, and the coder grows it if a frame needs more room.
+   *
+   * @param coder the audio coder
+   */
+
+  private static IAudioSamples makeAudioSamples(IStreamCoder coder)
+  {
+    int frameSize = coder.getAudioFrameSize();
+    return IAudioSamples.make(frameSize > 0 ? frameSize : 1024,
+      coder.getChannels());
+  }
+
+  /** Get the spare set of samples for a stream, or a new set if there
+   * is none.
+   *
+   * @param streamIndex the index of the stream
+   * @param coder the audio coder
+   */
+
+  private IAudioSamples takeSpareAudioSamples(int streamIndex,
+    IStreamCoder coder)
+  {
+    IAudioSamples samples = mSpareAudioSamples.remove(streamIndex);
+    return samples != null ? samples : makeAudioSamples(coder);
+  }
+
+  /** Keep a set of samples as the spare for a stream, unless a listener
+   * took a reference to it or to its data, in which case it's theirs
+   * now.
+   *
+   * @param streamIndex the index of the stream
+   * @param samples the samples
+   */
+
+  private void putSpareAudioSamples(int streamIndex, IAudioSamples samples)
+  {
+    if (samples.getCurrentRefCount() == 1 && !isDataShared(samples)
+      && !mSpareAudioSamples.containsKey(streamIndex))
+      mSpareAudioSamples.put(streamIndex, samples);
+    else
+      samples.delete();
+  }
+
+  /** Report whether anything besides the samples holds their data, such
+   * as a buffer from {@link IMediaData#getData()} or a byte buffer from
+   * {@link IMediaData#getByteBuffer()} that a listener kept.
+   *
+   * @param samples the samples
+   */
+
+  private static boolean isDataShared(IAudioSamples samples)
+  {
+    // getData() points the cached buffer at the current data, in case
+    // decoding replaced it; the cached buffer counts byte buffers made
+    // from it too
+    
+    IBuffer data = samples.getData();
+    if (data == null)
+      return false;
+    data.delete();
+
+    // the samples hold one reference and the cached buffer another
+
+    return samples.getDataCached().getCurrentRefCount() > 2;
+  }
+
+  /** Get the ring of recycled media data for a stream, making it if
+   * this is the first time it is asked for.
+   *
+   * @param streamIndex the index of the stream
+   */
+
+  private MediaDataRing getMediaDataRing(int streamIndex)
+  {
+    MediaDataRing ring = mMediaDataRings.get(streamIndex);
+    if (ring == null)
+    {
+      ring = new MediaDataRing(mMediaDataRingSize);
+      mMediaDataRings.put(streamIndex, ring);
+    }
+    return ring;
+  }
+
+  /** Release the recycled packet and all recycled and spare media
+   * data. */
+
+  private void releaseMediaDataRings()
+  {
+    for(MediaDataRing ring : mMediaDataRings.values())
+      ring.delete();
+    mMediaDataRings.clear();
+    for(IAudioSamples samples : mSpareAudioSamples.values())
+      samples.delete();
+    mSpareAudioSamples.clear();
+    if (mRecycledPacket != null)
+      mRecycledPacket.delete();
+    mRecycledPacket = null;
+  }
+
   /**
    * Dispatch a decoded {@link IVideoPicture} to attached listeners. This is
    * called when a complete video picture has been decoded from the packet
@@ -585,11 +973,16 @@ class MediaReader extends AMediaCoderMixin implements IMediaReader
 
       // create the buffered image
 
+      final MediaMetrics metrics = getMetrics();
+      final long start = metrics == null ? 0 : System.nanoTime();
       image = mVideoConverter.toImage(picture);
+      if (metrics != null)
+        metrics.record(MediaMetrics.Stage.CONVERT_VIDEO, start, 1,
+            picture.getSize());
     } else {
       // reset it for next time someone calls.
       mConverterType = null;
-      mVideoConverter = null;
+      releaseVideoConverter();
     }
     
     // dispatch picture here
@@ -662,6 +1055,8 @@ class MediaReader extends AMediaCoderMixin implements IMediaReader
       coder.delete();
     mCoders.clear();
     mOpenedStreams.clear();
+    releaseMediaDataRings();
+    releaseVideoConverter();
 
     // if we're supposed to, close the container
 
@@ -679,6 +1074,15 @@ class MediaReader extends AMediaCoderMixin implements IMediaReader
     super.onClose(new CloseEvent(this));
   }
 
+  /** Give the video converter's resamplers back for reuse. */
+
+  private void releaseVideoConverter()
+  {
+    if (mVideoConverter != null)
+      mVideoConverter.delete();
+    mVideoConverter = null;
+  }
+
   private static String getErrorMessage(int rv)
   {
     String errorString = "";
@@ -56,6 +56,7 @@ import com.xuggle.mediatool.event.WriteHeaderEvent;
 import com.xuggle.mediatool.event.WritePacketEvent;
 import com.xuggle.mediatool.event.WriteTrailerEvent;
 import com.xuggle.xuggler.Global;
+import com.xuggle.xuggler.IAudioFifo;
 import com.xuggle.xuggler.ICodec;
 import com.xuggle.xuggler.IError;
 import com.xuggle.xuggler.IPacket;
@@ -158,6 +159,18 @@ implements IMediaWriter
 
   private Map<Integer, IConverter> mVideoConverters = 
     new HashMap<Integer, IConverter>();
+
+  // a map between output stream indicies and audio fifos, which hand
+  // out audio in whole encoder frames
+
+  private Map<Integer, IAudioFifo> mAudioFifos = 
+    new HashMap<Integer, IAudioFifo>();
+
+  // a map between output stream indicies and the frames read from the
+  // audio fifos, reused for every read
+
+  private Map<Integer, IAudioSamples> mAudioFrames = 
+    new HashMap<Integer, IAudioSamples>();
   
   // streasm opened by this MediaWriter must be closed
 
@@ -171,6 +184,10 @@ implements IMediaWriter
   
   private boolean mMaskLateStreamException = false;
 
+  // true if streams are copied from the input container, not encoded
+
+  private boolean mStreamCopy = false;
+
   /**
    * Use a specified {@link IMediaReader} as a source for media data and
    * meta data about the container and it's streams.  The {@link
@@ -620,6 +637,9 @@ implements IMediaWriter
       throw new IllegalArgumentException("invalid stream id " + streamId);
     if (null == codec)
       throw new IllegalArgumentException("null codec");
+    if (mStreamCopy)
+      throw new UnsupportedOperationException(
+        "MediaWriter can not add encoded streams while copying streams.");
 
     // if the container is not opened, do so
 
@@ -718,6 +738,45 @@ implements IMediaWriter
     return mForceInterleave;
   }
 
+  /**
+   * Set the stream copy option.  If true, streams are copied from the
+   * input container, and packets passed to {@link #onReadPacket} are
+   * written out without being decoded or encoded.
+   *
+   * @param streamCopy true if streams are to be copied, not encoded
+   *
+   * @throws UnsupportedOperationException if there is no input
+   *         container
+   * @throws RuntimeException if streams have already been added
+   *
+   * @see #willStreamCopy
+   */
+
+  public void setStreamCopy(boolean streamCopy)
+  {
+    if (streamCopy && null == mInputContainer)
+      throw new UnsupportedOperationException(
+        "MediaWriter can not copy streams without an input container.");
+    if (!mStreams.isEmpty())
+      throw new RuntimeException(
+        "stream copy must be set before any streams are added");
+    mStreamCopy = streamCopy;
+  }
+
+  /**
+   * Test if the MediaWriter copies streams rather than encoding them.
+   * The default value for this value is false.
+   *
+   * @return true if streams are copied
+   *
+   * @see #setStreamCopy
+   */
+
+  public boolean willStreamCopy()
+  {
+    return mStreamCopy;
+  }
+
   /** 
    * Map an input stream index to an output stream index.
    *
@@ -738,6 +797,9 @@ implements IMediaWriter
     // establish the stream, return silently if no stream returned
     if (null == picture)
       throw new IllegalArgumentException("no picture");
+    if (mStreamCopy)
+      throw new UnsupportedOperationException(
+        "MediaWriter can not encode video while copying streams.");
     
     IStream stream = getStream(streamIndex);
     if (null == stream)
@@ -759,15 +821,26 @@ implements IMediaWriter
     // encode the video packet
     
     IPacket packet = IPacket.make();
+    IStreamCoder coder = stream.getStreamCoder();
     try {
-      if (stream.getStreamCoder().encodeVideo(packet, picture, 0) < 0)
+      final MediaMetrics metrics = getMetrics();
+      final long dropped = metrics == null ? 0 : coder.getNumDroppedFrames();
+      final long start = metrics == null ? 0 : System.nanoTime();
+      if (coder.encodeVideo(packet, picture, 0) < 0)
         throw new RuntimeException("failed to encode video");
+      if (metrics != null)
+      {
+        metrics.record(MediaMetrics.Stage.ENCODE_VIDEO, start, 1,
+            packet.isComplete() ? packet.getSize() : 0);
+        metrics.addDroppedFrames(coder.getNumDroppedFrames() - dropped);
+      }
   
       if (packet.isComplete())
         writePacket(packet);
     } finally {
       if (packet != null)
         packet.delete();
+      coder.delete();
     }
   
     // inform listeners
@@ -793,6 +866,9 @@ implements IMediaWriter
       throw new IllegalArgumentException("NULL input image");
     if (null == timeUnit)
       throw new IllegalArgumentException("NULL time unit");
+    if (mStreamCopy)
+      throw new UnsupportedOperationException(
+        "MediaWriter can not encode video while copying streams.");
 
     // try to set up the stream, and if we're not going to encode
     // it, don't bother converting it.
@@ -825,6 +901,9 @@ implements IMediaWriter
   {
     if (null == samples)
       throw new IllegalArgumentException("NULL input samples");
+    if (mStreamCopy)
+      throw new UnsupportedOperationException(
+        "MediaWriter can not encode audio while copying streams.");
     // establish the stream, return silently if no stream returned
 
     IStream stream = getStream(streamIndex);
@@ -840,33 +919,47 @@ implements IMediaWriter
         "] is not audio");
       }
 
-      // encode the audio
-
-      // convert the samples into a packet
+      // encode the audio, re-framed to the encoder frame size if we can
 
-      for (int consumed = 0; consumed < samples.getNumSamples(); /* in loop */)
+      IPacket packet = IPacket.make();
+      try
       {
-        // encode audio
-
-        IPacket packet = IPacket.make();
-        try {
-          int result = coder.encodeAudio(packet, samples, consumed); 
-          if (result < 0)
+        IAudioFifo fifo = getAudioFifo(stream.getIndex(), coder);
+        if (fifo != null && fifo.getFormat() == samples.getFormat())
+        {
+          if (fifo.write(samples) < 0)
             throw new RuntimeException("failed to encode audio");
+          IAudioSamples frame = mAudioFrames.get(stream.getIndex());
+          while (fifo.read(frame) > 0)
+          {
+            // a whole frame is always consumed in a single call
+            
+            final MediaMetrics metrics = getMetrics();
+            final long start = metrics == null ? 0 : System.nanoTime();
+            if (coder.encodeAudio(packet, frame, 0) < 0)
+              throw new RuntimeException("failed to encode audio");
+            if (metrics != null)
+              recordEncodeAudio(metrics, start, packet);
+            if (packet.isComplete())
+              writePacket(packet);
+          }
+        }
+        else
+        {
+          // samples the fifo still holds came first, so they go first
 
-          // update total consumed
-
-          consumed += result;
-
-          // if a complete packed was produced write it out
-
-          if (packet.isComplete())
-            writePacket(packet);
-        } finally {
-          if (packet != null)
-            packet.delete();
+          if (fifo != null)
+            drainAudioFifo(coder, packet, fifo,
+              mAudioFrames.get(stream.getIndex()));
+          encodeAudio(coder, packet, samples);
         }
-      }      // inform listeners
+      }
+      finally
+      {
+        packet.delete();
+      }
+
+      // inform listeners
 
       super.onAudioSamples(new AudioSamplesEvent(this, samples,
           streamIndex));
@@ -877,6 +970,138 @@ implements IMediaWriter
     }
   }
 
+  /**
+   * Encode samples of any length, writing out any complete packets.
+   * 
+   * @param coder the coder to encode with
+   * @param packet the packet to encode into
+   * @param samples the samples to encode
+   */
+
+  private void encodeAudio(IStreamCoder coder, IPacket packet,
+    IAudioSamples samples)
+  {
+    for (int consumed = 0; consumed < samples.getNumSamples(); /* in loop */)
+    {
+      final MediaMetrics metrics = getMetrics();
+      final long start = metrics == null ? 0 : System.nanoTime();
+      int result = coder.encodeAudio(packet, samples, consumed); 
+      if (result < 0)
+        throw new RuntimeException("failed to encode audio");
+      if (metrics != null)
+        recordEncodeAudio(metrics, start, packet);
+
+      // update total consumed
+
+      consumed += result;
+
+      // if a complete packed was produced write it out
+
+      if (packet.isComplete())
+        writePacket(packet);
+    }
+  }
+
+  /**
+   * Record one call to encode audio, counting a frame if it completed
+   * a packet.
+   * 
+   * @param metrics the metrics to record in
+   * @param start when the call started, from {@link System#nanoTime()}
+   * @param packet the packet encoded into
+   */
+
+  private static void recordEncodeAudio(MediaMetrics metrics, long start,
+    IPacket packet)
+  {
+    boolean complete = packet.isComplete();
+    metrics.record(MediaMetrics.Stage.ENCODE_AUDIO, start, complete ? 1 : 0,
+        complete ? packet.getSize() : 0);
+  }
+
+  /**
+   * Get the audio fifo for an output stream, creating it if needed.
+   * 
+   * @param streamIndex the output stream index
+   * @param coder the open coder for that stream
+   * 
+   * @return the fifo, or null if the coder does not take fixed size
+   *   frames or its format is not supported by {@link IAudioFifo}
+   */
+
+  private IAudioFifo getAudioFifo(int streamIndex, IStreamCoder coder)
+  {
+    IAudioFifo fifo = mAudioFifos.get(streamIndex);
+    if (fifo == null && !mAudioFifos.containsKey(streamIndex))
+    {
+      // codecs like PCM take any number of samples, and the fifo only
+      // handles packed formats
+
+      IAudioSamples.Format format = coder.getSampleFormat();
+      if (coder.getAudioFrameSize() > 0
+        && format != IAudioSamples.Format.FMT_NONE
+        && format.swigValue() < IAudioSamples.Format.FMT_U8P.swigValue())
+        fifo = IAudioFifo.make(coder.getChannels(), coder.getSampleRate(),
+          format, coder.getAudioFrameSize());
+      mAudioFifos.put(streamIndex, fifo);
+      if (fifo != null)
+        mAudioFrames.put(streamIndex, IAudioSamples.make(
+          fifo.getFrameSize(), fifo.getChannels(), fifo.getFormat()));
+    }
+    return fifo;
+  }
+
+  /**
+   * Pass any samples left in an audio fifo to its coder.
+   * 
+   * @param coder the coder to encode with
+   * @param packet the packet to encode into
+   * @param fifo the fifo to empty
+   * @param frame the samples to read the fifo into
+   */
+
+  private void drainAudioFifo(IStreamCoder coder, IPacket packet,
+    IAudioFifo fifo, IAudioSamples frame)
+  {
+    while (fifo.drain(frame) > 0)
+      encodeAudio(coder, packet, frame);
+  }
+
+  /**
+   * Pass any samples left in the audio fifos to their coders, and
+   * release the fifos.  The coders will drop any incomplete frame when
+   * flushed, as they would have without the fifos.
+   */
+
+  private void releaseAudioFifos()
+  {
+    for (IStream stream: mStreams.values())
+    {
+      IAudioFifo fifo = mAudioFifos.get(stream.getIndex());
+      IAudioSamples frame = mAudioFrames.get(stream.getIndex());
+      if (fifo == null || frame == null)
+        continue;
+      IStreamCoder coder = stream.getStreamCoder();
+      IPacket packet = IPacket.make();
+      try
+      {
+        if (coder.isOpen())
+          drainAudioFifo(coder, packet, fifo, frame);
+      }
+      finally
+      {
+        packet.delete();
+        coder.delete();
+      }
+    }
+    for (IAudioFifo fifo : mAudioFifos.values())
+      if (fifo != null)
+        fifo.delete();
+    mAudioFifos.clear();
+    for (IAudioSamples frame : mAudioFrames.values())
+      frame.delete();
+    mAudioFrames.clear();
+  }
   
   public void encodeAudio(int streamIndex, short[] samples, 
     long timeStamp, TimeUnit timeUnit)
@@ -965,9 +1190,15 @@ implements IMediaWriter
       mVideoConverters.put(streamIndex, videoConverter);
     }
 
-    // return the converter
-    
-    return videoConverter.toPicture(image, timeStamp);
+    // convert the image
+
+    final MediaMetrics metrics = getMetrics();
+    final long start = metrics == null ? 0 : System.nanoTime();
+    IVideoPicture picture = videoConverter.toPicture(image, timeStamp);
+    if (metrics != null)
+      metrics.record(MediaMetrics.Stage.CONVERT_VIDEO, start, 1,
+          picture.getSize());
+    return picture;
   }
   
   /** 
@@ -1119,6 +1350,14 @@ implements IMediaWriter
     if (!isSupportedCodecType(inputType))
       return false;
 
+    // if copying, copy the stream as is
+
+    if (mStreamCopy)
+    {
+      copyStream(inputStream, inputCoder);
+      return true;
+    }
+
     IContainerFormat format = getContainer().getContainerFormat();
     
     switch(inputType)
@@ -1144,6 +1383,54 @@ implements IMediaWriter
     return true;
   }
 
+  /**
+   * Add a stream to the output container with the same codec and codec
+   * settings as an input stream.
+   *
+   * @param inputStream the input stream
+   * @param inputCoder the input stream's coder
+   */
+
+  private void copyStream(IStream inputStream, IStreamCoder inputCoder)
+  {
+    // the output container must be open
+
+    if (!isOpen())
+      open();
+
+    IStreamCoder coder = IStreamCoder.make(IStreamCoder.Direction.ENCODING,
+      inputCoder);
+    if (null == coder)
+      throw new RuntimeException("Unable to copy coder " + inputCoder);
+    try
+    {
+      // codec tags are container specific, so unless the container
+      // format is the same let the output container choose its own
+
+      String inputFormat = mInputContainer.getContainerFormat()
+        .getInputFormatShortName();
+      String outputFormat = getContainer().getContainerFormat()
+        .getOutputFormatShortName();
+      if (inputFormat == null || !inputFormat.equals(outputFormat))
+        coder.setCodecTag(0);
+
+      IStream stream = getContainer().addNewStream(coder);
+      if (stream == null)
+        throw new RuntimeException("Unable to copy stream index " +
+          inputStream.getIndex() + ", coder " + inputCoder);
+
+      // if the stream count is 1, don't force interleave
+
+      setForceInterleave(getContainer().getNumStreams() != 1);
+
+      addStream(stream, inputStream.getIndex(), stream.getIndex());
+    }
+    finally
+    {
+      coder.delete();
+    }
+  }
+
   /**
    * Add a stream.
    */
@@ -1162,7 +1449,7 @@ implements IMediaWriter
     // if this is a video coder, set the quality
 
     IStreamCoder coder = stream.getStreamCoder();
-    if (CODEC_TYPE_VIDEO == coder.getCodecType())
+    if (!mStreamCopy && CODEC_TYPE_VIDEO == coder.getCodecType())
       coder.setFlag(IStreamCoder.Flags.FLAG_QSCALE, true);
     
     // inform listeners
@@ -1183,10 +1470,11 @@ implements IMediaWriter
     try
     {
       ICodec.Type type = coder.getCodecType();
-      if (!coder.isOpen() && isSupportedCodecType(type))
+      if (!mStreamCopy && !coder.isOpen() && isSupportedCodecType(type))
       {
         // open the coder
 
+        setUpThreading(coder);
         int rv = coder.open(null, null);
         if (rv < 0)
           throw new RuntimeException("could not open stream " + stream + ": "
@@ -1211,20 +1499,75 @@ implements IMediaWriter
 
   private void writePacket(IPacket packet)
   {
+    final MediaMetrics metrics = getMetrics();
+    final long start = metrics == null ? 0 : System.nanoTime();
     if (getContainer().writePacket(packet, mForceInterleave)<0)
       throw new RuntimeException("failed to write packet: " + packet);
+    if (metrics != null)
+      metrics.record(MediaMetrics.Stage.WRITE_PACKET, start, 1,
+          packet.getSize());
 
     // inform listeners
 
     super.onWritePacket(new WritePacketEvent(this,packet));
   }
 
+  /**
+   * Write a packet read from the input container to the matching
+   * output stream, without decoding it.
+   *
+   * @param packet the packet read from the input container
+   */
+
+  private void copyPacket(IPacket packet)
+  {
+    // ignore packets from streams that are not, and will not be, copied
+
+    int inputIndex = packet.getStreamIndex();
+    if (null == getOutputStreamIndex(inputIndex))
+    {
+      IStream inputStream = mInputContainer.getStream(inputIndex);
+      if (null == inputStream)
+        return;
+      IStreamCoder inputCoder = inputStream.getStreamCoder();
+      boolean supported = isSupportedCodecType(inputCoder.getCodecType());
+      inputCoder.delete();
+      inputStream.delete();
+      if (!supported)
+        return;
+    }
+
+    // establish the streams, return silently if no stream returned
+
+    if (null == getStream(inputIndex))
+      return;
+
+    // write a packet that shares the data but not the stream index, so
+    // the packet passed in is left as it was; writing rescales the time
+    // stamps to the output stream's time base
+
+    IPacket outPacket = IPacket.make(packet, false);
+    try
+    {
+      outPacket.setStreamIndex(getOutputStreamIndex(inputIndex));
+      writePacket(outPacket);
+    }
+    finally
+    {
+      outPacket.delete();
+    }
+  }
+
   /** 
    * Flush any remaining media data in the media coders.
    */
 
   public void flush()
   {
+    // hand any buffered audio to the coders
+
+    releaseAudioFifos();
+
     // flush coders
 
     for (IStream stream: mStreams.values())
@@ -1336,6 +1679,8 @@ implements IMediaWriter
     
     mStreams.clear();
     mOpenedStreams.clear();
+    for (IConverter converter : mVideoConverters.values())
+      converter.delete();
     mVideoConverters.clear();
 
     // if we're supposed to, close the container
@@ -1425,6 +1770,8 @@ implements IMediaWriter
 
   public void onVideoPicture(IVideoPictureEvent event)
   {
+    if (mStreamCopy)
+      return;
     if (event.getImage() != null)
       encodeVideo(event.getStreamIndex(),
           event.getImage(),
@@ -1438,6 +1785,8 @@ implements IMediaWriter
 
   public void onAudioSamples(IAudioSamplesEvent event)
   {
+    if (mStreamCopy)
+      return;
     encodeAudio(event.getStreamIndex(), event.getAudioSamples());
   }
 
@@ -1445,6 +1794,8 @@ implements IMediaWriter
 
   public void onReadPacket(IReadPacketEvent event)
   {
+    if (mStreamCopy)
+      copyPacket(event.getPacket());
   }
 
   /** {@inheritDoc} */
@@ -274,6 +274,67 @@ public class ToolFactory
     return new MediaDebugListener(name, mode, events);
   }
 
+  /** {@link IMediaQueue} Factories */
+
+  /**
+   * Construct a queue which passes events to its listeners on its own
+   * thread, holding up to 16 events.
+   */
+
+  public static IMediaQueue makeQueue()
+  {
+    return new MediaQueue(MediaQueue.DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Construct a queue which passes events to its listeners on its own
+   * thread.
+   *
+   * @param capacity the number of events the queue holds before
+   *        blocking the thread calling it
+   *
+   * @throws IllegalArgumentException if capacity &lt;= 0
+   */
+
+  public static IMediaQueue makeQueue(int capacity)
+  {
+    return new MediaQueue(capacity);
+  }
+
+  /** {@link IFrameExtractor} Factories */
+
+  /**
+   * Construct a frame extractor which grabs images from the media at
+   * the given URL using one thread per available processor.
+   *
+   * @param url the location of the media content, a file name will
+   *        also work here
+   */
+
+  public static IFrameExtractor makeFrameExtractor(String url)
+  {
+    return new FrameExtractor(url,
+      Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Construct a frame extractor which grabs images from the media at
+   * the given URL.
+   *
+   * @param url the location of the media content, a file name will
+   *        also work here
+   * @param numThreads the number of threads, and so open containers,
+   *        to decode with
+   *
+   * @throws IllegalArgumentException if numThreads &lt;= 0
+   */
+
+  public static IFrameExtractor makeFrameExtractor(String url,
+    int numThreads)
+  {
+    return new FrameExtractor(url, numThreads);
+  }
+
   /**
    * A sample program for the {@link ToolFactory}.  If given
    * one argument on the command line, it will interpret that
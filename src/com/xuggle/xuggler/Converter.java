@@ -934,9 +934,9 @@ public class Converter
           oWidth = (int) (oWidth * vscaleFactor);
           oHeight = (int) (oHeight * vscaleFactor);
 
-          mVSamplers[i] = IVideoResampler
-              .make(oWidth, oHeight, oc.getPixelType(), ic.getWidth(), ic
-                  .getHeight(), ic.getPixelType());
+          mVSamplers[i] = VideoResamplerCache.getDefault().acquire(oWidth,
+              oHeight, oc.getPixelType(), ic.getWidth(), ic.getHeight(), ic
+                  .getPixelType());
           if (mVSamplers[i] == null)
           {
             throw new RuntimeException(
@@ -1110,6 +1110,12 @@ public class Converter
          */
         mICoders[i].close();
       mICoders[i] = null;
+      /**
+       * Give any video resampler back to the shared cache so the next
+       * conversion with the same geometry can skip setting one up.
+       */
+      VideoResamplerCache.getDefault().release(mVSamplers[i]);
+      mVSamplers[i] = null;
     }
 
     /**
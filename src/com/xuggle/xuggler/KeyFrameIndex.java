@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler;
+
+/**
+ * An in-memory index of the key frames in an {@link IStream}, for
+ * seeking and scrubbing without going back to native code.
+ * <p>
+ * {@link IStream#findTimeStampEntryInIndex(long, int)} makes a new
+ * {@link IIndexEntry} every time it's called, and
+ * {@link IStream#getIndexEntries()} makes one for every entry in
+ * the index, which adds up for long files with hundreds of thousands
+ * of entries.  Instead {@link #make(IStream)} copies the stream's
+ * index once in bulk with
+ * {@link IStream#getIndexEntries(int, long[], long[], int[], int[])},
+ * keeps only the key frames, and answers lookups with a binary search
+ * over plain arrays.
+ * </p>
+ * <p>
+ * Time stamps are in the time base of the stream the index was made
+ * from.  A {@link KeyFrameIndex} does not change once made, so it is
+ * safe to share between threads.
+ * </p>
+ * 
+ * @since 5.5
+ */
+
+public class KeyFrameIndex
+{
+  private final int mStreamIndex;
+  private final long[] mTimeStamps;
+  private final long[] mPositions;
+  private final int[] mSizes;
+
+  /**
+   * Make a key frame index from the index entries of a stream.
+   * Streams without an index give an empty key frame index.
+   *
+   * @param stream the stream
+   *
+   * @return the key frame index
+   *
+   * @throws IllegalArgumentException if stream is null, or its index
+   *   cannot be read
+   */
+
+  public static KeyFrameIndex make(IStream stream)
+  {
+    if (stream == null)
+      throw new IllegalArgumentException("no stream");
+
+    int numEntries = Math.max(stream.getNumIndexEntries(), 0);
+    long[] timeStamps = new long[numEntries];
+    long[] positions = new long[numEntries];
+    int[] sizes = new int[numEntries];
+    int[] flags = new int[numEntries];
+    if (numEntries > 0)
+    {
+      numEntries = stream.getIndexEntries(0, timeStamps, positions, sizes,
+        flags);
+      if (numEntries < 0)
+        throw new IllegalArgumentException("could not read index of " +
+          stream);
+    }
+
+    // squeeze out everything that isn't a key frame
+
+    int numKeyFrames = 0;
+    for (int i = 0; i < numEntries; i++)
+    {
+      if ((flags[i] & IIndexEntry.IINDEX_FLAG_KEYFRAME) == 0)
+        continue;
+      timeStamps[numKeyFrames] = timeStamps[i];
+      positions[numKeyFrames] = positions[i];
+      sizes[numKeyFrames] = sizes[i];
+      ++numKeyFrames;
+    }
+
+    return new KeyFrameIndex(stream.getIndex(),
+      truncate(timeStamps, numKeyFrames),
+      truncate(positions, numKeyFrames),
+      truncate(sizes, numKeyFrames), false);
+  }
+
+  /**
+   * Make a key frame index from key frame time stamps, positions and
+   * sizes.  The arrays are copied.
+   *
+   * @param streamIndex the index of the stream in its container
+   * @param timeStamps the time stamps of the key frames, in order
+   * @param positions the byte positions of the key frames
+   * @param sizes the sizes of the key frames
+   *
+   * @throws IllegalArgumentException if any array is null, the arrays
+   *   are not all the same length, or the time stamps go backwards
+   */
+
+  public KeyFrameIndex(int streamIndex, long[] timeStamps, long[] positions,
+    int[] sizes)
+  {
+    this(streamIndex, copy(timeStamps), copy(positions), copy(sizes), true);
+  }
+
+  private KeyFrameIndex(int streamIndex, long[] timeStamps, long[] positions,
+    int[] sizes, boolean check)
+  {
+    if (check)
+    {
+      if (timeStamps.length != positions.length
+        || timeStamps.length != sizes.length)
+        throw new IllegalArgumentException("arrays differ in length");
+      for (int i = 1; i < timeStamps.length; i++)
+        if (timeStamps[i] < timeStamps[i - 1])
+          throw new IllegalArgumentException(
+            "time stamps go backwards at " + i);
+    }
+    mStreamIndex = streamIndex;
+    mTimeStamps = timeStamps;
+    mPositions = positions;
+    mSizes = sizes;
+  }
+
+  /**
+   * Get the index, in its container, of the stream this index is for.
+   *
+   * @return the stream index
+   */
+
+  public int getStreamIndex()
+  {
+    return mStreamIndex;
+  }
+
+  /**
+   * Get the number of key frames in this index.
+   *
+   * @return the number of key frames
+   */
+
+  public int getNumKeyFrames()
+  {
+    return mTimeStamps.length;
+  }
+
+  /**
+   * Get the time stamp of a key frame.
+   *
+   * @param keyFrame the position of the key frame in this index
+   *
+   * @return the time stamp, in the stream's time base
+   */
+
+  public long getTimeStamp(int keyFrame)
+  {
+    return mTimeStamps[keyFrame];
+  }
+
+  /**
+   * Get the byte position of a key frame in its container.
+   *
+   * @param keyFrame the position of the key frame in this index
+   *
+   * @return the byte position
+   */
+
+  public long getPosition(int keyFrame)
+  {
+    return mPositions[keyFrame];
+  }
+
+  /**
+   * Get the size of a key frame.
+   *
+   * @param keyFrame the position of the key frame in this index
+   *
+   * @return the size in bytes
+   */
+
+  public int getSize(int keyFrame)
+  {
+    return mSizes[keyFrame];
+  }
+
+  /**
+   * Find the last key frame at or before a time stamp; this is the
+   * key frame to start decoding from to get to that time stamp.
+   *
+   * @param timeStamp the time stamp, in the stream's time base
+   *
+   * @return the position of the key frame in this index, or -1 if all
+   *   key frames come after the time stamp
+   */
+
+  public int findAtOrBefore(long timeStamp)
+  {
+    // find the first key frame after the time stamp, then step back one
+
+    int low = 0;
+    int high = mTimeStamps.length;
+    while (low < high)
+    {
+      int mid = (low + high) >>> 1;
+      if (mTimeStamps[mid] <= timeStamp)
+        low = mid + 1;
+      else
+        high = mid;
+    }
+    return low - 1;
+  }
+
+  /**
+   * Find the first key frame at or after a time stamp.
+   *
+   * @param timeStamp the time stamp, in the stream's time base
+   *
+   * @return the position of the key frame in this index, or -1 if all
+   *   key frames come before the time stamp
+   */
+
+  public int findAtOrAfter(long timeStamp)
+  {
+    int low = 0;
+    int high = mTimeStamps.length;
+    while (low < high)
+    {
+      int mid = (low + high) >>> 1;
+      if (mTimeStamps[mid] < timeStamp)
+        low = mid + 1;
+      else
+        high = mid;
+    }
+    return low < mTimeStamps.length ? low : -1;
+  }
+
+  /** {@inheritDoc} */
+
+  public String toString()
+  {
+    return getClass().getName() + "@" + hashCode() + "[" +
+      "streamIndex:" + mStreamIndex + ";" +
+      "numKeyFrames:" + mTimeStamps.length + ";" +
+      "]";
+  }
+
+  private static long[] copy(long[] values)
+  {
+    if (values == null)
+      throw new IllegalArgumentException("null array");
+    return truncate(values, values.length);
+  }
+
+  private static int[] copy(int[] values)
+  {
+    if (values == null)
+      throw new IllegalArgumentException("null array");
+    return truncate(values, values.length);
+  }
+
+  private static long[] truncate(long[] values, int length)
+  {
+    long[] retval = new long[length];
+    System.arraycopy(values, 0, retval, 0, length);
+    return retval;
+  }
+
+  private static int[] truncate(int[] values, int length)
+  {
+    int[] retval = new int[length];
+    System.arraycopy(values, 0, retval, 0, length);
+    return retval;
+  }
+}
@@ -0,0 +1,530 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link KeyFrameIndex} of every stream in a media file, saved in
+ * a small sidecar file next to it so that later opens can seek without
+ * scanning the media again.
+ * <p>
+ * Containers such as MPEG-TS or raw H.264 have no index, so FFmpeg
+ * finds a time stamp by reading and guessing its way through the
+ * file.  {@link #build(File)} instead reads every packet once, notes
+ * the time stamp, byte position and size of each key frame, and
+ * {@link #save(File)} writes them to {@link #getSidecarFile(File)}.
+ * {@link #load(File)} reads the sidecar back, unless the media file's
+ * size or modification time has changed since, and
+ * {@link #seekKeyFrame(IContainer, int, long)} then seeks an
+ * {@link IContainer} -- or the one behind an
+ * {@link com.xuggle.mediatool.IMediaReader}, from
+ * {@link com.xuggle.mediatool.IMediaReader#getContainer()} -- straight
+ * to the right key frame.
+ * </p>
+ * <p>
+ * Use {@link #getOrBuild(File)} to do all of this in one call.
+ * </p>
+ *
+ * @since 5.5
+ */
+
+public class KeyFrameIndexFile
+{
+  final private static Logger log =
+    LoggerFactory.getLogger(KeyFrameIndexFile.class);
+
+  /** The suffix added to a media file's name to name its sidecar. */
+
+  public static final String SUFFIX = ".xkfi";
+
+  /** The version of the sidecar format this class writes and reads. */
+
+  public static final int VERSION = 1;
+
+  private static final int MAGIC = 0x584b4649;
+
+  private static final int ENTRY_SIZE = 8 + 8 + 4;
+
+  private final long mFileSize;
+  private final long mLastModified;
+  private final KeyFrameIndex[] mIndexes;
+
+  KeyFrameIndexFile(long fileSize, long lastModified,
+    KeyFrameIndex[] indexes)
+  {
+    mFileSize = fileSize;
+    mLastModified = lastModified;
+    mIndexes = indexes;
+  }
+
+  /**
+   * Get the name of the sidecar file for a media file.
+   *
+   * @param media the media file
+   *
+   * @return the sidecar file, in the same directory
+   */
+
+  public static File getSidecarFile(File media)
+  {
+    return new File(media.getPath() + SUFFIX);
+  }
+
+  /**
+   * Load the sidecar of a media file, or if there is no valid sidecar,
+   * build one and try to save it.  Failing to save is logged and
+   * otherwise ignored.
+   *
+   * @param media the media file
+   *
+   * @return the key frame indexes of the media file
+   *
+   * @throws IllegalArgumentException if the media file cannot be opened
+   */
+
+  public static KeyFrameIndexFile getOrBuild(File media)
+  {
+    KeyFrameIndexFile indexFile = load(media);
+    if (indexFile != null)
+      return indexFile;
+    indexFile = build(media);
+    try
+    {
+      indexFile.save(media);
+    }
+    catch (IOException e)
+    {
+      log.warn("could not save key frame index for {}: {}", media, e);
+    }
+    return indexFile;
+  }
+
+  /**
+   * Build the key frame indexes of a media file by reading all of its
+   * packets.
+   * <p>
+   * Key frames whose time stamps are lower than that of an earlier key
+   * frame in the same stream are left out, so seeks near them start
+   * from the key frame before.
+   * </p>
+   * <p>
+   * If the file has any video, only its video streams are indexed;
+   * every audio packet is a key frame, so indexing audio would make the
+   * sidecar many times bigger for no gain.
+   * </p>
+   *
+   * @param media the media file
+   *
+   * @return the key frame indexes
+   *
+   * @throws IllegalArgumentException if the media file cannot be opened
+   */
+
+  public static KeyFrameIndexFile build(File media)
+  {
+    // note the size and time first, so a file that changes while we
+    // read it will not match its sidecar
+
+    long fileSize = media.length();
+    long lastModified = media.lastModified();
+
+    IContainer container = IContainer.make();
+    if (container.open(media.getPath(), IContainer.Type.READ, null) < 0)
+    {
+      container.delete();
+      throw new IllegalArgumentException("could not open: " + media);
+    }
+
+    Builder[] builders = new Builder[0];
+    boolean[] skipped = new boolean[0];
+    IPacket packet = IPacket.make();
+    try
+    {
+      boolean hasVideo = false;
+      for (int i = 0; i < container.getNumStreams() && !hasVideo; i++)
+        hasVideo = isVideo(container, i);
+
+      while (container.readNextPacket(packet) >= 0)
+      {
+        if (!packet.isComplete() || !packet.isKeyPacket())
+          continue;
+        long timeStamp = packet.getPts();
+        if (timeStamp == Global.NO_PTS)
+          timeStamp = packet.getDts();
+        if (timeStamp == Global.NO_PTS)
+          continue;
+
+        int streamIndex = packet.getStreamIndex();
+        if (streamIndex >= builders.length)
+        {
+          Builder[] grown = new Builder[streamIndex + 1];
+          System.arraycopy(builders, 0, grown, 0, builders.length);
+          boolean[] grownSkipped = new boolean[streamIndex + 1];
+          System.arraycopy(skipped, 0, grownSkipped, 0, skipped.length);
+          for (int i = skipped.length; i < grownSkipped.length; i++)
+            grownSkipped[i] = hasVideo && !isVideo(container, i);
+          builders = grown;
+          skipped = grownSkipped;
+        }
+        if (skipped[streamIndex])
+          continue;
+        if (builders[streamIndex] == null)
+          builders[streamIndex] = new Builder();
+        builders[streamIndex].add(timeStamp, packet.getPosition(),
+          packet.getSize());
+      }
+    }
+    finally
+    {
+      packet.delete();
+      container.close();
+      container.delete();
+    }
+
+    KeyFrameIndex[] indexes = new KeyFrameIndex[builders.length];
+    for (int i = 0; i < builders.length; i++)
+      if (builders[i] != null)
+        indexes[i] = builders[i].make(i);
+    return new KeyFrameIndexFile(fileSize, lastModified, indexes);
+  }
+
+  /**
+   * Load the sidecar of a media file.
+   *
+   * @param media the media file
+   *
+   * @return the key frame indexes, or null if there is no sidecar, it
+   *   cannot be read, is of another version, or the media file has
+   *   changed size or modification time since it was written
+   */
+
+  public static KeyFrameIndexFile load(File media)
+  {
+    File sidecar = getSidecarFile(media);
+    if (!sidecar.isFile())
+      return null;
+
+    DataInputStream in = null;
+    try
+    {
+      in = new DataInputStream(new BufferedInputStream(
+        new FileInputStream(sidecar)));
+      if (in.readInt() != MAGIC || in.readInt() != VERSION)
+        return null;
+      long fileSize = in.readLong();
+      long lastModified = in.readLong();
+      if (fileSize != media.length() || lastModified != media.lastModified())
+        return null;
+
+      // every stream takes at least an int, so a count the sidecar is
+      // too short to hold means it is corrupt
+      int numStreams = in.readInt();
+      if (numStreams < 0 || numStreams > sidecar.length() / 4)
+        return null;
+      KeyFrameIndex[] indexes = new KeyFrameIndex[numStreams];
+      for (int i = 0; i < indexes.length; i++)
+      {
+        int numKeyFrames = in.readInt();
+        if (numKeyFrames == -1)
+          continue;
+        if (numKeyFrames < 0)
+          return null;
+        if (numKeyFrames > sidecar.length() / ENTRY_SIZE)
+          return null;
+        long[] timeStamps = new long[numKeyFrames];
+        long[] positions = new long[numKeyFrames];
+        int[] sizes = new int[numKeyFrames];
+        for (int j = 0; j < numKeyFrames; j++)
+        {
+          timeStamps[j] = in.readLong();
+          positions[j] = in.readLong();
+          sizes[j] = in.readInt();
+        }
+        indexes[i] = new KeyFrameIndex(i, timeStamps, positions, sizes);
+      }
+      return new KeyFrameIndexFile(fileSize, lastModified, indexes);
+    }
+    catch (IOException e)
+    {
+      log.debug("could not load key frame index {}: {}", sidecar, e);
+      return null;
+    }
+    catch (RuntimeException e)
+    {
+      log.debug("corrupt key frame index {}: {}", sidecar, e);
+      return null;
+    }
+    finally
+    {
+      close(in);
+    }
+  }
+
+  /**
+   * Save these indexes as the sidecar of a media file.  The sidecar is
+   * written to a temporary file first and then renamed, so readers
+   * never see a partly written one; if writing fails the temporary
+   * file is deleted.
+   *
+   * @param media the media file these indexes were built from
+   *
+   * @throws IOException if the sidecar cannot be written
+   */
+
+  public void save(File media) throws IOException
+  {
+    File sidecar = getSidecarFile(media);
+    File temp = new File(sidecar.getPath() + ".tmp");
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+      new FileOutputStream(temp)));
+    boolean written = false;
+    try
+    {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeLong(mFileSize);
+      out.writeLong(mLastModified);
+      out.writeInt(mIndexes.length);
+      for (KeyFrameIndex index : mIndexes)
+      {
+        if (index == null)
+        {
+          out.writeInt(-1);
+          continue;
+        }
+        out.writeInt(index.getNumKeyFrames());
+        for (int i = 0; i < index.getNumKeyFrames(); i++)
+        {
+          out.writeLong(index.getTimeStamp(i));
+          out.writeLong(index.getPosition(i));
+          out.writeInt(index.getSize(i));
+        }
+      }
+      out.close();
+      written = true;
+    }
+    finally
+    {
+      if (!written)
+      {
+        close(out);
+        temp.delete();
+      }
+    }
+
+    // rename won't replace an existing file everywhere
+
+    if (!temp.renameTo(sidecar))
+    {
+      sidecar.delete();
+      if (!temp.renameTo(sidecar))
+      {
+        temp.delete();
+        throw new IOException("could not rename " + temp + " to " + sidecar);
+      }
+    }
+  }
+
+  /**
+   * Get the number of streams these indexes cover; some of them may
+   * have no index.
+   *
+   * @return the number of streams
+   */
+
+  public int getNumStreams()
+  {
+    return mIndexes.length;
+  }
+
+  /**
+   * Get the key frame index of a stream.
+   *
+   * @param streamIndex the index of the stream in its container
+   *
+   * @return the key frame index, or null if the stream had no key
+   *   frames with time stamps
+   */
+
+  public KeyFrameIndex getIndex(int streamIndex)
+  {
+    if (streamIndex < 0 || streamIndex >= mIndexes.length)
+      return null;
+    return mIndexes[streamIndex];
+  }
+
+  /**
+   * Seek a container to the last key frame at or before a time stamp,
+   * or to the first key frame if they all come after it.
+   * <p>
+   * Streams the container keeps no index for are sought by byte
+   * position, so FFmpeg need not search the file; other streams are
+   * sought to the exact time stamp of the key frame.
+   * </p>
+   *
+   * @param container the container, opened on the media file these
+   *   indexes were built from
+   * @param streamIndex the stream to seek in
+   * @param timeStamp the time stamp, in the stream's time base
+   *
+   * @return >= 0 on success; < 0 on error, or if there is no key frame
+   *   index for the stream
+   */
+
+  public int seekKeyFrame(IContainer container, int streamIndex,
+    long timeStamp)
+  {
+    KeyFrameIndex index = getIndex(streamIndex);
+    if (index == null || index.getNumKeyFrames() == 0)
+      return -1;
+    int keyFrame = Math.max(index.findAtOrBefore(timeStamp), 0);
+
+    boolean hasIndex = false;
+    IStream stream = container.getStream(streamIndex);
+    if (stream != null)
+    {
+      hasIndex = stream.getNumIndexEntries() > 0;
+      stream.delete();
+    }
+
+    long position = index.getPosition(keyFrame);
+    if (!hasIndex && position >= 0)
+      return container.seekKeyFrame(streamIndex, position, position,
+        position, IContainer.SEEK_FLAG_BYTE);
+    long keyFrameTimeStamp = index.getTimeStamp(keyFrame);
+    return container.seekKeyFrame(streamIndex, keyFrameTimeStamp,
+      keyFrameTimeStamp, keyFrameTimeStamp, 0);
+  }
+
+  /**
+   * Build and save the sidecar of each media file named on the
+   * command line.
+   *
+   * @param args the media files
+   */
+
+  public static void main(String[] args)
+  {
+    if (args.length == 0)
+    {
+      System.err.println("usage: KeyFrameIndexFile mediafile...");
+      System.exit(1);
+    }
+    for (String name : args)
+    {
+      File media = new File(name);
+      try
+      {
+        KeyFrameIndexFile indexFile = build(media);
+        indexFile.save(media);
+        System.out.println(getSidecarFile(media) + ": " +
+          indexFile.getNumStreams() + " streams");
+      }
+      catch (Exception e)
+      {
+        System.err.printf("Error: %s: %s\n", name, e.getMessage());
+      }
+    }
+  }
+
+  private static boolean isVideo(IContainer container, int streamIndex)
+  {
+    IStream stream = container.getStream(streamIndex);
+    if (stream == null)
+      return false;
+    IStreamCoder coder = stream.getStreamCoder();
+    stream.delete();
+    if (coder == null)
+      return false;
+    boolean retval = coder.getCodecType() == ICodec.Type.CODEC_TYPE_VIDEO;
+    coder.delete();
+    return retval;
+  }
+
+  private static void close(Closeable stream)
+  {
+    if (stream == null)
+      return;
+    try
+    {
+      stream.close();
+    }
+    catch (IOException e)
+    {
+      // nothing to do about it
+    }
+  }
+
+  /** Collects the key frames of one stream while building. */
+
+  private static class Builder
+  {
+    private long[] mTimeStamps = new long[64];
+    private long[] mPositions = new long[64];
+    private int[] mSizes = new int[64];
+    private int mNumKeyFrames = 0;
+
+    void add(long timeStamp, long position, int size)
+    {
+      if (mNumKeyFrames > 0 && timeStamp < mTimeStamps[mNumKeyFrames - 1])
+        return;
+      if (mNumKeyFrames == mTimeStamps.length)
+      {
+        int length = mNumKeyFrames * 2;
+        long[] timeStamps = new long[length];
+        long[] positions = new long[length];
+        int[] sizes = new int[length];
+        System.arraycopy(mTimeStamps, 0, timeStamps, 0, mNumKeyFrames);
+        System.arraycopy(mPositions, 0, positions, 0, mNumKeyFrames);
+        System.arraycopy(mSizes, 0, sizes, 0, mNumKeyFrames);
+        mTimeStamps = timeStamps;
+        mPositions = positions;
+        mSizes = sizes;
+      }
+      mTimeStamps[mNumKeyFrames] = timeStamp;
+      mPositions[mNumKeyFrames] = position;
+      mSizes[mNumKeyFrames] = size;
+      ++mNumKeyFrames;
+    }
+
+    KeyFrameIndex make(int streamIndex)
+    {
+      long[] timeStamps = new long[mNumKeyFrames];
+      long[] positions = new long[mNumKeyFrames];
+      int[] sizes = new int[mNumKeyFrames];
+      System.arraycopy(mTimeStamps, 0, timeStamps, 0, mNumKeyFrames);
+      System.arraycopy(mPositions, 0, positions, 0, mNumKeyFrames);
+      System.arraycopy(mSizes, 0, sizes, 0, mNumKeyFrames);
+      return new KeyFrameIndex(streamIndex, timeStamps, positions, sizes);
+    }
+  }
+}
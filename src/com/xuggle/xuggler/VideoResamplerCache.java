@@ -0,0 +1,400 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A thread-safe cache of idle {@link IVideoResampler} objects.
+ * <p>
+ * Making an {@link IVideoResampler} means building swscale filter
+ * tables, which is slow enough to show up when many short files with
+ * the same geometry are opened one after the other.  Instead of
+ * {@link IVideoResampler#make(int, int, IPixelFormat.Type, int, int, IPixelFormat.Type)},
+ * {@link #acquire(int, int, IPixelFormat.Type, int, int, IPixelFormat.Type)}
+ * a resampler from a cache, and {@link #release(IVideoResampler)} it
+ * back when done; the next caller asking for the same input and output
+ * sizes and formats then gets it without building a new one.
+ * </p>
+ * <p>
+ * A resampler is only ever handed to one caller at a time, so it is
+ * safe to use without any more locking.  The cache holds at most
+ * {@link #getMaxSize()} idle resamplers, and when full throws away the
+ * one released longest ago.
+ * </p>
+ * <p>
+ * Only video resamplers are cached: an {@link IAudioResampler} keeps
+ * filter history and left over samples between calls, so handing one
+ * that was used for one stream to another would mix their audio.
+ * </p>
+ */
+
+public class VideoResamplerCache
+{
+  /** The default maximum number of idle resamplers to cache. */
+
+  public static final int DEFAULT_MAX_SIZE = 32;
+
+  private static final VideoResamplerCache sDefault =
+    new VideoResamplerCache(DEFAULT_MAX_SIZE);
+
+  /**
+   * The geometry and formats a resampler converts between.
+   */
+
+  private static final class Key
+  {
+    private final int mOutputWidth;
+    private final int mOutputHeight;
+    private final IPixelFormat.Type mOutputFormat;
+    private final int mInputWidth;
+    private final int mInputHeight;
+    private final IPixelFormat.Type mInputFormat;
+
+    Key(int outputWidth, int outputHeight, IPixelFormat.Type outputFormat,
+      int inputWidth, int inputHeight, IPixelFormat.Type inputFormat)
+    {
+      mOutputWidth = outputWidth;
+      mOutputHeight = outputHeight;
+      mOutputFormat = outputFormat;
+      mInputWidth = inputWidth;
+      mInputHeight = inputHeight;
+      mInputFormat = inputFormat;
+    }
+
+    Key(IVideoResampler resampler)
+    {
+      this(resampler.getOutputWidth(), resampler.getOutputHeight(),
+        resampler.getOutputPixelFormat(), resampler.getInputWidth(),
+        resampler.getInputHeight(), resampler.getInputPixelFormat());
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+      if (!(obj instanceof Key))
+        return false;
+      Key key = (Key) obj;
+      return mOutputWidth == key.mOutputWidth
+        && mOutputHeight == key.mOutputHeight
+        && mOutputFormat == key.mOutputFormat
+        && mInputWidth == key.mInputWidth
+        && mInputHeight == key.mInputHeight
+        && mInputFormat == key.mInputFormat;
+    }
+
+    @Override
+    public int hashCode()
+    {
+      int result = mOutputWidth;
+      result = 31 * result + mOutputHeight;
+      result = 31 * result + mOutputFormat.hashCode();
+      result = 31 * result + mInputWidth;
+      result = 31 * result + mInputHeight;
+      result = 31 * result + mInputFormat.hashCode();
+      return result;
+    }
+  }
+
+  /** An idle resampler and what it converts. */
+
+  private static final class Entry
+  {
+    private final Key mKey;
+    private final IVideoResampler mResampler;
+
+    Entry(Key key, IVideoResampler resampler)
+    {
+      mKey = key;
+      mResampler = resampler;
+    }
+  }
+
+  // idle resamplers, least recently released first
+
+  private final List<Entry> mIdle = new ArrayList<Entry>();
+
+  // the sws_flags each kind of resampler is made with, so we can tell
+  // if a caller changed them before releasing it
+
+  private final Map<Key, Long> mDefaultFlags = new HashMap<Key, Long>();
+
+  private int mMaxSize;
+  private long mHits = 0;
+  private long mMisses = 0;
+  private long mEvictions = 0;
+
+  /**
+   * Get the cache shared by everything in this process, including the
+   * converters made by
+   * {@link com.xuggle.xuggler.video.ConverterFactory}.
+   *
+   * @return the shared cache
+   */
+
+  public static VideoResamplerCache getDefault()
+  {
+    return sDefault;
+  }
+
+  /**
+   * Create a new, empty cache.
+   *
+   * @param maxSize the maximum number of idle resamplers to hold
+   *
+   * @throws IllegalArgumentException if maxSize is negative
+   */
+
+  public VideoResamplerCache(int maxSize)
+  {
+    if (maxSize < 0)
+      throw new IllegalArgumentException("maxSize must be >= 0");
+    mMaxSize = maxSize;
+  }
+
+  /**
+   * Get a resampler, from the cache if it has a matching idle one, or
+   * else a new one.  The arguments are as for
+   * {@link IVideoResampler#make(int, int, IPixelFormat.Type, int, int, IPixelFormat.Type)}.
+   *
+   * @param outputWidth the width of the output pictures
+   * @param outputHeight the height of the output pictures
+   * @param outputFmt the pixel format of the output pictures
+   * @param inputWidth the width of the input pictures
+   * @param inputHeight the height of the input pictures
+   * @param inputFmt the pixel format of the input pictures
+   *
+   * @return the resampler, or null if one cannot be made; give it back
+   *   with {@link #release(IVideoResampler)} when done with it.
+   */
+
+  public IVideoResampler acquire(int outputWidth, int outputHeight,
+    IPixelFormat.Type outputFmt, int inputWidth, int inputHeight,
+    IPixelFormat.Type inputFmt)
+  {
+    return acquire(outputWidth, outputHeight, outputFmt,
+      inputWidth, inputHeight, inputFmt, 1);
+  }
+
+  /**
+   * Get a resampler that cuts pictures into slices, from the cache if
+   * it has a matching idle one, or else a new one.
+   *
+   * @param outputWidth the width of the output pictures
+   * @param outputHeight the height of the output pictures
+   * @param outputFmt the pixel format of the output pictures
+   * @param inputWidth the width of the input pictures
+   * @param inputHeight the height of the input pictures
+   * @param inputFmt the pixel format of the input pictures
+   * @param numSlices the number of slices to ask for; see
+   *   {@link IVideoResampler#setNumSlices(int)}
+   *
+   * @return the resampler, or null if one cannot be made; give it back
+   *   with {@link #release(IVideoResampler)} when done with it.
+   */
+
+  public IVideoResampler acquire(int outputWidth, int outputHeight,
+    IPixelFormat.Type outputFmt, int inputWidth, int inputHeight,
+    IPixelFormat.Type inputFmt, int numSlices)
+  {
+    Key key = new Key(outputWidth, outputHeight, outputFmt,
+      inputWidth, inputHeight, inputFmt);
+    IVideoResampler resampler = null;
+
+    synchronized(this)
+    {
+      for (int i = mIdle.size() - 1; i >= 0; i--)
+      {
+        if (mIdle.get(i).mKey.equals(key))
+        {
+          resampler = mIdle.remove(i).mResampler;
+          break;
+        }
+      }
+      if (resampler != null)
+        ++mHits;
+      else
+        ++mMisses;
+    }
+
+    // make new resamplers outside the lock; it's the slow part
+
+    if (resampler == null)
+    {
+      resampler = IVideoResampler.make(outputWidth, outputHeight, outputFmt,
+        inputWidth, inputHeight, inputFmt);
+      if (resampler == null)
+        return null;
+      long flags = resampler.getPropertyAsLong("sws_flags");
+      synchronized(this)
+      {
+        if (!mDefaultFlags.containsKey(key))
+          mDefaultFlags.put(key, flags);
+      }
+    }
+    resampler.setNumSlices(numSlices);
+    return resampler;
+  }
+
+  /**
+   * Give a resampler back to the cache.  The caller must not use it
+   * afterwards.
+   * <p>
+   * Resamplers whose properties were changed since they were made are
+   * deleted rather than cached, as are resamplers the cache has no room
+   * for.
+   * </p>
+   *
+   * @param resampler the resampler, which may be null
+   */
+
+  public void release(IVideoResampler resampler)
+  {
+    if (resampler == null)
+      return;
+    Key key = new Key(resampler);
+    long flags = resampler.getPropertyAsLong("sws_flags");
+
+    Entry evicted = null;
+    boolean cached = false;
+    synchronized(this)
+    {
+      Long defaultFlags = mDefaultFlags.get(key);
+      if (mMaxSize > 0 && defaultFlags != null && defaultFlags == flags)
+      {
+        mIdle.add(new Entry(key, resampler));
+        cached = true;
+        if (mIdle.size() > mMaxSize)
+        {
+          evicted = mIdle.remove(0);
+          ++mEvictions;
+        }
+      }
+    }
+    if (!cached)
+      resampler.delete();
+    if (evicted != null)
+      evicted.mResampler.delete();
+  }
+
+  /**
+   * Delete every idle resampler in the cache.
+   */
+
+  public void clear()
+  {
+    List<Entry> idle;
+    synchronized(this)
+    {
+      idle = new ArrayList<Entry>(mIdle);
+      mIdle.clear();
+    }
+    for (Entry entry : idle)
+      entry.mResampler.delete();
+  }
+
+  /**
+   * Get the number of idle resamplers in the cache.
+   *
+   * @return the number of idle resamplers
+   */
+
+  public synchronized int getSize()
+  {
+    return mIdle.size();
+  }
+
+  /**
+   * Get the maximum number of idle resamplers the cache holds.
+   *
+   * @return the maximum size
+   */
+
+  public synchronized int getMaxSize()
+  {
+    return mMaxSize;
+  }
+
+  /**
+   * Set the maximum number of idle resamplers the cache holds,
+   * deleting the least recently released ones if it now holds too
+   * many.  0 turns caching off.
+   *
+   * @param maxSize the maximum size
+   *
+   * @throws IllegalArgumentException if maxSize is negative
+   */
+
+  public void setMaxSize(int maxSize)
+  {
+    if (maxSize < 0)
+      throw new IllegalArgumentException("maxSize must be >= 0");
+    List<Entry> evicted = new ArrayList<Entry>();
+    synchronized(this)
+    {
+      mMaxSize = maxSize;
+      while (mIdle.size() > mMaxSize)
+      {
+        evicted.add(mIdle.remove(0));
+        ++mEvictions;
+      }
+    }
+    for (Entry entry : evicted)
+      entry.mResampler.delete();
+  }
+
+  /**
+   * Get the number of times {@link #acquire(int, int, IPixelFormat.Type, int, int, IPixelFormat.Type, int)}
+   * found a matching idle resampler.
+   *
+   * @return the number of hits
+   */
+
+  public synchronized long getHits()
+  {
+    return mHits;
+  }
+
+  /**
+   * Get the number of times {@link #acquire(int, int, IPixelFormat.Type, int, int, IPixelFormat.Type, int)}
+   * had to make a new resampler.
+   *
+   * @return the number of misses
+   */
+
+  public synchronized long getMisses()
+  {
+    return mMisses;
+  }
+
+  /**
+   * Get the number of idle resamplers deleted to make room for others.
+   *
+   * @return the number of evictions
+   */
+
+  public synchronized long getEvictions()
+  {
+    return mEvictions;
+  }
+}
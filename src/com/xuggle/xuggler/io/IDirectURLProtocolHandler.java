@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link IURLProtocolHandler} that can read and write directly
+ * into FFMPEG's own IO buffers.
+ * <p>
+ * When Xuggler native code finds a handler that implements this
+ * interface, it calls {@link #read(ByteBuffer, int)} and
+ * {@link #write(ByteBuffer, int)} instead of
+ * {@link IURLProtocolHandler#read(byte[], int)} and
+ * {@link IURLProtocolHandler#write(byte[], int)}.  The
+ * {@link ByteBuffer} passed is a direct buffer wrapping the
+ * native memory FFMPEG is reading into or writing from, so no
+ * Java byte array is allocated and no data is copied across the
+ * JNI boundary.
+ * </p>
+ * <p>
+ * The buffer passed is only valid for the duration of the call.  Do
+ * not keep a reference to it, or any view of it, once your method
+ * returns; the underlying memory belongs to FFMPEG and will be reused
+ * or freed.
+ * </p>
+ * <p>
+ * Implementations must still implement the byte array methods in
+ * {@link IURLProtocolHandler}; Xuggler falls back to them if the
+ * Java virtual machine does not support direct buffer access from
+ * native code.
+ * </p>
+ */
+public interface IDirectURLProtocolHandler extends IURLProtocolHandler
+{
+  /**
+   * This method gets called by FFMPEG when it tries to read data.
+   * <p>
+   * The buffer's position is 0 and its limit is <code>size</code>.
+   * Write your data starting at position 0; the buffer's position
+   * when you return is ignored.
+   * </p>
+   * <p>
+   * For non-blocking IO, follow the same conventions as
+   * {@link IURLProtocolHandler#read(byte[], int)}.
+   * </p>
+   * 
+   * @param buf A direct buffer over FFMPEG's memory to write your data to.
+   * @param size The number of bytes in buf available for you to write
+   *   the data that FFMPEG will read.
+   * @return 0 for end of file, else number of bytes you wrote to the
+   *   buffer, or -1 if error.
+   */
+  public int read(ByteBuffer buf, int size);
+
+  /**
+   * This method gets called by FFMPEG when it tries to write data.
+   * <p>
+   * The buffer's position is 0 and its limit is <code>size</code>.
+   * </p>
+   * <p>
+   * For non-blocking IO, follow the same conventions as
+   * {@link IURLProtocolHandler#write(byte[], int)}.
+   * </p>
+   * 
+   * @param buf A direct buffer over FFMPEG's memory holding the data
+   *   you should write.
+   * @param size The number of bytes in buf.
+   * @return 0 for end of file, else number of bytes you read from buf,
+   *   or -1 if error.
+   */
+  public int write(ByteBuffer buf, int size);
+}
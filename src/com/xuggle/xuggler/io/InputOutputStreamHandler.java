@@ -19,9 +19,12 @@
 package com.xuggle.xuggler.io;
 
 import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,7 +44,7 @@ import org.slf4j.LoggerFactory;
  * 
  */
 
-public class InputOutputStreamHandler implements IURLProtocolHandler
+public class InputOutputStreamHandler implements IDirectURLProtocolHandler
 {
   private final Logger log = LoggerFactory.getLogger(this.getClass());
 
@@ -57,6 +60,11 @@ public class InputOutputStreamHandler implements IURLProtocolHandler
   private final OutputStream mOutputStream;
   private final boolean mCloseStreamOnClose;
   private Closeable mOpenStream = null;
+
+  // the array reads and writes from FFMPEG's buffer go through when the
+  // stream has no channel; made on first use and grown on demand
+
+  private byte[] mBytes = null;
   
   /**
    * Create a handler that can only be opened for reading.
@@ -127,6 +135,7 @@ public class InputOutputStreamHandler implements IURLProtocolHandler
       retval = -1;
     }
     mOpenStream = null;
+    mBytes = null;
     return retval;
   }
 
@@ -229,6 +238,85 @@ public class InputOutputStreamHandler implements IURLProtocolHandler
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * 
+   * File streams are read straight into FFMPEG's buffer through their
+   * channel; other streams are read through a reused byte array.
+   */
+
+  public int read(ByteBuffer buf, int size)
+  {
+    if (mOpenStream == null || !(mOpenStream instanceof InputStream))
+      return -1;
+
+    try
+    {
+      if (mOpenStream.getClass() == FileInputStream.class)
+        return ((FileInputStream) mOpenStream).getChannel().read(buf);
+
+      byte[] bytes = getBytes(size);
+      int ret = ((InputStream) mOpenStream).read(bytes, 0, size);
+      if (ret > 0)
+        buf.put(bytes, 0, ret);
+      return ret;
+    }
+    catch (IOException e)
+    {
+      log.error("Got IO exception reading from stream: {}; {}",
+          mOpenStream, e);
+      return -1;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * File streams are written straight from FFMPEG's buffer through
+   * their channel; other streams are written through a reused byte
+   * array.
+   */
+
+  public int write(ByteBuffer buf, int size)
+  {
+    if (mOpenStream == null ||
+        !(mOpenStream instanceof OutputStream))
+      return -1;
+
+    try
+    {
+      if (mOpenStream.getClass() == FileOutputStream.class)
+      {
+        // a file channel write blocks until everything is written
+        return ((FileOutputStream) mOpenStream).getChannel().write(buf);
+      }
+
+      byte[] bytes = getBytes(size);
+      buf.get(bytes, 0, size);
+      ((OutputStream) mOpenStream).write(bytes, 0, size);
+      return size;
+    }
+    catch (IOException e)
+    {
+      log.error("Got error writing to file: {}; {}", mOpenStream, e);
+      return -1;
+    }
+  }
+
+  /**
+   * Get the array reads and writes from FFMPEG's buffer go through.
+   * 
+   * @param size the number of bytes needed
+   * @return an array of at least size bytes
+   */
+
+  private byte[] getBytes(int size)
+  {
+    if (mBytes == null || mBytes.length < size)
+      mBytes = new byte[size];
+    return mBytes;
+  }
+
   /**
    * {@inheritDoc}
    * Always true for this class. 
@@ -0,0 +1,363 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of URLProtocolHandler that reads local files through
+ * memory mappings of a {@link FileChannel}.
+ * <p>
+ * The file is mapped read-only in windows of {@link #getWindowSize()}
+ * bytes as FFMPEG first touches them, so reads are served straight from
+ * the operating system's page cache without a system call per read.
+ * Reads into FFMPEG's buffer copy from a view of the mapping; no
+ * intermediate Java buffer is used.
+ * </p>
+ * <p>
+ * Seeking is fully supported, including
+ * {@link IURLProtocolHandler#SEEK_SIZE}, which makes this handler a good
+ * fit for random access into large local files, for example
+ * containers with their index at the end of the file.
+ * </p>
+ * <p>
+ * Only {@link IURLProtocolHandler#URL_RDONLY_MODE} is supported.  The
+ * size of the file is fixed when it is opened; data appended to the
+ * file after that is not seen.
+ * </p>
+ */
+public class MappedFileProtocolHandler implements IDirectURLProtocolHandler
+{
+  /**
+   * The default number of bytes mapped at a time: {@value}.
+   */
+  public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+  private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+  // the file to map, if known before open
+
+  private File mFile;
+
+  // the number of bytes in each mapped window
+
+  private final int mWindowSize;
+
+  // the open file, or null if closed
+
+  private RandomAccessFile mStream = null;
+
+  // the size of the open file
+
+  private long mSize = 0;
+
+  // the mapped windows of the open file, made as they are needed
+
+  private MappedByteBuffer[] mWindows = null;
+
+  // the position the next read starts at
+
+  private long mPosition = 0;
+
+  /**
+   * Create a handler that will find the file to map from the URL
+   * passed to {@link #open(String, int)}.
+   */
+  public MappedFileProtocolHandler()
+  {
+    this((File) null, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Create a handler for the given file.
+   * @param file the file to map.
+   */
+  public MappedFileProtocolHandler(File file)
+  {
+    this(file, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Create a handler for the file in the given URL.
+   * @param url the url, with or without a protocol prefix.
+   */
+  public MappedFileProtocolHandler(String url)
+  {
+    this(url == null ? null :
+      new File(URLProtocolManager.getResourceFromURL(url)),
+      DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Create a handler for the given file that maps it in windows of the
+   * given size.
+   * 
+   * @param file the file to map, or null to find it from the URL
+   *   passed to {@link #open(String, int)}.
+   * @param windowSize the number of bytes to map at a time.
+   * 
+   * @throws IllegalArgumentException if windowSize is not positive.
+   */
+  public MappedFileProtocolHandler(File file, int windowSize)
+  {
+    if (windowSize <= 0)
+      throw new IllegalArgumentException("window size must be > 0");
+    mFile = file;
+    mWindowSize = windowSize;
+  }
+
+  /**
+   * Get the number of bytes this handler maps at a time.
+   * @return the window size.
+   */
+  public int getWindowSize()
+  {
+    return mWindowSize;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+
+  public int open(String url, int flags)
+  {
+    if (mStream != null)
+      close();
+
+    if (mFile == null && url != null)
+      mFile = new File(URLProtocolManager.getResourceFromURL(url));
+    if (mFile == null)
+    {
+      log.error("no file to open for url: {}", url);
+      return -1;
+    }
+    if (flags != URL_RDONLY_MODE)
+    {
+      log.error("only read mode is supported for mapped file: {}", mFile);
+      return -1;
+    }
+
+    try
+    {
+      mStream = new RandomAccessFile(mFile, "r");
+      mSize = mStream.length();
+    }
+    catch (IOException e)
+    {
+      log.error("Could not open file: {}; ex: {}", mFile, e);
+      mStream = null;
+      return -1;
+    }
+    mWindows = new MappedByteBuffer[(int) ((mSize + mWindowSize - 1) /
+        mWindowSize)];
+    mPosition = 0;
+    log.debug("Opened mapped file: {}", mFile);
+    return 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+
+  public int close()
+  {
+    int retval = 0;
+    mWindows = null;
+    if (mStream != null)
+    {
+      try
+      {
+        mStream.close();
+      }
+      catch (IOException e)
+      {
+        log.error("Error closing file: {}; ex: {}", mFile, e);
+        retval = -1;
+      }
+    }
+    mStream = null;
+    return retval;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+
+  public int read(byte[] buf, int size)
+  {
+    if (mStream == null)
+      return -1;
+    try
+    {
+      int bytesRead = 0;
+      ByteBuffer slice;
+      while (bytesRead < size &&
+          (slice = getSlice(size - bytesRead)) != null)
+      {
+        int length = slice.remaining();
+        slice.get(buf, bytesRead, length);
+        bytesRead += length;
+        mPosition += length;
+      }
+      return bytesRead;
+    }
+    catch (IOException e)
+    {
+      log.error("Got IO exception reading from file: {}; ex: {}", mFile, e);
+      return -1;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * Copies straight from the mapping into FFMPEG's buffer.
+   */
+
+  public int read(ByteBuffer buf, int size)
+  {
+    if (mStream == null)
+      return -1;
+    try
+    {
+      int bytesRead = 0;
+      ByteBuffer slice;
+      while (bytesRead < size &&
+          (slice = getSlice(size - bytesRead)) != null)
+      {
+        int length = slice.remaining();
+        buf.put(slice);
+        bytesRead += length;
+        mPosition += length;
+      }
+      return bytesRead;
+    }
+    catch (IOException e)
+    {
+      log.error("Got IO exception reading from file: {}; ex: {}", mFile, e);
+      return -1;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+
+  public long seek(long offset, int whence)
+  {
+    if (mStream == null)
+      return -1;
+
+    final long seek;
+    if (whence == SEEK_SET)
+      seek = offset;
+    else if (whence == SEEK_CUR)
+      seek = mPosition + offset;
+    else if (whence == SEEK_END)
+      seek = mSize + offset;
+    else if (whence == SEEK_SIZE)
+      // odd feature of the protocol handler; this request
+      // just returns the file size without actually seeking
+      return mSize;
+    else
+    {
+      log.error("invalid seek value \"{}\" for file: {}", whence, mFile);
+      return -1;
+    }
+    if (seek < 0)
+    {
+      log.error("cannot seek to \"{}\" in: {}", seek, mFile);
+      return -1;
+    }
+    mPosition = seek;
+    return seek;
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * Writing is not supported by this handler; always returns -1.
+   */
+
+  public int write(byte[] buf, int size)
+  {
+    return -1;
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * Writing is not supported by this handler; always returns -1.
+   */
+
+  public int write(ByteBuffer buf, int size)
+  {
+    return -1;
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * Always false for this class.
+   */
+
+  public boolean isStreamed(String url, int flags)
+  {
+    return false;
+  }
+
+  /**
+   * Get a view of the mapping starting at the current position and
+   * holding at most size bytes, mapping the window it falls in if
+   * needed.
+   * 
+   * @param size the most bytes wanted.
+   * @return the view, or null at end of file.
+   * @throws IOException if the window cannot be mapped.
+   */
+
+  private ByteBuffer getSlice(int size) throws IOException
+  {
+    if (mPosition >= mSize)
+      return null;
+    int index = (int) (mPosition / mWindowSize);
+    MappedByteBuffer window = mWindows[index];
+    if (window == null)
+    {
+      long start = (long) index * mWindowSize;
+      window = mStream.getChannel().map(FileChannel.MapMode.READ_ONLY,
+          start, Math.min(mWindowSize, mSize - start));
+      mWindows[index] = window;
+    }
+    int offset = (int) (mPosition - (long) index * mWindowSize);
+    ByteBuffer slice = window.duplicate();
+    slice.position(offset);
+    slice.limit(Math.min(window.capacity(), offset + size));
+    return slice;
+  }
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler.io;
+
+import java.io.File;
+
+/**
+ * Implementation of {@link IURLProtocolHandlerFactory} that returns
+ * {@link MappedFileProtocolHandler} objects, which read local files
+ * through memory mappings and support seeking.
+ * <p>
+ * By default Xuggler IO registers this factory under the protocol name
+ * {@link URLProtocolManager#MAPPED_PROTOCOL}; for example
+ * "xugglermapped:/path/to/file.mp4".
+ * </p>
+ */
+public class MappedFileProtocolHandlerFactory implements
+    IURLProtocolHandlerFactory
+{
+  private final int mWindowSize;
+
+  /**
+   * Create a factory whose handlers map
+   * {@link MappedFileProtocolHandler#DEFAULT_WINDOW_SIZE} bytes at a time.
+   */
+  public MappedFileProtocolHandlerFactory()
+  {
+    this(MappedFileProtocolHandler.DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Create a factory whose handlers map the given number of bytes at a
+   * time.
+   * 
+   * @param windowSize the number of bytes to map at a time.
+   * 
+   * @throws IllegalArgumentException if windowSize is not positive.
+   */
+  public MappedFileProtocolHandlerFactory(int windowSize)
+  {
+    if (windowSize <= 0)
+      throw new IllegalArgumentException("window size must be > 0");
+    mWindowSize = windowSize;
+  }
+
+  public IURLProtocolHandler getHandler(String protocol, String url,
+      int flags)
+  {
+    return new MappedFileProtocolHandler(url == null ? null :
+      new File(URLProtocolManager.getResourceFromURL(url)),
+      mWindowSize);
+  }
+
+}
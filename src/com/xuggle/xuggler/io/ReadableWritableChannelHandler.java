@@ -22,6 +22,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channel;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -35,8 +36,10 @@ import org.slf4j.LoggerFactory;
  * 
  * <p>
  * 
- * The {@link IURLProtocolHandler#URL_RDWR} mode is not supported, and
- * {@link #isStreamed(String, int)} will always return true.
+ * The {@link IURLProtocolHandler#URL_RDWR} mode is not supported.
+ * {@link FileChannel} objects can be seeked, and so
+ * {@link #isStreamed(String, int)} returns false for them; all other
+ * channels are treated as streams and cannot seek.
  * 
  * </p>
  * 
@@ -44,7 +47,8 @@ import org.slf4j.LoggerFactory;
  * 
  */
 
-public class ReadableWritableChannelHandler implements IURLProtocolHandler
+public class ReadableWritableChannelHandler
+  implements IDirectURLProtocolHandler
 {
   private final Logger log = LoggerFactory.getLogger(this.getClass());
 
@@ -60,6 +64,11 @@ public class ReadableWritableChannelHandler implements IURLProtocolHandler
   private final WritableByteChannel mWriteChannel;
   private final boolean mCloseStreamOnClose;
   private Channel mOpenStream = null;
+
+  // the buffer reads and writes through byte arrays go through; made
+  // on first use and grown on demand
+
+  private ByteBuffer mBuffer = null;
   
   /**
    * Create a handler that can only be opened for reading.
@@ -127,6 +136,7 @@ public class ReadableWritableChannelHandler implements IURLProtocolHandler
       retval = -1;
     }
     mOpenStream = null;
+    mBuffer = null;
     return retval;
   }
 
@@ -184,7 +194,7 @@ public class ReadableWritableChannelHandler implements IURLProtocolHandler
     try
     {
       ReadableByteChannel channel = (ReadableByteChannel) mOpenStream;
-      ByteBuffer buffer = ByteBuffer.allocate(size);
+      ByteBuffer buffer = getBuffer(size);
       ret = channel.read(buffer);
       if (ret > 0) {
         buffer.flip();
@@ -203,12 +213,44 @@ public class ReadableWritableChannelHandler implements IURLProtocolHandler
   /**
    * {@inheritDoc}
    * 
-   * This method is not supported on this class and always return -1;
+   * This method is only supported if the open channel is a
+   * {@link FileChannel}; otherwise it always returns -1.
    */
 
   public long seek(long offset, int whence)
   {
-    return -1;
+    if (!(mOpenStream instanceof FileChannel))
+      return -1;
+
+    FileChannel channel = (FileChannel) mOpenStream;
+    try
+    {
+      final long seek;
+      if (whence == SEEK_SET)
+        seek = offset;
+      else if (whence == SEEK_CUR)
+        seek = channel.position() + offset;
+      else if (whence == SEEK_END)
+        seek = channel.size() + offset;
+      else if (whence == SEEK_SIZE)
+        return channel.size();
+      else
+      {
+        log.error("invalid seek value \"{}\" for channel: {}", whence,
+            channel);
+        return -1;
+      }
+      if (seek < 0)
+        return -1;
+      channel.position(seek);
+      return seek;
+    }
+    catch (IOException e)
+    {
+      log.error("Got IO exception seeking in channel: {}; {}",
+          channel, e);
+      return -1;
+    }
   }
 
   /**
@@ -224,7 +266,7 @@ public class ReadableWritableChannelHandler implements IURLProtocolHandler
     try
     {
       WritableByteChannel channel = (WritableByteChannel) mOpenStream;
-      ByteBuffer buffer = ByteBuffer.allocate(size);
+      ByteBuffer buffer = getBuffer(size);
       buffer.put(buf, 0, size);
       buffer.flip();
       return channel.write(buffer);
@@ -238,12 +280,79 @@ public class ReadableWritableChannelHandler implements IURLProtocolHandler
 
   /**
    * {@inheritDoc}
-   * Always true for this class. 
+   * 
+   * Reads straight from the channel into FFMPEG's buffer.
+   */
+
+  public int read(ByteBuffer buf, int size)
+  {
+    if (mOpenStream == null || !(mOpenStream instanceof ReadableByteChannel))
+      return -1;
+
+    try
+    {
+      return ((ReadableByteChannel) mOpenStream).read(buf);
+    }
+    catch (IOException e)
+    {
+      log.error("Got IO exception reading from channel: {}; {}",
+          mOpenStream, e);
+      return -1;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * Writes straight from FFMPEG's buffer to the channel.
+   */
+
+  public int write(ByteBuffer buf, int size)
+  {
+    if (mOpenStream == null ||
+        !(mOpenStream instanceof WritableByteChannel))
+      return -1;
+
+    try
+    {
+      return ((WritableByteChannel) mOpenStream).write(buf);
+    }
+    catch (IOException e)
+    {
+      log.error("Got error writing to file: {}; {}", mOpenStream, e);
+      return -1;
+    }
+  }
+
+  /**
+   * Get the buffer byte array reads and writes go through, cleared and
+   * with its limit set to size.
+   * 
+   * @param size the number of bytes needed
+   * @return the buffer
+   */
+
+  private ByteBuffer getBuffer(int size)
+  {
+    if (mBuffer == null || mBuffer.capacity() < size)
+      mBuffer = ByteBuffer.allocateDirect(size);
+    mBuffer.clear();
+    mBuffer.limit(size);
+    return mBuffer;
+  }
+
+  /**
+   * {@inheritDoc}
+   * True unless the open channel, or the channel for the given mode
+   * if not yet open, is a {@link FileChannel}.
    */
 
   public boolean isStreamed(String url, int flags)
   {
-    return true;
+    Channel channel = mOpenStream;
+    if (channel == null)
+      channel = flags == URL_WRONLY_MODE ? mWriteChannel : mReadChannel;
+    return !(channel instanceof FileChannel);
   }
   /**
    * Returns the channel we'd input from if asked.
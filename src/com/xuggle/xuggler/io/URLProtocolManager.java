@@ -30,6 +30,7 @@ import com.xuggle.xuggler.io.FfmpegIO;
 import com.xuggle.xuggler.io.FileProtocolHandlerFactory;
 import com.xuggle.xuggler.io.IURLProtocolHandler;
 import com.xuggle.xuggler.io.IURLProtocolHandlerFactory;
+import com.xuggle.xuggler.io.MappedFileProtocolHandlerFactory;
 import com.xuggle.xuggler.io.NullProtocolHandlerFactory;
 import com.xuggle.xuggler.io.URLProtocolManager;
 
@@ -52,6 +53,11 @@ public class URLProtocolManager
 
   public static final String DEFAULT_PROTOCOL = "xugglerfile";
   public static final String NULL_PROTOCOL = "xugglernull";
+  /**
+   * The protocol {@link MappedFileProtocolHandlerFactory} is registered
+   * under: {@value}.
+   */
+  public static final String MAPPED_PROTOCOL = "xugglermapped";
   
   private static final URLProtocolManager sManager = new URLProtocolManager();
 
@@ -82,6 +88,8 @@ public class URLProtocolManager
     registerFactory(DEFAULT_PROTOCOL, new FileProtocolHandlerFactory());
     // And the NULL protocols
     registerFactory(NULL_PROTOCOL, new NullProtocolHandlerFactory());        
+    // And memory mapped local files
+    registerFactory(MAPPED_PROTOCOL, new MappedFileProtocolHandlerFactory());
   }
 
   /**
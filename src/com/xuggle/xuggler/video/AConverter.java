@@ -20,8 +20,11 @@
 package com.xuggle.xuggler.video;
 
 import java.awt.image.BufferedImage;
+import java.util.concurrent.Executor;
+
 import com.xuggle.xuggler.IVideoPicture;
 import com.xuggle.xuggler.IVideoResampler;
+import com.xuggle.xuggler.VideoResamplerCache;
 import com.xuggle.xuggler.IPixelFormat;
 
 /** An abstract converter class from which specific converters can be
@@ -127,18 +130,24 @@ abstract public class AConverter implements IConverter
           "Color space conversion is not supported by this version of" +
           "Xuggler.  Recompile Xuggler with the GPL option enabled.");
 
-      mToImageResampler = IVideoResampler.make(
+      // get the resamplers from the shared cache, cut into slices to
+      // resample in parallel if asked to
+
+      VideoResamplerCache cache = VideoResamplerCache.getDefault();
+      int numThreads = ConverterFactory.getResampleThreads();
+
+      mToImageResampler = cache.acquire(
         imageWidth, imageHeight, requiredPictureType,
-        mPictureWidth, mPictureHeight, pictureType);
+        mPictureWidth, mPictureHeight, pictureType, numThreads);
       
       if (mToImageResampler == null)
         throw new RuntimeException(
           "1 Could not create could resampler to translate from " + 
           pictureType + " to " + requiredPictureType + ".");
 
-      mToPictureResampler = IVideoResampler.make(
+      mToPictureResampler = cache.acquire(
         mPictureWidth, mPictureHeight, pictureType,
-        imageWidth, imageHeight, requiredPictureType);
+        imageWidth, imageHeight, requiredPictureType, numThreads);
       
       if (mToPictureResampler == null)
         throw new RuntimeException(
@@ -209,9 +218,12 @@ abstract public class AConverter implements IConverter
       resampler.getOutputWidth(),
       resampler.getOutputHeight());
 
-    // resample
+    // resample, in slices on the shared pool if the resampler is sliced
 
-    if (resampler.resample(picture2, picture1) < 0)
+    Executor executor = resampler.getNumSlices() > 1
+      ? ConverterFactory.getResampleExecutor()
+      : null;
+    if (resampler.resample(picture2, picture1, executor) < 0)
       throw new RuntimeException(
         "could not resample from " + resampler.getInputPixelFormat() +
         " to " + resampler.getOutputPixelFormat() + 
@@ -315,13 +327,18 @@ abstract public class AConverter implements IConverter
     return getDescription();
   }
 
+  /**
+   * Give this converter's resamplers back to the shared
+   * {@link VideoResamplerCache}.  The converter must not be used
+   * afterwards.
+   */
+
   public void close()
   {
-    if (mToPictureResampler != null)
-      mToPictureResampler.delete();
+    VideoResamplerCache cache = VideoResamplerCache.getDefault();
+    cache.release(mToPictureResampler);
     mToPictureResampler = null;
-    if (mToImageResampler != null)
-      mToImageResampler.delete();
+    cache.release(mToImageResampler);
     mToImageResampler = null;
   }
 
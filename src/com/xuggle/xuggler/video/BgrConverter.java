@@ -37,10 +37,23 @@ import java.awt.image.Raster;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 /** A converter to translate {@link IVideoPicture}s to and from
- * {@link BufferedImage}s of type {@link BufferedImage#TYPE_3BYTE_BGR}. */
+ * {@link BufferedImage}s of type {@link BufferedImage#TYPE_3BYTE_BGR}.
+ *
+ * <p>
+ *
+ * By default {@link #toImage(IVideoPicture)} returns a new {@link
+ * BufferedImage} for every call.  If {@link #setImagePoolSize(int)} is
+ * set to a positive value, the converter instead keeps that many
+ * images per image size and fills them in turn, so that once the pool
+ * is full no image memory is allocated at all.
+ *
+ * </p>
+ */
 
 public class BgrConverter extends AConverter
 {
@@ -53,6 +66,55 @@ public class BgrConverter extends AConverter
   private static final ColorSpace mColorSpace = 
     ColorSpace.getInstance(ColorSpace.CS_sRGB);
 
+  // color model for all images made by this converter; color models
+  // are immutable so one can be shared by every image
+
+  private static final ColorModel mColorModel = new ComponentColorModel(
+    mColorSpace, false, false, ColorModel.OPAQUE, DataBuffer.TYPE_BYTE);
+
+  // the sample model for the last image size seen; also immutable
+
+  private SampleModel mSampleModel = null;
+
+  // number of images to recycle per image size; 0 disables pooling
+
+  private int mImagePoolSize = 0;
+
+  // a map between image sizes and the pooled images of that size
+
+  private final Map<Long, ImagePool> mImagePools =
+    new HashMap<Long, ImagePool>();
+
+  /**
+   * A fixed size ring of images of one size that are filled in turn.
+   */
+
+  private static class ImagePool
+  {
+    private final BufferedImage[] mImages;
+    private int mNext = 0;
+
+    ImagePool(int size)
+    {
+      mImages = new BufferedImage[size];
+    }
+
+    // get the image in the next slot, which may be null
+
+    BufferedImage peek()
+    {
+      return mImages[mNext];
+    }
+
+    // put an image in the next slot, and move on to the slot after it
+
+    void fill(BufferedImage image)
+    {
+      mImages[mNext] = image;
+      mNext = (mNext + 1) % mImages.length;
+    }
+  }
+
   /** Construct as converter to translate {@link IVideoPicture}s to and
    * from {@link BufferedImage}s of type {@link
    * BufferedImage#TYPE_3BYTE_BGR}.
@@ -73,6 +135,54 @@ public class BgrConverter extends AConverter
       pictureHeight, imageWidth, imageHeight);
   }
 
+  /**
+   * Sets how many {@link BufferedImage}s of each size this converter
+   * recycles.
+   *
+   * <p>
+   *
+   * If 0 (the default), {@link #toImage(IVideoPicture)} returns a new
+   * image every call, which the caller owns.
+   *
+   * </p>
+   * <p>
+   *
+   * If positive, {@link #toImage(IVideoPicture)} returns pooled images,
+   * which are overwritten once <code>poolSize</code> more images of the
+   * same size have been converted.  Callers that need an image for
+   * longer than that must copy it.
+   *
+   * </p>
+   *
+   * @param poolSize the number of images to pool per image size, or 0
+   *        to disable pooling.
+   *
+   * @throws IllegalArgumentException if poolSize &lt; 0
+   */
+
+  public void setImagePoolSize(int poolSize)
+  {
+    if (poolSize < 0)
+      throw new IllegalArgumentException("pool size must be >= 0");
+    if (poolSize != mImagePoolSize)
+      mImagePools.clear();
+    mImagePoolSize = poolSize;
+  }
+
+  /**
+   * Get the number of {@link BufferedImage}s of each size this converter
+   * recycles.
+   *
+   * @return the pool size, or 0 if pooling is disabled.
+   *
+   * @see #setImagePoolSize(int)
+   */
+
+  public int getImagePoolSize()
+  {
+    return mImagePoolSize;
+  }
+
   /** {@inheritDoc} */
 
   public IVideoPicture toPicture(BufferedImage image, long timestamp)
@@ -175,33 +285,17 @@ public class BgrConverter extends AConverter
     final int w = picture.getWidth();
     final int h = picture.getHeight();
     
-    // make a copy of the raw bytes int a DataBufferByte which the
-    // writable raster can operate on
+    // make a copy of the raw bytes into the image's byte array, with
+    // a single bulk copy
 
     final ByteBuffer byteBuf = picture.getByteBuffer(ref);
-    final byte[] bytes = new byte[picture.getSize()];
-    byteBuf.get(bytes, 0, bytes.length);
-   
-    // create the data buffer from the bytes
-    
-    final DataBufferByte db = new DataBufferByte(bytes, bytes.length);
-    
-    // create an a sample model which matches the byte layout of the
-    // image data and raster which contains the data which now can be
-    // properly interpreted
-    
-    final SampleModel sm = new PixelInterleavedSampleModel(
-      db.getDataType(), w, h, 3, 3 * w, mBandOffsets);
-    final WritableRaster wr = Raster.createWritableRaster(sm, db, null);
-    
-    // create a color model
-    
-    final ColorModel colorModel = new ComponentColorModel(
-      mColorSpace, false, false, ColorModel.OPAQUE, db.getDataType());
-    
-    // return a new image created from the color model and raster
-    
-    return new BufferedImage(colorModel, wr, false, null);
+    final int size = picture.getSize();
+    final BufferedImage image = getImage(w, h, size);
+    final byte[] bytes = 
+      ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+    byteBuf.get(bytes, 0, size);
+
+    return image;
     }
     finally
     {
@@ -212,8 +306,63 @@ public class BgrConverter extends AConverter
     }
   }
 
+  /**
+   * Get an image to convert into, either a pooled one or a new one.
+   *
+   * @param w the width of the image
+   * @param h the height of the image
+   * @param size the number of bytes the image must hold
+   */
+
+  private BufferedImage getImage(int w, int h, int size)
+  {
+    ImagePool pool = null;
+    BufferedImage image = null;
+    if (mImagePoolSize > 0)
+    {
+      final Long key = (((long) w) << 32) | (h & 0xFFFFFFFFL);
+      pool = mImagePools.get(key);
+      if (pool == null)
+      {
+        pool = new ImagePool(mImagePoolSize);
+        mImagePools.put(key, pool);
+      }
+      image = pool.peek();
+      if (image != null && ((DataBufferByte) image.getRaster()
+          .getDataBuffer()).getData().length == size)
+      {
+        pool.fill(image);
+        return image;
+      }
+    }
+
+    // create the data buffer to hold the bytes
+
+    final DataBufferByte db = new DataBufferByte(size);
+
+    // create an a sample model which matches the byte layout of the
+    // image data and raster which contains the data which now can be
+    // properly interpreted
+
+    if (mSampleModel == null
+        || mSampleModel.getWidth() != w
+        || mSampleModel.getHeight() != h)
+      mSampleModel = new PixelInterleavedSampleModel(
+        db.getDataType(), w, h, 3, 3 * w, mBandOffsets);
+    final WritableRaster wr = Raster.createWritableRaster(mSampleModel,
+      db, null);
+
+    // create a new image from the color model and raster
+
+    image = new BufferedImage(mColorModel, wr, false, null);
+    if (pool != null)
+      pool.fill(image);
+    return image;
+  }
+
   public void delete()
   {
+    mImagePools.clear();
     super.close();
   }
 }
@@ -23,6 +23,11 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -85,6 +90,12 @@ public class ConverterFactory
   
   private static Map<String, Type> mConverterTypes = new HashMap<String, Type>();
 
+  // the number of threads converters resample on, and the pool they
+  // share to do it
+
+  private static int mResampleThreads = 1;
+  private static ExecutorService mResampleExecutor = null;
+
   // register the known converters
 
   static
@@ -380,6 +391,86 @@ public class ConverterFactory
     return converter;
   }
 
+  /**
+   * Set the number of threads converters created from now on split
+   * each resample across.  By default this is 1, and converters
+   * resample on the calling thread only.
+   * <p>
+   * With more than one thread, a converter's {@link IVideoResampler}s
+   * cut each picture into that many horizontal slices (see {@link
+   * IVideoResampler#setNumSlices(int)}).  The calling thread resamples
+   * one slice, and the rest are resampled on a worker pool shared by
+   * all converters.  This pays off for large pictures, where color
+   * space conversion can otherwise take longer than decoding.
+   * </p>
+   *
+   * @param numThreads the number of threads to resample on; must be
+   *        at least 1
+   *
+   * @throws IllegalArgumentException if numThreads is less than 1
+   */
+
+  public static synchronized void setResampleThreads(int numThreads)
+  {
+    if (numThreads < 1)
+      throw new IllegalArgumentException("need at least one thread");
+    if (numThreads == mResampleThreads)
+      return;
+
+    // let anything already queued on the old pool finish
+
+    if (mResampleExecutor != null)
+      mResampleExecutor.shutdown();
+    mResampleExecutor = null;
+    mResampleThreads = numThreads;
+  }
+
+  /**
+   * Get the number of threads converters created from now on split
+   * each resample across.
+   *
+   * @return the number of threads
+   *
+   * @see #setResampleThreads(int)
+   */
+
+  public static synchronized int getResampleThreads()
+  {
+    return mResampleThreads;
+  }
+
+  /**
+   * Get the worker pool converters resample slices on, creating it if
+   * needed.
+   *
+   * @return the pool, or null if {@link #getResampleThreads()} is 1
+   */
+
+  static synchronized Executor getResampleExecutor()
+  {
+    if (mResampleThreads <= 1)
+      return null;
+    if (mResampleExecutor == null)
+    {
+      // the calling thread resamples one slice itself
+
+      mResampleExecutor = Executors.newFixedThreadPool(mResampleThreads - 1,
+        new ThreadFactory()
+        {
+          private final AtomicInteger mCount = new AtomicInteger();
+
+          public Thread newThread(Runnable runnable)
+          {
+            Thread thread = new Thread(runnable,
+              "xuggler-resampler-" + mCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+    }
+    return mResampleExecutor;
+  }
+
 
   /**
    * This class describes a converter type and is used to register and
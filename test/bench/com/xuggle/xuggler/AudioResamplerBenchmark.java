@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the cost of {@link IAudioResampler#resample} on one MP3
+ * sized frame of 44.1 kHz stereo audio.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AudioResamplerBenchmark
+{
+  private static final int INPUT_RATE = 44100;
+  private static final int INPUT_CHANNELS = 2;
+  private static final int INPUT_SAMPLES = 1152;
+
+  @Param({"22050", "48000"})
+  int outputRate;
+
+  @Param({"1", "2"})
+  int outputChannels;
+
+  private IAudioResampler mResampler;
+  private IAudioSamples mInput;
+  private IAudioSamples mOutput;
+  private long mNextPts = 0;
+
+  @Setup
+  public void setUp()
+  {
+    mResampler = IAudioResampler.make(outputChannels, INPUT_CHANNELS,
+        outputRate, INPUT_RATE);
+    mInput = IAudioSamples.make(INPUT_SAMPLES, INPUT_CHANNELS);
+    for(int i = 0; i < INPUT_SAMPLES; i++)
+    {
+      // a 440 Hz tone
+      int sample = (int) (Short.MAX_VALUE / 2 *
+          Math.sin(2 * Math.PI * 440 * i / INPUT_RATE));
+      for(int c = 0; c < INPUT_CHANNELS; c++)
+        mInput.setSample(i, c, IAudioSamples.Format.FMT_S16, sample);
+    }
+    // room for the resampled input plus whatever the resampler buffers
+    mOutput = IAudioSamples.make(
+        2 * INPUT_SAMPLES * outputRate / INPUT_RATE + 64, outputChannels);
+  }
+
+  @TearDown
+  public void tearDown()
+  {
+    mOutput.delete();
+    mInput.delete();
+    mResampler.delete();
+  }
+
+  @Benchmark
+  public int resample()
+  {
+    mInput.setComplete(true, INPUT_SAMPLES, INPUT_RATE, INPUT_CHANNELS,
+        IAudioSamples.Format.FMT_S16, mNextPts);
+    mNextPts += INPUT_SAMPLES * 1000000L / INPUT_RATE;
+    int retval = mResampler.resample(mOutput, mInput, INPUT_SAMPLES);
+    if (retval < 0)
+      throw new RuntimeException("could not resample");
+    return retval;
+  }
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixtures and set up shared by the benchmarks.  All file names are
+ * relative to the directory the fixtures are installed in, which is
+ * where the benchmarks are run from.
+ */
+
+public class BenchmarkHelper
+{
+  /** An H.264 video and AAC audio file. */
+  public static final String H264_AAC_FILE = "fixtures/ucl_h264_aac.mp4";
+
+  /** An MPEG1 video and MP2 audio file. */
+  public static final String MPEG1_MP2_FILE =
+    "fixtures/testfile_mpeg1video_mp2audio.mpg";
+
+  /** An audio only MP3 file. */
+  public static final String MP3_FILE = "fixtures/testfile.mp3";
+
+  private BenchmarkHelper()
+  {
+  }
+
+  /**
+   * Open a file for reading.
+   *
+   * @param file the file
+   * @return the open container
+   * @throws RuntimeException if the file cannot be opened
+   */
+
+  public static IContainer openContainer(String file)
+  {
+    IContainer container = IContainer.make();
+    if (container.open(file, IContainer.Type.READ, null) < 0)
+      throw new RuntimeException("could not open: " + file);
+    return container;
+  }
+
+  /**
+   * Seek a container back to its first packet.
+   *
+   * @param container the container
+   */
+
+  public static void rewind(IContainer container)
+  {
+    if (container.seekKeyFrame(-1, Long.MIN_VALUE, 0, Long.MAX_VALUE,
+        IContainer.SEEK_FLAG_BACKWARDS) < 0)
+      throw new RuntimeException("could not rewind: " + container.getURL());
+  }
+
+  /**
+   * Find the first stream of a given type.
+   *
+   * @param container the container
+   * @param type the codec type
+   * @return the stream index
+   * @throws RuntimeException if there is no such stream
+   */
+
+  public static int findStream(IContainer container, ICodec.Type type)
+  {
+    for(int i = 0; i < container.getNumStreams(); i++)
+    {
+      IStream stream = container.getStream(i);
+      IStreamCoder coder = stream.getStreamCoder();
+      try
+      {
+        if (coder.getCodecType() == type)
+          return i;
+      }
+      finally
+      {
+        coder.delete();
+        stream.delete();
+      }
+    }
+    throw new RuntimeException("no " + type + " stream in: "
+        + container.getURL());
+  }
+
+  /**
+   * Read copies of all packets in one stream of a file.
+   *
+   * @param container the container, which is left at end of file
+   * @param streamIndex the stream
+   * @param maxPackets the most packets to read
+   * @return the packets, which the caller must delete
+   */
+
+  public static List<IPacket> readPackets(IContainer container,
+      int streamIndex, int maxPackets)
+  {
+    List<IPacket> packets = new ArrayList<IPacket>();
+    IPacket packet = IPacket.make();
+    try
+    {
+      while (packets.size() < maxPackets &&
+          container.readNextPacket(packet) >= 0)
+        if (packet.getStreamIndex() == streamIndex)
+          packets.add(IPacket.make(packet, true));
+    }
+    finally
+    {
+      packet.delete();
+    }
+    if (packets.isEmpty())
+      throw new RuntimeException("no packets in stream " + streamIndex);
+    return packets;
+  }
+
+  /**
+   * Decode up to a given number of pictures from the first video stream
+   * of a file.
+   *
+   * @param file the file
+   * @param maxPictures the most pictures to decode
+   * @return the pictures, which the caller must delete
+   */
+
+  public static List<IVideoPicture> decodePictures(String file,
+      int maxPictures)
+  {
+    List<IVideoPicture> pictures = new ArrayList<IVideoPicture>();
+    IContainer container = openContainer(file);
+    try
+    {
+      int streamIndex = findStream(container, ICodec.Type.CODEC_TYPE_VIDEO);
+      IStream stream = container.getStream(streamIndex);
+      IStreamCoder coder = stream.getStreamCoder();
+      stream.delete();
+      if (coder.open(null, null) < 0)
+        throw new RuntimeException("could not open decoder for: " + file);
+      IPacket packet = IPacket.make();
+      try
+      {
+        while (pictures.size() < maxPictures &&
+            container.readNextPacket(packet) >= 0)
+        {
+          if (packet.getStreamIndex() != streamIndex)
+            continue;
+          IVideoPicture picture = IVideoPicture.make(coder.getPixelType(),
+              coder.getWidth(), coder.getHeight());
+          if (coder.decodeVideo(picture, packet, 0) >= 0 &&
+              picture.isComplete())
+            pictures.add(picture);
+          else
+            picture.delete();
+        }
+      }
+      finally
+      {
+        packet.delete();
+        coder.close();
+        coder.delete();
+      }
+    }
+    finally
+    {
+      container.close();
+      container.delete();
+    }
+    if (pictures.isEmpty())
+      throw new RuntimeException("no pictures decoded from: " + file);
+    return pictures;
+  }
+
+  /**
+   * Delete all the native objects in a list.
+   *
+   * @param objects the objects
+   */
+
+  public static void deleteAll(List<? extends IMediaData> objects)
+  {
+    for(IMediaData object : objects)
+      object.delete();
+    objects.clear();
+  }
+}
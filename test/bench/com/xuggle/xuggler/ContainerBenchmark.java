@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the cost of demuxing one packet with
+ * {@link IContainer#readNextPacket(IPacket)}.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContainerBenchmark
+{
+  // the fixture to read, relative to the test output directory
+
+  @Param({
+    BenchmarkHelper.H264_AAC_FILE,
+    BenchmarkHelper.MPEG1_MP2_FILE,
+    BenchmarkHelper.MP3_FILE
+  })
+  String file;
+
+  private IContainer mContainer;
+  private IPacket mPacket;
+
+  @Setup
+  public void setUp()
+  {
+    mContainer = BenchmarkHelper.openContainer(file);
+    mPacket = IPacket.make();
+  }
+
+  @TearDown
+  public void tearDown()
+  {
+    mPacket.delete();
+    mContainer.close();
+    mContainer.delete();
+  }
+
+  @Benchmark
+  public int readNextPacket()
+  {
+    if (mContainer.readNextPacket(mPacket) < 0)
+    {
+      // start over; rare enough not to matter
+      BenchmarkHelper.rewind(mContainer);
+      if (mContainer.readNextPacket(mPacket) < 0)
+        throw new RuntimeException("could not read from: " + file);
+    }
+    return mPacket.getSize();
+  }
+}
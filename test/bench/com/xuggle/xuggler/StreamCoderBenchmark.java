@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the per frame cost of {@link IStreamCoder#decodeVideo} and
+ * {@link IStreamCoder#encodeVideo}, single threaded and with one thread
+ * per CPU.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamCoderBenchmark
+{
+  // the most packets or pictures held in memory
+
+  private static final int MAX_FRAMES = 250;
+
+  /**
+   * Packets from a video stream, and a decoder to decode them with.
+   */
+
+  @State(Scope.Thread)
+  public static class DecodeState
+  {
+    @Param({
+      BenchmarkHelper.H264_AAC_FILE,
+      BenchmarkHelper.MPEG1_MP2_FILE
+    })
+    String file;
+
+    @Param({"1", "0"})
+    int numThreads;
+
+    private List<IPacket> mPackets;
+    private IStreamCoder mCoder;
+    private IVideoPicture mPicture;
+    private int mNext = 0;
+
+    @Setup
+    public void setUp()
+    {
+      IContainer container = BenchmarkHelper.openContainer(file);
+      try
+      {
+        int streamIndex = BenchmarkHelper.findStream(container,
+            ICodec.Type.CODEC_TYPE_VIDEO);
+        IStream stream = container.getStream(streamIndex);
+        mCoder = stream.getStreamCoder();
+        stream.delete();
+        mCoder.setNumThreads(numThreads);
+        if (mCoder.open(null, null) < 0)
+          throw new RuntimeException("could not open decoder for: " + file);
+        mPackets = BenchmarkHelper.readPackets(container, streamIndex,
+            MAX_FRAMES);
+      }
+      finally
+      {
+        container.close();
+        container.delete();
+      }
+      mPicture = IVideoPicture.make(mCoder.getPixelType(), mCoder.getWidth(),
+          mCoder.getHeight());
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+      BenchmarkHelper.deleteAll(mPackets);
+      mPicture.delete();
+      mCoder.close();
+      mCoder.delete();
+    }
+
+    IPacket nextPacket()
+    {
+      IPacket packet = mPackets.get(mNext);
+      mNext = (mNext + 1) % mPackets.size();
+      return packet;
+    }
+  }
+
+  /**
+   * Decoded pictures, and an encoder to encode them with.
+   */
+
+  @State(Scope.Thread)
+  public static class EncodeState
+  {
+    @Param({"CODEC_ID_MPEG4", "CODEC_ID_H264"})
+    String codec;
+
+    @Param({"1", "0"})
+    int numThreads;
+
+    private List<IVideoPicture> mPictures;
+    private IStreamCoder mCoder;
+    private IPacket mPacket;
+    private int mNext = 0;
+    private long mNextTimeStamp = 0;
+
+    @Setup
+    public void setUp()
+    {
+      mPictures = BenchmarkHelper.decodePictures(
+          BenchmarkHelper.H264_AAC_FILE, MAX_FRAMES);
+      IVideoPicture first = mPictures.get(0);
+
+      mCoder = IStreamCoder.make(IStreamCoder.Direction.ENCODING,
+          ICodec.ID.valueOf(codec));
+      if (mCoder == null)
+        throw new RuntimeException("no encoder for: " + codec);
+      mCoder.setWidth(first.getWidth());
+      mCoder.setHeight(first.getHeight());
+      mCoder.setPixelType(first.getPixelType());
+      IRational timeBase = IRational.make(1, 25);
+      IRational frameRate = IRational.make(25, 1);
+      mCoder.setTimeBase(timeBase);
+      mCoder.setFrameRate(frameRate);
+      timeBase.delete();
+      frameRate.delete();
+      mCoder.setBitRate(1000000);
+      mCoder.setNumPicturesInGroupOfPictures(25);
+      mCoder.setNumThreads(numThreads);
+      if (mCoder.open(null, null) < 0)
+        throw new RuntimeException("could not open encoder for: " + codec);
+      mPacket = IPacket.make();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+      BenchmarkHelper.deleteAll(mPictures);
+      mPacket.delete();
+      mCoder.close();
+      mCoder.delete();
+    }
+
+    IVideoPicture nextPicture()
+    {
+      IVideoPicture picture = mPictures.get(mNext);
+      mNext = (mNext + 1) % mPictures.size();
+
+      // pictures are reused, but the encoder wants time to move forward
+      picture.setTimeStamp(mNextTimeStamp);
+      mNextTimeStamp += 40000;
+      return picture;
+    }
+  }
+
+  @Benchmark
+  public boolean decodeVideo(DecodeState state)
+  {
+    IPacket packet = state.nextPacket();
+    if (state.mCoder.decodeVideo(state.mPicture, packet, 0) < 0)
+      throw new RuntimeException("could not decode: " + packet);
+    return state.mPicture.isComplete();
+  }
+
+  @Benchmark
+  public int encodeVideo(EncodeState state)
+  {
+    if (state.mCoder.encodeVideo(state.mPacket, state.nextPicture(), 0) < 0)
+      throw new RuntimeException("could not encode");
+    return state.mPacket.getSize();
+  }
+}
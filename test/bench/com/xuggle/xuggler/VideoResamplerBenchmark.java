@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the per picture cost of {@link IVideoResampler#resample}
+ * converting a decoded picture to another pixel format, with and
+ * without scaling.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VideoResamplerBenchmark
+{
+  @Param({"BGR24", "ARGB", "YUV420P"})
+  String outputType;
+
+  // output size as a fraction of the input size
+
+  @Param({"1", "0.5"})
+  double scale;
+
+  private List<IVideoPicture> mInput;
+  private IVideoPicture mOutput;
+  private IVideoResampler mResampler;
+
+  @Setup
+  public void setUp()
+  {
+    if (!IVideoResampler.isSupported(
+        IVideoResampler.Feature.FEATURE_COLORSPACECONVERSION))
+      throw new RuntimeException("no colorspace conversion in this build");
+    mInput = BenchmarkHelper.decodePictures(BenchmarkHelper.H264_AAC_FILE, 1);
+    IVideoPicture in = mInput.get(0);
+    int width = (int) (in.getWidth() * scale);
+    int height = (int) (in.getHeight() * scale);
+    IPixelFormat.Type type = IPixelFormat.Type.valueOf(outputType);
+    mResampler = IVideoResampler.make(width, height, type,
+        in.getWidth(), in.getHeight(), in.getPixelType());
+    mOutput = IVideoPicture.make(type, width, height);
+  }
+
+  @TearDown
+  public void tearDown()
+  {
+    BenchmarkHelper.deleteAll(mInput);
+    mOutput.delete();
+    mResampler.delete();
+  }
+
+  @Benchmark
+  public boolean resample()
+  {
+    if (mResampler.resample(mOutput, mInput.get(0)) < 0)
+      throw new RuntimeException("could not resample");
+    return mOutput.isComplete();
+  }
+}
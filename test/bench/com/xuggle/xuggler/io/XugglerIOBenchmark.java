@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.xuggle.xuggler.BenchmarkHelper;
+import com.xuggle.xuggler.IContainer;
+import com.xuggle.xuggler.IPacket;
+
+/**
+ * Measures reading through the Java {@link IURLProtocolHandler}s that
+ * {@link XugglerIO} maps, both a raw read called from native code and
+ * demuxing a packet from a container opened on the handler.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class XugglerIOBenchmark
+{
+  /**
+   * Make a URL for a new handler reading a file.
+   *
+   * @param source the kind of handler: file, stream or channel
+   * @param file the file to read
+   */
+
+  private static String map(String source, String file)
+  {
+    try
+    {
+      if ("file".equals(source))
+        return XugglerIO.map(new FileProtocolHandler(new File(file)));
+      else if ("stream".equals(source))
+        return XugglerIO.map(new FileInputStream(file));
+      else if ("channel".equals(source))
+        return XugglerIO.map(new FileInputStream(file).getChannel());
+      throw new IllegalArgumentException("unknown source: " + source);
+    }
+    catch (FileNotFoundException e)
+    {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * An open native handle reading a file through a handler.
+   */
+
+  @State(Scope.Thread)
+  public static class ReadState
+  {
+    @Param({"file", "stream", "channel"})
+    String source;
+
+    @Param({"4096", "32768"})
+    int bufferSize;
+
+    private FfmpegIOHandle mHandle;
+    private byte[] mBuffer;
+
+    @Setup
+    public void setUp()
+    {
+      mBuffer = new byte[bufferSize];
+      open();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+      FfmpegIO.url_close(mHandle);
+    }
+
+    void open()
+    {
+      mHandle = new FfmpegIOHandle();
+      if (FfmpegIO.url_open(mHandle,
+          map(source, BenchmarkHelper.H264_AAC_FILE),
+          IURLProtocolHandler.URL_RDONLY_MODE) < 0)
+        throw new RuntimeException("could not open: " + source);
+    }
+
+    int read()
+    {
+      int retval = FfmpegIO.url_read(mHandle, mBuffer, mBuffer.length);
+      if (retval <= 0)
+      {
+        // start over; not every handler can seek
+        FfmpegIO.url_close(mHandle);
+        open();
+        retval = FfmpegIO.url_read(mHandle, mBuffer, mBuffer.length);
+      }
+      return retval;
+    }
+  }
+
+  /**
+   * A container reading a file through a handler.
+   */
+
+  @State(Scope.Thread)
+  public static class DemuxState
+  {
+    @Param({"file", "stream", "channel"})
+    String source;
+
+    private IContainer mContainer;
+    private IPacket mPacket;
+
+    @Setup
+    public void setUp()
+    {
+      mPacket = IPacket.make();
+      open();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+      close();
+      mPacket.delete();
+    }
+
+    void open()
+    {
+      mContainer = BenchmarkHelper.openContainer(map(source,
+          BenchmarkHelper.H264_AAC_FILE));
+    }
+
+    void close()
+    {
+      mContainer.close();
+      mContainer.delete();
+    }
+
+    int readNextPacket()
+    {
+      if (mContainer.readNextPacket(mPacket) < 0)
+      {
+        // start over; not every handler can seek
+        close();
+        open();
+        if (mContainer.readNextPacket(mPacket) < 0)
+          throw new RuntimeException("could not read from: " + source);
+      }
+      return mPacket.getSize();
+    }
+  }
+
+  @Benchmark
+  public int read(ReadState state)
+  {
+    return state.read();
+  }
+
+  @Benchmark
+  public int readNextPacket(DemuxState state)
+  {
+    return state.readNextPacket();
+  }
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler.video;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.xuggle.xuggler.BenchmarkHelper;
+import com.xuggle.xuggler.IPixelFormat;
+import com.xuggle.xuggler.IVideoPicture;
+import com.xuggle.xuggler.IVideoResampler;
+
+/**
+ * Measures the per frame cost of {@link BgrConverter} and {@link
+ * ArgbConverter}, both straight from a decoded picture, which needs a
+ * resample, and from a picture already in the converter's pixel type.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConverterBenchmark
+{
+  @Param({"BGR24", "ARGB"})
+  String converterType;
+
+  @Param({"true", "false"})
+  boolean resample;
+
+  private IConverter mConverter;
+  private List<IVideoPicture> mDecoded;
+  private IVideoPicture mPicture;
+  private BufferedImage mImage;
+  private long mNextTimeStamp = 0;
+
+  @Setup
+  public void setUp()
+  {
+    mDecoded = BenchmarkHelper.decodePictures(BenchmarkHelper.H264_AAC_FILE,
+        1);
+    IVideoPicture decoded = mDecoded.get(0);
+    final int w = decoded.getWidth();
+    final int h = decoded.getHeight();
+    IPixelFormat.Type type = IPixelFormat.Type.valueOf(converterType);
+
+    if (resample)
+      mPicture = decoded.copyReference();
+    else
+    {
+      IVideoResampler resampler = IVideoResampler.make(w, h, type,
+          w, h, decoded.getPixelType());
+      mPicture = IVideoPicture.make(type, w, h);
+      if (resampler.resample(mPicture, decoded) < 0)
+        throw new RuntimeException("could not resample to: " + type);
+      resampler.delete();
+    }
+
+    mConverter = type == IPixelFormat.Type.ARGB
+      ? new ArgbConverter(mPicture.getPixelType(), w, h, w, h)
+      : new BgrConverter(mPicture.getPixelType(), w, h, w, h);
+    mImage = mConverter.toImage(mPicture);
+  }
+
+  @TearDown
+  public void tearDown()
+  {
+    mConverter.delete();
+    mPicture.delete();
+    BenchmarkHelper.deleteAll(mDecoded);
+  }
+
+  @Benchmark
+  public BufferedImage toImage()
+  {
+    return mConverter.toImage(mPicture);
+  }
+
+  @Benchmark
+  public boolean toPicture()
+  {
+    IVideoPicture picture = mConverter.toPicture(mImage, mNextTimeStamp++);
+    try
+    {
+      return picture.isComplete();
+    }
+    finally
+    {
+      picture.delete();
+    }
+  }
+}
@@ -18,6 +18,10 @@
  *******************************************************************************/
 package com.xuggle.ferry;
 
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
 import org.junit.Test;
 
 public class JNIMemoryAllocatorTest
@@ -33,4 +37,142 @@ public class JNIMemoryAllocatorTest
     byte[] mem = allocator.malloc(2000);
     allocator.free(mem);
   }
+
+  @Test
+  public void testMallocRoundsUpToSizeClass()
+  {
+    JNIMemoryAllocator allocator = new JNIMemoryAllocator();
+    byte[] mem = allocator.malloc(3000);
+    assertEquals(4096, mem.length);
+    allocator.free(mem);
+
+    // small and huge blocks are not pooled, so are exactly sized
+    mem = allocator.malloc(100);
+    assertEquals(100, mem.length);
+    allocator.free(mem);
+  }
+
+  @Test
+  public void testFreedMemoryIsReused()
+  {
+    JNIMemoryAllocator allocator = new JNIMemoryAllocator();
+    byte[] mem = allocator.malloc(100000);
+    allocator.free(mem);
+    // same size class; should come straight back out of our cache
+    byte[] reused = allocator.malloc(120000);
+    assertSame(mem, reused);
+    allocator.free(reused);
+
+    // and freed blocks are shared between allocators
+    JNIMemoryAllocator other = new JNIMemoryAllocator();
+    assertSame(mem, other.malloc(70000));
+  }
+
+  @Test
+  public void testFreedMemoryIsSharedBetweenThreads()
+    throws InterruptedException
+  {
+    final JNIMemoryAllocator allocator = new JNIMemoryAllocator();
+    final byte[][] mem = new byte[JNIMemoryPool.LOCAL_CACHE_DEPTH+1][];
+    for(int i = 0; i < mem.length; i++)
+      mem[i] = allocator.malloc(50000);
+    Thread freer = new Thread(new Runnable() {
+      public void run()
+      {
+        // more than the thread can cache, so one goes to the shared pool
+        for(int i = 0; i < mem.length; i++)
+          allocator.free(mem[i]);
+      }
+    });
+    freer.start();
+    freer.join();
+    byte[] reused = allocator.malloc(50000);
+    boolean found = false;
+    for(int i = 0; i < mem.length; i++)
+      found |= reused == mem[i];
+    assertTrue(found);
+  }
+
+  @Test
+  public void testNoReuseWhenPoolingOff()
+  {
+    final long maxBytes = JNIMemoryAllocator.getMaxPooledBytes();
+    try {
+      JNIMemoryAllocator.setMaxPooledBytes(0);
+      JNIMemoryAllocator allocator = new JNIMemoryAllocator();
+      byte[] mem = allocator.malloc(100000);
+      allocator.free(mem);
+      assertNotSame(mem, allocator.malloc(100000));
+    } finally {
+      JNIMemoryAllocator.setMaxPooledBytes(maxBytes);
+    }
+  }
+
+  @Test
+  public void testMallocIsExactWhenPoolingOff()
+  {
+    final long maxBytes = JNIMemoryAllocator.getMaxPooledBytes();
+    try {
+      JNIMemoryAllocator.setMaxPooledBytes(0);
+      JNIMemoryAllocator allocator = new JNIMemoryAllocator();
+      byte[] mem = allocator.malloc(3000);
+      assertEquals(3000, mem.length);
+      allocator.free(mem);
+    } finally {
+      JNIMemoryAllocator.setMaxPooledBytes(maxBytes);
+    }
+  }
+
+  @Test
+  public void testThreadCacheIsBoundedByMaxPooledBytes()
+  {
+    JNIMemoryPool<byte[]> pool = new JNIMemoryPool<byte[]>() {
+      protected byte[] create(int size)
+      {
+        return new byte[size];
+      }
+      protected int getSize(byte[] block)
+      {
+        return block.length;
+      }
+    };
+    pool.setMaxPooledBytes(4096);
+    final byte[][] mem = new byte[3][];
+    for(int i = 0; i < mem.length; i++)
+      mem[i] = pool.allocate(4096);
+    // one fits in our cache, one in the shared queue, and one in neither
+    for(int i = 0; i < mem.length; i++)
+      pool.free(mem[i]);
+    assertEquals(4096, pool.getPooledBytes());
+    assertSame(mem[0], pool.allocate(4096));
+    assertSame(mem[1], pool.allocate(4096));
+    byte[] fresh = pool.allocate(4096);
+    for(int i = 0; i < mem.length; i++)
+      assertNotSame(mem[i], fresh);
+  }
+
+  @Test
+  public void testClearPools()
+  {
+    JNIMemoryAllocator allocator = new JNIMemoryAllocator();
+    byte[] mem = allocator.malloc(100000);
+    allocator.free(mem);
+    JNIMemoryAllocator.clearPools();
+    assertNotSame(mem, allocator.malloc(100000));
+  }
+
+  @Test
+  public void testDirectBuffersAreReused()
+  {
+    ByteBuffer buffer = JNIMemoryAllocator.mallocDirect(5000);
+    assertTrue(buffer.isDirect());
+    assertEquals(8192, buffer.capacity());
+    buffer.position(10);
+    JNIMemoryAllocator.freeDirect(buffer);
+    ByteBuffer reused = JNIMemoryAllocator.mallocDirect(6000);
+    assertSame(buffer, reused);
+    assertEquals(0, reused.position());
+    assertEquals(reused.capacity(), reused.limit());
+    JNIMemoryAllocator.freeDirect(reused);
+  }
 }
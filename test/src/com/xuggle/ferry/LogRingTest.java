@@ -0,0 +1,89 @@
+package com.xuggle.ferry;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class LogRingTest
+{
+  @Test(expected=IllegalArgumentException.class)
+  public void testRejectsZeroCapacity()
+  {
+    new LogRing<Integer>(0);
+  }
+
+  @Test
+  public void testRoundsCapacityToPowerOfTwo()
+  {
+    assertEquals(1, new LogRing<Integer>(1).getCapacity());
+    assertEquals(8, new LogRing<Integer>(5).getCapacity());
+    assertEquals(8, new LogRing<Integer>(8).getCapacity());
+  }
+
+  @Test
+  public void testOfferAndPollInOrder()
+  {
+    LogRing<Integer> ring = new LogRing<Integer>(4);
+    assertNull(ring.poll());
+    // go around the ring a few times
+    for (int lap = 0; lap < 3; lap++)
+    {
+      for (int i = 0; i < 4; i++)
+        assertTrue(ring.offer(lap * 4 + i));
+      assertFalse("ring should be full", ring.offer(-1));
+      assertEquals(4, ring.size());
+      for (int i = 0; i < 4; i++)
+        assertEquals(Integer.valueOf(lap * 4 + i), ring.poll());
+      assertNull(ring.poll());
+      assertEquals(0, ring.size());
+    }
+  }
+
+  @Test
+  public void testManyProducers() throws InterruptedException
+  {
+    final int numThreads = 8;
+    final int numElements = 10000;
+    final LogRing<Integer> ring = new LogRing<Integer>(64);
+    final AtomicInteger dropped = new AtomicInteger(0);
+    Thread[] threads = new Thread[numThreads];
+    for (int i = 0; i < numThreads; i++)
+    {
+      final int thread = i;
+      threads[i] = new Thread(new Runnable()
+      {
+        public void run()
+        {
+          for (int j = 0; j < numElements; j++)
+            if (!ring.offer(thread * numElements + j))
+              dropped.incrementAndGet();
+        }
+      }, "producer " + i);
+      threads[i].start();
+    }
+    int[] last = new int[numThreads];
+    java.util.Arrays.fill(last, -1);
+    int received = 0;
+    boolean running = true;
+    while (running)
+    {
+      running = false;
+      for (Thread thread : threads)
+        if (thread.isAlive())
+          running = true;
+      Integer element;
+      while ((element = ring.poll()) != null)
+      {
+        // elements from any one producer arrive in order
+        int thread = element / numElements;
+        int value = element % numElements;
+        assertTrue(value > last[thread]);
+        last[thread] = value;
+        ++received;
+      }
+    }
+    assertEquals(numThreads * numElements, received + dropped.get());
+  }
+}
@@ -61,4 +61,34 @@ public class NativeLoggerTest extends TestCase
     assertTrue("all tests seemed to pass without crashes", true);
   }
 
+  @Test
+  public void testGetEnabledLevels()
+  {
+    mLog = NativeLogger.getLogger(this.getClass().getName()+".native");
+    // error, warn and info only
+    assertEquals(0x7, mLog.getEnabledLevels());
+  }
+
+  @Test
+  public void testAsynchronousLogging()
+  {
+    mLog = NativeLogger.getLogger(this.getClass().getName()+".native");
+    assertFalse(NativeLogger.isAsynchronous());
+    NativeLogger.setAsynchronous(true);
+    try
+    {
+      assertTrue(NativeLogger.isAsynchronous());
+      for (int i = 0; i < 100; i++)
+        assertTrue(mLog.log(1, "This is an asynchronous warn msg " + i));
+      assertTrue(!mLog.log(3, "This is a debug msg"));
+      NativeLogger.flush();
+    }
+    finally
+    {
+      NativeLogger.setAsynchronous(false);
+    }
+    assertFalse(NativeLogger.isAsynchronous());
+    assertEquals(0, NativeLogger.getNumDroppedMessages());
+  }
+
 }
@@ -257,5 +257,45 @@ public class RefCountedTest
         0, JNIReference.getMgr().getNumPinnedObjects());
 
   }
+
+  /**
+   * Tests that objects made on many threads at once, which spread over
+   * the stripes of the memory manager's reference heap, are all counted
+   * while alive and all released when deleted.
+   */
+  @Test(timeout=60*1000)
+  public void testConcurrentAllocationsAreCounted() throws InterruptedException
+  {
+    assertEquals("should be no objects for collection", 
+        0, JNIReference.getMgr().getNumPinnedObjects());
+    final int numThreads = 8;
+    final int numObjects = 10000;
+    final RefCountedTester[][] objects =
+      new RefCountedTester[numThreads][numObjects];
+    Thread[] threads = new Thread[numThreads];
+    for(int i = 0; i < numThreads; i++)
+    {
+      final int thread = i;
+      threads[i] = new Thread(new Runnable(){
+        public void run()
+        {
+          for(int j = 0; j < numObjects; j++)
+            objects[thread][j] = RefCountedTester.make();
+        }
+      });
+      threads[i].start();
+    }
+    for(Thread thread : threads)
+      thread.join();
+    assertEquals("all objects should be pinned", 
+        numThreads*numObjects, JNIReference.getMgr().getNumPinnedObjects());
+
+    for(RefCountedTester[] threadObjects : objects)
+      for(RefCountedTester obj : threadObjects)
+        obj.delete();
+    JNIReference.getMgr().gc(true);
+    assertEquals("should be no objects for collection", 
+        0, JNIReference.getMgr().getNumPinnedObjects());
+  }
  
 }
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.mediatool;
+
+import org.junit.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.*;
+
+public class FrameExtractorTest
+{
+  // the log
+
+  private final Logger log = LoggerFactory.getLogger(this.getClass());
+  { log.trace("<init>"); }
+
+  // a file with an index, and one without
+
+  private static final String INDEXED_FILE =
+    "fixtures/testfile_h264_mp4a_tmcd.mov";
+  private static final String UNINDEXED_FILE =
+    MediaReaderTest.TEST_FILE_20_SECONDS;
+
+  private IFrameExtractor mExtractor = null;
+
+  @After
+  public void tearDown()
+  {
+    if (mExtractor != null)
+      mExtractor.close();
+    mExtractor = null;
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testNullUrl()
+  {
+    ToolFactory.makeFrameExtractor(null, 1);
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testInvalidThreadCount()
+  {
+    ToolFactory.makeFrameExtractor(INDEXED_FILE, 0);
+  }
+
+  @Test
+  public void testExtractIndexed()
+  {
+    extractEvenlySpaced(INDEXED_FILE, 4);
+  }
+
+  @Test
+  public void testExtractUnindexed()
+  {
+    extractEvenlySpaced(UNINDEXED_FILE, 4);
+  }
+
+  @Test
+  public void testSingleThreadMatchesManyThreads()
+  {
+    long[] timeStamps = { 15000, 1000, 8000, 1000, 0 };
+    mExtractor = ToolFactory.makeFrameExtractor(UNINDEXED_FILE, 1);
+    BufferedImage[] expected = mExtractor.extract(timeStamps,
+      TimeUnit.MILLISECONDS);
+    mExtractor.close();
+
+    mExtractor = ToolFactory.makeFrameExtractor(UNINDEXED_FILE, 3);
+    BufferedImage[] actual = mExtractor.extract(timeStamps,
+      TimeUnit.MILLISECONDS);
+    assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++)
+    {
+      assertNotNull(expected[i]);
+      assertNotNull(actual[i]);
+      assertSameImage(expected[i], actual[i]);
+    }
+    // the same time stamp twice gives the same frame
+    assertSameImage(actual[1], actual[3]);
+  }
+
+  @Test
+  public void testTimeStampPastEnd()
+  {
+    // may find the last key frame or nothing, but must not fail
+    mExtractor = ToolFactory.makeFrameExtractor(UNINDEXED_FILE, 2);
+    BufferedImage[] images = mExtractor.extract(new long[] { 0, 3600 },
+      TimeUnit.SECONDS);
+    assertEquals(2, images.length);
+    assertNotNull(images[0]);
+  }
+
+  @Test(expected=RuntimeException.class)
+  public void testMissingFile()
+  {
+    mExtractor = ToolFactory.makeFrameExtractor(
+      "fixtures/no-such-file-k200cski2loiudjhsl2.flv", 1);
+    mExtractor.extract(1);
+  }
+
+  @Test(expected=RuntimeException.class)
+  public void testExtractAfterClose()
+  {
+    mExtractor = ToolFactory.makeFrameExtractor(UNINDEXED_FILE, 1);
+    mExtractor.close();
+    mExtractor.extract(1);
+  }
+
+  // extract images and check each is a whole picture
+
+  private void extractEvenlySpaced(String url, int count)
+  {
+    mExtractor = ToolFactory.makeFrameExtractor(url, 2);
+    assertEquals(url, mExtractor.getUrl());
+    assertEquals(2, mExtractor.getNumThreads());
+    BufferedImage[] images = mExtractor.extract(count);
+    assertEquals(count, images.length);
+    for (BufferedImage image : images)
+    {
+      assertNotNull(image);
+      assertTrue(image.getWidth() > 0);
+      assertTrue(image.getHeight() > 0);
+      assertEquals(BufferedImage.TYPE_3BYTE_BGR, image.getType());
+    }
+  }
+
+  // compare two images pixel by pixel
+
+  private static void assertSameImage(BufferedImage expected,
+    BufferedImage actual)
+  {
+    assertEquals(expected.getWidth(), actual.getWidth());
+    assertEquals(expected.getHeight(), actual.getHeight());
+    for (int y = 0; y < expected.getHeight(); y++)
+      for (int x = 0; x < expected.getWidth(); x++)
+        assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+  }
+}
@@ -0,0 +1,87 @@
+package com.xuggle.mediatool;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+public class MediaMetricsTest
+{
+  @Test
+  public void testRecordAndSnapshot()
+  {
+    MediaMetrics metrics = new MediaMetrics();
+    long start = System.nanoTime();
+    metrics.record(MediaMetrics.Stage.DECODE_VIDEO, start, 0, 100);
+    metrics.record(MediaMetrics.Stage.DECODE_VIDEO, start, 1, 50);
+    metrics.addDroppedFrames(2);
+
+    MediaMetrics.Snapshot snapshot = metrics.snapshot();
+    assertEquals(2, snapshot.getCount(MediaMetrics.Stage.DECODE_VIDEO));
+    assertEquals(1, snapshot.getFrames(MediaMetrics.Stage.DECODE_VIDEO));
+    assertEquals(150, snapshot.getBytes(MediaMetrics.Stage.DECODE_VIDEO));
+    assertTrue(snapshot.getNanos(MediaMetrics.Stage.DECODE_VIDEO) >= 0);
+    assertTrue(snapshot.getFramesPerSecond(MediaMetrics.Stage.DECODE_VIDEO)
+        > 0);
+    assertEquals(0, snapshot.getCount(MediaMetrics.Stage.ENCODE_VIDEO));
+    assertEquals(0, snapshot.getBytesPerSecond(MediaMetrics.Stage.ENCODE_VIDEO),
+        0);
+    assertEquals(2, snapshot.getDroppedFrames());
+    assertTrue(snapshot.toString().contains("DecodeVideo[count=2"));
+
+    // snapshots don't change once taken
+    metrics.reset();
+    assertEquals(2, snapshot.getCount(MediaMetrics.Stage.DECODE_VIDEO));
+    snapshot = metrics.snapshot();
+    assertEquals(0, snapshot.getCount(MediaMetrics.Stage.DECODE_VIDEO));
+    assertEquals(0, snapshot.getDroppedFrames());
+  }
+
+  @Test
+  public void testQueueDepths()
+  {
+    MediaMetrics metrics = new MediaMetrics();
+    IMediaQueue queue = ToolFactory.makeQueue();
+    metrics.addQueue("encode", queue);
+    assertEquals(Integer.valueOf(0),
+        metrics.snapshot().getQueueDepths().get("encode"));
+    metrics.removeQueue(queue);
+    assertTrue(metrics.snapshot().getQueueDepths().isEmpty());
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testAddQueueRejectsNull()
+  {
+    new MediaMetrics().addQueue("encode", null);
+  }
+
+  @Test
+  public void testMBean() throws Exception
+  {
+    MediaMetrics metrics = new MediaMetrics();
+    metrics.record(MediaMetrics.Stage.WRITE_PACKET, System.nanoTime(), 1,
+        42);
+    ObjectName name = metrics.registerMBean(getClass().getName());
+    try
+    {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      assertTrue(server.isRegistered(name));
+      assertEquals(Long.valueOf(1),
+          server.getAttribute(name, "WritePacketCount"));
+      assertEquals(Long.valueOf(42),
+          server.getAttribute(name, "WritePacketBytes"));
+      server.invoke(name, "reset", null, null);
+      assertEquals(Long.valueOf(0),
+          server.getAttribute(name, "WritePacketCount"));
+    }
+    finally
+    {
+      metrics.unregisterMBean();
+    }
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+  }
+}
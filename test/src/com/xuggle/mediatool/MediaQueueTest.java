@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.mediatool;
+
+import org.junit.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.xuggle.mediatool.event.FlushEvent;
+import com.xuggle.mediatool.event.ICloseEvent;
+import com.xuggle.mediatool.event.IFlushEvent;
+import com.xuggle.mediatool.event.IReadPacketEvent;
+import com.xuggle.mediatool.event.IVideoPictureEvent;
+import com.xuggle.xuggler.IError;
+import com.xuggle.xuggler.IPacket;
+
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.*;
+
+public class MediaQueueTest
+{
+  // the log
+
+  private final Logger log = LoggerFactory.getLogger(this.getClass());
+  { log.trace("<init>"); }
+
+  // listener that records what it saw, and on which thread
+
+  private static class Recorder extends MediaListenerAdapter
+  {
+    final List<Long> mTimeStamps = new ArrayList<Long>();
+    final List<Thread> mThreads = new ArrayList<Thread>();
+    int mCloseCount = 0;
+
+    public void onVideoPicture(IVideoPictureEvent event)
+    {
+      // the picture must still be valid on the queue thread
+      assertTrue(event.getPicture().isComplete());
+      mTimeStamps.add(event.getTimeStamp(TimeUnit.MICROSECONDS));
+      mThreads.add(Thread.currentThread());
+    }
+
+    public void onClose(ICloseEvent event)
+    {
+      ++mCloseCount;
+    }
+  }
+
+  // read a file with and without a queue and compare
+
+  private void readThroughQueue(int ringSize)
+  {
+    Recorder direct = new Recorder();
+    IMediaReader reader = ToolFactory.makeReader(
+        MediaReaderTest.TEST_FILE_20_SECONDS);
+    reader.addListener(direct);
+    while (reader.readPacket() == null)
+      ;
+
+    Recorder queued = new Recorder();
+    IMediaQueue queue = ToolFactory.makeQueue(4);
+    queue.addListener(queued);
+    reader = ToolFactory.makeReader(MediaReaderTest.TEST_FILE_20_SECONDS);
+    reader.setMediaDataRingSize(ringSize);
+    reader.addListener(queue);
+    IError err;
+    while ((err = reader.readPacket()) == null)
+      ;
+    assertNotNull(err);
+
+    // onClose is a barrier, so everything has been handled by now
+    assertEquals(0, queue.size());
+    assertEquals(1, queued.mCloseCount);
+    assertEquals(MediaReaderTest.TEST_FILE_20_SECONDS_VIDEO_FRAME_COUNT,
+        queued.mTimeStamps.size());
+    assertEquals(direct.mTimeStamps, queued.mTimeStamps);
+    for (Thread thread : queued.mThreads)
+      assertNotSame(Thread.currentThread(), thread);
+  }
+
+  @Test
+  public void testEventsPassedInOrderOnQueueThread()
+  {
+    readThroughQueue(0);
+  }
+
+  @Test
+  public void testEventsFromRecyclingReader()
+  {
+    readThroughQueue(2);
+  }
+
+  // listener that records a checksum of every packet read
+
+  private static class PacketSummer extends MediaListenerAdapter
+  {
+    final List<Long> mSums = new ArrayList<Long>();
+    final boolean mSlow;
+
+    PacketSummer(boolean slow)
+    {
+      mSlow = slow;
+    }
+
+    public void onReadPacket(IReadPacketEvent event)
+    {
+      IPacket packet = event.getPacket();
+      CRC32 crc = new CRC32();
+      crc.update(packet.getData().getByteArray(0, packet.getSize()));
+      mSums.add(crc.getValue());
+      // give the reader time to get ahead so packets wait in the queue
+      if (mSlow && mSums.size() < 100)
+      {
+        try
+        {
+          Thread.sleep(1);
+        }
+        catch (InterruptedException e)
+        {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+
+  // packets from a recycling reader must not change while they wait in
+  // the queue
+
+  @Test
+  public void testPacketsFromRecyclingReader()
+  {
+    PacketSummer direct = new PacketSummer(false);
+    PacketSummer queued = new PacketSummer(true);
+    IMediaQueue queue = ToolFactory.makeQueue(16);
+    queue.addListener(queued);
+    IMediaReader reader = ToolFactory.makeReader(
+        MediaReaderTest.TEST_FILE_20_SECONDS);
+    reader.setMediaDataRingSize(2);
+    reader.addListener(direct);
+    reader.addListener(queue);
+    while (reader.readPacket() == null)
+      ;
+    assertTrue(direct.mSums.size() > 0);
+    assertEquals(direct.mSums, queued.mSums);
+  }
+
+  @Test
+  public void testDrainWaitsForListeners()
+  {
+    final int count = 10;
+    final int[] flushed = new int[1];
+    IMediaQueue queue = ToolFactory.makeQueue(2);
+    queue.addListener(new MediaListenerAdapter()
+    {
+      public void onFlush(IFlushEvent event)
+      {
+        try
+        {
+          Thread.sleep(10);
+        }
+        catch (InterruptedException e)
+        {
+        }
+        synchronized(flushed)
+        {
+          ++flushed[0];
+        }
+      }
+    });
+    for (int i = 0; i < count; i++)
+    {
+      queue.onFlush(new FlushEvent(null));
+      assertTrue(queue.size() <= queue.getCapacity() + 1);
+    }
+    queue.drain();
+    assertEquals(0, queue.size());
+    synchronized(flushed)
+    {
+      assertEquals(count, flushed[0]);
+    }
+  }
+
+  @Test
+  public void testListenerExceptionRethrown()
+  {
+    IMediaQueue queue = ToolFactory.makeQueue();
+    queue.addListener(new MediaListenerAdapter()
+    {
+      public void onVideoPicture(IVideoPictureEvent event)
+      {
+        throw new IllegalStateException("expected");
+      }
+    });
+    IMediaReader reader = ToolFactory.makeReader(
+        MediaReaderTest.TEST_FILE_20_SECONDS);
+    reader.addListener(queue);
+    try
+    {
+      while (reader.readPacket() == null)
+        ;
+      fail("listener exception not propagated");
+    }
+    catch (RuntimeException e)
+    {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    finally
+    {
+      // the queue would throw again on close
+      reader.removeListener(queue);
+      if (reader.isOpen())
+        reader.close();
+    }
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testCapacityMustBePositive()
+  {
+    ToolFactory.makeQueue(0);
+  }
+}
@@ -29,11 +29,18 @@ import com.xuggle.mediatool.MediaReader;
 import com.xuggle.mediatool.MediaViewer;
 import com.xuggle.mediatool.event.IAudioSamplesEvent;
 import com.xuggle.mediatool.event.IVideoPictureEvent;
+import com.xuggle.xuggler.IAudioSamples;
 import com.xuggle.xuggler.IError;
 import com.xuggle.xuggler.IContainer;
+import com.xuggle.xuggler.IMediaData;
+import com.xuggle.xuggler.IStreamCoder;
 import com.xuggle.xuggler.IVideoResampler;
 
 import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 import static junit.framework.Assert.*;
 
@@ -256,4 +263,257 @@ public class MediaReaderTest
     for (int i = 0; i < container.getNumStreams(); ++i)
       assertFalse(container.getStream(i).getStreamCoder().isOpen());
   }
+
+  // test that recycling media data dispatches the same frames, but
+  // only ever uses as many pictures and samples as the ring holds
+
+  @Test
+  public void testMediaDataRecycling()
+  {
+    final int ringSize = 2;
+    final int[] counts = new int[2];
+    final Set<IMediaData> pictures = new HashSet<IMediaData>();
+    final Set<IMediaData> samples = new HashSet<IMediaData>();
+
+    MediaReader mr = new MediaReader(TEST_FILE_20_SECONDS);
+    mr.setMediaDataRingSize(ringSize);
+    assertEquals(ringSize, mr.getMediaDataRingSize());
+
+    IMediaListener mrl = new MediaListenerAdapter()
+      {
+        public void onVideoPicture(IVideoPictureEvent event)
+        {
+          assertTrue(event.getPicture().isComplete());
+          pictures.add(event.getPicture());
+          ++counts[0];
+        }
+
+        public void onAudioSamples(IAudioSamplesEvent event)
+        {
+          assertTrue(event.getAudioSamples().isComplete());
+          samples.add(event.getAudioSamples());
+          ++counts[1];
+        }
+      };
+    mr.addListener(mrl);
+
+    IError err = null;
+    while ((err = mr.readPacket()) == null)
+      ;
+
+    assertEquals("Loop should complete with an EOF",
+        IError.Type.ERROR_EOF,
+        err.getType());
+    assertEquals("incorrect number of video frames:",
+        TEST_FILE_20_SECONDS_VIDEO_FRAME_COUNT,
+        counts[0]);
+    assertEquals("incorrect number of audio frames:",
+        TEST_FILE_20_SECONDS_AUDIO_FRAME_COUNT,
+        counts[1]);
+    assertTrue("pictures not recycled", pictures.size() <= ringSize);
+    assertTrue("samples not recycled", samples.size() <= ringSize);
+  }
+
+  // reusing audio samples between frames must not overwrite samples a
+  // listener took a reference to
+
+  @Test
+  public void testKeptAudioSamplesAreNotReused()
+  {
+    final IAudioSamples[] kept = new IAudioSamples[1];
+    final long[] keptTimeStamp = new long[1];
+    final int[] count = new int[1];
+
+    MediaReader mr = new MediaReader(TEST_FILE_20_SECONDS);
+    mr.addListener(new MediaListenerAdapter()
+      {
+        public void onAudioSamples(IAudioSamplesEvent event)
+        {
+          if (kept[0] == null)
+          {
+            kept[0] = event.getAudioSamples().copyReference();
+            keptTimeStamp[0] = kept[0].getTimeStamp();
+          }
+          ++count[0];
+        }
+      });
+
+    IError err = null;
+    while ((err = mr.readPacket()) == null)
+      ;
+
+    assertEquals("Loop should complete with an EOF",
+        IError.Type.ERROR_EOF,
+        err.getType());
+    assertEquals("incorrect number of audio frames:",
+        TEST_FILE_20_SECONDS_AUDIO_FRAME_COUNT,
+        count[0]);
+    assertNotNull(kept[0]);
+    assertEquals("kept samples were overwritten",
+        keptTimeStamp[0], kept[0].getTimeStamp());
+    kept[0].delete();
+  }
+
+  // reusing audio samples between frames must not overwrite a byte
+  // buffer a listener took from the samples' data
+
+  @Test
+  public void testKeptAudioByteBufferIsNotOverwritten()
+  {
+    final ByteBuffer[] kept = new java.nio.ByteBuffer[1];
+    final byte[][] keptBytes = new byte[1][];
+    final boolean[] checked = new boolean[1];
+
+    MediaReader mr = new MediaReader(TEST_FILE_20_SECONDS);
+    mr.addListener(new MediaListenerAdapter()
+      {
+        public void onAudioSamples(IAudioSamplesEvent event)
+        {
+          IAudioSamples samples = event.getAudioSamples();
+          if (kept[0] == null)
+          {
+            int size = samples.getSize();
+            kept[0] = samples.getByteBuffer();
+            keptBytes[0] = new byte[size];
+            kept[0].get(keptBytes[0], 0, size);
+            kept[0].rewind();
+          }
+          else if (!checked[0])
+          {
+            byte[] now = new byte[keptBytes[0].length];
+            kept[0].get(now);
+            kept[0].rewind();
+            assertTrue("kept byte buffer was overwritten",
+                Arrays.equals(keptBytes[0], now));
+            checked[0] = true;
+          }
+        }
+      });
+
+    IError err = null;
+    while ((err = mr.readPacket()) == null)
+      ;
+
+    assertEquals("Loop should complete with an EOF",
+        IError.Type.ERROR_EOF,
+        err.getType());
+    assertTrue("second audio frame never decoded", checked[0]);
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testMediaDataRingSizeMustNotBeNegative()
+  {
+    MediaReader mr = new MediaReader(TEST_FILE_20_SECONDS);
+    mr.setMediaDataRingSize(-1);
+  }
+
+  // skipping non key frames should only dispatch key frames, and
+  // far fewer of them
+
+  @Test
+  public void testVideoSkipFrameDispatchesOnlyKeyFrames()
+  {
+    final int[] count = new int[1];
+    MediaReader mr = new MediaReader(TEST_FILE_20_SECONDS);
+    assertEquals(IStreamCoder.Discard.DISCARD_DEFAULT, mr.getVideoSkipFrame());
+    mr.setVideoSkipFrame(IStreamCoder.Discard.DISCARD_NONKEY);
+    mr.setVideoSkipLoopFilter(IStreamCoder.Discard.DISCARD_ALL);
+    assertEquals(IStreamCoder.Discard.DISCARD_NONKEY, mr.getVideoSkipFrame());
+    assertEquals(IStreamCoder.Discard.DISCARD_ALL,
+        mr.getVideoSkipLoopFilter());
+    mr.addListener(new MediaListenerAdapter()
+      {
+        public void onVideoPicture(IVideoPictureEvent event)
+        {
+          assertTrue(event.getPicture().isKeyFrame());
+          ++count[0];
+        }
+      });
+
+    IError err = null;
+    while ((err = mr.readPacket()) == null)
+      ;
+
+    assertEquals("Loop should complete with an EOF",
+        IError.Type.ERROR_EOF,
+        err.getType());
+    assertTrue("should decode some pictures", count[0] > 0);
+    assertTrue("should skip most pictures",
+        count[0] < TEST_FILE_20_SECONDS_VIDEO_FRAME_COUNT / 2);
+  }
+
+  // metrics should count every packet and frame the reader handles
+
+  @Test
+  public void testMetricsCountReadAndDecode()
+  {
+    MediaMetrics metrics = new MediaMetrics();
+    MediaReader mr = new MediaReader(TEST_FILE_20_SECONDS);
+    assertNull(mr.getMetrics());
+    mr.setMetrics(metrics);
+    assertSame(metrics, mr.getMetrics());
+
+    IError err = null;
+    while ((err = mr.readPacket()) == null)
+      ;
+    assertEquals("Loop should complete with an EOF",
+        IError.Type.ERROR_EOF,
+        err.getType());
+
+    MediaMetrics.Snapshot snapshot = metrics.snapshot();
+    assertTrue(snapshot.getCount(MediaMetrics.Stage.READ_PACKET) > 0);
+    assertTrue(snapshot.getBytes(MediaMetrics.Stage.READ_PACKET) > 0);
+    assertEquals(TEST_FILE_20_SECONDS_VIDEO_FRAME_COUNT,
+        snapshot.getFrames(MediaMetrics.Stage.DECODE_VIDEO));
+    assertEquals(TEST_FILE_20_SECONDS_AUDIO_FRAME_COUNT,
+        snapshot.getFrames(MediaMetrics.Stage.DECODE_AUDIO));
+    assertTrue(snapshot.getNanos(MediaMetrics.Stage.DECODE_VIDEO) > 0);
+    // no buffered images were asked for
+    assertEquals(0, snapshot.getCount(MediaMetrics.Stage.CONVERT_VIDEO));
+    assertEquals(0, snapshot.getCount(MediaMetrics.Stage.ENCODE_VIDEO));
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testVideoSkipFrameMustNotBeNull()
+  {
+    MediaReader mr = new MediaReader(TEST_FILE_20_SECONDS);
+    mr.setVideoSkipFrame(null);
+  }
+
+  // frame threaded decoding must not lose the pictures held back by the
+  // decoder threads at end of file
+
+  @Test
+  public void testFrameThreadedDecodingReadsAllPictures()
+  {
+    final int[] count = new int[1];
+    MediaReader mr = new MediaReader(TEST_FILE_20_SECONDS);
+    assertEquals(0, mr.getNumThreads());
+    assertEquals(IStreamCoder.ThreadType.THREAD_TYPE_FRAME_AND_SLICE,
+        mr.getThreadType());
+    mr.setNumThreads(4);
+    mr.setThreadType(IStreamCoder.ThreadType.THREAD_TYPE_FRAME);
+    mr.addListener(new MediaListenerAdapter()
+      {
+        public void onVideoPicture(IVideoPictureEvent event)
+        {
+          ++count[0];
+        }
+      });
+
+    IError err = null;
+    while ((err = mr.readPacket()) == null)
+      ;
+
+    assertEquals(IError.Type.ERROR_EOF, err.getType());
+    assertEquals("incorrect number of video frames:",
+        TEST_FILE_20_SECONDS_VIDEO_FRAME_COUNT, count[0]);
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testNumThreadsMustNotBeNegative()
+  {
+    MediaReader mr = new MediaReader(TEST_FILE_20_SECONDS);
+    mr.setNumThreads(-1);
+  }
 }
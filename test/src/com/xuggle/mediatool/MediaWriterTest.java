@@ -36,6 +36,9 @@ import org.junit.After;
 import com.xuggle.mediatool.MediaReader;
 import com.xuggle.mediatool.MediaViewer;
 import com.xuggle.mediatool.MediaWriter;
+import com.xuggle.mediatool.event.IReadPacketEvent;
+import com.xuggle.mediatool.event.IVideoPictureEvent;
+import com.xuggle.mediatool.event.IWritePacketEvent;
 import com.xuggle.xuggler.Global;
 import com.xuggle.xuggler.ICodec;
 import com.xuggle.xuggler.IContainer;
@@ -191,6 +194,106 @@ public class MediaWriterTest
     log.debug("manually check: " + file);
   }
 
+  @Test
+  public void streamCopyToFlvTest()
+  {
+    File file = new File(PREFIX + "stream-copy-to-flv.flv");
+    file.delete();
+    assert(!file.exists());
+    streamCopy(mReader, file);
+  }
+
+  @Test
+  public void streamCopyToMp4Test()
+  {
+    // the timecode stream is not copied
+    File file = new File(PREFIX + "stream-copy-to-mp4.mp4");
+    file.delete();
+    assert(!file.exists());
+    mReader.close();
+    mReader = new MediaReader(TEST_FILE_DIR +
+      "/testfile_h264_mp4a_tmcd.mov");
+    streamCopy(mReader, file);
+  }
+
+  @Test(expected=UnsupportedOperationException.class)
+  public void streamCopyWithoutInputContainer()
+  {
+    new MediaWriter(PREFIX + "should-not-be-created.flv")
+      .setStreamCopy(true);
+  }
+
+  @Test(expected=UnsupportedOperationException.class)
+  public void encodeWhileStreamCopying()
+  {
+    File file = new File(PREFIX + "encode-while-stream-copying.flv");
+    mReader.open();
+    MediaWriter writer = new MediaWriter(file.toString(), mReader);
+    writer.setStreamCopy(true);
+    writer.encodeVideo(0, new BufferedImage(16, 16,
+      BufferedImage.TYPE_3BYTE_BGR), 0, Global.DEFAULT_TIME_UNIT);
+  }
+
+  // copy the streams of a reader and check the packets and codecs made it
+
+  private void streamCopy(MediaReader reader, File file)
+  {
+    final int[] counts = new int[2];
+    reader.setDecodeMedia(false);
+    reader.addListener(new MediaListenerAdapter()
+    {
+      public void onVideoPicture(IVideoPictureEvent event)
+      {
+        fail("nothing should be decoded");
+      }
+    });
+    final MediaWriter writer = new MediaWriter(file.toString(), reader);
+    writer.setStreamCopy(true);
+    assertTrue(writer.willStreamCopy());
+    writer.addListener(new MediaListenerAdapter()
+    {
+      public void onWritePacket(IWritePacketEvent event)
+      {
+        ++counts[1];
+      }
+    });
+    reader.addListener(writer);
+    reader.addListener(new MediaListenerAdapter()
+    {
+      public void onReadPacket(IReadPacketEvent event)
+      {
+        if (writer.getOutputStreamIndex(
+              event.getPacket().getStreamIndex()) != null)
+          ++counts[0];
+      }
+    });
+    while (reader.readPacket() == null)
+      ;
+    assertTrue(file.exists());
+    assertTrue(counts[0] > 0);
+    assertEquals(counts[0], counts[1]);
+
+    // the output has the same codecs as the copied input streams
+
+    IContainer input = IContainer.make();
+    IContainer output = IContainer.make();
+    assertTrue(input.open(reader.getUrl(), IContainer.Type.READ, null) >= 0);
+    assertTrue(output.open(file.toString(), IContainer.Type.READ, null) >= 0);
+    for (int i = 0; i < input.getNumStreams(); i++)
+    {
+      Integer outputIndex = writer.getOutputStreamIndex(i);
+      if (outputIndex == null)
+        continue;
+      assertEquals(input.getStream(i).getStreamCoder().getCodecID(),
+        output.getStream(outputIndex).getStreamCoder().getCodecID());
+    }
+    assertEquals(input.getDuration(), output.getDuration(),
+      Global.DEFAULT_PTS_PER_SECOND / 10);
+    input.close();
+    output.close();
+    log.debug("manually check: " + file);
+  }
+
   @Test
     public void customVideoStream()
   {
@@ -598,6 +701,42 @@ public class MediaWriterTest
     file.delete();
   }
   
+  // codecs without a fixed frame size take samples as they come
+
+  @Test
+    public void pcmAudioStreamOddSizedSamples()
+  {
+    File file = new File(PREFIX + "pcmAudio.wav");
+    file.delete();
+    assert(!file.exists());
+
+    int channelCount = 2;
+    int sampleRate = 44100;
+    int sampleCount = 1000;
+    int frameCount = 10;
+
+    IMediaWriter writer = new MediaWriter(file.toString());
+    ICodec codec = ICodec.findEncodingCodec(ICodec.ID.CODEC_ID_PCM_S16LE);
+    writer.addAudioStream(0, 0, codec, channelCount, sampleRate);
+
+    IAudioSamples samples = IAudioSamples.make(sampleCount, channelCount);
+    TestAudioSamplesGenerator generator = new TestAudioSamplesGenerator();
+    generator.prepare(channelCount, sampleRate);
+    for (int i = 0; i < frameCount; i++)
+    {
+      generator.fillNextSamples(samples, sampleCount);
+      writer.encodeAudio(0, samples);
+    }
+    writer.close();
+
+    // every sample should be written, plus the wav header
+
+    assert(file.exists());
+    assertEquals(frameCount * sampleCount * channelCount * 2,
+        file.length(), 100);
+    file.delete();
+  }
+
   @Test
   public void testTimebaseGuessingWhenCodecSpecifiedAllowed()
   {
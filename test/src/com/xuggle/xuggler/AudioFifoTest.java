@@ -0,0 +1,123 @@
+package com.xuggle.xuggler;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class AudioFifoTest
+{
+  private static final int CHANNELS = 2;
+  private static final int RATE = 1000;
+
+  private static IAudioSamples makeSamples(int first, int numSamples,
+      long pts)
+  {
+    IAudioSamples samples = IAudioSamples.make(numSamples, CHANNELS);
+    for (int i = 0; i < numSamples; i++)
+      for (int c = 0; c < CHANNELS; c++)
+        samples.setSample(i, c, IAudioSamples.Format.FMT_S16,
+            (first + i) * (c == 0 ? 1 : -1));
+    samples.setComplete(true, numSamples, RATE, CHANNELS,
+        IAudioSamples.Format.FMT_S16, pts);
+    return samples;
+  }
+
+  @Test
+  public void testMakeRejectsBadArguments()
+  {
+    assertNull(IAudioFifo.make(0, RATE, IAudioSamples.Format.FMT_S16, 10));
+    assertNull(IAudioFifo.make(CHANNELS, 0, IAudioSamples.Format.FMT_S16, 10));
+    assertNull(IAudioFifo.make(CHANNELS, RATE, IAudioSamples.Format.FMT_S16P,
+        10));
+    assertNull(IAudioFifo.make(CHANNELS, RATE, IAudioSamples.Format.FMT_S16,
+        0));
+
+    IAudioFifo fifo = IAudioFifo.make(CHANNELS, RATE,
+        IAudioSamples.Format.FMT_S16, 10);
+    assertNotNull(fifo);
+    assertEquals(CHANNELS, fifo.getChannels());
+    assertEquals(RATE, fifo.getSampleRate());
+    assertEquals(IAudioSamples.Format.FMT_S16, fifo.getFormat());
+    assertEquals(10, fifo.getFrameSize());
+    assertEquals(0, fifo.getNumSamples());
+    assertEquals(Global.NO_PTS, fifo.getNextPts());
+  }
+
+  @Test
+  public void testReframes()
+  {
+    int frameSize = 10;
+    IAudioFifo fifo = IAudioFifo.make(CHANNELS, RATE,
+        IAudioSamples.Format.FMT_S16, frameSize);
+    IAudioSamples frame = IAudioSamples.make(1, CHANNELS);
+
+    // write 7, 16 and 3 samples; that's two full frames and 6 left
+    assertEquals(7, fifo.write(makeSamples(0, 7, 5000)));
+    assertEquals(0, fifo.read(frame));
+    assertEquals(16, fifo.write(makeSamples(7, 16, 12000)));
+    assertEquals(3, fifo.write(makeSamples(23, 3, 28000)));
+    assertEquals(26, fifo.getNumSamples());
+
+    int next = 0;
+    for (int f = 0; f < 2; f++)
+    {
+      assertEquals(frameSize, fifo.read(frame));
+      assertTrue(frame.isComplete());
+      assertEquals(frameSize, frame.getNumSamples());
+      // time stamps count on from the first samples written
+      assertEquals(5000 + next * 1000, frame.getTimeStamp());
+      for (int i = 0; i < frameSize; i++, next++)
+      {
+        assertEquals(next,
+            frame.getSample(i, 0, IAudioSamples.Format.FMT_S16));
+        assertEquals(-next,
+            frame.getSample(i, 1, IAudioSamples.Format.FMT_S16));
+      }
+    }
+    assertEquals(0, fifo.read(frame));
+    assertEquals(6, fifo.getNumSamples());
+
+    // the ring wraps around here
+    assertEquals(20, fifo.write(makeSamples(26, 20, 31000)));
+    assertEquals(frameSize, fifo.read(frame));
+    assertEquals(25000, frame.getTimeStamp());
+    assertEquals(20, frame.getSample(0, 0, IAudioSamples.Format.FMT_S16));
+    assertEquals(frameSize, fifo.read(frame));
+    assertEquals(35000, frame.getTimeStamp());
+    assertEquals(39, frame.getSample(9, 0, IAudioSamples.Format.FMT_S16));
+
+    assertEquals(6, fifo.drain(frame));
+    assertEquals(6, frame.getNumSamples());
+    assertEquals(45000, frame.getTimeStamp());
+    assertEquals(40, frame.getSample(0, 0, IAudioSamples.Format.FMT_S16));
+    assertEquals(-45, frame.getSample(5, 1, IAudioSamples.Format.FMT_S16));
+    assertEquals(0, fifo.drain(frame));
+  }
+
+  @Test
+  public void testResyncsWhenEmpty()
+  {
+    IAudioFifo fifo = IAudioFifo.make(CHANNELS, RATE,
+        IAudioSamples.Format.FMT_S16, 4);
+    IAudioSamples frame = IAudioSamples.make(4, CHANNELS);
+
+    fifo.write(makeSamples(0, 4, 0));
+    assertEquals(4, fifo.read(frame));
+    assertEquals(0, frame.getTimeStamp());
+
+    fifo.write(makeSamples(0, 4, 100000));
+    assertEquals(100000, fifo.getNextPts());
+    fifo.clear();
+    assertEquals(0, fifo.getNumSamples());
+    assertEquals(Global.NO_PTS, fifo.getNextPts());
+  }
+
+  @Test
+  public void testRejectsMismatchedSamples()
+  {
+    IAudioFifo fifo = IAudioFifo.make(1, RATE,
+        IAudioSamples.Format.FMT_S16, 4);
+    assertTrue(fifo.write(makeSamples(0, 4, 0)) < 0);
+    assertEquals(0, fifo.getNumSamples());
+  }
+}
@@ -158,6 +158,172 @@ public class AudioSamplesTest extends TestCase
   }
   
 
+  @Test
+  public void testDecodingOnlyGrowsSamplesAsNeeded()
+  {
+    Helper h = new Helper();
+    
+    h.setupReadingObject(h.sampleFile);
+    
+    int retval = -1;
+    int audioStream = -1;
+    for (int i = 0; i < h.mContainer.getNumStreams(); i++)
+    {
+      if (h.mCoders[i].getCodecType() == ICodec.Type.CODEC_TYPE_AUDIO)
+      {
+        audioStream = i;
+        retval = h.mCoders[i].open(null, null);
+        assertTrue("Could not open decoder", retval >=0);
+        break;
+      }
+    }
+    assertTrue("Could not find audio stream", audioStream >= 0);
+    IStreamCoder coder = h.mCoders[audioStream];
+    
+    // start out smaller than any frame, so decoding has to grow it
+    IAudioSamples samples = IAudioSamples.make(1, coder.getChannels());
+    long largestFrame = 0;
+    while (h.mContainer.readNextPacket(h.mPacket) == 0)
+    {
+      if (h.mPacket.getStreamIndex() != audioStream)
+        continue;
+      int offset = 0;
+      while (offset < h.mPacket.getSize())
+      {
+        retval = coder.decodeAudio(samples, h.mPacket, offset);
+        assertTrue("could not decode any audio", retval >0);
+        offset += retval;
+        largestFrame = Math.max(largestFrame,
+            samples.getNumSamples() * samples.getSampleSize());
+      }
+    }
+    coder.close();
+    assertTrue("didn't get any audio", largestFrame > 0);
+    assertTrue("should have grown to fit the largest frame",
+        samples.getMaxBufferSize() >= largestFrame);
+    assertTrue("should not grow to the most any codec may need",
+        samples.getMaxBufferSize() < 192000);
+  }
+
+  @Test
+  public void testShortBufferViewSharesSamples()
+  {
+    int channels = 2;
+    IAudioSamples samples = IAudioSamples.make(4, channels);
+    assertNotNull(samples);
+    samples.setComplete(true, 4, 44100, channels,
+        IAudioSamples.Format.FMT_S16, 0);
+
+    java.nio.ShortBuffer view = samples.getShortBuffer(null);
+    assertNotNull(view);
+    assertEquals(4 * channels, view.remaining());
+    for (short i = 0; i < view.limit(); i++)
+      view.put(i, (short)(i * 100 - 300));
+    assertEquals(-300, samples.getSample(0, 0, IAudioSamples.Format.FMT_S16));
+    assertEquals(-200, samples.getSample(0, 1, IAudioSamples.Format.FMT_S16));
+    assertEquals(400, samples.getSample(3, 1, IAudioSamples.Format.FMT_S16));
+
+    samples.setSample(1, 0, IAudioSamples.Format.FMT_S16, 1234);
+    assertEquals(1234, view.get(2));
+
+    try
+    {
+      samples.getFloatBuffer(null);
+      fail("should not get a float view of short samples");
+    }
+    catch (IllegalStateException e)
+    {
+      // expected
+    }
+  }
+
+  @Test
+  public void testFloatSamplesConvertAndDeinterleave()
+  {
+    int channels = 2;
+    IAudioSamples samples = IAudioSamples.make(4, channels);
+    assertNotNull(samples);
+
+    float[] in = new float[] {
+        0.0f, -1.0f,
+        0.5f, -0.5f,
+        2.0f, -2.0f,
+        0.25f, 1.0f / 32768 };
+    assertEquals(4, samples.setFloatSamples(in, 0, 4));
+    samples.setComplete(true, 4, 44100, channels,
+        IAudioSamples.Format.FMT_S16, 0);
+
+    assertEquals(0, samples.getSample(0, 0, IAudioSamples.Format.FMT_S16));
+    assertEquals(-32768, samples.getSample(0, 1, IAudioSamples.Format.FMT_S16));
+    assertEquals(16384, samples.getSample(1, 0, IAudioSamples.Format.FMT_S16));
+    // out of range values are clipped
+    assertEquals(32767, samples.getSample(2, 0, IAudioSamples.Format.FMT_S16));
+    assertEquals(-32768, samples.getSample(2, 1, IAudioSamples.Format.FMT_S16));
+    assertEquals(1, samples.getSample(3, 1, IAudioSamples.Format.FMT_S16));
+
+    float[] right = new float[5];
+    assertEquals(4, samples.getFloatSamples(1, right, 1, 4));
+    assertEquals(0.0f, right[0], 0);
+    assertEquals(-1.0f, right[1], 0);
+    assertEquals(-0.5f, right[2], 0);
+    assertEquals(-1.0f, right[3], 0);
+    assertEquals(1.0f / 32768, right[4], 0);
+
+    // asking for more than we have only copies what is there
+    float[] all = new float[channels * 10];
+    assertEquals(4, samples.getFloatSamples(all, 0, 10));
+    assertEquals(0.5f, all[2], 0);
+    assertEquals(-0.5f, all[3], 0);
+
+    try
+    {
+      samples.getFloatSamples(channels, right, 0, 1);
+      fail("should not copy a channel we don't have");
+    }
+    catch (IllegalArgumentException e)
+    {
+      // expected
+    }
+    try
+    {
+      samples.getFloatSamples(all, 1, 10);
+      fail("should not copy past the end of the array");
+    }
+    catch (IllegalArgumentException e)
+    {
+      // expected
+    }
+  }
+
+  @Test
+  public void testFloatSamplesPlanar()
+  {
+    int channels = 2;
+    IAudioSamples samples = IAudioSamples.make(3, channels,
+        IAudioSamples.Format.FMT_FLTP);
+    assertNotNull(samples);
+
+    assertEquals(3, samples.setFloatSamples(0,
+        new float[] { 0.1f, 0.2f, 0.3f }, 0, 3));
+    assertEquals(3, samples.setFloatSamples(1,
+        new float[] { -0.1f, -0.2f, -0.3f }, 0, 3));
+    samples.setComplete(true, 3, 44100, channels,
+        IAudioSamples.Format.FMT_FLTP, 0);
+
+    // planes are back to back
+    java.nio.FloatBuffer view = samples.getFloatBuffer(null);
+    assertNotNull(view);
+    assertEquals(0.3f, view.get(2), 0);
+    assertEquals(-0.1f, view.get(3), 0);
+
+    float[] interleaved = new float[3 * channels];
+    assertEquals(3, samples.getFloatSamples(interleaved, 0, 3));
+    assertEquals(0.1f, interleaved[0], 0);
+    assertEquals(-0.1f, interleaved[1], 0);
+    assertEquals(0.3f, interleaved[4], 0);
+    assertEquals(-0.3f, interleaved[5], 0);
+  }
+
   @Test
   public void testGetNextPts()
   {
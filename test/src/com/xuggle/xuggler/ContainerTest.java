@@ -340,6 +340,204 @@ public class ContainerTest extends TestCase
     container.close();
   }
 
+  @Test
+  public void testGetAndSetZeroCopyReading()
+  {
+    IContainer container = IContainer.make();
+    assertFalse("should default to off", container.getZeroCopyReading());
+    container.setZeroCopyReading(true);
+    assertTrue(container.getZeroCopyReading());
+    container.setZeroCopyReading(false);
+    assertFalse(container.getZeroCopyReading());
+  }
+
+  @Test
+  public void testZeroCopyReadingMatchesCopying()
+  {
+    IContainer copying = IContainer.make();
+    IContainer zeroCopy = IContainer.make();
+    zeroCopy.setZeroCopyReading(true);
+    
+    assertTrue("could not open file",
+        copying.open(mSampleFile, IContainer.Type.READ, null) >= 0);
+    assertTrue("could not open file",
+        zeroCopy.open(mSampleFile, IContainer.Type.READ, null) >= 0);
+
+    IPacket copiedPacket = IPacket.make();
+    IPacket packet = IPacket.make();
+    IBuffer lastData = null;
+    byte[] lastBytes = null;
+    long packetsRead = 0;
+    while(copying.readNextPacket(copiedPacket) >= 0)
+    {
+      assertTrue(zeroCopy.readNextPacket(packet) >= 0);
+      assertEquals(copiedPacket.isComplete(), packet.isComplete());
+      assertEquals(copiedPacket.getStreamIndex(), packet.getStreamIndex());
+      assertEquals(copiedPacket.getPts(), packet.getPts());
+      assertEquals(copiedPacket.getDts(), packet.getDts());
+      assertEquals(copiedPacket.getFlags(), packet.getFlags());
+      assertEquals(copiedPacket.getSize(), packet.getSize());
+      if (!packet.isComplete())
+        continue;
+      ++packetsRead;
+      
+      // data held on to from the last read must survive this one
+      if (lastData != null)
+        assertTrue(java.util.Arrays.equals(lastBytes,
+            lastData.getByteArray(0, lastBytes.length)));
+
+      int size = packet.getSize();
+      byte[] expected = copiedPacket.getData().getByteArray(0, size);
+      lastData = packet.getData();
+      lastBytes = lastData.getByteArray(0, size);
+      assertTrue("packet " + packetsRead + " differs",
+          java.util.Arrays.equals(expected, lastBytes));
+    }
+    assertTrue("zero copy container should be done too",
+        zeroCopy.readNextPacket(packet) < 0);
+    assertEquals("got unexpected number of packets in file", 7950, packetsRead);
+    copying.close();
+    zeroCopy.close();
+  }
+
+  @Test
+  public void testDecodeNextFrames()
+  {
+    Helper h = new Helper();
+    h.setupReadingObject(h.sampleFile);
+
+    int audioStream = -1;
+    for (int i = 0; i < h.mContainer.getNumStreams(); i++)
+      if (h.mCoders[i].getCodecType() == ICodec.Type.CODEC_TYPE_AUDIO)
+      {
+        audioStream = i;
+        assertTrue("Could not open decoder",
+            h.mCoders[i].open(null, null) >= 0);
+        break;
+      }
+    assertTrue("Could not find audio stream", audioStream >= 0);
+
+    IAudioSamples[] frames = new IAudioSamples[8];
+    for(int i = 0; i < frames.length; i++)
+      frames[i] = IAudioSamples.make(1024, 1);
+    long[] info = new long[frames.length*IContainer.FRAME_INFO_STRIDE];
+
+    long totalSamples = 0;
+    long lastTimeStamp = Long.MIN_VALUE;
+    int numDecoded;
+    while((numDecoded = h.mContainer.decodeNextFrames(audioStream, frames,
+        info)) > 0)
+    {
+      assertTrue(numDecoded <= frames.length);
+      for(int i = 0; i < numDecoded; i++)
+      {
+        int base = i*IContainer.FRAME_INFO_STRIDE;
+        assertTrue(frames[i].isComplete());
+        assertEquals(frames[i].getNumSamples(),
+            info[base+IContainer.FRAME_INFO_NUM_SAMPLES]);
+        assertEquals(frames[i].getTimeStamp(),
+            info[base+IContainer.FRAME_INFO_TIMESTAMP]);
+        assertTrue("time went backwards",
+            info[base+IContainer.FRAME_INFO_TIMESTAMP] >= lastTimeStamp);
+        lastTimeStamp = info[base+IContainer.FRAME_INFO_TIMESTAMP];
+        totalSamples += info[base+IContainer.FRAME_INFO_NUM_SAMPLES];
+      }
+    }
+    h.mCoders[audioStream].close();
+    // should match AudioSamplesTest#testReadingSamples
+    assertEquals("unexpected # of samples", 3291264, totalSamples);
+  }
+
+  // decodeNextFrame must hand out the pictures a decoder holds back at
+  // the end of the file, just as a readNextPacket and decodeVideo loop
+  // that flushes with an empty packet does
+
+  @Test
+  public void testDecodeNextFrameDrainsDelayedPictures()
+  {
+    final String file = "fixtures/testfile_h264_mp4a_tmcd.mov";
+
+    // the long way round
+    IContainer container = IContainer.make();
+    assertTrue(container.open(file, IContainer.Type.READ, null) >= 0);
+    IStreamCoder coder = container.getStream(0).getStreamCoder();
+    assertEquals(ICodec.Type.CODEC_TYPE_VIDEO, coder.getCodecType());
+    assertTrue(coder.open(null, null) >= 0);
+    IVideoPicture picture = IVideoPicture.make(coder.getPixelType(),
+        coder.getWidth(), coder.getHeight());
+    IPacket packet = IPacket.make();
+    int expected = 0;
+    while(container.readNextPacket(packet) >= 0)
+    {
+      if (packet.getStreamIndex() != 0)
+        continue;
+      int offset = 0;
+      while(offset < packet.getSize())
+      {
+        int bytesDecoded = coder.decodeVideo(picture, packet, offset);
+        assertTrue(bytesDecoded >= 0);
+        if (bytesDecoded == 0)
+          break;
+        offset += bytesDecoded;
+        if (picture.isComplete())
+          ++expected;
+      }
+    }
+    IPacket empty = IPacket.make();
+    empty.setStreamIndex(0);
+    while(coder.decodeVideo(picture, empty, 0) >= 0 && picture.isComplete())
+      ++expected;
+    coder.close();
+    container.close();
+
+    // and in one call per frame
+    container = IContainer.make();
+    assertTrue(container.open(file, IContainer.Type.READ, null) >= 0);
+    coder = container.getStream(0).getStreamCoder();
+    assertTrue(coder.open(null, null) >= 0);
+    int decoded = 0;
+    while(container.decodeNextFrame(0, picture) >= 0)
+    {
+      assertTrue(picture.isComplete());
+      ++decoded;
+    }
+    // and it keeps saying so
+    assertTrue(container.decodeNextFrame(0, picture) < 0);
+    coder.close();
+    container.close();
+
+    assertTrue("should decode some pictures", expected > 0);
+    assertEquals("lost pictures at end of file", expected, decoded);
+  }
+
+  @Test
+  public void testDecodeNextFrameFailsIfCoderNotOpen()
+  {
+    Helper h = new Helper();
+    h.setupReadingObject(h.sampleFile);
+    for (int i = 0; i < h.mContainer.getNumStreams(); i++)
+    {
+      IMediaData frame = h.mFrames[i] != null ? h.mFrames[i] : h.mSamples[i];
+      if (frame != null)
+        assertTrue(h.mContainer.decodeNextFrame(i, frame) < 0);
+    }
+  }
+
+  @Test
+  public void testDecodeNextFramesRejectsNullFrames()
+  {
+    IContainer container = IContainer.make();
+    try
+    {
+      container.decodeNextFrames(0, new IMediaData[1], null);
+      fail("should not get here");
+    }
+    catch (IllegalArgumentException e)
+    {
+      // expected
+    }
+  }
+
 
   /**
    * Seeks 20 seconds into the test file for a key frame, and then counts packets
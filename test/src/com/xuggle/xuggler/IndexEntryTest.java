@@ -33,4 +33,50 @@ public class IndexEntryTest
     assertEquals(50, lastEntry.getSize());
     assertEquals(96, lastEntry.getMinDistance());
   }
+
+  @Test
+  public void testGetIndexEntriesInBulk()
+  {
+    IContainer container = IContainer.make();
+    int retval;
+    retval = container.open("fixtures/testfile_h264_mp4a_tmcd.mov", IContainer.Type.READ, null);
+    assertTrue(retval >= 0);
+    IStream stream = container.getStream(0);
+    List<IIndexEntry> entries = stream.getIndexEntries();
+
+    // read in uneven pieces, skipping the positions
+    final int numEntries = stream.getNumIndexEntries();
+    long[] timeStamps = new long[1000];
+    int[] sizes = new int[1000];
+    int[] flags = new int[1000];
+    int start = 0;
+    while(start < numEntries)
+    {
+      retval = stream.getIndexEntries(start, timeStamps, null, sizes, flags);
+      assertEquals(Math.min(1000, numEntries-start), retval);
+      for(int i = 0; i < retval; i++)
+      {
+        IIndexEntry entry = entries.get(start+i);
+        assertEquals(entry.getTimeStamp(), timeStamps[i]);
+        assertEquals(entry.getSize(), sizes[i]);
+        assertEquals(entry.getFlags(), flags[i]);
+      }
+      start += retval;
+    }
+    assertEquals(0, stream.getIndexEntries(start, timeStamps, null, null, null));
+
+    long[] positions = new long[1];
+    assertEquals(1, stream.getIndexEntries(numEntries-1, timeStamps, positions, null, null));
+    assertEquals(11673146, positions[0]);
+    assertEquals(332875, timeStamps[0]);
+    container.close();
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testGetIndexEntriesRejectsNegativeStart()
+  {
+    IContainer container = IContainer.make();
+    assertTrue(container.open("fixtures/testfile_h264_mp4a_tmcd.mov", IContainer.Type.READ, null) >= 0);
+    container.getStream(0).getIndexEntries(-1, new long[1], null, null, null);
+  }
 }
@@ -0,0 +1,200 @@
+package com.xuggle.xuggler;
+
+import static org.junit.Assert.*;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KeyFrameIndexFileTest
+{
+  private File mMedia;
+
+  @Before
+  public void setUp() throws IOException
+  {
+    mMedia = File.createTempFile("KeyFrameIndexFileTest", ".ts");
+    FileOutputStream out = new FileOutputStream(mMedia);
+    out.write(new byte[1000]);
+    out.close();
+  }
+
+  @After
+  public void tearDown()
+  {
+    KeyFrameIndexFile.getSidecarFile(mMedia).delete();
+    mMedia.delete();
+  }
+
+  private KeyFrameIndexFile makeIndexFile()
+  {
+    KeyFrameIndex[] indexes = new KeyFrameIndex[]{
+        new KeyFrameIndex(0, new long[]{ 0, 3000, 6000 },
+            new long[]{ 0, 376, 752 }, new int[]{ 100, 200, 300 }),
+        null,
+    };
+    return new KeyFrameIndexFile(mMedia.length(), mMedia.lastModified(),
+        indexes);
+  }
+
+  @Test
+  public void testSaveAndLoad() throws IOException
+  {
+    assertNull("should be no sidecar yet", KeyFrameIndexFile.load(mMedia));
+    makeIndexFile().save(mMedia);
+    assertTrue(KeyFrameIndexFile.getSidecarFile(mMedia).isFile());
+
+    KeyFrameIndexFile indexFile = KeyFrameIndexFile.load(mMedia);
+    assertNotNull(indexFile);
+    assertEquals(2, indexFile.getNumStreams());
+    assertNull(indexFile.getIndex(1));
+    assertNull(indexFile.getIndex(2));
+    KeyFrameIndex index = indexFile.getIndex(0);
+    assertEquals(3, index.getNumKeyFrames());
+    assertEquals(6000, index.getTimeStamp(2));
+    assertEquals(376, index.getPosition(1));
+    assertEquals(100, index.getSize(0));
+  }
+
+  @Test
+  public void testChangedMediaIsNotLoaded() throws IOException
+  {
+    makeIndexFile().save(mMedia);
+    FileOutputStream out = new FileOutputStream(mMedia, true);
+    out.write(1);
+    out.close();
+    assertNull("should be stale", KeyFrameIndexFile.load(mMedia));
+  }
+
+  @Test
+  public void testCorruptSidecarIsNotLoaded() throws IOException
+  {
+    FileOutputStream out = new FileOutputStream(
+        KeyFrameIndexFile.getSidecarFile(mMedia));
+    out.write(new byte[]{ 1, 2, 3, 4, 5, 6, 7, 8, 9 });
+    out.close();
+    assertNull(KeyFrameIndexFile.load(mMedia));
+  }
+
+  // write a sidecar that matches the media file but then claims
+  // numStreams streams
+
+  private static void writeSidecarHeader(File media, int numStreams)
+    throws IOException
+  {
+    DataOutputStream out = new DataOutputStream(new FileOutputStream(
+        KeyFrameIndexFile.getSidecarFile(media)));
+    out.writeInt(0x584b4649);
+    out.writeInt(KeyFrameIndexFile.VERSION);
+    out.writeLong(media.length());
+    out.writeLong(media.lastModified());
+    out.writeInt(numStreams);
+    out.writeInt(-7);
+    out.close();
+  }
+
+  @Test
+  public void testGarbageStreamCountIsNotLoaded() throws IOException
+  {
+    writeSidecarHeader(mMedia, -5);
+    assertNull(KeyFrameIndexFile.load(mMedia));
+    writeSidecarHeader(mMedia, Integer.MAX_VALUE);
+    assertNull(KeyFrameIndexFile.load(mMedia));
+    // the right number of streams, but a bad key frame count
+    writeSidecarHeader(mMedia, 1);
+    assertNull(KeyFrameIndexFile.load(mMedia));
+  }
+
+  @Test
+  public void testGetOrBuildReplacesGarbageSidecar() throws IOException
+  {
+    File media = File.createTempFile("KeyFrameIndexFileTest", ".flv");
+    try
+    {
+      FileInputStream in = new FileInputStream("fixtures/testfile.flv");
+      FileOutputStream out = new FileOutputStream(media);
+      byte[] buffer = new byte[64*1024];
+      int bytesRead;
+      while ((bytesRead = in.read(buffer)) > 0)
+        out.write(buffer, 0, bytesRead);
+      in.close();
+      out.close();
+
+      writeSidecarHeader(media, Integer.MAX_VALUE);
+      assertNull(KeyFrameIndexFile.load(media));
+
+      KeyFrameIndexFile indexFile = KeyFrameIndexFile.getOrBuild(media);
+      assertNotNull(indexFile);
+      assertTrue(indexFile.getIndex(0).getNumKeyFrames() > 1);
+
+      // and the rebuilt sidecar replaced the garbage
+      KeyFrameIndexFile loaded = KeyFrameIndexFile.load(media);
+      assertNotNull(loaded);
+      assertEquals(indexFile.getNumStreams(), loaded.getNumStreams());
+      assertEquals(indexFile.getIndex(0).getNumKeyFrames(),
+          loaded.getIndex(0).getNumKeyFrames());
+    }
+    finally
+    {
+      KeyFrameIndexFile.getSidecarFile(media).delete();
+      media.delete();
+    }
+  }
+
+  @Test
+  public void testFailedSaveLeavesNoTemporaryFile()
+  {
+    KeyFrameIndex[] indexes = new KeyFrameIndex[]{
+        new KeyFrameIndex(0, new long[]{ 0 }, new long[]{ 0 }, new int[]{ 1 })
+        {
+          public long getTimeStamp(int keyFrame)
+          {
+            throw new IllegalStateException("broken index");
+          }
+        },
+    };
+    KeyFrameIndexFile indexFile = new KeyFrameIndexFile(mMedia.length(),
+        mMedia.lastModified(), indexes);
+    try
+    {
+      indexFile.save(mMedia);
+      fail("should not save");
+    }
+    catch (Exception e)
+    {
+    }
+    File sidecar = KeyFrameIndexFile.getSidecarFile(mMedia);
+    assertFalse(sidecar.exists());
+    assertFalse(new File(sidecar.getPath() + ".tmp").exists());
+  }
+
+  @Test
+  public void testBuildAndSeek() throws IOException
+  {
+    File media = new File("fixtures/testfile.flv");
+    KeyFrameIndexFile indexFile = KeyFrameIndexFile.build(media);
+    KeyFrameIndex index = indexFile.getIndex(0);
+    assertNotNull(index);
+    assertTrue(index.getNumKeyFrames() > 1);
+    // the file has video, so its audio is not indexed
+    assertNull(indexFile.getIndex(1));
+
+    IContainer container = IContainer.make();
+    assertTrue(container.open(media.getPath(), IContainer.Type.READ, null) >= 0);
+    long timeStamp = index.getTimeStamp(index.getNumKeyFrames() - 1);
+    assertTrue(indexFile.seekKeyFrame(container, 0, timeStamp + 1) >= 0);
+    IPacket packet = IPacket.make();
+    do {
+      assertTrue(container.readNextPacket(packet) >= 0);
+    } while (packet.getStreamIndex() != 0);
+    assertTrue("should be a key frame", packet.isKeyPacket());
+    assertEquals(timeStamp, packet.getPts());
+    container.close();
+  }
+}
@@ -0,0 +1,100 @@
+package com.xuggle.xuggler;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class KeyFrameIndexTest
+{
+
+  @Test
+  public void testFind()
+  {
+    KeyFrameIndex index = new KeyFrameIndex(2,
+        new long[]{ 0, 100, 100, 250 },
+        new long[]{ 10, 20, 30, 40 },
+        new int[]{ 1, 2, 3, 4 });
+    assertEquals(2, index.getStreamIndex());
+    assertEquals(4, index.getNumKeyFrames());
+
+    assertEquals(-1, index.findAtOrBefore(-1));
+    assertEquals(0, index.findAtOrBefore(0));
+    assertEquals(0, index.findAtOrBefore(99));
+    assertEquals(2, index.findAtOrBefore(100));
+    assertEquals(3, index.findAtOrBefore(1000));
+
+    assertEquals(0, index.findAtOrAfter(-1));
+    assertEquals(1, index.findAtOrAfter(1));
+    assertEquals(1, index.findAtOrAfter(100));
+    assertEquals(3, index.findAtOrAfter(250));
+    assertEquals(-1, index.findAtOrAfter(251));
+
+    assertEquals(250, index.getTimeStamp(3));
+    assertEquals(30, index.getPosition(2));
+    assertEquals(2, index.getSize(1));
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    KeyFrameIndex index = new KeyFrameIndex(0,
+        new long[0], new long[0], new int[0]);
+    assertEquals(0, index.getNumKeyFrames());
+    assertEquals(-1, index.findAtOrBefore(0));
+    assertEquals(-1, index.findAtOrAfter(0));
+  }
+
+  @Test
+  public void testArraysAreCopied()
+  {
+    long[] timeStamps = new long[]{ 5 };
+    KeyFrameIndex index = new KeyFrameIndex(0,
+        timeStamps, new long[1], new int[1]);
+    timeStamps[0] = 6;
+    assertEquals(5, index.getTimeStamp(0));
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testRejectsBackwardsTimeStamps()
+  {
+    new KeyFrameIndex(0, new long[]{ 2, 1 }, new long[2], new int[2]);
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testRejectsMismatchedArrays()
+  {
+    new KeyFrameIndex(0, new long[2], new long[1], new int[2]);
+  }
+
+  @Test
+  public void testMakeMatchesStreamIndex()
+  {
+    IContainer container = IContainer.make();
+    int retval;
+    retval = container.open("fixtures/testfile_h264_mp4a_tmcd.mov", IContainer.Type.READ, null);
+    assertTrue(retval >= 0);
+    IStream stream = container.getStream(0);
+    KeyFrameIndex index = KeyFrameIndex.make(stream);
+    assertEquals(0, index.getStreamIndex());
+    assertTrue("should have key frames", index.getNumKeyFrames() > 0);
+    assertTrue("should have fewer key frames than entries",
+        index.getNumKeyFrames() < stream.getNumIndexEntries());
+
+    // should agree with FFmpeg's own search of the index
+    for(long timeStamp = 0; timeStamp < 332875; timeStamp += 997)
+    {
+      int position = stream.findTimeStampPositionInIndex(timeStamp,
+          IContainer.SEEK_FLAG_BACKWARDS);
+      int keyFrame = index.findAtOrBefore(timeStamp);
+      if (position < 0)
+      {
+        assertEquals(-1, keyFrame);
+        continue;
+      }
+      IIndexEntry entry = stream.getIndexEntry(position);
+      assertEquals(entry.getTimeStamp(), index.getTimeStamp(keyFrame));
+      assertEquals(entry.getPosition(), index.getPosition(keyFrame));
+    }
+    container.close();
+  }
+}
@@ -19,7 +19,9 @@
 
 package com.xuggle.xuggler;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.junit.*;
 import org.slf4j.Logger;
@@ -378,5 +380,214 @@ public class StreamCoderTest extends TestCase
       assertEquals("differ at: "+i, expected[i], actual[i]);
   }
 
+  @Test
+  public void testSetNumThreadsAndThreadType()
+  {
+    mCoder = getStreamCoder("fixtures/testfile_h264_mp4a_tmcd.mov", 0);
+    assertEquals(1, mCoder.getNumThreads());
+    assertEquals(IStreamCoder.ThreadType.THREAD_TYPE_FRAME_AND_SLICE,
+        mCoder.getThreadType());
+    assertTrue(mCoder.setNumThreads(-1) < 0);
+
+    assertEquals(0, mCoder.setNumThreads(4));
+    assertEquals(0, mCoder.setThreadType(IStreamCoder.ThreadType.THREAD_TYPE_FRAME));
+    assertEquals(4, mCoder.getNumThreads());
+    assertEquals(IStreamCoder.ThreadType.THREAD_TYPE_FRAME,
+        mCoder.getThreadType());
+
+    assertTrue("Could not open codec", mCoder.open(null, null) >= 0);
+    assertEquals(IStreamCoder.ThreadType.THREAD_TYPE_FRAME,
+        mCoder.getActiveThreadType());
+
+    // can't change once open
+    assertTrue(mCoder.setNumThreads(2) < 0);
+    assertTrue(mCoder.setThreadType(IStreamCoder.ThreadType.THREAD_TYPE_SLICE) < 0);
+    assertEquals(4, mCoder.getNumThreads());
+    mCoder.close();
+  }
+
+  @Test
+  public void testFrameThreadedDecodeReturnsAllPictures()
+  {
+    final String file = "fixtures/testfile_h264_mp4a_tmcd.mov";
+    int singleThreaded = countDecodedPictures(file, 1);
+    assertTrue(singleThreaded > 0);
+    assertEquals(singleThreaded, countDecodedPictures(file, 4));
+  }
+
+  /**
+   * Decode every picture in stream 0 of a file, including those
+   * the decoder holds on to until it is given an empty packet.
+   */
+  private int countDecodedPictures(String file, int numThreads)
+  {
+    IContainer container = IContainer.make();
+    assertTrue(container.open(file, IContainer.Type.READ, null) >= 0);
+    IStreamCoder coder = container.getStream(0).getStreamCoder();
+    assertEquals(0, coder.setNumThreads(numThreads));
+    assertEquals(0, coder.setThreadType(IStreamCoder.ThreadType.THREAD_TYPE_FRAME));
+    assertTrue(coder.open(null, null) >= 0);
+    IVideoPicture picture = IVideoPicture.make(coder.getPixelType(),
+        coder.getWidth(), coder.getHeight());
+    IPacket packet = IPacket.make();
+    int count = 0;
+    while (container.readNextPacket(packet) >= 0)
+    {
+      if (packet.getStreamIndex() != 0)
+        continue;
+      int offset = 0;
+      while (offset < packet.getSize())
+      {
+        int bytesDecoded = coder.decodeVideo(picture, packet, offset);
+        assertTrue(bytesDecoded >= 0);
+        offset += bytesDecoded;
+        if (picture.isComplete())
+          ++count;
+      }
+    }
+    IPacket empty = IPacket.make();
+    while (coder.decodeVideo(picture, empty, 0) >= 0 && picture.isComplete())
+      ++count;
+    coder.close();
+    container.close();
+    return count;
+  }
+
+  @Test
+  public void testSetSkipFrameAndLoopFilter()
+  {
+    mCoder = getStreamCoder("fixtures/testfile_h264_mp4a_tmcd.mov", 0);
+    assertEquals(IStreamCoder.Discard.DISCARD_DEFAULT, mCoder.getSkipFrame());
+    assertEquals(IStreamCoder.Discard.DISCARD_DEFAULT,
+        mCoder.getSkipLoopFilter());
+
+    assertEquals(0, mCoder.setSkipFrame(IStreamCoder.Discard.DISCARD_NONREF));
+    assertEquals(0, mCoder.setSkipLoopFilter(IStreamCoder.Discard.DISCARD_ALL));
+    assertEquals(IStreamCoder.Discard.DISCARD_NONREF, mCoder.getSkipFrame());
+    assertEquals(IStreamCoder.Discard.DISCARD_ALL, mCoder.getSkipLoopFilter());
+
+    // unlike threading, these can change once open
+    assertTrue("Could not open codec", mCoder.open(null, null) >= 0);
+    assertEquals(0, mCoder.setSkipFrame(IStreamCoder.Discard.DISCARD_NONKEY));
+    assertEquals(IStreamCoder.Discard.DISCARD_NONKEY, mCoder.getSkipFrame());
+    mCoder.close();
+  }
+
+  @Test
+  public void testSkipNonKeyFramesDecodesOnlyKeyFrames()
+  {
+    IContainer container = IContainer.make();
+    assertTrue(container.open("fixtures/testfile_h264_mp4a_tmcd.mov",
+        IContainer.Type.READ, null) >= 0);
+    IStreamCoder coder = container.getStream(0).getStreamCoder();
+    assertEquals(0, coder.setSkipFrame(IStreamCoder.Discard.DISCARD_NONKEY));
+    assertTrue(coder.open(null, null) >= 0);
+    IVideoPicture picture = IVideoPicture.make(coder.getPixelType(),
+        coder.getWidth(), coder.getHeight());
+    IPacket packet = IPacket.make();
+    int numPackets = 0;
+    int numPictures = 0;
+    while (container.readNextPacket(packet) >= 0)
+    {
+      if (packet.getStreamIndex() != 0)
+        continue;
+      ++numPackets;
+      int offset = 0;
+      while (offset < packet.getSize())
+      {
+        int bytesDecoded = coder.decodeVideo(picture, packet, offset);
+        assertTrue(bytesDecoded >= 0);
+        offset += bytesDecoded;
+        if (picture.isComplete())
+        {
+          assertTrue("should only get key frames", picture.isKeyFrame());
+          ++numPictures;
+        }
+      }
+    }
+    assertTrue("should decode some pictures", numPictures > 0);
+    assertTrue("should skip most pictures", numPictures < numPackets / 2);
+    coder.close();
+    container.close();
+  }
+
+  @Test
+  public void testSetZeroCopyDecoding()
+  {
+    mCoder = getStreamCoder("fixtures/testfile_h264_mp4a_tmcd.mov", 0);
+    assertFalse(mCoder.getZeroCopyDecoding());
+    assertEquals(0, mCoder.setZeroCopyDecoding(true));
+    assertTrue(mCoder.getZeroCopyDecoding());
+
+    assertTrue("Could not open codec", mCoder.open(null, null) >= 0);
+    // can't change once open
+    assertTrue(mCoder.setZeroCopyDecoding(false) < 0);
+    assertTrue(mCoder.getZeroCopyDecoding());
+    mCoder.close();
+  }
+
+  @Test
+  public void testZeroCopyDecodingMatchesCopying()
+  {
+    final String file = "fixtures/testfile_h264_mp4a_tmcd.mov";
+    final int numPictures = 50;
+    List<byte[]> copied = decodePictures(file, false, numPictures);
+    // holds on to every picture until the end, so this also checks the
+    // decoder never reuses a buffer someone still refers to
+    List<byte[]> zeroCopied = decodePictures(file, true, numPictures);
+    assertEquals(numPictures, copied.size());
+    assertEquals(copied.size(), zeroCopied.size());
+    for(int i = 0; i < copied.size(); i++)
+      assertTrue("differ at picture: " + i,
+          java.util.Arrays.equals(copied.get(i), zeroCopied.get(i)));
+  }
+
+  /**
+   * Decode the first pictures in stream 0 of a file into new pictures,
+   * and only once done copy each out into the packed layout.
+   */
+  private List<byte[]> decodePictures(String file, boolean zeroCopy,
+      int numPictures)
+  {
+    IContainer container = IContainer.make();
+    assertTrue(container.open(file, IContainer.Type.READ, null) >= 0);
+    IStreamCoder coder = container.getStream(0).getStreamCoder();
+    assertEquals(0, coder.setZeroCopyDecoding(zeroCopy));
+    assertTrue(coder.open(null, null) >= 0);
+    List<IVideoPicture> pictures = new ArrayList<IVideoPicture>();
+    IVideoPicture picture = IVideoPicture.make(coder.getPixelType(),
+        coder.getWidth(), coder.getHeight());
+    IPacket packet = IPacket.make();
+    while (pictures.size() < numPictures &&
+        container.readNextPacket(packet) >= 0)
+    {
+      if (packet.getStreamIndex() != 0)
+        continue;
+      int offset = 0;
+      while (offset < packet.getSize() && pictures.size() < numPictures)
+      {
+        int bytesDecoded = coder.decodeVideo(picture, packet, offset);
+        assertTrue(bytesDecoded >= 0);
+        offset += bytesDecoded;
+        if (picture.isComplete())
+        {
+          pictures.add(picture);
+          picture = IVideoPicture.make(coder.getPixelType(),
+              coder.getWidth(), coder.getHeight());
+        }
+      }
+    }
+    List<byte[]> retval = new ArrayList<byte[]>();
+    for(IVideoPicture decoded : pictures)
+    {
+      IVideoPicture packed = IVideoPicture.make(decoded.getPixelType(),
+          decoded.getWidth(), decoded.getHeight());
+      assertTrue(packed.copy(decoded));
+      retval.add(packed.getData().getByteArray(0, packed.getSize()));
+    }
+    coder.close();
+    container.close();
+    return retval;
+  }
 
 }
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.xuggle.test_utils.NameAwareTestClassRunner;
+
+@RunWith(NameAwareTestClassRunner.class)
+public class VideoResamplerCacheTest
+{
+  private final Logger log = LoggerFactory.getLogger(this.getClass());
+  private String mTestName = null;
+
+  @Before
+  public void setUp()
+  {
+    mTestName = NameAwareTestClassRunner.getTestMethodName();
+    log.debug("-----START----- {}", mTestName);
+  }
+  @After
+  public void tearDown()
+  {
+    log.debug("----- END ----- {}", mTestName);
+  }
+
+  private static boolean isSupported()
+  {
+    return IVideoResampler.isSupported(
+        IVideoResampler.Feature.FEATURE_COLORSPACECONVERSION);
+  }
+
+  private static IVideoResampler acquire(VideoResamplerCache cache,
+      int width)
+  {
+    return cache.acquire(width, 10, IPixelFormat.Type.BGR24,
+        20, 20, IPixelFormat.Type.YUV420P);
+  }
+
+  @Test
+  public void testReleasedResamplerIsReused()
+  {
+    // don't run this test if we can't get resamplers
+    if (!isSupported())
+      return;
+
+    VideoResamplerCache cache = new VideoResamplerCache(4);
+    IVideoResampler resampler = acquire(cache, 10);
+    assertNotNull(resampler);
+    assertEquals(0, cache.getHits());
+    assertEquals(1, cache.getMisses());
+
+    cache.release(resampler);
+    assertEquals(1, cache.getSize());
+
+    IVideoResampler reused = acquire(cache, 10);
+    assertEquals("should be the same native object",
+        IVideoResampler.getCPtr(resampler), IVideoResampler.getCPtr(reused));
+    assertEquals(1, cache.getHits());
+    assertEquals(0, cache.getSize());
+
+    IVideoResampler other = acquire(cache, 12);
+    assertTrue("should be a different native object",
+        IVideoResampler.getCPtr(reused) != IVideoResampler.getCPtr(other));
+    assertEquals(2, cache.getMisses());
+
+    cache.release(reused);
+    cache.release(other);
+    assertEquals(2, cache.getSize());
+    cache.clear();
+    assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void testLeastRecentlyReleasedIsEvicted()
+  {
+    // don't run this test if we can't get resamplers
+    if (!isSupported())
+      return;
+
+    VideoResamplerCache cache = new VideoResamplerCache(2);
+    IVideoResampler first = acquire(cache, 10);
+    IVideoResampler second = acquire(cache, 12);
+    IVideoResampler third = acquire(cache, 14);
+    long thirdPtr = IVideoResampler.getCPtr(third);
+
+    cache.release(first);
+    cache.release(second);
+    cache.release(third);
+    assertEquals(2, cache.getSize());
+    assertEquals(1, cache.getEvictions());
+
+    // the first one released is gone, so that geometry misses
+
+    IVideoResampler resampler = acquire(cache, 10);
+    assertEquals(4, cache.getMisses());
+    cache.release(resampler);
+    assertEquals(2, cache.getEvictions());
+
+    // and then the second one went to make room, but the third stayed
+
+    resampler = acquire(cache, 14);
+    assertEquals(thirdPtr, IVideoResampler.getCPtr(resampler));
+    cache.release(resampler);
+    resampler = acquire(cache, 12);
+    assertEquals(5, cache.getMisses());
+    cache.release(resampler);
+    assertEquals(3, cache.getEvictions());
+
+    cache.setMaxSize(0);
+    assertEquals(0, cache.getSize());
+    assertEquals(5, cache.getEvictions());
+  }
+
+  @Test
+  public void testChangedResamplerIsNotCached()
+  {
+    // don't run this test if we can't get resamplers
+    if (!isSupported())
+      return;
+
+    VideoResamplerCache cache = new VideoResamplerCache(4);
+    IVideoResampler resampler = acquire(cache, 10);
+    assertTrue("should succeed",
+        resampler.setProperty("sws_flags", "+bicubic") >= 0);
+    cache.release(resampler);
+    assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void testAcquireSetsNumSlices()
+  {
+    // don't run this test if we can't get resamplers
+    if (!isSupported())
+      return;
+
+    VideoResamplerCache cache = new VideoResamplerCache(4);
+    IVideoResampler resampler = cache.acquire(64, 64,
+        IPixelFormat.Type.BGR24, 64, 64, IPixelFormat.Type.YUV420P, 2);
+    assertEquals(2, resampler.getNumSlices());
+    cache.release(resampler);
+
+    resampler = cache.acquire(64, 64,
+        IPixelFormat.Type.BGR24, 64, 64, IPixelFormat.Type.YUV420P);
+    assertEquals(1, cache.getHits());
+    assertEquals(1, resampler.getNumSlices());
+    cache.release(resampler);
+    cache.clear();
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testNegativeMaxSizeIsRejected()
+  {
+    new VideoResamplerCache(-1);
+  }
+}
@@ -81,4 +81,71 @@ public class VideoResamplerTest
         resampler.setProperty("sws_flags", "+notaflag") < 0);
     
   }
+
+  @Test
+  public void testSetNumSlices()
+  {
+    if (!IVideoResampler.isSupported(IVideoResampler.Feature.FEATURE_COLORSPACECONVERSION))
+      return;
+
+    IVideoResampler resampler =
+      IVideoResampler.make(64, 64, IPixelFormat.Type.BGR24,
+          64, 64, IPixelFormat.Type.YUV420P);
+    assertEquals("should default to one slice", 1, resampler.getNumSlices());
+    assertTrue("should fail", resampler.setNumSlices(0) < 0);
+    assertEquals(4, resampler.setNumSlices(4));
+    assertEquals(4, resampler.getNumSlices());
+    // slices are at least 16 rows high
+    assertEquals(4, resampler.setNumSlices(8));
+    assertEquals(1, resampler.setNumSlices(1));
+
+    // can't slice if scaling vertically
+    resampler = IVideoResampler.make(64, 32, IPixelFormat.Type.BGR24,
+        64, 64, IPixelFormat.Type.YUV420P);
+    assertEquals(1, resampler.setNumSlices(4));
+    assertEquals(1, resampler.getNumSlices());
+  }
+
+  @Test
+  public void testSlicedResampleMatchesWhole()
+  {
+    if (!IVideoResampler.isSupported(IVideoResampler.Feature.FEATURE_COLORSPACECONVERSION))
+      return;
+
+    final int w = 96;
+    final int h = 72;
+    IVideoPicture in = Utils.getBlankFrame(w, h, 0);
+    assertTrue(in.isComplete());
+
+    IVideoResampler whole =
+      IVideoResampler.make(w, h, IPixelFormat.Type.BGR24,
+          w, h, IPixelFormat.Type.YUV420P);
+    IVideoResampler sliced =
+      IVideoResampler.make(w, h, IPixelFormat.Type.BGR24,
+          w, h, IPixelFormat.Type.YUV420P);
+    assertEquals(3, sliced.setNumSlices(3));
+
+    IVideoPicture expected = IVideoPicture.make(IPixelFormat.Type.BGR24, w, h);
+    assertTrue(whole.resample(expected, in) >= 0);
+    assertTrue(expected.isComplete());
+
+    java.util.concurrent.ExecutorService executor =
+      java.util.concurrent.Executors.newFixedThreadPool(2);
+    try
+    {
+      IVideoPicture out = IVideoPicture.make(IPixelFormat.Type.BGR24, w, h);
+      assertTrue(sliced.resample(out, in, executor) >= 0);
+      assertTrue(out.isComplete());
+      assertEquals(in.getPts(), out.getPts());
+      int size = expected.getSize();
+      assertEquals(size, out.getSize());
+      assertTrue("sliced picture differs", java.util.Arrays.equals(
+          expected.getData().getByteArray(0, size),
+          out.getData().getByteArray(0, size)));
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
 }
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DirectURLProtocolHandlerTest
+{
+  private static final String PROTOCOL = "xugglerdirecttest";
+  private static final int BUFFER_SIZE = 1024;
+
+  private final URLProtocolManager mMgr = URLProtocolManager.getManager();
+  private CountingHandler mHandler;
+
+  /**
+   * A handler that hands out a fixed pattern, and counts which
+   * read and write methods native code actually called.
+   */
+  private static class CountingHandler implements IDirectURLProtocolHandler
+  {
+    int mByteArrayReads = 0;
+    int mByteArrayWrites = 0;
+    int mDirectReads = 0;
+    int mDirectWrites = 0;
+    boolean mLastBufferWasDirect = false;
+    long mBytesWritten = 0;
+
+    public int open(String url, int flags)
+    {
+      return 0;
+    }
+
+    public int close()
+    {
+      return 0;
+    }
+
+    public int read(byte[] buf, int size)
+    {
+      ++mByteArrayReads;
+      for(int i = 0; i < size; i++)
+        buf[i] = (byte) i;
+      return size;
+    }
+
+    public int write(byte[] buf, int size)
+    {
+      ++mByteArrayWrites;
+      mBytesWritten += size;
+      return size;
+    }
+
+    public int read(ByteBuffer buf, int size)
+    {
+      ++mDirectReads;
+      mLastBufferWasDirect = buf.isDirect();
+      for(int i = 0; i < size; i++)
+        buf.put(i, (byte) i);
+      return size;
+    }
+
+    public int write(ByteBuffer buf, int size)
+    {
+      ++mDirectWrites;
+      mLastBufferWasDirect = buf.isDirect();
+      assertEquals(size, buf.remaining());
+      mBytesWritten += size;
+      return size;
+    }
+
+    public long seek(long offset, int whence)
+    {
+      return -1;
+    }
+
+    public boolean isStreamed(String url, int flags)
+    {
+      return true;
+    }
+  }
+
+  @Before
+  public void setUp()
+  {
+    mHandler = new CountingHandler();
+    mMgr.registerFactory(PROTOCOL, new IURLProtocolHandlerFactory()
+    {
+      public IURLProtocolHandler getHandler(String protocol, String url,
+          int flags)
+      {
+        return mHandler;
+      }
+    });
+  }
+
+  @After
+  public void tearDown()
+  {
+    mMgr.registerFactory(PROTOCOL, null);
+  }
+
+  @Test
+  public void testNativeReadsUseDirectBuffer()
+  {
+    FfmpegIOHandle handle = new FfmpegIOHandle();
+    int retval = FfmpegIO.url_open(handle, PROTOCOL + ":read",
+        IURLProtocolHandler.URL_RDONLY_MODE);
+    assertEquals(0, retval);
+
+    byte[] buffer = new byte[BUFFER_SIZE];
+    retval = FfmpegIO.url_read(handle, buffer, buffer.length);
+    assertEquals(buffer.length, retval);
+    for(int i = 0; i < retval; i++)
+      assertEquals((byte) i, buffer[i]);
+
+    assertTrue(mHandler.mDirectReads > 0);
+    assertEquals(0, mHandler.mByteArrayReads);
+    assertTrue(mHandler.mLastBufferWasDirect);
+
+    retval = FfmpegIO.url_close(handle);
+    assertEquals(0, retval);
+  }
+
+  @Test
+  public void testNativeWritesUseDirectBuffer()
+  {
+    FfmpegIOHandle handle = new FfmpegIOHandle();
+    int retval = FfmpegIO.url_open(handle, PROTOCOL + ":write",
+        IURLProtocolHandler.URL_WRONLY_MODE);
+    assertEquals(0, retval);
+
+    byte[] buffer = new byte[BUFFER_SIZE];
+    retval = FfmpegIO.url_write(handle, buffer, buffer.length);
+    assertEquals(buffer.length, retval);
+
+    assertTrue(mHandler.mDirectWrites > 0);
+    assertEquals(0, mHandler.mByteArrayWrites);
+    assertEquals(buffer.length, mHandler.mBytesWritten);
+    assertTrue(mHandler.mLastBufferWasDirect);
+
+    retval = FfmpegIO.url_close(handle);
+    assertEquals(0, retval);
+  }
+
+}
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler.io;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+import com.xuggle.xuggler.IContainer;
+
+import org.junit.*;
+
+public class MappedFileProtocolHandlerTest extends TestCase
+{
+  private final String sampleFile = "fixtures/testfile.flv";
+  private final String mappedProtocolString =
+    URLProtocolManager.MAPPED_PROTOCOL;
+  private final long sampleSize = 4546420;
+
+  @Test
+  public void testInvalidFileOpenForReading()
+  {
+    String badReadFile = "/tmp/garbage-file-k200cski2loiudjhsl2";
+    IURLProtocolHandler handler = new MappedFileProtocolHandler(badReadFile);
+    assertEquals(-1, handler.open(null, IURLProtocolHandler.URL_RDONLY_MODE));
+
+    handler = new MappedFileProtocolHandler();
+    assertEquals(-1, handler.open(null, IURLProtocolHandler.URL_RDONLY_MODE));
+  }
+
+  @Test
+  public void testOpenForWritingFails()
+  {
+    IURLProtocolHandler handler = new MappedFileProtocolHandler(sampleFile);
+    assertEquals(-1, handler.open(null, IURLProtocolHandler.URL_WRONLY_MODE));
+    assertEquals(-1, handler.open(null, IURLProtocolHandler.URL_RDWR));
+  }
+
+  @Test
+  public void testInvalidWindowSize()
+  {
+    try
+    {
+      new MappedFileProtocolHandler(new File(sampleFile), 0);
+      fail("should fail on a zero window");
+    }
+    catch (IllegalArgumentException e) {}
+  }
+
+  @Test
+  public void testFactory()
+  {
+    IURLProtocolHandlerFactory factory = new MappedFileProtocolHandlerFactory();
+    IURLProtocolHandler handler = factory.getHandler(mappedProtocolString,
+        mappedProtocolString + ":" + sampleFile,
+        IURLProtocolHandler.URL_RDONLY_MODE);
+    assertTrue(handler instanceof MappedFileProtocolHandler);
+    assertEquals(0, handler.open(null, IURLProtocolHandler.URL_RDONLY_MODE));
+    assertEquals(sampleSize, handler.seek(0, IURLProtocolHandler.SEEK_SIZE));
+    assertFalse(handler.isStreamed(null, IURLProtocolHandler.URL_RDONLY_MODE));
+    assertEquals(0, handler.close());
+  }
+
+  @Test
+  public void testFileReadMatchesFileProtocol()
+  {
+    // a small window makes reads cross window boundaries
+    MappedFileProtocolHandler handler = new MappedFileProtocolHandler(
+        new File(sampleFile), 10000);
+    assertEquals(0, handler.open(null, IURLProtocolHandler.URL_RDONLY_MODE));
+    IURLProtocolHandler reader = new FileProtocolHandler(sampleFile);
+    assertEquals(0, reader.open(null, IURLProtocolHandler.URL_RDONLY_MODE));
+
+    long bytesRead = 0;
+    byte[] expected = new byte[4096];
+    byte[] actual = new byte[4096];
+    int retval;
+    while ((retval = handler.read(actual, actual.length)) > 0)
+    {
+      assertEquals(retval, reader.read(expected, retval));
+      assertTrue(Arrays.equals(expected, actual));
+      bytesRead += retval;
+    }
+    assertEquals(0, retval);
+    assertEquals(sampleSize, bytesRead);
+    assertEquals(0, handler.close());
+    assertEquals(0, reader.close());
+  }
+
+  @Test
+  public void testDirectRead()
+  {
+    MappedFileProtocolHandler handler = new MappedFileProtocolHandler(
+        new File(sampleFile), 10000);
+    assertEquals(0, handler.open(null, IURLProtocolHandler.URL_RDONLY_MODE));
+    ByteBuffer buffer = ByteBuffer.allocateDirect(32768);
+    long bytesRead = 0;
+    int retval;
+    while (true)
+    {
+      buffer.clear();
+      if ((retval = handler.read(buffer, buffer.capacity())) <= 0)
+        break;
+      assertEquals(retval, buffer.position());
+      bytesRead += retval;
+    }
+    assertEquals(sampleSize, bytesRead);
+    assertEquals(0, handler.close());
+  }
+
+  @Test
+  public void testSeek()
+  {
+    MappedFileProtocolHandler handler = new MappedFileProtocolHandler(
+        new File(sampleFile), 10000);
+    assertEquals(0, handler.open(null, IURLProtocolHandler.URL_RDONLY_MODE));
+    IURLProtocolHandler reader = new FileProtocolHandler(sampleFile);
+    assertEquals(0, reader.open(null, IURLProtocolHandler.URL_RDONLY_MODE));
+
+    byte[] expected = new byte[1024];
+    byte[] actual = new byte[1024];
+
+    // seek back and forth across windows
+    long[] offsets = { 3000000, 9500, 0, sampleSize - 512, 123456 };
+    for (long offset : offsets)
+    {
+      assertEquals(offset, handler.seek(offset, IURLProtocolHandler.SEEK_SET));
+      assertEquals(offset, reader.seek(offset, IURLProtocolHandler.SEEK_SET));
+      int retval = handler.read(actual, actual.length);
+      assertEquals(reader.read(expected, expected.length), retval);
+      for (int i = 0; i < retval; i++)
+        assertEquals(expected[i], actual[i]);
+    }
+    assertEquals(123456 + 1024 + 10,
+        handler.seek(10, IURLProtocolHandler.SEEK_CUR));
+    assertEquals(sampleSize - 10,
+        handler.seek(-10, IURLProtocolHandler.SEEK_END));
+    assertEquals(10, handler.read(actual, actual.length));
+    assertEquals(0, handler.read(actual, actual.length));
+    assertEquals(sampleSize,
+        handler.seek(0, IURLProtocolHandler.SEEK_SIZE));
+    // SEEK_SIZE must not move the position
+    assertEquals(sampleSize, handler.seek(0, IURLProtocolHandler.SEEK_CUR));
+    assertEquals(-1, handler.seek(-1, IURLProtocolHandler.SEEK_SET));
+
+    assertEquals(0, handler.close());
+    assertEquals(0, reader.close());
+  }
+
+  @Test
+  public void testFFMPEGUrlRead()
+  {
+    String url = mappedProtocolString + ":" + sampleFile;
+    FfmpegIOHandle handle = new FfmpegIOHandle();
+    assertTrue(FfmpegIO.url_open(handle, url,
+        IURLProtocolHandler.URL_RDONLY_MODE) >= 0);
+
+    long bytesRead = 0;
+    int retval;
+    byte[] buffer = new byte[1024];
+    while ((retval = FfmpegIO.url_read(handle, buffer, buffer.length)) > 0)
+      bytesRead += retval;
+    assertEquals(sampleSize, bytesRead);
+    assertEquals(sampleSize, FfmpegIO.url_seek(handle, 0,
+        IURLProtocolHandler.SEEK_SIZE));
+    assertEquals(0, FfmpegIO.url_seek(handle, 0,
+        IURLProtocolHandler.SEEK_SET));
+    assertTrue(FfmpegIO.url_close(handle) >= 0);
+  }
+
+  @Test
+  public void testContainerOpen()
+  {
+    IContainer container = IContainer.make();
+    assertTrue(container.open(mappedProtocolString + ":" + sampleFile,
+        IContainer.Type.READ, null) >= 0);
+    assertTrue(container.getNumStreams() > 0);
+    assertTrue(container.close() >= 0);
+  }
+}
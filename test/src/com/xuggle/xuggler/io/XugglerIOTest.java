@@ -19,10 +19,12 @@
 
 package com.xuggle.xuggler.io;
 
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -330,4 +332,47 @@ public class XugglerIOTest extends TestCase
     testFFMPEGUrlWriteTestFile(mProtocolString + ":" + outName);
   }
 
+  @Test
+  public void testChannelDirectRead() throws FileNotFoundException
+  {
+    ReadableByteChannel channel = new FileInputStream(mSampleFile).getChannel();
+    assertEquals(4546420, readDirect(
+        new ReadableWritableChannelHandler(channel, null, true)));
+  }
+
+  @Test
+  public void testStreamDirectRead() throws FileNotFoundException
+  {
+    // a file stream reads through its channel
+    assertEquals(4546420, readDirect(new InputOutputStreamHandler(
+        new FileInputStream(mSampleFile), null, true)));
+    // any other stream reads through an array
+    assertEquals(4546420, readDirect(new InputOutputStreamHandler(
+        new BufferedInputStream(new FileInputStream(mSampleFile)), null,
+        true)));
+  }
+
+  /**
+   * Read a whole file through the direct buffer method of a handler,
+   * the way native code calls it.
+   */
+  private long readDirect(IDirectURLProtocolHandler handler)
+  {
+    assertTrue(handler.open(mSampleFile,
+        IURLProtocolHandler.URL_RDONLY_MODE) >= 0);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(32768);
+    long bytesRead = 0;
+    int retval;
+    while (true)
+    {
+      buffer.clear();
+      if ((retval = handler.read(buffer, buffer.capacity())) <= 0)
+        break;
+      assertEquals(retval, buffer.position());
+      bytesRead += retval;
+    }
+    assertTrue(handler.close() >= 0);
+    return bytesRead;
+  }
+
 }
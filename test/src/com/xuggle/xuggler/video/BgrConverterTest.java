@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2008, 2010 Xuggle Inc.  All rights reserved.
+ *  
+ * This file is part of Xuggle-Xuggler-Main.
+ *
+ * Xuggle-Xuggler-Main is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Xuggle-Xuggler-Main is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Xuggle-Xuggler-Main.  If not, see <http://www.gnu.org/licenses/>.
+ *******************************************************************************/
+
+package com.xuggle.xuggler.video;
+
+import static junit.framework.Assert.*;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+import com.xuggle.xuggler.IPixelFormat;
+import com.xuggle.xuggler.IVideoPicture;
+
+public class BgrConverterTest
+{
+  public static final int TEST_WIDTH  = 48;
+  public static final int TEST_HEIGHT = 48;
+
+  // make a complete BGR24 picture filled with a given value
+
+  private static IVideoPicture makePicture(int value)
+  {
+    IVideoPicture picture = IVideoPicture.make(IPixelFormat.Type.BGR24,
+        TEST_WIDTH, TEST_HEIGHT);
+    byte[] bytes = new byte[picture.getSize()];
+    java.util.Arrays.fill(bytes, (byte) value);
+    picture.put(bytes, 0, 0, bytes.length);
+    picture.setComplete(true, IPixelFormat.Type.BGR24, TEST_WIDTH,
+        TEST_HEIGHT, 0);
+    return picture;
+  }
+
+  @Test
+  public void testNoPoolingByDefault()
+  {
+    BgrConverter converter = new BgrConverter(IPixelFormat.Type.BGR24,
+        TEST_WIDTH, TEST_HEIGHT, TEST_WIDTH, TEST_HEIGHT);
+    assertEquals(0, converter.getImagePoolSize());
+
+    IVideoPicture picture = makePicture(7);
+    BufferedImage image1 = converter.toImage(picture);
+    BufferedImage image2 = converter.toImage(picture);
+    assertNotSame(image1, image2);
+    assertEquals(image1.getRGB(0, 0), image2.getRGB(0, 0));
+    picture.delete();
+    converter.delete();
+  }
+
+  @Test
+  public void testImagesArePooled()
+  {
+    BgrConverter converter = new BgrConverter(IPixelFormat.Type.BGR24,
+        TEST_WIDTH, TEST_HEIGHT, TEST_WIDTH, TEST_HEIGHT);
+    converter.setImagePoolSize(2);
+    assertEquals(2, converter.getImagePoolSize());
+
+    IVideoPicture picture1 = makePicture(1);
+    IVideoPicture picture2 = makePicture(2);
+    IVideoPicture picture3 = makePicture(3);
+
+    BufferedImage image1 = converter.toImage(picture1);
+    int rgb1 = image1.getRGB(0, 0);
+    BufferedImage image2 = converter.toImage(picture2);
+    assertNotSame(image1, image2);
+    assertEquals("second image overwrote the first", rgb1, image1.getRGB(0, 0));
+
+    // the pool only holds two, so the third conversion refills the first
+    BufferedImage image3 = converter.toImage(picture3);
+    assertSame(image1, image3);
+    assertEquals(BufferedImage.TYPE_3BYTE_BGR, image3.getType());
+    assertFalse(rgb1 == image3.getRGB(0, 0));
+
+    picture1.delete();
+    picture2.delete();
+    picture3.delete();
+    converter.delete();
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testPoolSizeMustNotBeNegative()
+  {
+    BgrConverter converter = new BgrConverter(IPixelFormat.Type.BGR24,
+        TEST_WIDTH, TEST_HEIGHT, TEST_WIDTH, TEST_HEIGHT);
+    converter.setImagePoolSize(-1);
+  }
+}
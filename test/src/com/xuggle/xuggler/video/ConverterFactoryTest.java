@@ -247,6 +247,61 @@ public class ConverterFactoryTest
   }
 
 
+  // the same as testImageToImageSolidColor, but with converters
+  // resampling pictures in slices on several threads
+
+  @Test
+  public void testImageToImageSolidColorSliced()
+  {
+    if (!IVideoResampler.isSupported(Feature.FEATURE_COLORSPACECONVERSION))
+      return;
+
+    int w = TEST_WIDTH;
+    int h = TEST_HEIGHT;
+    int gray  = Color.GRAY.getRGB();
+
+    ConverterFactory.setResampleThreads(3);
+    try
+    {
+      assertEquals(3, ConverterFactory.getResampleThreads());
+
+      IConverter converter = ConverterFactory.createConverter(
+        mConverterType.getDescriptor(), mPixelType, w, h);
+
+      BufferedImage image1 = new BufferedImage(
+        w, h, mConverterType.getImageType());
+      for (int x = 0; x < w; ++x)
+        for (int y = 0; y < h; ++y)
+          image1.setRGB(x, y, gray);
+
+      BufferedImage image2 = converter.toImage(
+        converter.toPicture(image1, 0));
+
+      for (int x = 0; x < w; ++x)
+        for (int y = 0; y < h; ++y)
+        {
+          int pixel1 = image1.getRGB(x, y);
+          int pixel2 = image2.getRGB(x, y);
+
+          String message = testPixels(
+            mConverterType.getPictureType() == converter.getPictureType(),
+            pixel1, pixel2, x, y, 
+            converter.getPictureType());
+          assertNull(message, message);
+        }
+    }
+    finally
+    {
+      ConverterFactory.setResampleThreads(1);
+    }
+  }
+
+  @Test(expected=IllegalArgumentException.class)
+  public void testSetResampleThreadsRejectsZero()
+  {
+    ConverterFactory.setResampleThreads(0);
+  }
+
   // this test makes user of mPixelType which, and thus the solid color
   // test attempts to test across colors spaces.
 